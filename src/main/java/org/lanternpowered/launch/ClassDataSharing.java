@@ -0,0 +1,133 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.launch;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Creates a class data sharing (AppCDS) archive for the server. Starting the
+ * server with the {@code lantern.cds.dump} system property will run the server
+ * in a child process that records all the loaded classes, the archive will be
+ * dumped once the server is stopped. The following starts can map the archive
+ * by adding {@code -XX:SharedArchiveFile=lantern.jsa} to the jvm arguments.
+ *
+ * <p>Only the classes that are loaded through the built-in class loaders can
+ * be archived, this are the jdk classes and the launch classes.</p>
+ */
+final class ClassDataSharing {
+
+    private static final String DUMP = "lantern.cds.dump";
+
+    private static final String CLASS_LIST = "lantern.classlist";
+    private static final String ARCHIVE = "lantern.jsa";
+
+    /**
+     * Creates the class data sharing archive if requested.
+     *
+     * @param args The program arguments
+     * @return Whether the archive was requested, the server shouldn't be started in that case
+     */
+    static boolean dumpIfRequested(String[] args) {
+        final String dump = System.getProperty(DUMP);
+        if (dump == null || dump.equalsIgnoreCase("false")) {
+            return false;
+        }
+        if (getJavaVersion() < 10) {
+            System.err.println("Creating a class data sharing archive requires java 10 or newer.");
+            return false;
+        }
+        final String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        final String classPath = System.getProperty("java.class.path");
+
+        final List<String> jvmArgs = new ArrayList<>();
+        for (String arg : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            // Don't pass through the arguments that conflict with the dump
+            if (!arg.startsWith("-D" + DUMP) && !arg.startsWith("-Xshare") &&
+                    !arg.startsWith("-XX:SharedArchiveFile") && !arg.startsWith("-XX:DumpLoadedClassList")) {
+                jvmArgs.add(arg);
+            }
+        }
+
+        try {
+            // Run the server and record all the classes that are loaded
+            final List<String> command = new ArrayList<>();
+            command.add(java);
+            command.addAll(jvmArgs);
+            command.add("-Xshare:off");
+            command.add("-XX:DumpLoadedClassList=" + CLASS_LIST);
+            command.add("-cp");
+            command.add(classPath);
+            command.add(LanternLaunch.class.getName());
+            command.addAll(Arrays.asList(args));
+            System.out.println("Recording the loaded classes, stop the server to create the archive.");
+            run(command);
+
+            // Dump the archive from the recorded class list
+            System.out.println("Creating the class data sharing archive.");
+            final int exitCode = run(Arrays.asList(java, "-Xshare:dump", "-XX:SharedClassListFile=" + CLASS_LIST,
+                    "-XX:SharedArchiveFile=" + ARCHIVE, "-cp", classPath));
+            if (exitCode == 0) {
+                System.out.printf("Created the archive \"%s\", add \"-XX:SharedArchiveFile=%s\" to the jvm arguments to use it.\n",
+                        ARCHIVE, ARCHIVE);
+            } else {
+                System.err.println("Failed to create the class data sharing archive, exit code: " + exitCode);
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to create the class data sharing archive: " + e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return true;
+    }
+
+    private static int run(List<String> command) throws IOException, InterruptedException {
+        return new ProcessBuilder(command).inheritIO().start().waitFor();
+    }
+
+    private static int getJavaVersion() {
+        String version = System.getProperty("java.specification.version");
+        if (version.startsWith("1.")) {
+            version = version.substring(2);
+        }
+        final int index = version.indexOf('.');
+        if (index != -1) {
+            version = version.substring(0, index);
+        }
+        try {
+            return Integer.parseInt(version);
+        } catch (NumberFormatException e) {
+            return 8;
+        }
+    }
+
+    private ClassDataSharing() {
+    }
+}
@@ -33,6 +33,7 @@
 import org.lanternpowered.launch.dependencies.Dependency;
 import org.lanternpowered.launch.dependencies.Repository;
 import org.lanternpowered.launch.transformer.ClassTransformer;
+import org.lanternpowered.launch.transformer.DependentClassTransformer;
 import org.lanternpowered.launch.transformer.Exclusion;
 import org.lanternpowered.server.LanternServer;
 import org.w3c.dom.Document;
@@ -49,6 +50,7 @@
 import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.channels.Channels;
@@ -64,6 +66,7 @@
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -71,9 +74,12 @@
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
+import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
+import java.util.stream.Stream;
 import java.util.zip.GZIPInputStream;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -91,6 +97,7 @@
 public final class LanternClassLoader extends URLClassLoader {
 
     private static final String ENVIRONMENT = "lantern.environment";
+    private static final String TRANSFORMER_CACHE = "lantern.transformer-cache";
 
     private static final LanternClassLoader classLoader;
 
@@ -199,82 +206,6 @@ private static LanternClassLoader load() throws IOException {
             }
         }
 
-        String localRepoPath = System.getProperty("maven.repo.local");
-        if (localRepoPath == null) {
-            final String mavenHome = System.getenv("M2_HOME");
-            if (mavenHome != null) {
-                final Path settingsPath = Paths.get(mavenHome, "conf", "setting.xml");
-                if (Files.exists(settingsPath)) {
-                    try {
-                        final DocumentBuilder documentBuilder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
-                        final Document document = documentBuilder.parse(settingsPath.toFile());
-
-                        // http://stackoverflow.com/questions/13786607/normalization-in-dom-parsing-with-java-how-does-it-work
-                        document.getDocumentElement().normalize();
-
-                        final Node node = document.getElementsByTagName("localRepository").item(0);
-                        if (node != null) {
-                            localRepoPath = node.getTextContent();
-                        }
-                    } catch (ParserConfigurationException | SAXException e) {
-                        sneakyThrow(e);
-                        throw new RuntimeException();
-                    }
-                }
-            }
-        }
-        if (localRepoPath == null) {
-            localRepoPath = "~/.m2/repository";
-        }
-        localRepoPath = localRepoPath.trim();
-        if (localRepoPath.charAt(0) == '~') {
-            localRepoPath = System.getProperty("user.home") + '/' + localRepoPath.substring(2);
-        }
-
-        // Try to find the local maven repository
-        repositoryUrls.add(0, new File(localRepoPath).toURL());
-
-        final List<FileRepository> repositories = new ArrayList<>();
-        for (URL repositoryUrl : repositoryUrls) {
-            if (repositoryUrl.getProtocol().equals("file")) {
-                final File baseFile = new File(repositoryUrl.getFile());
-                repositories.add(path -> {
-                    final File file = new File(baseFile, path);
-                    try {
-                        return file.exists() ? file.toURL().openStream() : null;
-                    } catch (IOException e) {
-                        sneakyThrow(e);
-                        throw new RuntimeException();
-                    }
-                });
-            } else {
-                String repositoryUrlBase = repositoryUrl.toString();
-                if (repositoryUrlBase.endsWith("/")) {
-                    repositoryUrlBase = repositoryUrlBase.substring(0, repositoryUrlBase.length() - 1);
-                }
-                final String urlBase = repositoryUrlBase;
-                repositories.add(path -> {
-                    try {
-                        final URL url = new URL(urlBase + "/" + path);
-                        final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-                        connection.setRequestMethod("GET");
-                        final String encoding = connection.getHeaderField("Content-Encoding");
-                        InputStream is = connection.getInputStream();
-                        if (encoding != null) {
-                            if (encoding.equals("gzip")) {
-                                is = new GZIPInputStream(is);
-                            } else {
-                                throw new IllegalStateException("Unsupported encoding: " + encoding);
-                            }
-                        }
-                        return is;
-                    } catch (IOException e) {
-                        return null;
-                    }
-                });
-            }
-        }
-
         // If we are outside development mode, the server will be packed
         // into a jar. We will also need to make sure that this one gets
         // added in this case
@@ -297,12 +228,9 @@ private static LanternClassLoader load() throws IOException {
         }
         Environment.set(environment);
 
-        // Scan the jar for library jars
-        if (location != null) {
-            repositories.add(path -> classLoader.getResourceAsStream("dependencies/" + path));
-        }
-
         final List<URL> libraryUrls = new ArrayList<>();
+        // The repositories are only resolved if a dependency is missing
+        List<FileRepository> repositories = null;
 
         // Download or load all the dependencies
         final Path internalLibrariesPath = Paths.get(".cached-dependencies");
@@ -318,6 +246,9 @@ private static LanternClassLoader load() throws IOException {
                 System.out.printf("Loaded: \"%s\"\n", id);
                 continue;
             }
+            if (repositories == null) {
+                repositories = createRepositories(repositoryUrls, classLoader, location);
+            }
             InputStream is = null;
             for (FileRepository repository : repositories) {
                 is = repository.get(dependency);
@@ -365,6 +296,93 @@ private static LanternClassLoader load() throws IOException {
         return serverClassLoader;
     }
 
+    private static List<FileRepository> createRepositories(List<URL> remoteRepositoryUrls,
+            ClassLoader classLoader, URL location) throws IOException {
+        final List<URL> repositoryUrls = new ArrayList<>(remoteRepositoryUrls);
+
+        String localRepoPath = System.getProperty("maven.repo.local");
+        if (localRepoPath == null) {
+            final String mavenHome = System.getenv("M2_HOME");
+            if (mavenHome != null) {
+                final Path settingsPath = Paths.get(mavenHome, "conf", "setting.xml");
+                if (Files.exists(settingsPath)) {
+                    try {
+                        final DocumentBuilder documentBuilder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+                        final Document document = documentBuilder.parse(settingsPath.toFile());
+
+                        // http://stackoverflow.com/questions/13786607/normalization-in-dom-parsing-with-java-how-does-it-work
+                        document.getDocumentElement().normalize();
+
+                        final Node node = document.getElementsByTagName("localRepository").item(0);
+                        if (node != null) {
+                            localRepoPath = node.getTextContent();
+                        }
+                    } catch (ParserConfigurationException | SAXException e) {
+                        sneakyThrow(e);
+                        throw new RuntimeException();
+                    }
+                }
+            }
+        }
+        if (localRepoPath == null) {
+            localRepoPath = "~/.m2/repository";
+        }
+        localRepoPath = localRepoPath.trim();
+        if (localRepoPath.charAt(0) == '~') {
+            localRepoPath = System.getProperty("user.home") + '/' + localRepoPath.substring(2);
+        }
+
+        // Try to find the local maven repository
+        repositoryUrls.add(0, new File(localRepoPath).toURL());
+
+        final List<FileRepository> repositories = new ArrayList<>();
+        for (URL repositoryUrl : repositoryUrls) {
+            if (repositoryUrl.getProtocol().equals("file")) {
+                final File baseFile = new File(repositoryUrl.getFile());
+                repositories.add(path -> {
+                    final File file = new File(baseFile, path);
+                    try {
+                        return file.exists() ? file.toURL().openStream() : null;
+                    } catch (IOException e) {
+                        sneakyThrow(e);
+                        throw new RuntimeException();
+                    }
+                });
+            } else {
+                String repositoryUrlBase = repositoryUrl.toString();
+                if (repositoryUrlBase.endsWith("/")) {
+                    repositoryUrlBase = repositoryUrlBase.substring(0, repositoryUrlBase.length() - 1);
+                }
+                final String urlBase = repositoryUrlBase;
+                repositories.add(path -> {
+                    try {
+                        final URL url = new URL(urlBase + "/" + path);
+                        final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+                        connection.setRequestMethod("GET");
+                        final String encoding = connection.getHeaderField("Content-Encoding");
+                        InputStream is = connection.getInputStream();
+                        if (encoding != null) {
+                            if (encoding.equals("gzip")) {
+                                is = new GZIPInputStream(is);
+                            } else {
+                                throw new IllegalStateException("Unsupported encoding: " + encoding);
+                            }
+                        }
+                        return is;
+                    } catch (IOException e) {
+                        return null;
+                    }
+                });
+            }
+        }
+
+        // Scan the jar for library jars
+        if (location != null) {
+            repositories.add(path -> classLoader.getResourceAsStream("dependencies/" + path));
+        }
+        return repositories;
+    }
+
     static {
         try {
             classLoader = load();
@@ -402,6 +420,11 @@ public static LanternClassLoader get() {
     private final List<ClassTransformer> transformers = new CopyOnWriteArrayList<>();
     private final Set<Exclusion> transformerExclusions = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
+    // The cache of transformed classes, depends on the transformers so it will be
+    // recreated when a transformer is added, can be disabled with a system property
+    private final boolean transformerCacheEnabled = !"false".equalsIgnoreCase(System.getProperty(TRANSFORMER_CACHE));
+    private volatile TransformedClassCache transformedClassCache;
+
     private static final class LibraryClassLoader extends URLClassLoader {
         private LibraryClassLoader(URL[] urls) {
             super(urls);
@@ -467,6 +490,17 @@ public void addTransformer(ClassTransformer classTransformer) {
         this.transformers.add(classTransformer);
         // All the transformer classes should be excluded
         this.transformerExclusions.add(Exclusion.forClass(classTransformer.getClass().getName(), true));
+        // The transformer set changed
+        this.transformedClassCache = null;
+    }
+
+    private TransformedClassCache getTransformedClassCache() {
+        TransformedClassCache cache = this.transformedClassCache;
+        if (cache == null) {
+            final String fingerprint = TransformedClassCache.createFingerprint(this, this.transformers);
+            this.transformedClassCache = cache = new TransformedClassCache(Paths.get(".cached-classes"), fingerprint);
+        }
+        return cache;
     }
 
     /**
@@ -528,6 +562,87 @@ public void addBaseURLTracker(Consumer<URL> consumer) {
         this.urlTrackers.add(consumer);
     }
 
+    /**
+     * Loads all the classes within the given packages (and their sub packages)
+     * on a background thread. The classes will be loaded in parallel, but not
+     * initialized, so that the threads that need the classes later on don't
+     * have to wait for them to be read and transformed.
+     *
+     * @param packages The packages
+     */
+    public void prewarm(String... packages) {
+        requireNonNull(packages, "packages");
+        final List<String> paths = new ArrayList<>();
+        for (String pkg : packages) {
+            paths.add(pkg.replace('.', '/') + '/');
+        }
+        final Thread thread = new Thread(() -> {
+            final List<String> classNames = new ArrayList<>();
+            for (URL url : super.getURLs()) {
+                try {
+                    collectClassNames(url, paths, classNames);
+                } catch (IOException | URISyntaxException e) {
+                    System.err.println("Failed to scan " + url + " for classes to prewarm: " + e);
+                }
+            }
+            final int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+            final ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                pool.submit(() -> classNames.parallelStream().forEach(className -> {
+                    try {
+                        Class.forName(className, false, this);
+                    } catch (ClassNotFoundException | LinkageError ignored) {
+                        // The class will fail again when it's actually used
+                    }
+                })).join();
+            } finally {
+                pool.shutdown();
+            }
+        }, "class-prewarm");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    private static void collectClassNames(URL url, List<String> paths, List<String> classNames)
+            throws IOException, URISyntaxException {
+        if (!url.getProtocol().equals("file")) {
+            return;
+        }
+        final Path path = Paths.get(url.toURI());
+        if (Files.isDirectory(path)) {
+            for (String packagePath : paths) {
+                final Path packageDir = path.resolve(packagePath);
+                if (!Files.isDirectory(packageDir)) {
+                    continue;
+                }
+                try (Stream<Path> stream = Files.walk(packageDir)) {
+                    stream.map(file -> path.relativize(file).toString().replace(File.separatorChar, '/'))
+                            .forEach(file -> addClassName(file, paths, classNames));
+                }
+            }
+        } else if (Files.exists(path)) {
+            try (JarFile jarFile = new JarFile(path.toFile())) {
+                final Enumeration<JarEntry> entries = jarFile.entries();
+                while (entries.hasMoreElements()) {
+                    addClassName(entries.nextElement().getName(), paths, classNames);
+                }
+            }
+        }
+    }
+
+    private static void addClassName(String file, List<String> paths, List<String> classNames) {
+        if (!file.endsWith(".class") || file.endsWith("module-info.class") || file.endsWith("package-info.class")) {
+            return;
+        }
+        for (String path : paths) {
+            if (file.startsWith(path)) {
+                classNames.add(file.substring(0, file.length() - ".class".length()).replace('/', '.'));
+                return;
+            }
+        }
+    }
+
     /**
      * Attempts to get a loaded {@link Class} for the given class
      * name which is loaded by this {@link ClassLoader}.
@@ -672,19 +787,48 @@ private Class<?> defineClass(String name, URL url, boolean transform) throws Cla
             }
 
             if (transform) {
-                // Write the bytes to a byte array with the proper length,
-                // we don't want any trailing bytes when pushing the byte
-                // array through the transformers
-                byte[] result = new byte[length];
-                System.arraycopy(buffer, 0, result, 0, length);
-
-                // Let's start transforming the class
-                for (ClassTransformer transformer : this.transformers) {
-                    try {
-                        result = transformer.transform(this, name, result);
-                    } catch (Exception e) {
-                        System.err.print("An error occurred while transforming " + name + ": ");
-                        e.printStackTrace();
+                // Without transformers the bytecode stays the same, caching is useless
+                final TransformedClassCache cache = this.transformerCacheEnabled && !this.transformers.isEmpty() ?
+                        getTransformedClassCache() : null;
+                final String key = cache == null ? null : TransformedClassCache.createKey(name, buffer, length);
+
+                // Try to use the bytecode that was transformed before, if
+                // the classes the transformers inspected didn't change
+                final TransformedClassCache.Entry entry = key == null ? null : cache.get(key);
+                byte[] result = entry == null || !isValid(entry.dependencies) ? null : entry.byteCode;
+                if (result == null) {
+                    // Write the bytes to a byte array with the proper length,
+                    // we don't want any trailing bytes when pushing the byte
+                    // array through the transformers
+                    result = new byte[length];
+                    System.arraycopy(buffer, 0, result, 0, length);
+
+                    // Let's start transforming the class
+                    final List<TransformedClassCache.Dependency> dependencies = new ArrayList<>();
+                    boolean success = true;
+                    int index = 0;
+                    for (ClassTransformer transformer : this.transformers) {
+                        try {
+                            if (key != null && transformer instanceof DependentClassTransformer) {
+                                final Map<String, String> states = new LinkedHashMap<>();
+                                result = ((DependentClassTransformer) transformer).transform(this, name, result, states);
+                                for (Map.Entry<String, String> state : states.entrySet()) {
+                                    dependencies.add(new TransformedClassCache.Dependency(index, state.getKey(), state.getValue()));
+                                }
+                            } else {
+                                result = transformer.transform(this, name, result);
+                            }
+                        } catch (Exception e) {
+                            System.err.print("An error occurred while transforming " + name + ": ");
+                            e.printStackTrace();
+                            success = false;
+                        }
+                        index++;
+                    }
+
+                    // Don't cache failed transformations, try again the next time
+                    if (key != null && success) {
+                        cache.put(key, new TransformedClassCache.Entry(dependencies, result));
                     }
                 }
 
@@ -699,6 +843,25 @@ private Class<?> defineClass(String name, URL url, boolean transform) throws Cla
         }
     }
 
+    /**
+     * Gets whether all the dependencies of a cached class are
+     * still in the same state as when the class was transformed.
+     *
+     * @param dependencies The dependencies
+     * @return Whether the dependencies are valid
+     */
+    private boolean isValid(List<TransformedClassCache.Dependency> dependencies) {
+        for (TransformedClassCache.Dependency dependency : dependencies) {
+            final ClassTransformer transformer = dependency.transformer < this.transformers.size() ?
+                    this.transformers.get(dependency.transformer) : null;
+            if (!(transformer instanceof DependentClassTransformer) || !dependency.state.equals(
+                    ((DependentClassTransformer) transformer).getDependencyState(this, dependency.name))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private CodeSource getCodeSource(String name, URL url) {
         // Classes without a jar protocol, nope
         if (!url.getProtocol().equalsIgnoreCase("jar")) {
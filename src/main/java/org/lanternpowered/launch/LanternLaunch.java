@@ -28,6 +28,10 @@
 public final class LanternLaunch {
 
     public static void main(String[] args) {
+        // Create a class data sharing archive instead if requested
+        if (ClassDataSharing.dumpIfRequested(args)) {
+            return;
+        }
         // Initialize the class loader
         final LanternClassLoader classLoader = LanternClassLoader.get();
 
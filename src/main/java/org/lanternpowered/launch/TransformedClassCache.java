@@ -0,0 +1,355 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.launch;
+
+import org.lanternpowered.launch.transformer.ClassTransformer;
+import org.lanternpowered.launch.transformer.DependentClassTransformer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A on-disk cache for the bytecode of classes that were transformed by
+ * {@link ClassTransformer}s. The entries are keyed by the hash of the
+ * original bytecode and stored in a directory that is specific to the
+ * set of {@link ClassTransformer}s. The dependencies of
+ * {@link DependentClassTransformer}s are stored with the bytecode.
+ *
+ * <p>Classes that are loaded before and after a transformer is added
+ * use different sets, so multiple directories can be in use at the same
+ * time. Every directory is marked when it's used, only the directories
+ * that weren't used for a while are removed.</p>
+ */
+final class TransformedClassCache {
+
+    /**
+     * The version of the cache format.
+     */
+    private static final int FORMAT_VERSION = 2;
+
+    /**
+     * The time after which the directory of a transformer set that isn't used is removed.
+     */
+    private static final long STALE_TIME = TimeUnit.DAYS.toMillis(7);
+
+    private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
+    private final Path directory;
+    private volatile boolean initialized;
+
+    TransformedClassCache(Path directory, String fingerprint) {
+        this.directory = directory.resolve(fingerprint);
+    }
+
+    /**
+     * A dependency of a cached class, see {@link DependentClassTransformer}.
+     */
+    static final class Dependency {
+
+        /**
+         * The index of the transformer that collected the dependency.
+         */
+        final int transformer;
+        final String name;
+        final String state;
+
+        Dependency(int transformer, String name, String state) {
+            this.transformer = transformer;
+            this.name = name;
+            this.state = state;
+        }
+    }
+
+    static final class Entry {
+
+        final List<Dependency> dependencies;
+        final byte[] byteCode;
+
+        Entry(List<Dependency> dependencies, byte[] byteCode) {
+            this.dependencies = dependencies;
+            this.byteCode = byteCode;
+        }
+    }
+
+    /**
+     * Creates a fingerprint for the given {@link ClassTransformer}s, the
+     * fingerprint changes if the bytecode of one of the classes in the
+     * packages of the transformers changes, this includes the helper
+     * classes, or if transformers are added or removed.
+     *
+     * @param classLoader The class loader to read the transformer bytecode
+     * @param transformers The class transformers
+     * @return The fingerprint
+     */
+    static String createFingerprint(LanternClassLoader classLoader, List<ClassTransformer> transformers) {
+        final MessageDigest digest = createDigest();
+        digest.update((byte) FORMAT_VERSION);
+        for (ClassTransformer transformer : transformers) {
+            final Class<?> transformerClass = transformer.getClass();
+            digest.update(transformerClass.getName().getBytes(StandardCharsets.UTF_8));
+            final Package pkg = transformerClass.getPackage();
+            final String version = pkg == null ? null : pkg.getImplementationVersion();
+            if (version != null) {
+                digest.update(version.getBytes(StandardCharsets.UTF_8));
+            }
+            try {
+                if (!updatePackage(digest, classLoader, transformerClass)) {
+                    digest.update(classLoader.readByteCode(transformerClass.getName()));
+                }
+            } catch (ClassNotFoundException ignored) {
+                // Generated transformer classes, just use the name
+            }
+        }
+        return toHex(digest.digest()).substring(0, 16);
+    }
+
+    /**
+     * Updates the digest with the bytecode of all the classes in
+     * the package of the given transformer class.
+     *
+     * @param digest The digest
+     * @param classLoader The class loader
+     * @param transformerClass The transformer class
+     * @return Whether the package could be read
+     */
+    private static boolean updatePackage(MessageDigest digest, ClassLoader classLoader, Class<?> transformerClass) {
+        final String path = transformerClass.getName().replace('.', '/').concat(".class");
+        final String packagePath = path.substring(0, path.lastIndexOf('/') + 1);
+        final URL url = classLoader.getResource(path);
+        if (url == null) {
+            return false;
+        }
+        try {
+            if (url.getProtocol().equalsIgnoreCase("jar")) {
+                final JarURLConnection connection = (JarURLConnection) url.openConnection();
+                connection.setUseCaches(false);
+                try (JarFile jarFile = connection.getJarFile()) {
+                    final List<JarEntry> entries = new ArrayList<>();
+                    final Enumeration<JarEntry> enumeration = jarFile.entries();
+                    while (enumeration.hasMoreElements()) {
+                        final JarEntry entry = enumeration.nextElement();
+                        final String name = entry.getName();
+                        // Only the classes directly in the package
+                        if (name.startsWith(packagePath) && name.endsWith(".class") &&
+                                name.indexOf('/', packagePath.length()) == -1) {
+                            entries.add(entry);
+                        }
+                    }
+                    entries.sort(Comparator.comparing(JarEntry::getName));
+                    for (JarEntry entry : entries) {
+                        digest.update(entry.getName().getBytes(StandardCharsets.UTF_8));
+                        try (InputStream is = jarFile.getInputStream(entry)) {
+                            final byte[] buf = new byte[4096];
+                            int read;
+                            while ((read = is.read(buf)) != -1) {
+                                digest.update(buf, 0, read);
+                            }
+                        }
+                    }
+                }
+                return true;
+            } else if (url.getProtocol().equalsIgnoreCase("file")) {
+                final List<Path> files;
+                try (Stream<Path> stream = Files.list(Paths.get(url.toURI()).getParent())) {
+                    files = stream.filter(file -> file.getFileName().toString().endsWith(".class"))
+                            .sorted(Comparator.comparing(file -> file.getFileName().toString()))
+                            .collect(Collectors.toList());
+                }
+                for (Path file : files) {
+                    digest.update(file.getFileName().toString().getBytes(StandardCharsets.UTF_8));
+                    digest.update(Files.readAllBytes(file));
+                }
+                return true;
+            }
+        } catch (IOException | URISyntaxException e) {
+            System.err.println("Failed to read the package of the transformer " + transformerClass.getName() + ": " + e);
+        }
+        return false;
+    }
+
+    /**
+     * Creates the cache key for the given class name and original bytecode. The
+     * key doesn't cover the classes that the {@link DependentClassTransformer}s
+     * inspect, these are validated through the dependencies of the {@link Entry}.
+     *
+     * @param className The class name
+     * @param byteCode The original bytecode
+     * @param length The length of the bytecode
+     * @return The key
+     */
+    static String createKey(String className, byte[] byteCode, int length) {
+        final MessageDigest digest = createDigest();
+        digest.update(className.getBytes(StandardCharsets.UTF_8));
+        digest.update(byteCode, 0, length);
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Attempts to get the transformed bytecode and its
+     * dependencies for the given key.
+     *
+     * @param key The key
+     * @return The entry, or null if not cached
+     */
+    Entry get(String key) {
+        final Path file = getFile(key);
+        try {
+            initialize();
+        } catch (IOException e) {
+            return null;
+        }
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (DataInputStream dis = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file)))) {
+            final int count = dis.readInt();
+            final List<Dependency> dependencies = count == 0 ? Collections.emptyList() : new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                dependencies.add(new Dependency(dis.readInt(), dis.readUTF(), dis.readUTF()));
+            }
+            final byte[] byteCode = new byte[dis.readInt()];
+            dis.readFully(byteCode);
+            return new Entry(dependencies, byteCode);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Stores the transformed bytecode and its dependencies for the given key.
+     *
+     * @param key The key
+     * @param entry The entry
+     */
+    void put(String key, Entry entry) {
+        final Path file = getFile(key);
+        try {
+            initialize();
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream(entry.byteCode.length + 64);
+            try (DataOutputStream dos = new DataOutputStream(baos)) {
+                dos.writeInt(entry.dependencies.size());
+                for (Dependency dependency : entry.dependencies) {
+                    dos.writeInt(dependency.transformer);
+                    dos.writeUTF(dependency.name);
+                    dos.writeUTF(dependency.state);
+                }
+                dos.writeInt(entry.byteCode.length);
+                dos.write(entry.byteCode);
+            }
+            final Path parent = file.getParent();
+            Files.createDirectories(parent);
+            final Path tmpFile = Files.createTempFile(parent, key, ".tmp");
+            Files.write(tmpFile, baos.toByteArray());
+            Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Failed to cache the transformed class " + file + ": " + e);
+        }
+    }
+
+    private Path getFile(String key) {
+        // Spread the files over multiple directories
+        return this.directory.resolve(key.substring(0, 2)).resolve(key + ".class");
+    }
+
+    private void initialize() throws IOException {
+        if (this.initialized) {
+            return;
+        }
+        synchronized (this) {
+            if (this.initialized) {
+                return;
+            }
+            Files.createDirectories(this.directory);
+            // Mark the directory as used, also if all the classes are already cached
+            final long time = System.currentTimeMillis();
+            Files.setLastModifiedTime(this.directory, FileTime.fromMillis(time));
+            // Remove the caches of the transformer sets that are no longer used
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.directory.getParent())) {
+                for (Path path : stream) {
+                    if (!path.equals(this.directory) && Files.getLastModifiedTime(path).toMillis() < time - STALE_TIME) {
+                        delete(path);
+                    }
+                }
+            }
+            this.initialized = true;
+        }
+    }
+
+    private static void delete(Path path) throws IOException {
+        try (Stream<Path> stream = Files.walk(path)) {
+            stream.sorted(Comparator.reverseOrder()).forEach(path1 -> {
+                try {
+                    Files.delete(path1);
+                } catch (IOException ignored) {
+                }
+            });
+        }
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        final char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            final int value = bytes[i] & 0xff;
+            chars[i * 2] = HEX_CHARS[value >>> 4];
+            chars[i * 2 + 1] = HEX_CHARS[value & 0xf];
+        }
+        return new String(chars);
+    }
+}
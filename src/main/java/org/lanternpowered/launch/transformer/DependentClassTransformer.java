@@ -0,0 +1,66 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.launch.transformer;
+
+import java.util.Map;
+
+/**
+ * A {@link ClassTransformer} of which the output doesn't only depend on the
+ * bytecode of the transformed class, but also on other classes that are
+ * inspected during the transformation, for example the hierarchy of the
+ * owner of a invoked method.
+ * <p>All the inspected classes are collected as dependencies together with
+ * their state. Cached transformations are only reused if all the dependencies
+ * are still in the same state.
+ */
+public interface DependentClassTransformer extends ClassTransformer {
+
+    @Override
+    default byte[] transform(ClassLoader loader, String className, byte[] byteCode) {
+        return transform(loader, className, byteCode, null);
+    }
+
+    /**
+     * Transforms the bytecode of the class and collects the dependencies
+     * and their state into the given {@link Map}, if present.
+     *
+     * @param loader The class loader
+     * @param className The class name
+     * @param byteCode The bytecode
+     * @param dependencies The map to collect the dependencies into, or {@code null}
+     * @return The transformed bytecode
+     */
+    byte[] transform(ClassLoader loader, String className, byte[] byteCode, Map<String, String> dependencies);
+
+    /**
+     * Gets the current state of the dependency.
+     *
+     * @param loader The class loader
+     * @param dependency The dependency
+     * @return The state
+     */
+    String getDependencyState(ClassLoader loader, String dependency);
+}
@@ -41,7 +41,9 @@
 import org.lanternpowered.server.console.ConsoleManager;
 import org.lanternpowered.server.console.LanternConsoleSource;
 import org.lanternpowered.server.entity.living.player.LanternPlayer;
+import org.lanternpowered.server.entity.living.player.tab.GlobalTabList;
 import org.lanternpowered.server.game.LanternGame;
+import org.lanternpowered.server.game.TickCatchUpPolicy;
 import org.lanternpowered.server.game.version.LanternMinecraftVersion;
 import org.lanternpowered.server.network.NetworkManager;
 import org.lanternpowered.server.network.ProxyType;
@@ -49,14 +51,21 @@
 import org.lanternpowered.server.network.query.QueryServer;
 import org.lanternpowered.server.network.rcon.RconServer;
 import org.lanternpowered.server.network.status.LanternFavicon;
+import org.lanternpowered.server.network.status.StatusResponseCache;
 import org.lanternpowered.server.plugin.InternalPluginsInfo;
+import org.lanternpowered.server.scoreboard.LanternScoreboard;
 import org.lanternpowered.server.service.CloseableService;
 import org.lanternpowered.server.service.LanternServiceManager;
 import org.lanternpowered.server.text.LanternTexts;
+import org.lanternpowered.server.timings.LanternTiming;
+import org.lanternpowered.server.timings.LanternTimings;
+import org.lanternpowered.server.timings.LanternTimingsFactory;
 import org.lanternpowered.server.util.SecurityHelper;
 import org.lanternpowered.server.util.ShutdownMonitorThread;
 import org.lanternpowered.server.util.SyncLanternThread;
+import org.lanternpowered.server.util.TickStatistics;
 import org.lanternpowered.server.util.UncheckedThrowables;
+import org.lanternpowered.server.util.collect.PrefixIndex;
 import org.lanternpowered.server.world.LanternWorldManager;
 import org.lanternpowered.server.world.chunk.LanternChunkLayout;
 import org.slf4j.Logger;
@@ -103,6 +112,7 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -152,6 +162,17 @@ public final class LanternServer implements Server {
     // The amount of ticks the server is running
     private final AtomicInteger runningTimeTicks = new AtomicInteger(0);
 
+    // The minimum amount of time the server should fall behind before a warning is logged
+    private static final long LAG_WARNING_THRESHOLD = TimeUnit.SECONDS.toNanos(2);
+    // The minimum amount of time between two lag warnings
+    private static final long LAG_WARNING_INTERVAL = TimeUnit.SECONDS.toNanos(15);
+
+    private final TickStatistics tickStatistics = new TickStatistics(LanternGame.TICKS_PER_SECOND);
+
+    // The time at which the next tick should start, in nanoseconds, only accessed by the server thread
+    private long nextTickTime;
+    private long lastLagWarning;
+
     // All the players by their name
     private final Map<String, LanternPlayer> playersByName = new ConcurrentHashMap<>();
 
@@ -161,6 +182,12 @@ public final class LanternServer implements Server {
     // All the players by their uniqueId
     private final Map<UUID, LanternPlayer> playersByUUID = new ConcurrentHashMap<>();
 
+    // All the names of the players, used for tab completion
+    private final PrefixIndex playerNameIndex = new PrefixIndex();
+
+    // The cached status of the server, used by the server list pings and queries
+    private final StatusResponseCache statusResponseCache = new StatusResponseCache(this);
+
     @Nullable private ResourcePack resourcePack;
     @Nullable private Favicon favicon;
     private boolean onlineMode;
@@ -219,6 +246,7 @@ void start() throws IOException {
         }
 
         this.consoleManager.start();
+        LanternTimingsFactory.get().init(globalConfig);
 
         try {
             bind();
@@ -283,13 +311,10 @@ void start() throws IOException {
         // Initialize a CauseStack on the server thread.
         this.executor.submit(() -> LanternCauseStackManager.INSTANCE.setCurrentCauseStack(new LanternCauseStack()));
         // Start server ticking.
-        this.executor.scheduleAtFixedRate(() -> {
-            try {
-                pulse();
-            } catch (Exception e) {
-                this.logger.error("Error while pulsing", e);
-            }
-        }, 0, LanternGame.TICK_DURATION, TimeUnit.MILLISECONDS);
+        this.executor.execute(() -> {
+            this.nextTickTime = System.nanoTime();
+            tick();
+        });
 
         this.game.postGameStateChange(SpongeEventFactory.createGameStartedServerEvent(gameCause));
     }
@@ -362,17 +387,85 @@ private void bindRcon() {
         }
     }
 
+    /**
+     * Executes a tick and schedules the next one.
+     */
+    private void tick() {
+        if (this.executor.isShutdown()) {
+            return;
+        }
+        final long start = System.nanoTime();
+        try {
+            pulse();
+        } catch (Exception e) {
+            this.logger.error("Error while pulsing", e);
+        }
+        final long end = System.nanoTime();
+        this.tickStatistics.record(start, end - start);
+        scheduleNextTick(end);
+    }
+
+    private void scheduleNextTick(long now) {
+        this.nextTickTime += LanternGame.TICK_DURATION_NS;
+        final long behind = now - this.nextTickTime;
+        if (behind > 0) {
+            final GlobalConfig config = this.game.getGlobalConfig();
+            final long missedTicks = behind / LanternGame.TICK_DURATION_NS;
+            if (behind > LAG_WARNING_THRESHOLD && now - this.lastLagWarning > LAG_WARNING_INTERVAL) {
+                this.logger.warn("Can't keep up! Is the server overloaded? Running {}ms or {} ticks behind",
+                        TimeUnit.NANOSECONDS.toMillis(behind), missedTicks);
+                this.lastLagWarning = now;
+            }
+            if (config.getTickCatchUpPolicy() == TickCatchUpPolicy.SKIP) {
+                // Drop the missed ticks
+                this.nextTickTime = now;
+            } else {
+                // Run the missed ticks back to back, up to the maximum
+                final int maxCatchUpTicks = config.getMaxCatchUpTicks();
+                if (missedTicks > maxCatchUpTicks) {
+                    this.nextTickTime = now - maxCatchUpTicks * LanternGame.TICK_DURATION_NS;
+                }
+            }
+        }
+        try {
+            this.executor.schedule(this::tick, Math.max(0, this.nextTickTime - now), TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException ignored) {
+            // The server is shutting down
+        }
+    }
+
+    /**
+     * Gets the {@link TickStatistics} of the server pulse.
+     *
+     * @return The tick statistics
+     */
+    public TickStatistics getTickStatistics() {
+        return this.tickStatistics;
+    }
+
     /**
      * Pulses (ticks) the game.
      */
     private void pulse() {
-        this.runningTimeTicks.incrementAndGet();
-        // Pulse the network sessions
-        this.networkManager.pulseSessions();
-        // Pulse the sync scheduler tasks
-        this.game.getScheduler().pulseSyncScheduler();
-        // Pulse the world threads
-        this.worldManager.pulse();
+        try (LanternTiming ignored = LanternTimings.SERVER_TICK.startTiming()) {
+            this.runningTimeTicks.incrementAndGet();
+            // Pulse the network sessions
+            try (LanternTiming ignored1 = LanternTimings.NETWORK_SESSIONS.startTiming()) {
+                this.networkManager.pulseSessions();
+            }
+            // Pulse the sync scheduler tasks
+            try (LanternTiming ignored1 = LanternTimings.SYNC_SCHEDULER.startTiming()) {
+                this.game.getScheduler().pulseSyncScheduler();
+            }
+            // Pulse the world threads
+            this.worldManager.pulse();
+            // Send all the scoreboard and tab list changes in bulk
+            LanternScoreboard.flushAll();
+            GlobalTabList.getInstance().flush();
+        } finally {
+            // Collect the timings of this tick
+            LanternTimingsFactory.get().pulse();
+        }
     }
 
     /**
@@ -401,6 +494,8 @@ public Optional<Favicon> getFavicon() {
     public void addPlayer(LanternPlayer player) {
         this.playersByName.put(player.getName(), player);
         this.playersByUUID.put(player.getUniqueId(), player);
+        this.playerNameIndex.add(player.getName());
+        this.statusResponseCache.invalidate();
     }
 
     /**
@@ -411,6 +506,27 @@ public void addPlayer(LanternPlayer player) {
     public void removePlayer(LanternPlayer player) {
         this.playersByName.remove(player.getName());
         this.playersByUUID.remove(player.getUniqueId());
+        this.playerNameIndex.remove(player.getName());
+        this.statusResponseCache.invalidate();
+    }
+
+    /**
+     * Gets the {@link PrefixIndex} with the names
+     * of all the online {@link Player}s.
+     *
+     * @return The player name index
+     */
+    public PrefixIndex getPlayerNameIndex() {
+        return this.playerNameIndex;
+    }
+
+    /**
+     * Gets the {@link StatusResponseCache}.
+     *
+     * @return The status response cache
+     */
+    public StatusResponseCache getStatusResponseCache() {
+        return this.statusResponseCache;
     }
 
     /**
@@ -693,7 +809,7 @@ public ChunkTicketManager getChunkTicketManager() {
 
     @Override
     public double getTicksPerSecond() {
-        return LanternGame.TICKS_PER_SECOND; // TODO
+        return this.tickStatistics.getTicksPerSecond(5);
     }
 
     @Override
@@ -59,6 +59,13 @@ public void main(String[] args) {
         classLoader.addTransformerExclusion(Exclusion.forClass("org.lanternpowered.server.util.UncheckedExceptions"));
         classLoader.addTransformer(new FinalFieldClassTransformer());
         classLoader.addTransformer(new FastValueContainerClassTransformer());
+        // Start loading the classes that will be needed during the startup
+        classLoader.prewarm(
+                "org.lanternpowered.server.network.vanilla.message",
+                "org.lanternpowered.server.data",
+                "org.lanternpowered.server.block",
+                "org.lanternpowered.server.item",
+                "org.lanternpowered.server.game.registry");
 
         final SyncLanternThread thread = new SyncLanternThread(() -> start(args), "init");
         thread.start();
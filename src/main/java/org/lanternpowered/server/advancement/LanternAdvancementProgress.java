@@ -219,6 +219,7 @@ public void invalidateAchievedState() {
         // The progress should be updated
         this.dirtyProgress = true;
         this.playerAdvancements.dirtyProgress.add(this);
+        this.playerAdvancements.dirtySave = true;
     }
 
     Object2LongMap<String> collectProgress() {
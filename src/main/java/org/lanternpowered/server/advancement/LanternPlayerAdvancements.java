@@ -30,7 +30,6 @@
 import com.flowpowered.math.vector.Vector2d;
 import com.google.common.collect.ImmutableList;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
@@ -68,20 +67,32 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.annotation.Nullable;
 
 public class LanternPlayerAdvancements {
 
-    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final Gson GSON = new Gson();
     private static final SimpleDateFormat DATE_TIME_FORMATTER = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss Z");
 
+    // The latest progress that is waiting to be written, per player. Only the most
+    // recent snapshot will be written if multiple saves are queued. This is shared
+    // between all the instances, a player that rejoins before the write is done
+    // will load the pending snapshot instead of the outdated file.
+    private static final ConcurrentMap<UUID, JsonObject> pendingSaves = new ConcurrentHashMap<>();
+
     private final LanternPlayer player;
     private final Map<Advancement, LanternAdvancementProgress> progress = new HashMap<>();
 
     // All the "dirty" progress that should be updated for the client
     final Set<LanternAdvancementProgress> dirtyProgress = new HashSet<>();
 
+    // Whether the progress changed since the last time it was saved
+    boolean dirtySave;
+
     public LanternPlayerAdvancements(LanternPlayer player) {
         this.player = player;
     }
@@ -95,45 +106,76 @@ public LanternPlayer getPlayer() {
      *
      * @return The path
      */
-    private Path getSavePath() {
+    private static Path getSavePath(UUID uniqueId) {
         return Lantern.getGame().getSavesDirectory()
                 .resolve("advancements")
-                .resolve(this.player.getUniqueId().toString().toLowerCase() + ".json");
+                .resolve(uniqueId.toString().toLowerCase() + ".json");
     }
 
     public void init() {
         init0();
 
+        // Load the progress that is still waiting to be written, it's newer than the file
+        final JsonObject pending = pendingSaves.get(this.player.getUniqueId());
+        final Path file = getSavePath(this.player.getUniqueId());
+        if (pending != null) {
+            loadProgressFromJson(pending);
         // Load progress from the file
-        final Path file = getSavePath();
-        if (Files.exists(file)) {
+        } else if (Files.exists(file)) {
             try (BufferedReader reader = Files.newBufferedReader(file)) {
                 loadProgressFromJson(GSON.fromJson(reader, JsonObject.class));
             } catch (IOException e) {
                 Lantern.getLogger().error("Failed to load the advancements progress for the player: " + this.player.getUniqueId(), e);
             }
         }
+        // Loading the progress marks everything as changed, but it matches the file
+        this.dirtySave = false;
     }
 
     public void initClient() {
         this.player.getConnection().send(createUpdateMessage(true));
     }
 
+    /**
+     * Saves the progress if it was modified since the last save. The
+     * progress is collected on the calling thread and the file is
+     * written asynchronously.
+     */
     public void save() {
-        final Path file = getSavePath();
+        if (!this.dirtySave) {
+            return;
+        }
+        this.dirtySave = false;
+        final UUID uniqueId = this.player.getUniqueId();
+        if (pendingSaves.put(uniqueId, saveProgressToJson()) != null) {
+            // There is already a write queued, it will pick up the new snapshot
+            return;
+        }
+        Lantern.getScheduler().submitAsyncTask(() -> write(uniqueId));
+    }
 
-        try {
-            // Make sure the parent directory exists
-            final Path parent = file.getParent();
-            if (!Files.exists(parent)) {
-                Files.createDirectories(parent);
+    private static void write(UUID uniqueId) {
+        final Path file = getSavePath(uniqueId);
+        JsonObject json;
+        while ((json = pendingSaves.get(uniqueId)) != null) {
+            try {
+                // Make sure the parent directory exists
+                final Path parent = file.getParent();
+                if (!Files.exists(parent)) {
+                    Files.createDirectories(parent);
+                }
+                // Save the advancements
+                try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+                    GSON.toJson(json, writer);
+                }
+            } catch (IOException e) {
+                Lantern.getLogger().error("Failed to save the advancements progress for the player: " + uniqueId, e);
             }
-            // Save the advancements
-            try (BufferedWriter writer = Files.newBufferedWriter(file)) {
-                GSON.toJson(saveProgressToJson(), writer);
+            // Only remove the snapshot if it wasn't replaced in the meantime,
+            // otherwise write the newer one, no other write will be queued
+            if (pendingSaves.remove(uniqueId, json)) {
+                break;
             }
-        } catch (IOException e) {
-            Lantern.getLogger().error("Failed to save the advancements progress for the player: " + this.player.getUniqueId(), e);
         }
     }
 
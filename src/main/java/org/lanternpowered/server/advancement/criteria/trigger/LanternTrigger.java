@@ -25,8 +25,6 @@
  */
 package org.lanternpowered.server.advancement.criteria.trigger;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
 import com.google.common.reflect.TypeToken;
 import com.google.gson.JsonObject;
 import org.lanternpowered.api.catalog.CatalogKeys;
@@ -48,8 +46,10 @@
 import org.spongepowered.api.event.advancement.CriterionEvent;
 import org.spongepowered.api.event.cause.Cause;
 
-import java.util.ArrayList;
-import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -63,8 +63,30 @@
     @Nullable private final Consumer<CriterionEvent.Trigger<C>> eventHandler;
     private final TypeToken<C> configTypeToken;
 
-    // All the criteria progress that could be triggered by this trigger
-    private final Multimap<LanternPlayerAdvancements, AbstractCriterionProgress> progress = HashMultimap.create();
+    // All the criteria progress that could be triggered by this trigger, indexed
+    // per player. Achieved criteria detach themselves, so only pending progress
+    // is ever visited when the trigger fires.
+    private final Map<LanternPlayerAdvancements, PlayerProgress> progress = new HashMap<>();
+
+    private static final class PlayerProgress {
+
+        private static final AbstractCriterionProgress[] EMPTY = new AbstractCriterionProgress[0];
+
+        private final Set<AbstractCriterionProgress> entries = new LinkedHashSet<>();
+
+        // A snapshot of the entries, criteria can be detached while
+        // they are being triggered, the snapshot is only rebuilt
+        // after the entries were modified
+        @Nullable private AbstractCriterionProgress[] snapshot;
+
+        AbstractCriterionProgress[] getSnapshot() {
+            AbstractCriterionProgress[] snapshot = this.snapshot;
+            if (snapshot == null) {
+                this.snapshot = snapshot = this.entries.toArray(EMPTY);
+            }
+            return snapshot;
+        }
+    }
 
     LanternTrigger(LanternTriggerBuilder<C> builder) {
         super(CatalogKeys.activePlugin(builder.id, builder.name == null ? builder.id : builder.name));
@@ -81,7 +103,17 @@ public Class<C> getConfigurationType() {
 
     @Override
     public void trigger() {
-        trigger(Sponge.getServer().getOnlinePlayers());
+        // Only visit the players that have pending criteria for this trigger
+        final LanternPlayerAdvancements[] playerAdvancements;
+        synchronized (this.progress) {
+            if (this.progress.isEmpty()) {
+                return;
+            }
+            playerAdvancements = this.progress.keySet().toArray(new LanternPlayerAdvancements[0]);
+        }
+        for (LanternPlayerAdvancements entry : playerAdvancements) {
+            trigger(entry.getPlayer());
+        }
     }
 
     @Override
@@ -93,10 +125,21 @@ public void trigger(Iterable<Player> players) {
     @Override
     public void trigger(Player player) {
         final LanternPlayerAdvancements playerAdvancements = ((LanternPlayer) player).getAdvancementsProgress();
-        final Collection<AbstractCriterionProgress> collection = this.progress.get(playerAdvancements);
-        if (!collection.isEmpty()) {
+        final AbstractCriterionProgress[] snapshot;
+        synchronized (this.progress) {
+            final PlayerProgress playerProgress = this.progress.get(playerAdvancements);
+            if (playerProgress == null) {
+                return;
+            }
+            snapshot = playerProgress.getSnapshot();
+        }
+        if (snapshot.length != 0) {
             final Cause cause = CauseStack.current().getCurrentCause();
-            for (AbstractCriterionProgress progress : new ArrayList<>(this.progress.get(playerAdvancements))) {
+            for (AbstractCriterionProgress progress : snapshot) {
+                // Skip criteria that got achieved while triggering the previous ones
+                if (progress.achieved()) {
+                    continue;
+                }
                 final Advancement advancement = progress.getAdvancementProgress().getAdvancement();
                 final AdvancementCriterion criterion = progress.getCriterion();
                 final FilteredTrigger filteredTrigger = criterion.getTrigger().get();
@@ -120,11 +163,26 @@ public void trigger(Player player) {
     }
 
     public void add(LanternPlayerAdvancements playerAdvancements, AbstractCriterionProgress criterionProgress) {
-        this.progress.put(playerAdvancements, criterionProgress);
+        synchronized (this.progress) {
+            final PlayerProgress playerProgress = this.progress.computeIfAbsent(playerAdvancements, key -> new PlayerProgress());
+            if (playerProgress.entries.add(criterionProgress)) {
+                playerProgress.snapshot = null;
+            }
+        }
     }
 
     public void remove(LanternPlayerAdvancements playerAdvancements, AbstractCriterionProgress criterionProgress) {
-        this.progress.remove(playerAdvancements, criterionProgress);
+        synchronized (this.progress) {
+            final PlayerProgress playerProgress = this.progress.get(playerAdvancements);
+            if (playerProgress == null || !playerProgress.entries.remove(criterionProgress)) {
+                return;
+            }
+            if (playerProgress.entries.isEmpty()) {
+                this.progress.remove(playerAdvancements);
+            } else {
+                playerProgress.snapshot = null;
+            }
+        }
     }
 
     public Function<JsonObject, C> getConfigConstructor() {
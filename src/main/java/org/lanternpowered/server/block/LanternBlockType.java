@@ -86,6 +86,12 @@ public class LanternBlockType extends DefaultCatalogType implements BlockType, A
      */
     private boolean tickRandomly;
 
+    /**
+     * Whether this block has any {@link RandomTickBehavior}s, unlike
+     * {@link #tickRandomly} this can't be changed after construction.
+     */
+    private final boolean hasRandomTickBehaviors;
+
     @Nullable private ObjectProvider<AABB> selectionBoxProvider;
     @Nullable private ObjectProvider<Collection<AABB>> collisionBoxesProvider;
 
@@ -101,7 +107,8 @@ public class LanternBlockType extends DefaultCatalogType implements BlockType, A
         this.translationProvider = translationProvider;
         this.behaviorPipeline = behaviorPipeline;
         this.tileEntityProvider = tileEntityProvider;
-        this.tickRandomly = !behaviorPipeline.pipeline(RandomTickBehavior.class).getBehaviors().isEmpty();
+        this.hasRandomTickBehaviors = !behaviorPipeline.pipeline(RandomTickBehavior.class).getBehaviors().isEmpty();
+        this.tickRandomly = this.hasRandomTickBehaviors;
         this.extendedBlockStateProvider = extendedBlockStateProvider;
         this.blockStateBase = new LanternBlockStateMap(this, blockTraits);
         this.defaultBlockState = this.blockStateBase.getBaseState();
@@ -197,6 +204,18 @@ public void setTickRandomly(boolean tickRandomly) {
         this.tickRandomly = tickRandomly;
     }
 
+    /**
+     * Gets whether this block type has any {@link RandomTickBehavior}s. Blocks
+     * without them never do anything when being ticked randomly, regardless
+     * of {@link #getTickRandomly()}. This value never changes, so it's safe
+     * to maintain counts based on it.
+     *
+     * @return Whether the block type has random tick behaviors
+     */
+    public boolean hasRandomTickBehaviors() {
+        return this.hasRandomTickBehaviors;
+    }
+
     @Override
     public Collection<BlockTrait<?>> getTraits() {
         return getDefaultState().getTraits();
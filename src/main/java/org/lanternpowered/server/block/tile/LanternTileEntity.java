@@ -67,6 +67,18 @@ public abstract class LanternTileEntity implements TileEntity, IAdditionalDataHo
     @Nullable private TileEntityProtocolType<?> protocolType;
     @Nullable private AbstractTileEntityProtocol<?> protocol;
 
+    /**
+     * Whether the state of this tile entity changed outside of its
+     * data since the last time that {@link #pollModified()} was called.
+     */
+    private volatile boolean modified;
+
+    /**
+     * The data modification stamp that was seen the
+     * last time that {@link #pollModified()} was called.
+     */
+    private volatile long lastModificationStamp;
+
     protected LanternTileEntity() {
         registerKeys();
     }
@@ -80,6 +92,30 @@ protected void registerKeys() {
     public void pulse() {
     }
 
+    /**
+     * Marks this tile entity as modified, for state
+     * that isn't tracked by the {@link ValueCollection}
+     * or additional containers, e.g. inventory contents.
+     */
+    protected void markModified() {
+        this.modified = true;
+    }
+
+    /**
+     * Gets whether this tile entity was modified since the last time
+     * that this method was called. Calling this method resets the state.
+     *
+     * @return Whether the tile entity was modified
+     */
+    public boolean pollModified() {
+        final long stamp = Math.max(this.valueCollection.getModificationStamp(),
+                this.additionalContainers.getModificationStamp());
+        final boolean modified = this.modified || stamp != this.lastModificationStamp;
+        this.modified = false;
+        this.lastModificationStamp = stamp;
+        return modified;
+    }
+
     @Override
     public ValueCollection getValueCollection() {
         return this.valueCollection;
@@ -53,6 +53,7 @@ public static <T extends TileEntity> LanternTileEntityType of(CatalogKey key,
 
     private final Class<? extends TileEntity> tileEntityClass;
     private final Supplier<TileEntity> tileEntityConstructor;
+    private final boolean ticking;
 
     @Nullable BlockState defaultBlock;
 
@@ -61,6 +62,16 @@ private LanternTileEntityType(CatalogKey key, Class<? extends TileEntity> tileEn
         super(key);
         this.tileEntityClass = checkNotNull(tileEntityClass, "tileEntityClass");
         this.tileEntityConstructor = tileEntityConstructor;
+        this.ticking = isTicking(tileEntityClass);
+    }
+
+    private static boolean isTicking(Class<? extends TileEntity> tileEntityClass) {
+        // Only the tile entities that override the pulse method need to be ticked
+        try {
+            return tileEntityClass.getMethod("pulse").getDeclaringClass() != LanternTileEntity.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
     }
 
     @Override
@@ -73,7 +84,19 @@ public ToStringHelper toStringHelper() {
         return super.toStringHelper()
                 .omitNullValues()
                 .add("tileEntityClass", this.tileEntityClass)
-                .add("defaultBlock", this.defaultBlock);
+                .add("defaultBlock", this.defaultBlock)
+                .add("ticking", this.ticking);
+    }
+
+    /**
+     * Gets whether the {@link TileEntity}s of this type need to be
+     * pulsed every tick. This is the case when the tile entity class
+     * overrides {@link LanternTileEntity#pulse()}.
+     *
+     * @return Whether the tile entities are ticking
+     */
+    public boolean isTicking() {
+        return this.ticking;
     }
 
     /**
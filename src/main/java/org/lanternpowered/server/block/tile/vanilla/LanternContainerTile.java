@@ -40,6 +40,7 @@
     protected LanternContainerTile() {
         this.inventory = createInventory();
         this.inventory.addViewListener(this);
+        this.inventory.addChangeListener(slot -> markModified());
     }
 
     protected abstract I createInventory();
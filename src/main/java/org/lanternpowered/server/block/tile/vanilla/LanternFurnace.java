@@ -69,6 +69,7 @@ public LanternFurnace() {
         this.inventory = VanillaInventoryArchetypes.FURNACE.builder()
                 .withCarrier(this).build(Lantern.getMinecraftPlugin());
         this.inventory.enableCachedProgress();
+        this.inventory.addChangeListener(slot -> markModified());
     }
 
     @Override
@@ -59,6 +59,10 @@ public final class LanternJukebox extends LanternTileEntity implements Jukebox,
             .withCarrier(this).build(Lantern.getMinecraftPlugin());
     private boolean playing;
 
+    public LanternJukebox() {
+        this.inventory.addChangeListener(slot -> markModified());
+    }
+
     @Override
     public void playRecord() {
         final ItemStack recordItem = this.inventory.getRawItemStack();
@@ -28,6 +28,7 @@
 import static org.lanternpowered.server.text.translation.TranslationHelper.t;
 
 import com.flowpowered.math.vector.Vector3d;
+import org.lanternpowered.server.command.element.GenericArguments2;
 import org.lanternpowered.server.inventory.LanternItemStack;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockState;
@@ -57,7 +58,7 @@ public CommandParticleEffect() {
     public void completeSpec(PluginContainer pluginContainer, CommandSpec.Builder specBuilder) {
         specBuilder
                 .arguments(
-                        GenericArguments.catalogedElement(Text.of("type"), ParticleType.class),
+                        GenericArguments2.catalogedElement(Text.of("type"), ParticleType.class),
                         GenericArguments.vector3d(Text.of("position")),
                         GenericArguments.optional(GenericArguments.world(Text.of("world"))),
                         // TODO: Can we place the world arg after the position without that the parsing system complains
@@ -68,10 +69,10 @@ public void completeSpec(PluginContainer pluginContainer, CommandSpec.Builder sp
                                 .valueFlag(GenericArguments.vector3d(Text.of("velocity")), "-velocity", "v")
                                 .valueFlag(GenericArguments.vector3d(Text.of("color")), "-color", "c")
                                 .valueFlag(GenericArguments.doubleNum(Text.of("scale")), "-scale", "s")
-                                .valueFlag(GenericArguments.catalogedElement(Text.of("note"), NotePitch.class), "-note", "n")
-                                .valueFlag(GenericArguments.catalogedElement(Text.of("block"), BlockState.class), "-block", "b")
-                                .valueFlag(GenericArguments.catalogedElement(Text.of("item"), ItemType.class), "-item", "i")
-                                .valueFlag(GenericArguments.catalogedElement(Text.of("potion"), PotionEffectType.class), "-potion", "p")
+                                .valueFlag(GenericArguments2.catalogedElement(Text.of("note"), NotePitch.class), "-note", "n")
+                                .valueFlag(GenericArguments2.catalogedElement(Text.of("block"), BlockState.class), "-block", "b")
+                                .valueFlag(GenericArguments2.catalogedElement(Text.of("item"), ItemType.class), "-item", "i")
+                                .valueFlag(GenericArguments2.catalogedElement(Text.of("potion"), PotionEffectType.class), "-potion", "p")
                                 .buildWith(GenericArguments.none()))
                 .executor((src, args) -> {
                     final ParticleType particleType = args.<ParticleType>getOne("type").get();
@@ -49,9 +49,9 @@ public CommandPlaySound() {
     public void completeSpec(PluginContainer pluginContainer, CommandSpec.Builder specBuilder) {
         specBuilder
                 .arguments(
-                        GenericArguments.catalogedElement(Text.of("sound"), SoundType.class),
-                        GenericArguments.catalogedElement(Text.of("category"), SoundCategory.class),
-                        GenericArguments.player(Text.of("player")),
+                        GenericArguments2.catalogedElement(Text.of("sound"), SoundType.class),
+                        GenericArguments2.catalogedElement(Text.of("category"), SoundCategory.class),
+                        GenericArguments2.player(Text.of("player")),
                         GenericArguments.optional(GenericArguments2.targetedVector3d(Text.of("position"))),
                         GenericArguments.optional(GenericArguments2.doubleNum(Text.of("volume")), 1.0),
                         GenericArguments.optional(GenericArguments2.doubleNum(Text.of("pitch"), 1.0)),
@@ -93,9 +93,9 @@ public void completeSpec(PluginContainer pluginContainer, CommandSpec.Builder sp
                         .child(CommandSpec.builder()
                                 .arguments(
                                         GenericArguments.string(Text.of("name")),
-                                        GenericArguments.catalogedElement(Text.of("criterion"), Criterion.class),
+                                        GenericArguments2.catalogedElement(Text.of("criterion"), Criterion.class),
                                         GenericArguments.flags()
-                                                .valueFlag(GenericArguments.catalogedElement(
+                                                .valueFlag(GenericArguments2.catalogedElement(
                                                         Text.of("display-mode"), ObjectiveDisplayMode.class), "-display-mode", "-dm", "d")
                                                 .buildWith(GenericArguments.none()),
                                         GenericArguments2.remainingString(Text.of("display-name"))
@@ -148,7 +148,7 @@ public void completeSpec(PluginContainer pluginContainer, CommandSpec.Builder sp
                                 .build(), "remove")
                         .child(CommandSpec.builder()
                                 .arguments(
-                                        GenericArguments.catalogedElement(Text.of("display-slot"), DisplaySlot.class),
+                                        GenericArguments2.catalogedElement(Text.of("display-slot"), DisplaySlot.class),
                                         GenericArguments.optional(GenericArguments.string(Text.of("name")))
                                 )
                                 .executor((src, args) -> {
@@ -56,9 +56,9 @@ public CommandTp() {
     public void completeSpec(PluginContainer pluginContainer, CommandSpec.Builder specBuilder) {
         specBuilder
                 .arguments(
-                        GenericArguments.optional(GenericArguments.player(Text.of("target"))),
+                        GenericArguments.optional(GenericArguments2.player(Text.of("target"))),
                         GenericArguments.firstParsing(
-                                GenericArguments.player(Text.of("destination")),
+                                GenericArguments2.player(Text.of("destination")),
                                 GenericArguments.seq(
                                         /*
                                         GenericArguments.flags()
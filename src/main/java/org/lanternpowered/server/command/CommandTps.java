@@ -0,0 +1,81 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.command;
+
+import static org.lanternpowered.server.text.translation.TranslationHelper.t;
+
+import org.lanternpowered.server.game.Lantern;
+import org.lanternpowered.server.util.TickStatistics;
+import org.lanternpowered.server.world.LanternWorld;
+import org.lanternpowered.server.world.chunk.ChunkSectionPool;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.spec.CommandSpec;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.world.World;
+
+public final class CommandTps extends CommandProvider {
+
+    public CommandTps() {
+        super(2, "tps");
+    }
+
+    @Override
+    public void completeSpec(PluginContainer pluginContainer, CommandSpec.Builder specBuilder) {
+        specBuilder
+                .description(t("commands.tps.description"))
+                .executor((src, args) -> {
+                    sendStatistics(src, "Server", Lantern.getServer().getTickStatistics());
+                    for (World world : Lantern.getServer().getWorlds()) {
+                        final LanternWorld world0 = (LanternWorld) world;
+                        sendStatistics(src, world0.getName(), world0.getTickStatistics());
+                        src.sendMessage(t("commands.tps.random_ticks",
+                                format(world0.getChunkManager().getAverageRandomTicks())));
+                        final ChunkSectionPool sectionPool = world0.getChunkManager().getSectionPool();
+                        src.sendMessage(t("commands.tps.section_pool",
+                                format(sectionPool.getHitRate() * 100.0) + "%",
+                                format(sectionPool.getBytesSaved() / (1024.0 * 1024.0))));
+                    }
+                    return CommandResult.success();
+                });
+    }
+
+    private static void sendStatistics(CommandSource source, String name, TickStatistics statistics) {
+        source.sendMessage(t("commands.tps.tps", name,
+                format(statistics.getTicksPerSecond(5)),
+                format(statistics.getTicksPerSecond(60)),
+                format(statistics.getTicksPerSecond(15 * 60))));
+        source.sendMessage(t("commands.tps.mspt",
+                format(statistics.getAverageTickTime(TickStatistics.MAX_TICKS)),
+                format(statistics.getTickTimePercentile(0.5)),
+                format(statistics.getTickTimePercentile(0.95)),
+                format(statistics.getTickTimePercentile(0.99))));
+    }
+
+    private static String format(double value) {
+        return String.format("%.2f", value);
+    }
+}
@@ -89,6 +89,7 @@ public void load() {
         commandProviders.put(this.minecraft, new CommandTitle());
         commandProviders.put(this.minecraft, new CommandToggleDownfall());
         commandProviders.put(this.minecraft, new CommandTp());
+        commandProviders.put(this.implementation, new CommandTps());
         commandProviders.put(this.implementation, new CommandVersion());
         commandProviders.put(this.minecraft, new CommandWeather());
         commandProviders.put(this.minecraft, new CommandWhitelist());
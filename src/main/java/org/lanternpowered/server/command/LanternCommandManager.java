@@ -37,6 +37,7 @@
 import com.google.inject.Singleton;
 import org.lanternpowered.api.cause.CauseStack;
 import org.lanternpowered.server.text.LanternTexts;
+import org.lanternpowered.server.util.collect.PrefixIndex;
 import org.slf4j.Logger;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.CommandCallable;
@@ -85,6 +86,7 @@ public class LanternCommandManager implements CommandManager {
     private final SimpleDispatcher dispatcher;
     private final Multimap<PluginContainer, CommandMapping> owners = HashMultimap.create();
     private final Map<CommandMapping, PluginContainer> reverseOwners = new ConcurrentHashMap<>();
+    private final PrefixIndex aliasIndex = new PrefixIndex();
     private final Object lock = new Object();
 
     /**
@@ -142,6 +144,7 @@ public Optional<CommandMapping> register(Object plugin, CommandCallable callable
             if (mapping.isPresent()) {
                 this.owners.put(container, mapping.get());
                 this.reverseOwners.put(mapping.get(), container);
+                this.aliasIndex.addAll(mapping.get().getAllAliases());
             }
 
             return mapping;
@@ -158,6 +161,12 @@ public Optional<CommandMapping> removeMapping(CommandMapping mapping) {
     }
 
     private void forgetMapping(CommandMapping mapping) {
+        for (String alias : mapping.getAllAliases()) {
+            // Other commands can still be registered for the same alias
+            if (!this.dispatcher.containsAlias(alias)) {
+                this.aliasIndex.remove(alias);
+            }
+        }
         Iterator<CommandMapping> it = this.owners.values().iterator();
         while (it.hasNext()) {
             if (it.next().equals(mapping)) {
@@ -309,16 +318,29 @@ public List<String> getSuggestions(CommandSource source, String arguments, @Null
         return getSuggestions(source, arguments, targetPosition, false);
     }
 
+    /**
+     * Gets the suggestions for the given command arguments.
+     *
+     * <p>Tab completion requests of players are handled on a async thread, so
+     * the command elements and the {@link TabCompleteEvent.Command} may be
+     * called off the main thread.</p>
+     *
+     * @param source The command source
+     * @param arguments The command arguments
+     * @param targetPosition The target position
+     * @param usingBlock Whether the completion is requested by a command block
+     * @return The suggestions
+     */
     public List<String> getSuggestions(CommandSource source, String arguments, @Nullable Location<World> targetPosition, boolean usingBlock) {
         final CauseStack causeStack = CauseStack.currentOrEmpty();
         try (CauseStack.Frame frame = causeStack.pushCauseFrame()) {
             frame.pushCause(source);
             final List<String> suggestions;
             final String[] argSplit = arguments.split(" ", 2);
-            // TODO: Fix this in the SimpleDispatcher -> in 'getSuggestions' add after
-            // 'argSplit.length == 1' the check '&& !arguments.endsWith(" ")'
+            // Complete the command aliases through the index, instead of
+            // testing every alias that is registered in the dispatcher
             if (argSplit.length == 1 && !arguments.endsWith(" ")) {
-                suggestions = this.dispatcher.getSuggestions(source, arguments, targetPosition);
+                suggestions = getAliasSuggestions(source, arguments);
             } else {
                 final Optional<? extends CommandMapping> cmdOptional = this.dispatcher.get(argSplit[0], source);
                 if (!cmdOptional.isPresent()) {
@@ -346,6 +368,27 @@ public List<String> getSuggestions(CommandSource source, String arguments, @Null
         }
     }
 
+    /**
+     * Gets all the command aliases that start with the given
+     * prefix and can be used by the {@link CommandSource}.
+     *
+     * @param source The command source
+     * @param prefix The alias prefix
+     * @return The alias suggestions
+     */
+    private List<String> getAliasSuggestions(CommandSource source, String prefix) {
+        final ImmutableList.Builder<String> suggestions = ImmutableList.builder();
+        for (String alias : this.aliasIndex.getMatches(prefix)) {
+            for (CommandMapping mapping : this.dispatcher.getAll(alias)) {
+                if (mapping.getCallable().testPermission(source)) {
+                    suggestions.add(alias);
+                    break;
+                }
+            }
+        }
+        return suggestions.build();
+    }
+
     @Override
     public boolean testPermission(CommandSource source) {
         return this.dispatcher.testPermission(source);
@@ -34,6 +34,10 @@
 import com.google.common.collect.ImmutableSet;
 import org.apache.commons.lang3.StringUtils;
 import org.lanternpowered.server.game.Lantern;
+import org.lanternpowered.server.game.registry.DefaultCatalogRegistryModule;
+import org.lanternpowered.server.util.collect.PrefixIndex;
+import org.spongepowered.api.CatalogKey;
+import org.spongepowered.api.CatalogType;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.command.args.ArgumentParseException;
 import org.spongepowered.api.command.args.CommandArgs;
@@ -42,6 +46,7 @@
 import org.spongepowered.api.command.args.GenericArguments;
 import org.spongepowered.api.command.args.PatternMatchingCommandElement;
 import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.registry.CatalogRegistryModule;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.util.Color;
 import org.spongepowered.api.util.StartsWithPredicate;
@@ -56,6 +61,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -728,6 +734,84 @@ public List<String> complete(CommandSource src, CommandArgs args, CommandContext
         }
     }
 
+    /**
+     * Expects an argument to represent an online player, this is the same as
+     * {@link GenericArguments#player(Text)} but the player names are completed
+     * through the player name index of the server.
+     *
+     * @param key The key to store the player under
+     * @return The element to match the input
+     */
+    public static CommandElement player(Text key) {
+        return delegateCompleter(GenericArguments.player(key), (src, args, context, original) -> {
+            final Object state = args.getState();
+            final String arg = args.nextIfPresent().orElse("");
+            // Selectors are completed by the original element
+            if (arg.startsWith("@")) {
+                args.setState(state);
+                return original.complete(src, args, context);
+            }
+            return Lantern.getServer().getPlayerNameIndex().getMatches(arg);
+        });
+    }
+
+    /**
+     * Expects an argument to represent a {@link CatalogType}, this is the same as
+     * {@link GenericArguments#catalogedElement(Text, Class)} but the catalog ids
+     * are completed through a index.
+     *
+     * @param key The key to store the catalog type under
+     * @param catalogType The catalog type class
+     * @return The element to match the input
+     */
+    public static CommandElement catalogedElement(Text key, Class<? extends CatalogType> catalogType) {
+        return delegateCompleter(GenericArguments.catalogedElement(key, catalogType), (src, args, context, original) -> {
+            final String arg = args.nextIfPresent().orElse("");
+            return getCatalogIndex(catalogType).getMatches(arg);
+        });
+    }
+
+    private static final class CatalogIndex {
+
+        private final PrefixIndex index = new PrefixIndex();
+        private final CatalogRegistryModule<?> registryModule;
+        private final int registrationCount;
+
+        private CatalogIndex(CatalogRegistryModule<?> registryModule, int registrationCount) {
+            this.registryModule = registryModule;
+            this.registrationCount = registrationCount;
+            for (CatalogType catalogType : registryModule.getAll()) {
+                final CatalogKey catalogKey = catalogType.getKey();
+                this.index.add(catalogKey.toString());
+                // The minecraft namespace may be omitted
+                if (catalogKey.getNamespace().equals(CatalogKey.MINECRAFT_NAMESPACE)) {
+                    this.index.add(catalogKey.getValue());
+                }
+            }
+        }
+    }
+
+    private static final Map<Class<?>, CatalogIndex> catalogIndexes = new ConcurrentHashMap<>();
+    private static final PrefixIndex EMPTY_INDEX = new PrefixIndex();
+
+    private static PrefixIndex getCatalogIndex(Class<? extends CatalogType> catalogType) {
+        final CatalogRegistryModule<?> registryModule = Lantern.getRegistry().getCatalogRegistryModule(catalogType).orElse(null);
+        if (registryModule == null) {
+            return EMPTY_INDEX;
+        }
+        // Only modules that aren't finalized can change, the other ones can only be replaced
+        final int registrationCount = registryModule instanceof DefaultCatalogRegistryModule ?
+                ((DefaultCatalogRegistryModule) registryModule).getRegistrationCount() : 0;
+        CatalogIndex catalogIndex = catalogIndexes.get(catalogType);
+        // Rebuild the index if the registry was rebuilt or catalog types were registered in the meantime
+        if (catalogIndex == null || catalogIndex.registryModule != registryModule ||
+                catalogIndex.registrationCount != registrationCount) {
+            catalogIndex = new CatalogIndex(registryModule, registrationCount);
+            catalogIndexes.put(catalogType, catalogIndex);
+        }
+        return catalogIndex.index;
+    }
+
     public static CommandElement delegateCompleter(CommandElement originalElement, Completer delegateCompleter) {
         return new DelegateCompleterElement(originalElement,
                 (src, args, context, original) -> delegateCompleter.complete(src, args, context));
@@ -44,6 +44,7 @@
 import org.lanternpowered.server.config.world.chunk.ChunkLoadingTickets;
 import org.lanternpowered.server.config.world.chunk.GlobalChunkLoading;
 import org.lanternpowered.server.game.DirectoryKeys;
+import org.lanternpowered.server.game.TickCatchUpPolicy;
 import org.lanternpowered.server.network.ProxyType;
 import org.lanternpowered.server.util.IpSet;
 import org.lanternpowered.server.util.function.Predicates;
@@ -90,6 +91,9 @@ private GlobalConfig(@Named(DirectoryKeys.CONFIG) Path configFolder) throws IOEx
     @Setting(value = "chat", comment = "Configuration for the chat.")
     private Chat chat = new Chat();
 
+    @Setting(value = "timings", comment = "Configuration for the timings.")
+    private Timings timings = new Timings();
+
     @ConfigSerializable
     private static class Commands {
 
@@ -197,6 +201,12 @@ private static final class Server {
         @Setting(value = "proxy")
         private Proxy proxy = new Proxy();
 
+        @Setting(value = "tick-catch-up", comment = "Settings related to catching up when the server falls behind.")
+        private TickCatchUp tickCatchUp = new TickCatchUp();
+
+        @Setting(value = "status", comment = "Settings related to the server list status and query responses.")
+        private Status status = new Status();
+
         @Setting(value = "default-resource-pack", comment = "The default resource pack.\nLeave this empty to disable the default resource pack.")
         private String defaultResourcePack = "";
 
@@ -249,6 +259,96 @@ public Urls getUrls() {
         }
     }
 
+    @ConfigSerializable
+    public static final class Timings {
+
+        @Setting(value = ENABLED, comment = "Whether the timings should be enabled.")
+        private boolean enabled = false;
+
+        @Setting(value = "verbose", comment = "Whether verbose timings should be enabled, these will\n" +
+                "measure every entity, tile entity and network handler type separately.")
+        private boolean verbose = false;
+
+        @Setting(value = "history-interval", comment = "The interval in ticks between the history entries.")
+        private int historyInterval = 300;
+
+        @Setting(value = "history-length", comment = "The amount of ticks that are kept in the history.")
+        private int historyLength = 3600;
+
+        /**
+         * Gets whether the timings are enabled.
+         *
+         * @return Is enabled
+         */
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        /**
+         * Gets whether the verbose timings are enabled.
+         *
+         * @return Is verbose
+         */
+        public boolean isVerbose() {
+            return this.verbose;
+        }
+
+        /**
+         * Gets the interval in ticks between the history entries.
+         *
+         * @return The history interval
+         */
+        public int getHistoryInterval() {
+            return this.historyInterval;
+        }
+
+        /**
+         * Gets the amount of ticks that are kept in the history.
+         *
+         * @return The history length
+         */
+        public int getHistoryLength() {
+            return this.historyLength;
+        }
+    }
+
+    @ConfigSerializable
+    private static final class TickCatchUp {
+
+        @Setting(value = "policy", comment =
+                "The policy that is used when the server falls behind.\n" +
+                "BURST: The missed ticks will be executed back to back, up to the maximum.\n" +
+                "SKIP: The missed ticks will be dropped.")
+        private TickCatchUpPolicy policy = TickCatchUpPolicy.BURST;
+
+        @Setting(value = "max-ticks", comment = "The maximum amount of missed ticks that will be executed back to back.")
+        private int maxTicks = 20;
+    }
+
+    @ConfigSerializable
+    private static final class Status {
+
+        @Setting(value = "cache-duration", comment =
+                "The duration in milliseconds that a status response is cached.\n" +
+                "Joining and leaving players or a changed message of the day\n" +
+                "will always invalidate the cached response.")
+        private int cacheDuration = 1000;
+
+        @Setting(value = "event-on-cache-miss-only", comment =
+                "Whether the ping event should only be posted when the cached response\n" +
+                "expired, the result is then shared with all the clients until it expires.")
+        private boolean eventOnCacheMissOnly = false;
+
+        @Setting(value = "pings-per-second", comment =
+                "The amount of status requests that a single ip address may send per second.\n" +
+                "A value of 0 or less disables the limit.")
+        private double pingsPerSecond = 2.0;
+
+        @Setting(value = "ping-burst", comment =
+                "The amount of status requests that a single ip address may send at once.")
+        private int pingBurst = 10;
+    }
+
     @ConfigSerializable
     private static final class Proxy {
 
@@ -326,10 +426,38 @@ public Chat getChat() {
         return this.chat;
     }
 
+    public Timings getTimings() {
+        return this.timings;
+    }
+
     public String getProxySecurityKey() {
         return this.server.proxy.securityKey;
     }
 
+    public TickCatchUpPolicy getTickCatchUpPolicy() {
+        return this.server.tickCatchUp.policy;
+    }
+
+    public int getMaxCatchUpTicks() {
+        return Math.max(0, this.server.tickCatchUp.maxTicks);
+    }
+
+    public int getStatusCacheDuration() {
+        return Math.max(0, this.server.status.cacheDuration);
+    }
+
+    public boolean isStatusEventOnCacheMissOnly() {
+        return this.server.status.eventOnCacheMissOnly;
+    }
+
+    public double getStatusPingsPerSecond() {
+        return this.server.status.pingsPerSecond;
+    }
+
+    public int getStatusPingBurst() {
+        return Math.max(1, this.server.status.pingBurst);
+    }
+
     public ProxyType getProxyType() {
         return this.server.proxy.type;
     }
@@ -59,6 +59,43 @@ private static class Chunks {
                 "Controls the number threshold at which the chunk data message\n " +
                 "is preferred over the multi block change message.")
         private int clumpingThreshold = 64;
+
+        @Setting(value = "ticking-radius", comment =
+                "The radius in chunks around players in which chunks and tile entities\n " +
+                "will be ticked, chunks outside this radius that are kept loaded (by\n " +
+                "tickets, etc.) won't tick. A value less than 0 ticks all the loaded chunks.")
+        private int tickingRadius = -1;
+
+        @Setting(value = "cache-size", comment =
+                "The maximum amount of recently unloaded chunks that are kept in memory,\n " +
+                "these chunks can be loaded again without reading them from the disk.")
+        private int cacheSize = 256;
+
+        @Setting(value = "section-pool-size", comment =
+                "The maximum amount of chunk sections worth of block and light arrays\n " +
+                "that are kept to be reused by loading and generating chunks.")
+        private int sectionPoolSize = 1024;
+    }
+
+    @Setting(value = "auto-save", comment = "The auto save settings of this world.")
+    private AutoSave autoSave = new AutoSave();
+
+    @ConfigSerializable
+    private static class AutoSave {
+
+        @Setting(value = "interval", comment =
+                "The interval in ticks between the auto saves of this world,\n " +
+                "a value of 0 or less disables the auto save.")
+        private int interval = 6000;
+
+        @Setting(value = "chunks-per-tick", comment =
+                "The maximum amount of modified chunks that will be saved each tick.")
+        private int chunksPerTick = 8;
+
+        @Setting(value = "max-bytes-per-second", comment =
+                "The maximum amount of chunk data in bytes that will be written each\n " +
+                "second, a value of 0 or less removes the limit.")
+        private int maxBytesPerSecond = 4 * 1024 * 1024;
     }
 
     @Setting(value = "pvp-enabled", comment = "Enable if this world allows PVP combat.")
@@ -154,6 +191,30 @@ public int getChunkClumpingThreshold() {
         return this.chunks.clumpingThreshold;
     }
 
+    public int getChunkTickingRadius() {
+        return this.chunks.tickingRadius;
+    }
+
+    public int getChunkCacheSize() {
+        return this.chunks.cacheSize;
+    }
+
+    public int getChunkSectionPoolSize() {
+        return this.chunks.sectionPoolSize;
+    }
+
+    public int getAutoSaveInterval() {
+        return this.autoSave.interval;
+    }
+
+    public int getAutoSaveChunksPerTick() {
+        return this.autoSave.chunksPerTick;
+    }
+
+    public int getAutoSaveMaxBytesPerSecond() {
+        return this.autoSave.maxBytesPerSecond;
+    }
+
     public GameMode getGameMode() {
         return this.gameMode.mode;
     }
@@ -115,6 +115,14 @@ static <C extends ValueContainer<?>> AdditionalContainerCollection<C> empty() {
      */
     Optional<C> remove(Class<? extends C> containerClass);
 
+    /**
+     * Gets the stamp of the last time that a container was
+     * offered to or removed from this collection.
+     *
+     * @return The modification stamp
+     */
+    long getModificationStamp();
+
     /**
      * Creates a copy of this {@link AdditionalContainerCollection}.
      *
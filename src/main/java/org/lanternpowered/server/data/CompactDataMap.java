@@ -0,0 +1,105 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.data;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectArrayMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+
+import java.util.AbstractMap;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * The backing map of a compact {@link MemoryDataView}. Small nodes are stored
+ * in flat key and value arrays which are scanned linearly, nodes that grow
+ * beyond {@link #MAX_ARRAY_SIZE} entries are moved into a linear probing hash
+ * map. The insertion order is preserved in both cases.
+ */
+final class CompactDataMap extends AbstractMap<String, Object> {
+
+    /**
+     * The maximum amount of entries that will be stored in flat arrays.
+     */
+    static final int MAX_ARRAY_SIZE = 8;
+
+    private Object2ObjectMap<String, Object> map = new Object2ObjectArrayMap<>(2);
+    private boolean hashed;
+
+    @Override
+    public int size() {
+        return this.map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return this.map.containsKey(key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        return this.map.get(key);
+    }
+
+    @Nullable
+    @Override
+    public Object put(String key, Object value) {
+        final Object2ObjectMap<String, Object> map = this.map;
+        if (!this.hashed && map.size() >= MAX_ARRAY_SIZE && !map.containsKey(key)) {
+            this.map = new Object2ObjectLinkedOpenHashMap<>(map);
+            this.hashed = true;
+        }
+        return this.map.put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return this.map.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        this.map = new Object2ObjectArrayMap<>(2);
+        this.hashed = false;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        this.map.forEach(action);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return this.map.entrySet();
+    }
+}
@@ -33,6 +33,9 @@
 import org.spongepowered.api.data.DataQuery;
 import org.spongepowered.api.data.DataView;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 @SuppressWarnings("unchecked")
@@ -163,6 +166,25 @@ public static Optional<float[]> getFloatArray(DataView dataView, DataQuery path)
         });
     }
 
+    /**
+     * Gets all the values that are directly contained by the {@link DataView},
+     * mapped by their key. The values of views that are backed by memory are
+     * returned without copying them, so they should not be modified.
+     *
+     * @param dataView The data view
+     * @return The values
+     */
+    public static Map<String, Object> getShallowValues(DataView dataView) {
+        if (dataView instanceof MemoryDataView) {
+            return Collections.unmodifiableMap(((MemoryDataView) dataView).map);
+        }
+        final Map<String, Object> values = new LinkedHashMap<>();
+        for (Map.Entry<DataQuery, Object> entry : dataView.getValues(false).entrySet()) {
+            values.put(entry.getKey().asString('.'), entry.getValue());
+        }
+        return values;
+    }
+
     private DataViewHelper() {
     }
 }
@@ -63,6 +63,11 @@ public Optional<C> remove(Class<? extends C> containerClass) {
         return Optional.empty();
     }
 
+    @Override
+    public long getModificationStamp() {
+        return 0;
+    }
+
     @Override
     public AdditionalContainerCollection<C> copy() {
         return this;
@@ -135,6 +135,37 @@ static boolean matchContents(IValueContainer<?> valueContainerA, IValueContainer
         return true;
     }
 
+    /**
+     * Calculates a hash code of the contents of the {@link ValueContainer}. The
+     * hash code is consistent with {@link #matchContents(IValueContainer, IValueContainer)},
+     * containers with matching contents will always have the same hash code.
+     *
+     * @param valueContainer The value container
+     * @return The hash code
+     */
+    static int contentHashCode(IValueContainer<?> valueContainer) {
+        // The hashes of the entries are summed up, the order of
+        // the keys and additional containers doesn't matter
+        int hash = 0;
+        for (KeyRegistration<?,?> registration : valueContainer.getValueCollection().getAll()) {
+            final Object value = ((Processor) registration).getFrom(valueContainer).orElse(null);
+            hash += registration.getKey().hashCode() ^ Objects.hashCode(value);
+        }
+        if (valueContainer instanceof IAdditionalCompositeValueStore) {
+            final Map<Class<?>, ValueContainer<?>> map =
+                    ((IAdditionalCompositeValueStore) valueContainer).getAdditionalContainers().getMap();
+            for (Map.Entry<Class<?>, ValueContainer<?>> entry : map.entrySet()) {
+                // Mutable containers don't provide a content based hash code
+                final ValueContainer<?> container = entry.getValue();
+                hash += entry.getKey().hashCode() ^ (container instanceof IValueContainer ?
+                        contentHashCode((IValueContainer<?>) container) : Objects.hashCode(container));
+            }
+            // Distinguish from containers that don't support additional data
+            hash = hash * 31 + 1;
+        }
+        return hash;
+    }
+
     @Override
     default <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
         return IValueHolder.super.getValueFor(key);
@@ -46,6 +46,7 @@
 
     private final Map<Class<?>, C> containers;
     private final Map<Class<?>, C> unmodifiableContainers;
+    private volatile long modificationStamp;
 
     LanternAdditionalContainerCollection(Map<Class<?>, C> containers) {
         this.unmodifiableContainers = Collections.unmodifiableMap(containers);
@@ -67,6 +68,7 @@ public <T extends C> Optional<T> get(Class<T> containerClass) {
     public <T extends C> Optional<T> offer(T container) {
         checkNotNull(container, "container");
         final C old = this.containers.put(container.getClass(), container);
+        this.modificationStamp = ModificationStamps.next();
         return Optional.ofNullable((T) old);
     }
 
@@ -83,7 +85,16 @@ public Collection<? extends C> getAll() {
     @Override
     public Optional<C> remove(Class<? extends C> containerClass) {
         checkNotNull(containerClass, "containerClass");
-        return Optional.ofNullable(this.containers.remove(containerClass));
+        final C old = this.containers.remove(containerClass);
+        if (old != null) {
+            this.modificationStamp = ModificationStamps.next();
+        }
+        return Optional.ofNullable(old);
+    }
+
+    @Override
+    public long getModificationStamp() {
+        return this.modificationStamp;
     }
 
     @Override
@@ -128,7 +139,9 @@ private <R extends ValueContainer<?>> LanternAdditionalContainerCollection<R> ma
         for (Map.Entry<Class<?>, C> entry : this.containers.entrySet()) {
             map.put(entry.getKey(), function.apply(entry.getValue()));
         }
-        return new LanternAdditionalContainerCollection<>(map);
+        final LanternAdditionalContainerCollection<R> collection = new LanternAdditionalContainerCollection<>(map);
+        collection.modificationStamp = this.modificationStamp;
+        return collection;
     }
 
     @Override
@@ -63,6 +63,26 @@ public MemoryDataContainer(DataView.SafetyMode safety) {
         super(safety);
     }
 
+    private MemoryDataContainer(DataView.SafetyMode safety, boolean compact) {
+        super(safety, compact);
+    }
+
+    /**
+     * Creates a new compact {@link MemoryDataContainer} for internal use, with
+     * a {@link org.spongepowered.api.data.DataView.SafetyMode} of
+     * {@link org.spongepowered.api.data.DataView.SafetyMode#NO_DATA_CLONED}.
+     *
+     * <p>The nodes of compact containers are stored in small flat arrays and
+     * primitive lists (fastutil) are stored as they are. When a compact container
+     * is set in a compact view, its contents will be moved instead of copied, this
+     * means that the container that was set will be empty afterwards.</p>
+     *
+     * @return The compact data container
+     */
+    public static MemoryDataContainer createCompact() {
+        return new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED, true);
+    }
+
     @Override
     public Optional<DataView> getParent() {
         return Optional.empty();
@@ -37,6 +37,12 @@
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.reflect.TypeToken;
+import it.unimi.dsi.fastutil.bytes.ByteList;
+import it.unimi.dsi.fastutil.doubles.DoubleList;
+import it.unimi.dsi.fastutil.floats.FloatList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.shorts.ShortList;
 import org.apache.commons.lang3.ArrayUtils;
 import org.lanternpowered.server.data.persistence.DataTypeSerializer;
 import org.lanternpowered.server.game.registry.type.data.DataSerializerRegistry;
@@ -72,18 +78,31 @@
 @SuppressWarnings("Duplicates")
 class MemoryDataView implements DataView {
 
-    protected final Map<String, Object> map = new LinkedHashMap<>();
+    protected final Map<String, Object> map;
     private final DataContainer container;
     private final DataView parent;
     private final DataQuery path;
     private final DataView.SafetyMode safety;
 
+    /**
+     * Whether this view is backed by a {@link CompactDataMap}. Compact views
+     * move the contents of other containers when they are set, instead of
+     * copying them.
+     */
+    final boolean compact;
+
     MemoryDataView(DataView.SafetyMode safety) {
+        this(safety, false);
+    }
+
+    MemoryDataView(DataView.SafetyMode safety, boolean compact) {
         checkState(this instanceof DataContainer, "Cannot construct a root MemoryDataView without a container!");
         this.path = of();
         this.parent = this;
         this.container = (DataContainer) this;
         this.safety = checkNotNull(safety, "Safety mode");
+        this.compact = compact;
+        this.map = compact ? new CompactDataMap() : new LinkedHashMap<>();
     }
 
     private MemoryDataView(DataView parent, DataQuery path, DataView.SafetyMode safety) {
@@ -92,6 +111,8 @@ private MemoryDataView(DataView parent, DataQuery path, DataView.SafetyMode safe
         this.container = parent.getContainer();
         this.path = parent.getCurrentPath().then(path);
         this.safety = checkNotNull(safety, "Safety mode");
+        this.compact = parent instanceof MemoryDataView && ((MemoryDataView) parent).compact;
+        this.map = this.compact ? new CompactDataMap() : new LinkedHashMap<>();
     }
 
     @Override
@@ -256,13 +277,20 @@ public DataView set(DataQuery path, Object value) {
         TypeToken typeToken;
         if (value instanceof DataView) {
             checkArgument(value != this, "Cannot set a DataView to itself.");
-            // always have to copy a data view to avoid overwriting existing
-            // views and to set the interior path correctly.
-            copyDataView(path, (DataView) value);
+            // Compact containers are moved into compact views, the contents
+            // are owned by the new parent and don't need to be copied
+            if (this.compact && value instanceof MemoryDataContainer && ((MemoryDataView) value).compact) {
+                moveDataView(key, (MemoryDataView) value);
+            } else {
+                // always have to copy a data view to avoid overwriting existing
+                // views and to set the interior path correctly.
+                copyDataView(path, (DataView) value);
+            }
         } else if (value instanceof DataSerializable) {
             final DataContainer valueContainer = ((DataSerializable) value).toContainer();
             checkArgument(!(valueContainer).equals(this), "Cannot insert self-referencing DataSerializable");
-            // see above for why this is copied
+            // The container may still be referenced by the serializable, so it
+            // cannot be moved, see above for why this is copied
             copyDataView(path, valueContainer);
         } else if (value instanceof CatalogType) {
             return set(path, ((CatalogType) value).getKey().toString());
@@ -291,6 +319,9 @@ public DataView set(DataQuery path, Object value) {
             } else {
                 this.map.put(key, serialized);
             }
+        } else if (this.compact && isPrimitiveList(value)) {
+            // Primitive lists are stored as they are
+            this.map.put(key, value);
         } else if (value instanceof Collection) {
             setCollection(key, (Collection) value);
         } else if (value instanceof Map) {
@@ -409,6 +440,32 @@ private void setMap(String key, Map<?, ?> value) {
         }
     }
 
+    private static boolean isPrimitiveList(Object value) {
+        return value instanceof ByteList || value instanceof ShortList || value instanceof IntList ||
+                value instanceof LongList || value instanceof FloatList || value instanceof DoubleList;
+    }
+
+    /**
+     * Moves the contents of the given {@link MemoryDataView} into a new
+     * view at the given key. The source view will be empty afterwards.
+     *
+     * @param key The key
+     * @param source The source view
+     */
+    private void moveDataView(String key, MemoryDataView source) {
+        final MemoryDataView view = new MemoryDataView(this, of(key), this.safety);
+        this.map.put(key, view);
+        for (Map.Entry<String, Object> entry : source.map.entrySet()) {
+            final Object value = entry.getValue();
+            if (value instanceof MemoryDataView) {
+                view.moveDataView(entry.getKey(), (MemoryDataView) value);
+            } else {
+                view.map.put(entry.getKey(), value);
+            }
+        }
+        source.map.clear();
+    }
+
     private void copyDataView(DataQuery path, DataView value) {
         final Collection<DataQuery> valueKeys = value.getKeys(true);
         for (DataQuery oldKey : valueKeys) {
@@ -626,7 +683,7 @@ public Optional<List<Boolean>> getBooleanList(DataQuery path) {
 
     @Override
     public Optional<List<Byte>> getByteList(DataQuery path) {
-        return getUnsafeList(path).map(list -> list.stream()
+        return getUnsafeList(path).map(list -> list instanceof ByteList ? (ByteList) list : list.stream()
                 .map(Coerce::asByte)
                 .filter(Optional::isPresent)
                 .map(Optional::get)
@@ -635,7 +692,7 @@ public Optional<List<Byte>> getByteList(DataQuery path) {
 
     @Override
     public Optional<List<Short>> getShortList(DataQuery path) {
-        return getUnsafeList(path).map(list -> list.stream()
+        return getUnsafeList(path).map(list -> list instanceof ShortList ? (ShortList) list : list.stream()
                 .map(Coerce::asShort)
                 .filter(Optional::isPresent)
                 .map(Optional::get)
@@ -644,7 +701,7 @@ public Optional<List<Short>> getShortList(DataQuery path) {
 
     @Override
     public Optional<List<Integer>> getIntegerList(DataQuery path) {
-        return getUnsafeList(path).map(list -> list.stream()
+        return getUnsafeList(path).map(list -> list instanceof IntList ? (IntList) list : list.stream()
                 .map(Coerce::asInteger)
                 .filter(Optional::isPresent)
                 .map(Optional::get)
@@ -653,7 +710,7 @@ public Optional<List<Integer>> getIntegerList(DataQuery path) {
 
     @Override
     public Optional<List<Long>> getLongList(DataQuery path) {
-        return getUnsafeList(path).map(list -> list.stream()
+        return getUnsafeList(path).map(list -> list instanceof LongList ? (LongList) list : list.stream()
                 .map(Coerce::asLong)
                 .filter(Optional::isPresent)
                 .map(Optional::get)
@@ -662,7 +719,7 @@ public Optional<List<Long>> getLongList(DataQuery path) {
 
     @Override
     public Optional<List<Float>> getFloatList(DataQuery path) {
-        return getUnsafeList(path).map(list -> list.stream()
+        return getUnsafeList(path).map(list -> list instanceof FloatList ? (FloatList) list : list.stream()
                 .map(Coerce::asFloat)
                 .filter(Optional::isPresent)
                 .map(Optional::get)
@@ -671,7 +728,7 @@ public Optional<List<Float>> getFloatList(DataQuery path) {
 
     @Override
     public Optional<List<Double>> getDoubleList(DataQuery path) {
-        return getUnsafeList(path).map(list -> list.stream()
+        return getUnsafeList(path).map(list -> list instanceof DoubleList ? (DoubleList) list : list.stream()
                 .map(Coerce::asDouble)
                 .filter(Optional::isPresent)
                 .map(Optional::get)
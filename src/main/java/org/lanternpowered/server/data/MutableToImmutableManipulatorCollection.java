@@ -92,6 +92,11 @@ private static Class<? extends ImmutableDataManipulator<?,?>> getImmutableClass(
         throw new UnsupportedOperationException(); // Removing isn't supported
     }
 
+    @Override
+    public long getModificationStamp() {
+        return this.collection.getModificationStamp();
+    }
+
     @Override
     public AdditionalContainerCollection<ImmutableDataManipulator<?, ?>> copy() {
         throw new UnsupportedOperationException();
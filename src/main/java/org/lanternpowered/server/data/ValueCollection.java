@@ -30,6 +30,8 @@
 
 import org.lanternpowered.server.data.element.Element;
 import org.lanternpowered.server.data.element.ElementKeyRegistration;
+import org.lanternpowered.server.data.element.ElementListener;
+import org.lanternpowered.server.data.key.LanternKey;
 import org.lanternpowered.server.data.processor.ElementProcessorBuilder;
 import org.lanternpowered.server.data.processor.Processor;
 import org.lanternpowered.server.data.processor.ValueProcessorKeyRegistration;
@@ -45,12 +47,15 @@
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 import org.spongepowered.api.data.value.mutable.Value;
 
+import java.util.AbstractCollection;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -83,34 +88,209 @@ public static ValueCollection create() {
      */
     public static ValueCollection create(Mode mode) {
         checkNotNull(mode, "mode");
-        return new ValueCollection(new HashMap<>(), mode);
+        return new ValueCollection(Layout.EMPTY, EMPTY_REGISTRATIONS, EMPTY_BITS, mode);
     }
 
-    private final Map<Key<?>, KeyRegistration> values;
-    private final Set<Key<?>> unmodifiableKeys;
-    private final Collection<KeyRegistration<?,?>> unmodifiableRegistrations;
+    private static final KeyRegistration[] EMPTY_REGISTRATIONS = new KeyRegistration[0];
+    private static final long[] EMPTY_BITS = new long[0];
+
+    /**
+     * The layout of the keys within a {@link ValueCollection}. Layouts are
+     * immutable and interned through their transitions, so all the collections
+     * that register the same keys in the same order (for example all the
+     * entities of a specific type) share the same layout instance.
+     */
+    private static final class Layout {
+
+        static final Layout EMPTY = new Layout(new Key<?>[0], new int[0]);
+
+        // The keys in registration order, indexed by slot
+        final Key<?>[] keys;
+        final Collection<Key<?>> unmodifiableKeys;
+
+        // The slot of each key, indexed by key ordinal, -1 if absent
+        private final int[] slotsByOrdinal;
+
+        private final Map<Key<?>, Layout> transitions = new ConcurrentHashMap<>();
+
+        private Layout(Key<?>[] keys, int[] slotsByOrdinal) {
+            this.unmodifiableKeys = Collections.unmodifiableList(Arrays.asList(keys));
+            this.slotsByOrdinal = slotsByOrdinal;
+            this.keys = keys;
+        }
+
+        int getSlot(Key<?> key) {
+            final int ordinal = ((LanternKey) key).getOrdinal();
+            return ordinal < this.slotsByOrdinal.length ? this.slotsByOrdinal[ordinal] : -1;
+        }
+
+        Layout with(Key<?> key) {
+            return this.transitions.computeIfAbsent(key, key1 -> {
+                final int ordinal = ((LanternKey) key1).getOrdinal();
+                final Key<?>[] keys = Arrays.copyOf(this.keys, this.keys.length + 1);
+                keys[this.keys.length] = key1;
+                int[] slotsByOrdinal = this.slotsByOrdinal;
+                if (ordinal >= slotsByOrdinal.length) {
+                    final int length = slotsByOrdinal.length;
+                    slotsByOrdinal = Arrays.copyOf(slotsByOrdinal, ordinal + 1);
+                    Arrays.fill(slotsByOrdinal, length, slotsByOrdinal.length, -1);
+                } else {
+                    slotsByOrdinal = slotsByOrdinal.clone();
+                }
+                slotsByOrdinal[ordinal] = this.keys.length;
+                return new Layout(keys, slotsByOrdinal);
+            });
+        }
+    }
+
+    private Layout layout;
+    // The registrations, indexed by the slot in the layout
+    private KeyRegistration[] registrations;
+    // Whether the registrations array is shared with another collection,
+    // it will be copied before it's modified
+    private boolean registrationsShared;
+    // A bit per slot that is set when the registration is shared with another
+    // collection, it will be copied before it's exposed. The bits are never
+    // modified in place, they're replaced to publish the copied registrations
+    private volatile long[] shared;
+    private final Collection<KeyRegistration<?,?>> unmodifiableRegistrations = new Registrations();
     private final Mode mode;
 
-    private ValueCollection(Map<Key<?>, KeyRegistration> values, Mode mode) {
-        this.unmodifiableKeys = Collections.unmodifiableSet(values.keySet());
-        this.unmodifiableRegistrations = (Collection) Collections.unmodifiableCollection(values.values());
-        this.values = values;
+    // The stamp of the last registration or element change
+    private volatile long modificationStamp;
+
+    // Updates the modification stamp when one of the elements changes
+    private final ElementListener<Object> modificationTracker = (oldElement, newElement) -> markModified();
+
+    // The listener that is notified of the modifications, it is not copied
+    @Nullable private volatile Runnable modificationListener;
+
+    private ValueCollection(Layout layout, KeyRegistration[] registrations, long[] shared, Mode mode) {
+        this.registrations = registrations;
+        this.layout = layout;
+        this.shared = shared;
         this.mode = mode;
     }
 
     private void checkKey(Key<?> key) {
         checkNotNull(key, "key");
-        checkArgument(!this.values.containsKey(key), "The specified key (%s) is already registered.", key);
+        checkArgument(this.layout.getSlot(key) == -1, "The specified key (%s) is already registered.", key);
+    }
+
+    private synchronized void put(Key<?> key, KeyRegistration registration) {
+        final int slot = this.layout.keys.length;
+        if (slot >= this.registrations.length) {
+            this.registrations = Arrays.copyOf(this.registrations, Math.max(4, slot * 2));
+            this.registrationsShared = false;
+        } else if (this.registrationsShared) {
+            // The other collection may use the free slots as well
+            this.registrations = this.registrations.clone();
+            this.registrationsShared = false;
+        }
+        this.registrations[slot] = registration;
+        if (registration instanceof Element) {
+            ((Element) registration).addListener(this.modificationTracker);
+        }
+        // Only expose the key once the registration is present
+        this.layout = this.layout.with(key);
+        markModified();
+    }
+
+    private void markModified() {
+        this.modificationStamp = ModificationStamps.next();
+        final Runnable modificationListener = this.modificationListener;
+        if (modificationListener != null) {
+            modificationListener.run();
+        }
+    }
+
+    /**
+     * Sets the listener that will be notified every time that this
+     * collection is modified, after the modification stamp is updated.
+     * Copies of this collection don't inherit the listener.
+     *
+     * @param modificationListener The modification listener
+     */
+    public void setModificationListener(@Nullable Runnable modificationListener) {
+        this.modificationListener = modificationListener;
     }
 
+    /**
+     * Gets the {@link KeyRegistration} at the given slot, copying it first if it's
+     * still shared with another collection. A shared registration is never modified,
+     * both the collections copy it before it's exposed. Concurrent readers will
+     * always get the same copy.
+     *
+     * @param slot The slot
+     * @return The key registration
+     */
+    private KeyRegistration resolve(int slot) {
+        final int index = slot >> 6;
+        final long bit = 1L << slot;
+        // The volatile read of the bits makes the copied registrations visible
+        final long[] shared = this.shared;
+        if (index >= shared.length || (shared[index] & bit) == 0) {
+            return this.registrations[slot];
+        }
+        synchronized (this) {
+            final long[] shared1 = this.shared;
+            if ((shared1[index] & bit) == 0) {
+                // Copied by another reader
+                return this.registrations[slot];
+            }
+            final KeyRegistration registration = this.registrations[slot];
+            final KeyRegistration registrationCopy = Copyable.copy(registration).orElse(registration);
+            if (registrationCopy != registration) {
+                if (registrationCopy instanceof Element) {
+                    ((Element) registrationCopy).addListener(this.modificationTracker);
+                }
+                if (this.registrationsShared) {
+                    this.registrations = this.registrations.clone();
+                    this.registrationsShared = false;
+                }
+                this.registrations[slot] = registrationCopy;
+            }
+            final long[] newShared = shared1.clone();
+            newShared[index] &= ~bit;
+            this.shared = newShared;
+            return registrationCopy;
+        }
+    }
+
+    /**
+     * Creates a copy of this {@link ValueCollection}. The copy shares the layout
+     * and the registrations with this collection, only the registrations that
+     * are accessed afterwards are copied, by this collection or by the copy.
+     *
+     * @return The copy
+     */
     @Override
-    public ValueCollection copy() {
-        final Map<Key<?>, KeyRegistration> values = new HashMap<>();
-        for (Map.Entry<Key<?>, KeyRegistration> entry : this.values.entrySet()) {
-            final KeyRegistration registration = entry.getValue();
-            values.put(entry.getKey(), Copyable.copy(registration).orElse(registration));
+    public synchronized ValueCollection copy() {
+        final int size = this.layout.keys.length;
+        final long[] shared = new long[(size + 63) >> 6];
+        for (int i = 0; i < shared.length; i++) {
+            final int remaining = size - (i << 6);
+            shared[i] = remaining >= 64 ? -1L : (1L << remaining) - 1;
         }
-        return new ValueCollection(values, this.mode);
+        // Both the collections use the same bits, they're never modified in place
+        this.registrationsShared = true;
+        this.shared = shared;
+        // The layout is immutable, both the collections can use it
+        final ValueCollection copy = new ValueCollection(this.layout, this.registrations, shared, this.mode);
+        copy.registrationsShared = true;
+        copy.modificationStamp = this.modificationStamp;
+        return copy;
+    }
+
+    /**
+     * Gets the stamp of the last time that a {@link Key} was registered or
+     * that the element of a {@link Element} registration was changed. Stamps
+     * are unique and increase with every modification.
+     *
+     * @return The modification stamp
+     */
+    public long getModificationStamp() {
+        return this.modificationStamp;
     }
 
     /**
@@ -120,7 +300,7 @@ public ValueCollection copy() {
      * @return The keys
      */
     public Collection<Key<?>> getKeys() {
-        return this.unmodifiableKeys;
+        return this.layout.unmodifiableKeys;
     }
 
     /**
@@ -141,7 +321,7 @@ public Collection<KeyRegistration<?,?>> getAll() {
      * @return Is registered
      */
     public boolean has(Key<?> key) {
-        return this.values.containsKey(key);
+        return this.layout.getSlot(key) != -1;
     }
 
     /**
@@ -153,7 +333,8 @@ public boolean has(Key<?> key) {
      * @return The key registration, if present
      */
     public <V extends BaseValue<E>, E> Optional<KeyRegistration<V, E>> get(Key<? extends BaseValue<E>> key) {
-        return Optional.ofNullable(this.values.get(key));
+        final int slot = this.layout.getSlot(key);
+        return slot == -1 ? Optional.empty() : Optional.of(resolve(slot));
     }
 
     /**
@@ -165,10 +346,42 @@ public <V extends BaseValue<E>, E> Optional<KeyRegistration<V, E>> get(Key<? ext
      */
     public <E> Optional<Element<E>> getElement(Key<? extends BaseValue<E>> key) {
         checkNotNull(key, "key");
-        final Object object = this.values.get(key);
+        final int slot = this.layout.getSlot(key);
+        if (slot == -1) {
+            return Optional.empty();
+        }
+        final Object object = resolve(slot);
         return object instanceof Element ? Optional.of((Element<E>) object) : Optional.empty();
     }
 
+    private final class Registrations extends AbstractCollection<KeyRegistration<?,?>> {
+
+        @Override
+        public Iterator<KeyRegistration<?,?>> iterator() {
+            return new Iterator<KeyRegistration<?,?>>() {
+                private int slot;
+
+                @Override
+                public boolean hasNext() {
+                    return this.slot < ValueCollection.this.layout.keys.length;
+                }
+
+                @Override
+                public KeyRegistration<?,?> next() {
+                    if (this.slot >= ValueCollection.this.layout.keys.length) {
+                        throw new NoSuchElementException();
+                    }
+                    return resolve(this.slot++);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return ValueCollection.this.layout.keys.length;
+        }
+    }
+
     /**
      * Registers the given {@link Key} with a default value.
      *
@@ -184,7 +397,7 @@ public <V extends BaseValue<E>, E> ElementKeyRegistration<V, E> registerNonRemov
         checkKey(key);
         final ElementKeyRegistration<V, E> processor = (ElementKeyRegistration<V, E>) ElementProcessorBuilder.createNonRemovable(key);
         processor.set(defaultValue);
-        this.values.put(key, processor);
+        put(key, processor);
         return processor;
     }
 
@@ -205,7 +418,7 @@ public <V extends BaseValue<E>, E> ElementKeyRegistration<V, E> register(
         checkKey(key);
         final ElementKeyRegistration<V, E> processor = (ElementKeyRegistration<V, E>) ElementProcessorBuilder.createDefault(key);
         processor.set(defaultValue);
-        this.values.put(key, processor);
+        put(key, processor);
         return processor;
     }
 
@@ -232,7 +445,7 @@ public <V extends BaseValue<E>, E> ElementKeyRegistration<V, E> register(
         builderConsumer.accept(builder);
         final ElementKeyRegistration<V, E> element = (ElementKeyRegistration<V, E>) builder.build();
         element.set(defaultValue);
-        this.values.put(key, element);
+        put(key, element);
         return element;
     }
 
@@ -247,7 +460,7 @@ public <V extends BaseValue<E>, E> ElementKeyRegistration<V, E> register(
     public <V extends BaseValue<E>, E> ValueProcessorKeyRegistration<V, E> registerProcessor(Key<? extends V> key) {
         checkKey(key);
         final ValueProcessorKeyRegistration<V, E> processor = ValueProcessorKeyRegistration.create(key);
-        this.values.put(key, processor);
+        put(key, processor);
         return processor;
     }
 
@@ -350,7 +563,7 @@ private <V extends BoundedValue<E>, E extends Comparable<E>> ElementKeyRegistrat
         });
         final ElementKeyRegistration<V, E> element = (ElementKeyRegistration<V, E>) builder.build();
         element.set(defaultValue);
-        this.values.put(key, element);
+        put(key, element);
         return element;
     }
 
@@ -68,9 +68,10 @@ public interface ChunkIOService extends WorldStorage {
      * Writes a single chunk.
      * 
      * @param chunk The chunk to write from
+     * @return The amount of serialized bytes that were written
      * @throws IOException If an i/o error occurs
      */
-    void write(LanternChunk chunk) throws IOException;
+    int write(LanternChunk chunk) throws IOException;
 
     /**
      * Unload the service, performing any cleanup necessary.
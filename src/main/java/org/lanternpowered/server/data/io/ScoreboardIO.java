@@ -234,6 +234,17 @@ private static Score addToObjective(Objective objective, @Nullable Score score,
     }
 
     public static void write(Path folder, Scoreboard scoreboard) throws IOException {
+        write(folder, serialize(scoreboard));
+    }
+
+    /**
+     * Serializes the {@link Scoreboard} into a {@link DataContainer}, which
+     * can be written with {@link #write(Path, DataContainer)} from any thread.
+     *
+     * @param scoreboard The scoreboard
+     * @return The serialized scoreboard
+     */
+    public static DataContainer serialize(Scoreboard scoreboard) {
         final List<DataView> objectives = scoreboard.getObjectives().stream().map(objective -> DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED)
                 .set(NAME, objective.getName())
                 .set(DISPLAY_NAME, LanternTexts.toLegacy(objective.getDisplayName()))
@@ -295,7 +306,17 @@ public static void write(Path folder, Scoreboard scoreboard) throws IOException
         final DataView displaySlots = dataView.createView(DISPLAY_SLOTS);
         ((LanternScoreboard) scoreboard).getObjectivesInSlot()
                 .forEach((key, value) -> displaySlots.set(DataQuery.of("slot_" + ((LanternDisplaySlot) key).getInternalId()), value.getName()));
+        return rootDataContainer;
+    }
 
+    /**
+     * Writes the serialized scoreboard data to the given folder.
+     *
+     * @param folder The folder
+     * @param rootDataContainer The serialized scoreboard
+     * @throws IOException If an error occurred while writing
+     */
+    public static void write(Path folder, DataContainer rootDataContainer) throws IOException {
         IOHelper.write(folder.resolve(SCOREBOARD_DATA), file -> {
             NbtStreamUtils.write(rootDataContainer, Files.newOutputStream(file), true);
             return true;
@@ -30,6 +30,7 @@
 import org.lanternpowered.server.data.io.store.ObjectStoreRegistry;
 import org.lanternpowered.server.data.persistence.nbt.NbtStreamUtils;
 import org.lanternpowered.server.entity.living.player.AbstractUser;
+import org.lanternpowered.server.util.LanternThread;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.api.data.DataQuery;
 import org.spongepowered.api.data.DataView;
@@ -40,6 +41,10 @@
 import java.nio.file.Paths;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public final class UserIO {
 
@@ -48,6 +53,21 @@ public final class UserIO {
     private final static Path STATISTICS_FOLDER = Paths.get("stats");
     private final static DataQuery NAME = DataQuery.of("Name");
 
+    /**
+     * The executor that writes the user data. A single thread is used so that
+     * the files are written in the order that the data was serialized, an older
+     * (auto) save can never overwrite the data of a later one.
+     */
+    private static final ExecutorService writeExecutor = Executors.newSingleThreadExecutor(WriterThread::new);
+
+    private static final class WriterThread extends LanternThread {
+
+        private WriterThread(Runnable target) {
+            super(target, "user-io");
+            setDaemon(true);
+        }
+    }
+
     public static boolean exists(Path dataFolder, UUID uniqueId) {
         final String fileName = uniqueId.toString() + ".dat";
         final Path dataFile = dataFolder.resolve(PLAYER_DATA_FOLDER).resolve(fileName);
@@ -63,6 +83,10 @@ public static Optional<String> loadName(Path dataFolder, UUID uniqueId) throws I
     }
 
     public static void load(Path dataFolder, AbstractUser player) throws IOException {
+        // Wait for the pending writes, the data of a user
+        // that just left may not be written yet
+        CompletableFuture.runAsync(() -> {}, writeExecutor).join();
+
         final String fileName = player.getUniqueId().toString() + ".dat";
 
         // Search for the player data and load it
@@ -88,6 +112,26 @@ public static void load(Path dataFolder, AbstractUser player) throws IOException
     }
 
     public static void save(Path dataFolder, AbstractUser player) throws IOException {
+        try {
+            saveAsync(dataFolder, player).join();
+        } catch (CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Serializes the data of the given {@link AbstractUser} on the current
+     * thread and writes it to the disk asynchronously.
+     *
+     * @param dataFolder The data folder
+     * @param player The player
+     * @return The future that is completed once the data is written
+     */
+    public static CompletableFuture<Void> saveAsync(Path dataFolder, AbstractUser player) {
         final String fileName = player.getUniqueId().toString() + ".dat";
 
         final DataContainer dataContainer = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
@@ -96,29 +140,35 @@ public static void save(Path dataFolder, AbstractUser player) throws IOException
 
         final Optional<DataView> optSpongeData = dataContainer.getView(DataQueries.EXTENDED_SPONGE_DATA);
         dataContainer.remove(DataQueries.EXTENDED_SPONGE_DATA);
-
-        Path dataFolder0 = dataFolder.resolve(PLAYER_DATA_FOLDER);
-        if (!Files.exists(dataFolder0)) {
-            Files.createDirectories(dataFolder0);
-        }
-        Path dataFile = dataFolder0.resolve(fileName);
-        NbtStreamUtils.write(dataContainer, Files.newOutputStream(dataFile), true);
-
-        dataFolder0 = dataFolder.resolve(SPONGE_PLAYER_DATA_FOLDER);
-        if (!Files.exists(dataFolder0)) {
-            Files.createDirectories(dataFolder0);
-        }
-        dataFile = dataFolder0.resolve(fileName);
-        if (optSpongeData.isPresent()) {
-            final DataView spongeData = optSpongeData.get();
-            spongeData.set(NAME, player.getName());
-            NbtStreamUtils.write(spongeData, Files.newOutputStream(dataFile), true);
-        } else {
-            Files.deleteIfExists(dataFile);
-        }
-
-        final Path statisticsFile = dataFolder.resolve(STATISTICS_FOLDER).resolve(player.getUniqueId().toString() + ".json");
-        player.getStatisticMap().save(statisticsFile);
+        optSpongeData.ifPresent(spongeData -> spongeData.set(NAME, player.getName()));
+
+        return CompletableFuture.runAsync(() -> {
+            try {
+                Path dataFolder0 = dataFolder.resolve(PLAYER_DATA_FOLDER);
+                if (!Files.exists(dataFolder0)) {
+                    Files.createDirectories(dataFolder0);
+                }
+                Path dataFile = dataFolder0.resolve(fileName);
+                NbtStreamUtils.write(dataContainer, Files.newOutputStream(dataFile), true);
+
+                dataFolder0 = dataFolder.resolve(SPONGE_PLAYER_DATA_FOLDER);
+                if (!Files.exists(dataFolder0)) {
+                    Files.createDirectories(dataFolder0);
+                }
+                dataFile = dataFolder0.resolve(fileName);
+                if (optSpongeData.isPresent()) {
+                    NbtStreamUtils.write(optSpongeData.get(), Files.newOutputStream(dataFile), true);
+                } else {
+                    Files.deleteIfExists(dataFile);
+                }
+
+                // The statistic entries are thread safe
+                final Path statisticsFile = dataFolder.resolve(STATISTICS_FOLDER).resolve(player.getUniqueId().toString() + ".json");
+                player.getStatisticMap().save(statisticsFile);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, writeExecutor);
     }
 
     private UserIO() {
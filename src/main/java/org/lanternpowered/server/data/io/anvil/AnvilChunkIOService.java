@@ -47,6 +47,7 @@
  */
 package org.lanternpowered.server.data.io.anvil;
 
+import static com.google.common.base.Preconditions.checkState;
 import static org.lanternpowered.server.data.io.anvil.RegionFileCache.REGION_AREA;
 import static org.lanternpowered.server.data.io.anvil.RegionFileCache.REGION_MASK;
 import static org.lanternpowered.server.data.io.anvil.RegionFileCache.REGION_SIZE;
@@ -72,6 +73,7 @@
 import org.lanternpowered.server.scheduler.LanternScheduler;
 import org.lanternpowered.server.util.UncheckedThrowables;
 import org.lanternpowered.server.util.collect.array.NibbleArray;
+import org.lanternpowered.server.world.chunk.ChunkSectionPool;
 import org.lanternpowered.server.world.chunk.LanternChunk;
 import org.lanternpowered.server.world.chunk.LanternChunk.ChunkSection;
 import org.lanternpowered.server.world.chunk.LanternChunk.ChunkSectionSnapshot;
@@ -87,13 +89,20 @@
 import org.spongepowered.api.world.storage.WorldProperties;
 
 import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.regex.Matcher;
 
@@ -131,12 +140,206 @@ public class AnvilChunkIOService implements ChunkIOService {
     private static final DataQuery INHABITED_TIME = DataQuery.of("InhabitedTime");
     private static final DataQuery ENTITIES = DataQuery.of("Entities");
 
+    /**
+     * The file inside the world directory of a world instance
+     * that contains the directory of its template world.
+     */
+    private static final String TEMPLATE_FILE = "template.txt";
+
+    /**
+     * The read only region files of the template worlds, shared
+     * between all the loaded instances of the same template.
+     */
+    private static final Map<Path, TemplateRegions> templateRegions = new HashMap<>();
+
+    /**
+     * The directories of all the worlds that are currently loaded,
+     * guarded by the {@link #templateRegions} lock.
+     */
+    private static final Set<Path> loadedWorlds = new HashSet<>();
+
+    private static final class TemplateRegions {
+
+        private final RegionFileCache cache;
+        private int references;
+
+        private TemplateRegions(RegionFileCache cache) {
+            this.cache = cache;
+        }
+    }
+
+    /**
+     * Gets the directory of the template world if the world in the
+     * given directory is a instance of that template.
+     *
+     * @param worldDir The world directory
+     * @return The template directory, if present
+     * @throws IOException If an i/o error occurs
+     */
+    public static Optional<Path> getTemplateDirectory(Path worldDir) throws IOException {
+        final Path file = worldDir.resolve(TEMPLATE_FILE);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        return Optional.of(Paths.get(new String(Files.readAllBytes(file), StandardCharsets.UTF_8).trim()));
+    }
+
+    /**
+     * Turns the world in the given directory into a instance of the template
+     * world. All the chunks that aren't present within the world directory
+     * will be read from the region files of the template, modified chunks
+     * are always written to the world directory.
+     *
+     * @param worldDir The world directory
+     * @param templateDir The template world directory
+     * @throws IOException If an i/o error occurs
+     */
+    public static void setTemplateDirectory(Path worldDir, Path templateDir) throws IOException {
+        Files.write(worldDir.resolve(TEMPLATE_FILE), templateDir.toAbsolutePath().toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes all the chunks of the world instance into its template world, the
+     * instance and all the other instances of the template must be unloaded.
+     *
+     * @param worldDir The world directory of the instance
+     * @throws IOException If an i/o error occurs
+     */
+    public static void mergeIntoTemplate(Path worldDir) throws IOException {
+        final Path templateDir = getTemplateDirectory(worldDir).orElseThrow(
+                () -> new IllegalStateException("The world " + worldDir + " isn't a template instance."));
+        final RegionFileCache source = new RegionFileCache(worldDir, RegionFileCache.DEFAULT_REGION_FILE_EXTENSION, true);
+        final RegionFileCache target;
+        synchronized (templateRegions) {
+            // The loaded instances cached the offsets of the template region files
+            checkState(!isTemplateInUse(templateDir),
+                    "Cannot merge into the template %s while it's being used.", templateDir);
+            checkState(!loadedWorlds.contains(toKey(templateDir)),
+                    "Cannot merge into the template %s while it's loaded.", templateDir);
+            checkState(!loadedWorlds.contains(toKey(worldDir)),
+                    "Cannot merge the instance %s while it's loaded.", worldDir);
+            target = new RegionFileCache(templateDir);
+        }
+        final byte[] buf = new byte[8192];
+        try {
+            for (Path path : source.getRegionFiles()) {
+                final Matcher matcher = source.getFilePattern().matcher(path.getFileName().toString());
+                if (!matcher.matches()) {
+                    continue;
+                }
+                final int regionX = Integer.parseInt(matcher.group(1));
+                final int regionZ = Integer.parseInt(matcher.group(2));
+                final RegionFile sourceRegion = source.getRegionFile(regionX, regionZ);
+                final RegionFile targetRegion = target.getRegionFile(regionX, regionZ);
+                if (sourceRegion == null || targetRegion == null) {
+                    continue;
+                }
+                for (int i = 0; i < REGION_AREA; i++) {
+                    final DataInputStream is = sourceRegion.getChunkDataInputStream(i % REGION_SIZE, i / REGION_SIZE);
+                    if (is == null) {
+                        continue;
+                    }
+                    try (DataOutputStream os = targetRegion.getChunkDataOutputStream(i % REGION_SIZE, i / REGION_SIZE)) {
+                        int count;
+                        while ((count = is.read(buf)) != -1) {
+                            os.write(buf, 0, count);
+                        }
+                    }
+                }
+            }
+        } finally {
+            source.clear();
+            target.clear();
+        }
+    }
+
+    /**
+     * Gets whether the template world in the given directory is
+     * being used by a loaded instance.
+     *
+     * @param templateDir The template world directory
+     * @return Whether the template is in use
+     */
+    public static boolean isTemplateInUse(Path templateDir) {
+        synchronized (templateRegions) {
+            return templateRegions.containsKey(toKey(templateDir));
+        }
+    }
+
+    /**
+     * Gets the key of the world directory, the same directory
+     * that's reached through different paths results in the
+     * same key.
+     *
+     * @param directory The directory
+     * @return The key
+     */
+    private static Path toKey(Path directory) {
+        try {
+            return directory.toRealPath();
+        } catch (IOException e) {
+            // The directory doesn't exist (yet)
+            return directory.toAbsolutePath().normalize();
+        }
+    }
+
+    /**
+     * Marks the world in the given directory as loaded. A template world can't be loaded
+     * while any of its instances are loaded and a instance can't be loaded while its
+     * template is loaded, the template would rewrite the region files that are shared
+     * with the instances. Both checks and the acquisition of the template regions happen
+     * under the same lock.
+     *
+     * @param worldDir The world directory
+     * @param templateDir The template directory, if the world is a template instance
+     * @return The region file cache of the template, if the world is a template instance
+     */
+    @Nullable
+    private static RegionFileCache acquireWorld(Path worldDir, @Nullable Path templateDir) {
+        final Path worldKey = toKey(worldDir);
+        synchronized (templateRegions) {
+            checkState(!templateRegions.containsKey(worldKey),
+                    "The world %s is used as template by a loaded instance.", worldDir);
+            if (templateDir == null) {
+                loadedWorlds.add(worldKey);
+                return null;
+            }
+            final Path templateKey = toKey(templateDir);
+            checkState(!loadedWorlds.contains(templateKey),
+                    "The template %s of the world %s is loaded.", templateDir, worldDir);
+            loadedWorlds.add(worldKey);
+            final TemplateRegions regions = templateRegions.computeIfAbsent(templateKey,
+                    path -> new TemplateRegions(new RegionFileCache(path, RegionFileCache.DEFAULT_REGION_FILE_EXTENSION, true)));
+            regions.references++;
+            return regions.cache;
+        }
+    }
+
+    private static void releaseWorld(Path worldDir, @Nullable Path templateDir) {
+        synchronized (templateRegions) {
+            loadedWorlds.remove(toKey(worldDir));
+            if (templateDir == null) {
+                return;
+            }
+            final Path templateKey = toKey(templateDir);
+            final TemplateRegions regions = templateRegions.get(templateKey);
+            if (regions != null && --regions.references <= 0) {
+                templateRegions.remove(templateKey);
+                regions.cache.clear();
+            }
+        }
+    }
+
     private final World world;
     private final Logger logger;
     private final LanternScheduler scheduler;
     private final RegionFileCache cache;
     private final Path baseDir;
 
+    // The template of this world, if this world is a template instance
+    @Nullable private final Path templateDir;
+    @Nullable private final RegionFileCache templateCache;
+
     // TODO: Consider the session.lock file
 
     @Inject
@@ -146,6 +349,15 @@ public AnvilChunkIOService(@Named(DirectoryKeys.WORLD) Path baseDir, World world
         this.baseDir = baseDir;
         this.logger = logger;
         this.world = world;
+
+        Path templateDir = null;
+        try {
+            templateDir = getTemplateDirectory(baseDir).orElse(null);
+        } catch (IOException e) {
+            logger.error("Failed to read the template of the world {}", baseDir, e);
+        }
+        this.templateDir = templateDir;
+        this.templateCache = acquireWorld(baseDir, templateDir);
     }
 
     @Override
@@ -155,7 +367,37 @@ public boolean exists(int x, int z) throws IOException {
         final int regionX = x & REGION_MASK;
         final int regionZ = z & REGION_MASK;
 
-        return region.hasChunk(regionX, regionZ);
+        if (region.hasChunk(regionX, regionZ)) {
+            return true;
+        }
+        if (this.templateCache != null) {
+            final RegionFile templateRegion = this.templateCache.getRegionFileByChunk(x, z);
+            return templateRegion != null && templateRegion.hasChunk(regionX, regionZ);
+        }
+        return false;
+    }
+
+    /**
+     * Gets the (uncompressed) data stream of the chunk at the given coordinates, the
+     * chunks that were never saved in a template instance are read from the template.
+     *
+     * @param x The x coordinate of the chunk
+     * @param z The z coordinate of the chunk
+     * @return The data input stream, or {@code null} if the chunk doesn't exist
+     * @throws IOException If an i/o error occurs
+     */
+    @Nullable
+    private DataInputStream getChunkDataInputStream(int x, int z) throws IOException {
+        final RegionFile region = this.cache.getRegionFileByChunk(x, z);
+        final int regionX = x & REGION_MASK;
+        final int regionZ = z & REGION_MASK;
+
+        final DataInputStream is = region.getChunkDataInputStream(regionX, regionZ);
+        if (is != null || this.templateCache == null) {
+            return is;
+        }
+        final RegionFile templateRegion = this.templateCache.getRegionFileByChunk(x, z);
+        return templateRegion == null ? null : templateRegion.getChunkDataInputStream(regionX, regionZ);
     }
 
     @Override
@@ -163,22 +405,20 @@ public boolean read(LanternChunk chunk) throws IOException {
         final int x = chunk.getX();
         final int z = chunk.getZ();
 
-        final RegionFile region = this.cache.getRegionFileByChunk(x, z);
-        final int regionX = x & REGION_MASK;
-        final int regionZ = z & REGION_MASK;
-
-        final DataInputStream is = region.getChunkDataInputStream(regionX, regionZ);
+        final DataInputStream is = getChunkDataInputStream(x, z);
         if (is == null) {
             return false;
         }
 
         final DataView levelDataView;
-        try (NbtDataContainerInputStream nbt = new NbtDataContainerInputStream(is)) {
+        // The data is only used to initialize the chunk, so it can be read compact
+        try (NbtDataContainerInputStream nbt = new NbtDataContainerInputStream(is, Integer.MAX_VALUE, true)) {
             levelDataView = nbt.read().getView(LEVEL).get();
         }
 
         // read the vertical sections
         final List<DataView> sectionList = levelDataView.getViewList(SECTIONS).get();
+        final ChunkSectionPool sectionPool = chunk.getWorld().getChunkManager().getSectionPool();
         final ChunkSection[] sections = new ChunkSection[16];
         final short[][] blockTypes = new short[16][];
         //noinspection unchecked
@@ -196,14 +436,18 @@ public boolean read(LanternChunk chunk) throws IOException {
             final NibbleArray dataArray = new NibbleArray(rawTypes.length, data, true);
             final NibbleArray extTypesArray = extTypes == null ? null : new NibbleArray(rawTypes.length, extTypes, true);
 
-            blockTypes[y] = new short[rawTypes.length];
+            blockTypes[y] = sectionPool.takeTypes();
             for (int i = 0; i < rawTypes.length; i++) {
                 blockTypes[y][i] = (short) ((extTypesArray == null ? 0 : extTypesArray.get(i)) << 12 | ((rawTypes[i] & 0xff) << 4) | dataArray.get(i));
             }
 
+            final NibbleArray skyLightArray = sectionPool.takeNibbleArray();
+            skyLightArray.setPackedArray(skyLight);
+            final NibbleArray blockLightArray = sectionPool.takeNibbleArray();
+            blockLightArray.setPackedArray(blockLight);
+
             tileEntitySections[y] = new Short2ObjectOpenHashMap<>();
-            sections[y] = new ChunkSection(blockTypes[y], new NibbleArray(rawTypes.length, skyLight, true),
-                    new NibbleArray(rawTypes.length, blockLight, true), tileEntitySections[y]);
+            sections[y] = new ChunkSection(blockTypes[y], skyLightArray, blockLightArray, tileEntitySections[y]);
         }
 
         levelDataView.getViewList(TILE_ENTITIES).ifPresent(tileEntityViews -> {
@@ -297,7 +541,7 @@ public boolean read(LanternChunk chunk) throws IOException {
     }
 
     @Override
-    public void write(LanternChunk chunk) throws IOException {
+    public int write(LanternChunk chunk) throws IOException {
         final int x = chunk.getX();
         final int z = chunk.getZ();
 
@@ -442,15 +686,18 @@ public void write(LanternChunk chunk) throws IOException {
 
         levelDataView.set(ENTITIES, entityViews);
 
-        try (NbtDataContainerOutputStream nbt = new NbtDataContainerOutputStream(region.getChunkDataOutputStream(regionX, regionZ))) {
+        final DataOutputStream dos = region.getChunkDataOutputStream(regionX, regionZ);
+        try (NbtDataContainerOutputStream nbt = new NbtDataContainerOutputStream(dos)) {
             nbt.write(rootView);
             nbt.flush();
         }
+        return dos.size();
     }
 
     @Override
     public void unload() throws IOException {
         this.cache.clear();
+        releaseWorld(this.baseDir, this.templateDir);
     }
 
     @Override
@@ -585,11 +832,7 @@ public CompletableFuture<Optional<DataContainer>> getChunkData(Vector3i chunkCoo
             final int x = chunkCoords.getX();
             final int z = chunkCoords.getZ();
 
-            final RegionFile region = cache.getRegionFileByChunk(x, z);
-            final int regionX = x & REGION_MASK;
-            final int regionZ = z & REGION_MASK;
-
-            final DataInputStream is = region.getChunkDataInputStream(regionX, regionZ);
+            final DataInputStream is = getChunkDataInputStream(x, z);
             if (is == null) {
                 return Optional.empty();
             }
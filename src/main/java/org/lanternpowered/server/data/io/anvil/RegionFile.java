@@ -107,14 +107,42 @@ public final class RegionFile {
     private final BitSet usedSectors;
     private final int regionX;
     private final int regionZ;
+    private final boolean readOnly;
 
     private int sectorCount;
 
     RegionFile(Path path, int regionX, int regionZ) throws IOException {
+        this(path, regionX, regionZ, false);
+    }
+
+    /**
+     * Opens the region file at the given {@link Path}. A read only region
+     * file will never be modified, it's safe to share it between multiple
+     * worlds.
+     *
+     * @param path The path of the region file
+     * @param regionX The x coordinate of the region
+     * @param regionZ The z coordinate of the region
+     * @param readOnly Whether the region file is read only
+     * @throws IOException If an i/o error occurs
+     */
+    RegionFile(Path path, int regionX, int regionZ, boolean readOnly) throws IOException {
         this.regionX = regionX;
         this.regionZ = regionZ;
+        this.readOnly = readOnly;
         this.offsets = new int[SECTOR_INTS];
 
+        if (readOnly) {
+            this.file = new RandomAccessFile(path.toFile(), "r");
+            this.sectorCount = (int) (this.file.length() / SECTOR_BYTES);
+            this.usedSectors = new BitSet(this.sectorCount);
+            // A truncated region file doesn't contain any valid chunks
+            if (this.sectorCount >= 2) {
+                readOffsets(path, this.sectorCount);
+            }
+            return;
+        }
+
         long lastModified = 0;
         if (Files.isRegularFile(path)) {
             lastModified = Files.getLastModifiedTime(path).toMillis();
@@ -166,6 +194,10 @@ public final class RegionFile {
         // 0 - chunk offset table
         // 1 - for the last modified
 
+        readOffsets(path, nSectors);
+    }
+
+    private void readOffsets(Path path, int nSectors) throws IOException {
         // read offsets from offset table
         this.file.seek(0);
         for (int i = 0; i < SECTOR_INTS; ++i) {
@@ -286,6 +318,9 @@ private void logWarning() {
 
     public DataOutputStream getChunkDataOutputStream(int x, int z) {
         checkBounds(x, z);
+        if (this.readOnly) {
+            throw new IllegalStateException("The region file (" + this.regionX + ";" + this.regionZ + ") is read only.");
+        }
         return new DataOutputStream(new BufferedOutputStream(new DeflaterOutputStream(
                 new ChunkBuffer(x, z), new Deflater(Deflater.BEST_SPEED))));
     }
@@ -410,7 +445,9 @@ private void setTimestamp(int x, int z, int value) throws IOException {
     }
 
     public void close() throws IOException {
-        this.file.getChannel().force(true);
+        if (!this.readOnly) {
+            this.file.getChannel().force(true);
+        }
         this.file.close();
     }
 }
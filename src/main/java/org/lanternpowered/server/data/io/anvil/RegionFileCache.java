@@ -57,13 +57,15 @@
 import java.nio.file.Path;
 import java.util.regex.Pattern;
 
+import javax.annotation.Nullable;
+
 /**
  * A simple cache and wrapper for efficiently accessing multiple RegionFiles
  * simultaneously.
  */
 final class RegionFileCache {
 
-    private static final String DEFAULT_REGION_FILE_EXTENSION = "mca";
+    static final String DEFAULT_REGION_FILE_EXTENSION = "mca";
 
     private static final int REGION_COORDINATE_BITS = 5;
     static final int REGION_SIZE = 1 << REGION_COORDINATE_BITS;
@@ -76,20 +78,32 @@ final class RegionFileCache {
     private final String extension;
     private final Pattern filePattern;
     private final Path regionDir;
+    private final boolean readOnly;
 
     RegionFileCache(Path basePath) {
-        this(basePath, DEFAULT_REGION_FILE_EXTENSION);
+        this(basePath, DEFAULT_REGION_FILE_EXTENSION, false);
     }
 
-    RegionFileCache(Path basePath, String extension) {
+    /**
+     * Constructs a new {@link RegionFileCache}. A read only cache will
+     * never create or modify any region files.
+     *
+     * @param basePath The base path of the world
+     * @param extension The extension of the region files
+     * @param readOnly Whether the region files are read only
+     */
+    RegionFileCache(Path basePath, String extension, boolean readOnly) {
         this.extension = extension;
+        this.readOnly = readOnly;
         this.regionDir = basePath.resolve("region");
         this.filePattern = Pattern.compile("^r\\.([-]?[0-9]+)\\.([-]?[0-9]+)\\." + extension + "$");
 
-        try {
-            Files.createDirectories(this.regionDir);
-        } catch (IOException e){
-            Lantern.getLogger().warn("Failed to create directory: " + this.regionDir);
+        if (!readOnly) {
+            try {
+                Files.createDirectories(this.regionDir);
+            } catch (IOException e){
+                Lantern.getLogger().warn("Failed to create directory: " + this.regionDir);
+            }
         }
 
         this.cache = Caffeine.newBuilder()
@@ -108,6 +122,9 @@ final class RegionFileCache {
     }
 
     public Path[] getRegionFiles() {
+        if (!Files.exists(this.regionDir)) {
+            return new Path[0];
+        }
         try {
             return Files.list(this.regionDir).filter(file -> this.filePattern.matcher(file.getFileName().toString()).matches()).toArray(Path[]::new);
         } catch (IOException e) {
@@ -115,17 +132,32 @@ public Path[] getRegionFiles() {
         }
     }
 
+    /**
+     * Gets the {@link RegionFile} that contains the given chunk coordinates. In
+     * read only mode will {@code null} be returned if the region file is missing.
+     *
+     * @param chunkX The x coordinate of the chunk
+     * @param chunkZ The z coordinate of the chunk
+     * @return The region file
+     * @throws IOException If an i/o error occurs
+     */
+    @Nullable
     public RegionFile getRegionFileByChunk(int chunkX, int chunkZ) throws IOException {
         final int regionX = chunkX >> REGION_COORDINATE_BITS;
         final int regionZ = chunkZ >> REGION_COORDINATE_BITS;
         return this.getRegionFile(regionX, regionZ);
     }
 
+    @Nullable
     public RegionFile getRegionFile(int regionX, int regionZ) throws IOException {
         final long coords = (regionZ & 0xffffffffL) << 32 | regionX & 0xffffffffL;
         return this.cache.get(coords, coords0 -> {
+            final Path path = this.regionDir.resolve("r." + regionX + "." + regionZ + "." + this.extension);
+            if (this.readOnly && !Files.exists(path)) {
+                return null;
+            }
             try {
-                return new RegionFile(this.regionDir.resolve("r." + regionX + "." + regionZ + "." + this.extension), regionX, regionZ);
+                return new RegionFile(path, regionX, regionZ, this.readOnly);
             } catch (IOException e) {
                 Lantern.getLogger().error("Failed to load the region file (%s;%s)", regionX, regionZ);
                 throw UncheckedThrowables.throwUnchecked(e);
@@ -33,6 +33,7 @@
 import org.lanternpowered.api.cause.CauseStack;
 import org.lanternpowered.server.event.RegisteredListener;
 import org.lanternpowered.server.game.Lantern;
+import org.lanternpowered.server.game.registry.type.data.KeyRegistryModule;
 import org.spongepowered.api.CatalogKey;
 import org.spongepowered.api.CatalogType;
 import org.spongepowered.api.data.DataHolder;
@@ -84,6 +85,9 @@
 
     private final int hashCode;
 
+    // The ordinal of this key, lazily retrieved from the registry
+    private volatile int ordinal = -1;
+
     LanternKey(CatalogKey key, Translation name, DataQuery query, TypeToken<V> valueToken) {
         this.valueToken = valueToken;
         this.name = name;
@@ -121,6 +125,19 @@ private static <E> TypeToken<ImmutableValue<E>> createImmutableValueToken(TypeTo
         return new TypeToken<ImmutableValue<E>>() {}.where(new TypeParameter<E>() {}, elementToken);
     }
 
+    /**
+     * Gets the dense ordinal of this key.
+     *
+     * @return The ordinal
+     */
+    public int getOrdinal() {
+        int ordinal = this.ordinal;
+        if (ordinal == -1) {
+            this.ordinal = ordinal = KeyRegistryModule.get().getOrdinal(this);
+        }
+        return ordinal;
+    }
+
     @Nullable
     public LanternKey getOptionalUnwrappedKey() {
         return this.optionalUnwrappedKey;
@@ -105,6 +105,11 @@ public boolean equals(Object other) {
         return IValueContainer.matchContents(this, manipulator);
     }
 
+    @Override
+    public int hashCode() {
+        return IValueContainer.contentHashCode(this);
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
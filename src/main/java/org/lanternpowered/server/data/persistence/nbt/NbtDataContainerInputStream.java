@@ -28,6 +28,12 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.shorts.ShortArrayList;
 import org.lanternpowered.server.data.MemoryDataContainer;
 import org.lanternpowered.server.data.persistence.DataContainerInput;
 import org.spongepowered.api.data.DataContainer;
@@ -63,6 +69,7 @@ public class NbtDataContainerInputStream implements Closeable, DataContainerInpu
 
     private final DataInputStream dis;
     private final int maximumDepth;
+    private final boolean compact;
 
     /**
      * Creates a new nbt data view input stream.
@@ -80,8 +87,21 @@ public NbtDataContainerInputStream(DataInputStream dataInputStream) {
      * @param maximumDepth the maximum depth of the data contains
      */
     public NbtDataContainerInputStream(DataInputStream dataInputStream, int maximumDepth) {
+        this(dataInputStream, maximumDepth, false);
+    }
+
+    /**
+     * Creates a new nbt data view input stream.
+     *
+     * @param dataInputStream the data input stream
+     * @param maximumDepth the maximum depth of the data contains
+     * @param compact whether compact data containers should be read,
+     *                see {@link MemoryDataContainer#createCompact()}
+     */
+    public NbtDataContainerInputStream(DataInputStream dataInputStream, int maximumDepth, boolean compact) {
         this.dis = checkNotNull(dataInputStream, "dataInputStream");
         this.maximumDepth = maximumDepth;
+        this.compact = compact;
     }
 
     /**
@@ -100,8 +120,20 @@ public NbtDataContainerInputStream(InputStream inputStream) {
      * @param maximumDepth the maximum depth of the data contains
      */
     public NbtDataContainerInputStream(InputStream inputStream, int maximumDepth) {
+        this(inputStream, maximumDepth, false);
+    }
+
+    /**
+     * Creates a new nbt data view input stream.
+     *
+     * @param inputStream the data input stream
+     * @param maximumDepth the maximum depth of the data contains
+     * @param compact whether compact data containers should be read,
+     *                see {@link MemoryDataContainer#createCompact()}
+     */
+    public NbtDataContainerInputStream(InputStream inputStream, int maximumDepth, boolean compact) {
         this(checkNotNull(inputStream, "inputStream") instanceof DataInputStream ?
-                (DataInputStream) inputStream : new DataInputStream(inputStream), maximumDepth);
+                (DataInputStream) inputStream : new DataInputStream(inputStream), maximumDepth, compact);
     }
 
     @Override
@@ -305,6 +337,12 @@ private Object readPayload(@Nullable DataView container, NbtType nbtType, @Nulla
                     }
                 }
                 final int size = this.dis.readInt();
+                if (this.compact && size > 0) {
+                    final List<?> primitiveList = readPrimitiveList(listNbtType, size);
+                    if (primitiveList != null) {
+                        return primitiveList;
+                    }
+                }
                 final List<Object> list = Lists.newArrayListWithExpectedSize(size);
                 if (size == 0 || listNbtType == NbtType.END) {
                     return list;
@@ -316,7 +354,8 @@ private Object readPayload(@Nullable DataView container, NbtType nbtType, @Nulla
                 return list;
             case COMPOUND:
                 if (container == null) {
-                    container = new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
+                    container = this.compact ? MemoryDataContainer.createCompact() :
+                            new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
                 }
                 depth1 = depth + 1;
                 Entry entry;
@@ -397,6 +436,55 @@ private Object readPayload(@Nullable DataView container, NbtType nbtType, @Nulla
         }
     }
 
+    /**
+     * Reads a list of numeric values into a primitive backed list.
+     *
+     * @param nbtType The nbt type of the elements
+     * @param size The size of the list
+     * @return The list, or {@code null} if the type isn't numeric
+     */
+    @Nullable
+    private List<?> readPrimitiveList(NbtType nbtType, int size) throws IOException {
+        switch (nbtType) {
+            case BYTE:
+                final byte[] bytes = new byte[size];
+                this.dis.readFully(bytes);
+                return ByteArrayList.wrap(bytes);
+            case SHORT:
+                final ShortArrayList shorts = new ShortArrayList(size);
+                for (int i = 0; i < size; i++) {
+                    shorts.add(this.dis.readShort());
+                }
+                return shorts;
+            case INT:
+                final IntArrayList ints = new IntArrayList(size);
+                for (int i = 0; i < size; i++) {
+                    ints.add(this.dis.readInt());
+                }
+                return ints;
+            case LONG:
+                final LongArrayList longs = new LongArrayList(size);
+                for (int i = 0; i < size; i++) {
+                    longs.add(this.dis.readLong());
+                }
+                return longs;
+            case FLOAT:
+                final FloatArrayList floats = new FloatArrayList(size);
+                for (int i = 0; i < size; i++) {
+                    floats.add(this.dis.readFloat());
+                }
+                return floats;
+            case DOUBLE:
+                final DoubleArrayList doubles = new DoubleArrayList(size);
+                for (int i = 0; i < size; i++) {
+                    doubles.add(this.dis.readDouble());
+                }
+                return doubles;
+            default:
+                return null;
+        }
+    }
+
     private static class Entry {
 
         private final String name;
@@ -27,6 +27,7 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import org.lanternpowered.server.data.DataViewHelper;
 import org.lanternpowered.server.data.persistence.DataContainerOutput;
 import org.spongepowered.api.data.DataQuery;
 import org.spongepowered.api.data.DataSerializable;
@@ -219,13 +220,17 @@ private void writePayload(NbtType nbtType, Object object) throws IOException {
 
     private void writeCompound(Object object) throws IOException {
         // Convert the object in something we can serialize
-        if (object instanceof DataView) {
-            object = ((DataView) object).getValues(false);
-        } else if (object instanceof DataSerializable) {
-            object = ((DataSerializable) object).toContainer().getValues(false);
+        if (object instanceof DataSerializable) {
+            object = ((DataSerializable) object).toContainer();
         }
-        for (Entry<DataQuery, Object> entry : ((Map<DataQuery, Object>) object).entrySet()) {
-            writeEntry(entry.getKey().asString('.'), entry.getValue());
+        if (object instanceof DataView) {
+            for (Entry<String, Object> entry : DataViewHelper.getShallowValues((DataView) object).entrySet()) {
+                writeEntry(entry.getKey(), entry.getValue());
+            }
+        } else {
+            for (Entry<DataQuery, Object> entry : ((Map<DataQuery, Object>) object).entrySet()) {
+                writeEntry(entry.getKey().asString('.'), entry.getValue());
+            }
         }
         this.dos.writeByte(NbtType.END.type);
     }
@@ -46,8 +46,23 @@ public final class NbtStreamUtils {
      * @throws IOException
      */
     public static DataContainer read(InputStream inputStream, boolean compressed) throws IOException {
+        return read(inputStream, compressed, false);
+    }
+
+    /**
+     * Reads a data container from a input stream that contains
+     * data with the nbt format.
+     *
+     * @param inputStream the input stream
+     * @param compressed whether the data is compressed
+     * @param compact whether a compact data container should be read,
+     *                see {@link org.lanternpowered.server.data.MemoryDataContainer#createCompact()}
+     * @return the data container
+     * @throws IOException
+     */
+    public static DataContainer read(InputStream inputStream, boolean compressed, boolean compact) throws IOException {
         try (NbtDataContainerInputStream input = new NbtDataContainerInputStream(
-                compressed ? new GZIPInputStream(inputStream) : inputStream)) {
+                compressed ? new GZIPInputStream(inputStream) : inputStream, Integer.MAX_VALUE, compact)) {
             return input.read();
         }
     }
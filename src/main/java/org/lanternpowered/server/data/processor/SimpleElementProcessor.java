@@ -97,9 +97,7 @@ public SimpleElementProcessor<V, E> copy() {
                 this.retrieveHandler,
                 this.valueBuilder);
         copy.element = this.element;
-        if (this.listeners != null) {
-            copy.listeners = new ArrayList<>(this.listeners);
-        }
+        // The listeners are bound to this instance, they are not copied
         return copy;
     }
 
@@ -127,6 +125,14 @@ public void addListener(ElementListener<E> listener) {
         this.listeners.add(listener);
     }
 
+    @Override
+    public void removeListener(ElementListener<E> listener) {
+        checkNotNull(listener, "listener");
+        if (this.listeners != null) {
+            this.listeners.remove(listener);
+        }
+    }
+
     @Override
     public boolean isApplicableTo(IValueContainer<?> valueContainer) {
         return this.applicableTester.test(valueContainer, this);
@@ -63,6 +63,11 @@ public synchronized void addListener(ElementListener<E> listener) {
         super.addListener(listener);
     }
 
+    @Override
+    public synchronized void removeListener(ElementListener<E> listener) {
+        super.removeListener(listener);
+    }
+
     @Override
     public synchronized SimpleElementProcessor<V, E> copy() {
         final SimpleElementProcessor<V, E> copy = new SimpleElementProcessor<>(getKey(),
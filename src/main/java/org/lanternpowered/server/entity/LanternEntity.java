@@ -174,6 +174,18 @@ public class LanternEntity implements Entity, IAdditionalDataHolder, AbstractPro
 
     private SoundCategory soundCategory = SoundCategories.NEUTRAL;
 
+    /**
+     * Whether the position, rotation or scale changed since
+     * the last time that {@link #pollModified()} was called.
+     */
+    private volatile boolean modified;
+
+    /**
+     * The data modification stamp that was seen the
+     * last time that {@link #pollModified()} was called.
+     */
+    private volatile long lastModificationStamp;
+
     @Override
     public ValueCollection getValueCollection() {
         return this.valueCollection;
@@ -436,12 +448,37 @@ protected void setWorld(@Nullable LanternWorld world) {
     }
 
     protected void setRawPosition(Vector3d position) {
-        this.position = checkNotNull(position, "position");
+        checkNotNull(position, "position");
+        if (!position.equals(this.position)) {
+            this.modified = true;
+        }
+        this.position = position;
         this.boundingBox = null;
     }
 
     protected void setRawRotation(Vector3d rotation) {
-        this.rotation = checkNotNull(rotation, "rotation");
+        checkNotNull(rotation, "rotation");
+        if (!rotation.equals(this.rotation)) {
+            this.modified = true;
+        }
+        this.rotation = rotation;
+    }
+
+    /**
+     * Gets whether this entity was modified since the last time that
+     * this method was called. This covers the position, rotation, scale
+     * and all the data that is stored in the {@link ValueCollection} and
+     * additional containers. Calling this method resets the state.
+     *
+     * @return Whether the entity was modified
+     */
+    public boolean pollModified() {
+        final long stamp = Math.max(this.valueCollection.getModificationStamp(),
+                this.additionalContainers.getModificationStamp());
+        final boolean modified = this.modified || stamp != this.lastModificationStamp;
+        this.modified = false;
+        this.lastModificationStamp = stamp;
+        return modified;
     }
 
     public Vector3d getPosition() {
@@ -479,6 +516,7 @@ public Vector3d getScale() {
     @Override
     public void setScale(Vector3d scale) {
         this.scale = checkNotNull(scale, "scale");
+        this.modified = true;
     }
 
     @Override
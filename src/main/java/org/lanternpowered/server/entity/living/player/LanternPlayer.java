@@ -886,6 +886,8 @@ public void pulseChunkChanges() {
             observedChunkManager.removeObserver(coords, this, true);
             loadingTicket.unforceChunk(coords);
         });
+        // The distances to the queued chunks changed
+        world.getChunkManager().updateLoadPriorities();
 
         this.knownChunks.removeAll(previousChunks);
         this.knownChunks.addAll(newChunks);
@@ -26,6 +26,7 @@
 package org.lanternpowered.server.entity.living.player;
 
 import static org.lanternpowered.server.world.chunk.LanternChunk.ALL_SECTIONS_BIT_MASK;
+import static org.lanternpowered.server.world.chunk.LanternChunk.CHUNK_SECTIONS;
 import static org.lanternpowered.server.world.chunk.LanternChunk.CHUNK_SECTION_SIZE;
 import static org.lanternpowered.server.world.chunk.LanternChunk.CHUNK_SECTION_VOLUME;
 
@@ -36,6 +37,9 @@
 import it.unimi.dsi.fastutil.shorts.Short2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.shorts.Short2ShortMap;
 import it.unimi.dsi.fastutil.shorts.Short2ShortOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.ShortIterator;
+import it.unimi.dsi.fastutil.shorts.ShortOpenHashSet;
+import it.unimi.dsi.fastutil.shorts.ShortSet;
 import org.lanternpowered.server.block.action.BlockAction;
 import org.lanternpowered.server.block.tile.LanternTileEntity;
 import org.lanternpowered.server.game.registry.type.block.BlockRegistryModule;
@@ -61,16 +65,13 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.function.Supplier;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
 
 public final class ObservedChunkManager implements WorldEventListener {
 
@@ -121,13 +122,21 @@ public void onBlockChange(int x, int y, int z, BlockState oldBlockState, BlockSt
         final long key = LanternChunk.key(x >> 4, z >> 4);
         final ObservedChunk observedChunk = this.observedChunks.get(key);
         if (observedChunk != null) {
-            observedChunk.addBlockChange(() -> new Vector3i(x, y, z));
+            observedChunk.addBlockChange(x, y, z);
             if (oldBlockState.getType() != newBlockState.getType()) {
                 observedChunk.removeBlockAction(new Vector3i(x, y, z));
             }
         }
     }
 
+    @Override
+    public void onSectionChange(LanternChunk chunk, int section) {
+        final ObservedChunk observedChunk = this.observedChunks.get(chunk.getKey());
+        if (observedChunk != null) {
+            observedChunk.addSectionChange(section);
+        }
+    }
+
     @Override
     public void onBlockAction(int x, int y, int z, BlockType blockType, BlockAction blockAction) {
         final long key = LanternChunk.key(x >> 4, z >> 4);
@@ -168,12 +177,6 @@ void removeObserver(Vector2i coords, LanternPlayer observer, boolean updateClien
     private static final MessagePlayOutChunkData.Section EMPTY_SECTION = new MessagePlayOutChunkData.Section(
             EMPTY_SECTION_TYPES, new int[1], EMPTY_SECTION_LIGHT, null, new Short2ObjectOpenHashMap<>());
 
-    private static Map<Vector3i, LanternTileEntity> getMappedTileEntities(LanternChunk chunk) {
-        return chunk.getTileEntities().stream().collect(Collectors.toMap(
-                tileEntity -> tileEntity.getLocation().getBlockPosition(),
-                tileEntity -> (LanternTileEntity) tileEntity));
-    }
-
     private class ObservedChunk {
 
         private final class QueuedBlockAction {
@@ -203,9 +206,22 @@ private QueuedBlockAction(BlockAction blockAction, MessagePlayOutBlockAction blo
         private final Set<LanternPlayer> clientObservers = Sets.newConcurrentHashSet();
 
         /**
-         * All the block changes that should be send to the observers.
+         * All the block changes that should be send to the observers, stored
+         * as section local indices per section. Guarded by the array itself.
+         */
+        private final ShortSet[] dirtyBlocks = new ShortSet[CHUNK_SECTIONS];
+
+        /**
+         * The bit mask of the sections that contain block changes and
+         * the total amount of block changes. Guarded by {@link #dirtyBlocks}.
+         */
+        private int dirtyBlockSections;
+        private int dirtyBlockCount;
+
+        /**
+         * A reusable buffer for the tile entities of the chunk.
          */
-        private final Queue<Vector3i> dirtyBlocks = new ConcurrentLinkedQueue<>();
+        private final List<LanternTileEntity> tileEntityBuffer = new ArrayList<>();
 
         /**
          * All the block events that should be send to the observers.
@@ -221,6 +237,12 @@ private QueuedBlockAction(BlockAction blockAction, MessagePlayOutBlockAction blo
          */
         private volatile boolean dirtyChunk;
 
+        /**
+         * The bit mask of the chunk sections that were modified
+         * in bulk and should be completely resend.
+         */
+        private final AtomicInteger dirtySections = new AtomicInteger();
+
         ObservedChunk(Vector2i coords) {
             this.coords = coords;
         }
@@ -244,11 +266,82 @@ void addBlockAction(Vector3i coords, BlockType blockType, BlockAction blockActio
             this.addedBlockActions.put(coords, new QueuedBlockAction(blockAction, blockActionData));
         }
 
-        void addBlockChange(Supplier<Vector3i> coords) {
+        void addBlockChange(int x, int y, int z) {
             // There is not need to track the changes if no one wants to see them
             // dirtyBiomes will force the chunk to be completely resend
             if (!this.dirtyChunk && !this.clientObservers.isEmpty()) {
-                this.dirtyBlocks.add(coords.get());
+                final int section = y >> 4;
+                final short index = (short) LanternChunk.ChunkSection.index(x & 0xf, y & 0xf, z & 0xf);
+                synchronized (this.dirtyBlocks) {
+                    ShortSet changes = this.dirtyBlocks[section];
+                    if (changes == null) {
+                        changes = this.dirtyBlocks[section] = new ShortOpenHashSet();
+                    }
+                    if (changes.add(index)) {
+                        this.dirtyBlockSections |= 1 << section;
+                        this.dirtyBlockCount++;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Clears the block changes within the given sections.
+         *
+         * @param sectionsBitMask The bit mask of the sections to clear
+         */
+        private void clearBlockChanges(int sectionsBitMask) {
+            synchronized (this.dirtyBlocks) {
+                final int sections = this.dirtyBlockSections & sectionsBitMask;
+                for (int i = 0; i < CHUNK_SECTIONS; i++) {
+                    if ((sections & 1 << i) != 0) {
+                        this.dirtyBlockCount -= this.dirtyBlocks[i].size();
+                        this.dirtyBlocks[i].clear();
+                    }
+                }
+                this.dirtyBlockSections &= ~sections;
+            }
+        }
+
+        /**
+         * Polls all the block changes as chunk local indices, packed as
+         * {@code (y << 8) | (z << 4) | x}. The indices are sorted.
+         *
+         * @return The block changes, or null if there are none
+         */
+        @Nullable
+        private short[] pollBlockChanges() {
+            final short[] indices;
+            synchronized (this.dirtyBlocks) {
+                if (this.dirtyBlockCount == 0) {
+                    return null;
+                }
+                indices = new short[this.dirtyBlockCount];
+                int j = 0;
+                for (int i = 0; i < CHUNK_SECTIONS; i++) {
+                    if ((this.dirtyBlockSections & 1 << i) == 0) {
+                        continue;
+                    }
+                    final ShortSet changes = this.dirtyBlocks[i];
+                    final ShortIterator it = changes.iterator();
+                    while (it.hasNext()) {
+                        indices[j++] = (short) (i << 12 | it.nextShort());
+                    }
+                    changes.clear();
+                }
+                this.dirtyBlockSections = 0;
+                this.dirtyBlockCount = 0;
+            }
+            // Sorting keeps the indices grouped per section and
+            // allows the tile entities to be looked up by index
+            Arrays.sort(indices);
+            return indices;
+        }
+
+        void addSectionChange(int section) {
+            // There is not need to track the changes if no one wants to see them
+            if (!this.dirtyChunk && !this.clientObservers.isEmpty()) {
+                this.dirtySections.getAndUpdate(mask -> mask | 1 << section);
             }
         }
 
@@ -262,68 +355,68 @@ void streamChanges() {
                 final List<Message> messages = createLoadChunkMessages(chunk, ALL_SECTIONS_BIT_MASK, true);
                 this.clientObservers.forEach(player -> player.getConnection().send(messages));
                 this.dirtyChunk = false;
-                this.dirtyBlocks.clear();
+                clearBlockChanges(ALL_SECTIONS_BIT_MASK);
+                this.dirtySections.set(0);
                 return;
             }
 
-            final Map<Vector3i, LanternTileEntity> mappedTileEntities;
-
-            final List<Message> messages;
-            if (!this.dirtyBlocks.isEmpty()) {
-                // All the changes per coordinate
-                final Set<Vector3i> changes = new HashSet<>();
-
-                // All the section which contain a block change
-                int dirtySections = 0;
+            final int resendSections = this.dirtySections.getAndSet(0);
+            if (resendSections != 0) {
+                // Block changes within the resend sections are already covered
+                clearBlockChanges(resendSections);
+                final List<Message> messages = createLoadChunkMessages(chunk, resendSections, false);
+                this.clientObservers.forEach(player -> player.getConnection().send(messages));
+            }
 
-                // Get all the changes
-                Vector3i dirtyBlock;
-                while ((dirtyBlock = this.dirtyBlocks.poll()) != null) {
-                    dirtySections |= 1 << (dirtyBlock.getY() >> 4);
-                    changes.add(dirtyBlock);
-                }
+            final List<Message> messages = new ArrayList<>();
+            final short[] changes = pollBlockChanges();
 
+            boolean updateTileEntities = true;
+            if (changes != null) {
                 final int clumpingThreshold = world.getProperties().getConfig().getChunkClumpingThreshold();
-                if (changes.size() >= clumpingThreshold) {
-                    messages = createLoadChunkMessages(chunk, dirtySections, false);
-                    this.clientObservers.forEach(player -> player.getConnection().send(messages));
-                    mappedTileEntities = Collections.emptyMap();
+                if (changes.length >= clumpingThreshold) {
+                    // All the section which contain a block change
+                    int dirtySections = 0;
+                    for (short index : changes) {
+                        dirtySections |= 1 << ((index & 0xffff) >> 12);
+                    }
+                    final List<Message> chunkMessages = createLoadChunkMessages(chunk, dirtySections, false);
+                    this.clientObservers.forEach(player -> player.getConnection().send(chunkMessages));
+                    // The tile entities are initialized by the chunk data
+                    updateTileEntities = false;
                 } else {
-                    messages = new ArrayList<>();
-                    if (changes.size() > 1) {
+                    final int[] blockStates = new int[changes.length];
+                    chunk.getTypes(changes, blockStates);
+                    if (changes.length > 1) {
                         messages.add(new MessagePlayOutMultiBlockChange(
-                                this.coords.getX(), this.coords.getY(), changes.stream().map(coords -> {
-                            final int x = coords.getX() & 0xf;
-                            final int z = coords.getZ() & 0xf;
-                            return new MessagePlayOutBlockChange(new Vector3i(x, coords.getY(), z), chunk.getType(coords));
-                        }).collect(Collectors.toList())));
+                                this.coords.getX(), this.coords.getY(), changes, blockStates));
                     } else {
-                        dirtyBlock = changes.iterator().next();
-                        messages.add(new MessagePlayOutBlockChange(dirtyBlock, chunk.getType(dirtyBlock)));
-                    }
-                    final TileEntityUpdateContext initContext = new TileEntityUpdateContext(messages);
-                    mappedTileEntities = getMappedTileEntities(chunk);
-                    for (Vector3i pos : changes) {
-                        final LanternTileEntity tileEntity = mappedTileEntities.remove(pos);
-                        if (tileEntity != null) {
-                            final AbstractTileEntityProtocol protocol = tileEntity.getProtocol();
-                            if (protocol != null) {
-                                TileEntityProtocolHelper.init(protocol, initContext);
-                            }
-                        }
+                        final int index = changes[0] & 0xffff;
+                        messages.add(new MessagePlayOutBlockChange(new Vector3i(
+                                this.coords.getX() << 4 | index & 0xf, index >> 8,
+                                this.coords.getY() << 4 | (index >> 4) & 0xf), blockStates[0]));
                     }
                 }
-            } else {
-                messages = new ArrayList<>();
-                mappedTileEntities = getMappedTileEntities(chunk);
             }
 
-            final TileEntityUpdateContext updateContext = new TileEntityUpdateContext(messages);
-            for (Map.Entry<Vector3i, LanternTileEntity> entry : mappedTileEntities.entrySet()) {
-                final AbstractTileEntityProtocol protocol = entry.getValue().getProtocol();
-                if (protocol != null) {
-                    TileEntityProtocolHelper.update(protocol, updateContext, 1);
+            if (updateTileEntities) {
+                final TileEntityUpdateContext updateContext = new TileEntityUpdateContext(messages);
+                chunk.addTileEntitiesTo(this.tileEntityBuffer);
+                for (LanternTileEntity tileEntity : this.tileEntityBuffer) {
+                    final AbstractTileEntityProtocol protocol = tileEntity.getProtocol();
+                    if (protocol == null) {
+                        continue;
+                    }
+                    final Vector3i pos = tileEntity.getLocation().getBlockPosition();
+                    final short index = (short) (pos.getY() << 8 | (pos.getZ() & 0xf) << 4 | pos.getX() & 0xf);
+                    // Changed tile entities need to be initialized again
+                    if (changes != null && Arrays.binarySearch(changes, index) >= 0) {
+                        TileEntityProtocolHelper.init(protocol, updateContext);
+                    } else {
+                        TileEntityProtocolHelper.update(protocol, updateContext, 1);
+                    }
                 }
+                this.tileEntityBuffer.clear();
             }
 
             if (!this.addedBlockActions.isEmpty()) {
@@ -491,7 +584,8 @@ public void removeObserver(LanternPlayer observer, boolean updateClient) {
             }
             // Clear the dirty states, since no one will still want to see them
             if (this.clientObservers.isEmpty()) {
-                this.dirtyBlocks.clear();
+                clearBlockChanges(ALL_SECTIONS_BIT_MASK);
+                this.dirtySections.set(0);
                 this.dirtyChunk = false;
             }
         }
@@ -29,8 +29,10 @@
 
 import org.spongepowered.api.profile.GameProfile;
 
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -44,6 +46,31 @@ public static GlobalTabList getInstance() {
 
     private final Map<UUID, GlobalTabListEntry> tabListEntries = new ConcurrentHashMap<>();
 
+    /**
+     * All the tab lists that have pending updates.
+     */
+    private final Set<LanternTabList> dirtyTabLists = ConcurrentHashMap.newKeySet();
+
+    void markDirty(LanternTabList tabList) {
+        this.dirtyTabLists.add(tabList);
+    }
+
+    /**
+     * Sends all the pending updates of all the {@link LanternTabList}s
+     * to their players, this should be called once at the end of every tick.
+     */
+    public void flush() {
+        if (this.dirtyTabLists.isEmpty()) {
+            return;
+        }
+        final Iterator<LanternTabList> it = this.dirtyTabLists.iterator();
+        while (it.hasNext()) {
+            final LanternTabList tabList = it.next();
+            it.remove();
+            tabList.flush();
+        }
+    }
+
     void addEntry(GlobalTabListEntry tabListEntry) {
         this.tabListEntries.put(tabListEntry.getProfile().getUniqueId(), tabListEntry);
     }
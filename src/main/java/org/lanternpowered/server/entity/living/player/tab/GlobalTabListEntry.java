@@ -97,11 +97,9 @@ public void setDisplayName(@Nullable Text displayName) {
         if (this.tabListEntries.isEmpty()) {
             return;
         }
-        MessagePlayOutTabListEntries message = new MessagePlayOutTabListEntries(Collections.singletonList(
-                new MessagePlayOutTabListEntries.Entry.UpdateDisplayName(this.gameProfile, displayName)));
         this.tabListEntries.forEach(tabListEntry -> {
             tabListEntry.setRawDisplayName(displayName);
-            tabListEntry.getList().getPlayer().getConnection().send(message);
+            tabListEntry.getList().queueUpdate(tabListEntry, LanternTabList.UPDATE_DISPLAY_NAME);
         });
     }
 
@@ -109,11 +107,9 @@ public void setLatency(int latency) {
         if (this.tabListEntries.isEmpty()) {
             return;
         }
-        MessagePlayOutTabListEntries message = new MessagePlayOutTabListEntries(Collections.singletonList(
-                new MessagePlayOutTabListEntries.Entry.UpdateLatency(this.gameProfile, latency)));
         this.tabListEntries.forEach(tabListEntry -> {
             tabListEntry.setRawLatency(latency);
-            tabListEntry.getList().getPlayer().getConnection().send(message);
+            tabListEntry.getList().queueUpdate(tabListEntry, LanternTabList.UPDATE_LATENCY);
         });
     }
 
@@ -121,11 +117,9 @@ public void setGameMode(GameMode gameMode) {
         if (this.tabListEntries.isEmpty()) {
             return;
         }
-        MessagePlayOutTabListEntries message = new MessagePlayOutTabListEntries(Collections.singletonList(
-                new MessagePlayOutTabListEntries.Entry.UpdateGameMode(this.gameProfile, gameMode)));
         this.tabListEntries.forEach(tabListEntry -> {
             tabListEntry.setRawGameMode(gameMode);
-            tabListEntry.getList().getPlayer().getConnection().send(message);
+            tabListEntry.getList().queueUpdate(tabListEntry, LanternTabList.UPDATE_GAME_MODE);
         });
     }
 }
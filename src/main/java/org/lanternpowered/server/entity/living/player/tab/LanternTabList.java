@@ -29,7 +29,10 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.objects.Object2IntLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import org.lanternpowered.server.entity.living.player.LanternPlayer;
+import org.lanternpowered.server.network.message.Message;
 import org.lanternpowered.server.network.vanilla.message.type.play.MessagePlayOutTabListEntries;
 import org.lanternpowered.server.network.vanilla.message.type.play.MessagePlayOutTabListHeaderAndFooter;
 import org.lanternpowered.server.text.translation.TranslationHelper;
@@ -50,12 +53,22 @@
 
 public class LanternTabList implements TabList {
 
+    static final int UPDATE_GAME_MODE = 0x1;
+    static final int UPDATE_LATENCY = 0x2;
+    static final int UPDATE_DISPLAY_NAME = 0x4;
+
     private final LanternPlayer player;
 
     private final Map<UUID, LanternTabListEntry> tabListEntries = new ConcurrentHashMap<>();
     private Optional<Text> header = Optional.empty();
     private Optional<Text> footer = Optional.empty();
 
+    /**
+     * The entries that have pending updates, mapped to the update flags.
+     */
+    private final Object2IntMap<LanternTabListEntry> pendingUpdates = new Object2IntLinkedOpenHashMap<>();
+    private boolean pendingHeaderAndFooter;
+
     public LanternTabList(LanternPlayer player) {
         this.player = player;
     }
@@ -88,6 +101,77 @@ private void sendHeaderAndFooterUpdate() {
         this.player.getConnection().send(new MessagePlayOutTabListHeaderAndFooter(this.header.orElse(null), this.footer.orElse(null)));
     }
 
+    private void queueHeaderAndFooterUpdate() {
+        synchronized (this.pendingUpdates) {
+            this.pendingHeaderAndFooter = true;
+        }
+        GlobalTabList.getInstance().markDirty(this);
+    }
+
+    /**
+     * Queues a update for the given {@link LanternTabListEntry}, all the
+     * updates will be sent in bulk at the end of the tick.
+     *
+     * @param entry The tab list entry
+     * @param flags The update flags
+     */
+    void queueUpdate(LanternTabListEntry entry, int flags) {
+        synchronized (this.pendingUpdates) {
+            this.pendingUpdates.put(entry, this.pendingUpdates.getInt(entry) | flags);
+        }
+        GlobalTabList.getInstance().markDirty(this);
+    }
+
+    /**
+     * Sends all the pending updates to the player. Only the latest values
+     * of every entry will be sent, grouped in one message per update type.
+     */
+    void flush() {
+        final List<MessagePlayOutTabListEntries.Entry> gameModes = new ArrayList<>();
+        final List<MessagePlayOutTabListEntries.Entry> latencies = new ArrayList<>();
+        final List<MessagePlayOutTabListEntries.Entry> displayNames = new ArrayList<>();
+        final boolean headerAndFooter;
+        synchronized (this.pendingUpdates) {
+            for (Object2IntMap.Entry<LanternTabListEntry> pending : this.pendingUpdates.object2IntEntrySet()) {
+                final LanternTabListEntry entry = pending.getKey();
+                // The entry was removed in the meantime
+                if (this.tabListEntries.get(entry.getProfile().getUniqueId()) != entry) {
+                    continue;
+                }
+                final int flags = pending.getIntValue();
+                if ((flags & UPDATE_GAME_MODE) != 0) {
+                    gameModes.add(new MessagePlayOutTabListEntries.Entry.UpdateGameMode(entry.getProfile(), entry.getGameMode()));
+                }
+                if ((flags & UPDATE_LATENCY) != 0) {
+                    latencies.add(new MessagePlayOutTabListEntries.Entry.UpdateLatency(entry.getProfile(), entry.getLatency()));
+                }
+                if ((flags & UPDATE_DISPLAY_NAME) != 0) {
+                    displayNames.add(new MessagePlayOutTabListEntries.Entry.UpdateDisplayName(
+                            entry.getProfile(), entry.getDisplayName().orElse(null)));
+                }
+            }
+            this.pendingUpdates.clear();
+            headerAndFooter = this.pendingHeaderAndFooter;
+            this.pendingHeaderAndFooter = false;
+        }
+        final List<Message> messages = new ArrayList<>();
+        if (!gameModes.isEmpty()) {
+            messages.add(new MessagePlayOutTabListEntries(gameModes));
+        }
+        if (!latencies.isEmpty()) {
+            messages.add(new MessagePlayOutTabListEntries(latencies));
+        }
+        if (!displayNames.isEmpty()) {
+            messages.add(new MessagePlayOutTabListEntries(displayNames));
+        }
+        if (headerAndFooter) {
+            messages.add(new MessagePlayOutTabListHeaderAndFooter(this.header.orElse(null), this.footer.orElse(null)));
+        }
+        if (!messages.isEmpty()) {
+            this.player.getConnection().send(messages);
+        }
+    }
+
     public void refresh() {
         if (this.header.map(TranslationHelper::containsNonMinecraftTranslation).orElse(false) ||
                 this.footer.map(TranslationHelper::containsNonMinecraftTranslation).orElse(false)) {
@@ -113,7 +197,7 @@ public Optional<Text> getHeader() {
     @Override
     public LanternTabList setHeader(@Nullable Text header) {
         this.header = Optional.ofNullable(header);
-        sendHeaderAndFooterUpdate();
+        queueHeaderAndFooterUpdate();
         return this;
     }
 
@@ -125,7 +209,7 @@ public Optional<Text> getFooter() {
     @Override
     public LanternTabList setFooter(@Nullable Text footer) {
         this.footer = Optional.ofNullable(footer);
-        sendHeaderAndFooterUpdate();
+        queueHeaderAndFooterUpdate();
         return this;
     }
 
@@ -133,7 +217,7 @@ public LanternTabList setFooter(@Nullable Text footer) {
     public LanternTabList setHeaderAndFooter(@Nullable Text header, @Nullable Text footer) {
         this.header = Optional.ofNullable(header);
         this.footer = Optional.ofNullable(footer);
-        sendHeaderAndFooterUpdate();
+        queueHeaderAndFooterUpdate();
         return this;
     }
 
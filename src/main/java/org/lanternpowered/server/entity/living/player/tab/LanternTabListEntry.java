@@ -105,7 +105,7 @@ void setRawDisplayName(@Nullable Text displayName) {
     public LanternTabListEntry setDisplayName(@Nullable Text displayName) {
         setRawDisplayName(displayName);
         if (this.attached) {
-            sendDisplayName(displayName);
+            this.tabList.queueUpdate(this, LanternTabList.UPDATE_DISPLAY_NAME);
         }
         return this;
     }
@@ -128,8 +128,7 @@ void setRawLatency(int latency) {
     public LanternTabListEntry setLatency(int latency) {
         setRawLatency(latency);
         if (this.attached) {
-            this.tabList.getPlayer().getConnection().send(new MessagePlayOutTabListEntries(Collections.singletonList(
-                    new MessagePlayOutTabListEntries.Entry.UpdateLatency(getProfile(), latency))));
+            this.tabList.queueUpdate(this, LanternTabList.UPDATE_LATENCY);
         }
         return this;
     }
@@ -152,8 +151,7 @@ void setRawGameMode(GameMode gameMode) {
     public LanternTabListEntry setGameMode(GameMode gameMode) {
         this.setRawGameMode(gameMode);
         if (this.attached) {
-            this.tabList.getPlayer().getConnection().send(new MessagePlayOutTabListEntries(Collections.singletonList(
-                    new MessagePlayOutTabListEntries.Entry.UpdateGameMode(getProfile(), gameMode))));
+            this.tabList.queueUpdate(this, LanternTabList.UPDATE_GAME_MODE);
         }
         return this;
     }
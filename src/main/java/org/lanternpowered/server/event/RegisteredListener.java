@@ -26,11 +26,15 @@
 package org.lanternpowered.server.event;
 
 import com.google.common.base.MoreObjects;
+import org.lanternpowered.server.timings.LanternTiming;
+import org.lanternpowered.server.timings.LanternTimingsFactory;
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.EventListener;
 import org.spongepowered.api.event.Order;
 import org.spongepowered.api.plugin.PluginContainer;
 
+import javax.annotation.Nullable;
+
 public final class RegisteredListener<T extends Event> implements LanternEventListener<T>, Comparable<RegisteredListener<?>> {
 
     private final PluginContainer plugin;
@@ -39,6 +43,9 @@
     private final EventType<T> eventType;
     private final Order order;
 
+    // The timing of this listener, lazily initialized
+    @Nullable private LanternTiming timing;
+
     RegisteredListener(PluginContainer plugin, EventType<T> eventType, Order order, EventListener<? super T> handler) {
         this.plugin = plugin;
         this.eventType = eventType;
@@ -72,7 +79,18 @@ public Object getHandle() {
 
     @Override
     public void handle(T event) throws Exception {
-        this.handler.handle(event);
+        try (LanternTiming ignored = getTiming().startTiming()) {
+            this.handler.handle(event);
+        }
+    }
+
+    private LanternTiming getTiming() {
+        LanternTiming timing = this.timing;
+        if (timing == null) {
+            final String name = "Event: " + getHandle().getClass().getName() + " (" + this.eventType.getType().getSimpleName() + ")";
+            this.timing = timing = LanternTimingsFactory.get().of(this.plugin.getId(), name, null, false);
+        }
+        return timing;
     }
 
     @Override
@@ -77,6 +77,11 @@ public static final class DefaultValues {
          */
         public static final Path LIBRARIES = ROOT.resolve("libraries");
 
+        /**
+         * The cache folder {@link Path}.
+         */
+        public static final Path CACHE = ROOT.resolve("cache");
+
     }
 
     private DirectoryKeys() {
@@ -32,6 +32,7 @@
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import org.lanternpowered.api.catalog.CatalogKeys;
@@ -64,6 +65,7 @@
 import org.lanternpowered.server.boss.LanternBossBarBuilder;
 import org.lanternpowered.server.catalog.LanternCatalogKey;
 import org.lanternpowered.server.catalog.LanternCatalogKeyBuilder;
+import org.lanternpowered.server.cause.LanternCauseStack;
 import org.lanternpowered.server.cause.entity.damage.source.LanternBlockDamageSourceBuilder;
 import org.lanternpowered.server.cause.entity.damage.source.LanternDamageSourceBuilder;
 import org.lanternpowered.server.cause.entity.damage.source.LanternEntityDamageSourceBuilder;
@@ -295,6 +297,7 @@
 import org.lanternpowered.server.text.selector.LanternSelectorBuilder;
 import org.lanternpowered.server.text.selector.LanternSelectorFactory;
 import org.lanternpowered.server.text.translation.TranslationManager;
+import org.lanternpowered.server.util.LanternThread;
 import org.lanternpowered.server.util.LocaleCache;
 import org.lanternpowered.server.util.graph.CyclicGraphException;
 import org.lanternpowered.server.util.graph.DirectedGraph;
@@ -523,8 +526,15 @@
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
@@ -532,6 +542,13 @@
 @Singleton
 public class LanternGameRegistry implements XGameRegistry {
 
+    /**
+     * Whether the registry modules that don't depend on each other should be registered
+     * concurrently, can be disabled to register all the modules on the calling thread.
+     */
+    private static final boolean PARALLEL_REGISTRATION =
+            !"false".equalsIgnoreCase(System.getProperty("lantern.registry.parallel"));
+
     private final LanternGame game;
     private final LanternResourcePackFactory resourcePackFactory = new LanternResourcePackFactory();
     private final LanternAttributeCalculator attributeCalculator = new LanternAttributeCalculator();
@@ -544,6 +561,7 @@ public class LanternGameRegistry implements XGameRegistry {
     private final Map<Class<? extends RegistryModule>, RegistryModule> classMap = new IdentityHashMap<>();
     private final Map<Class<?>, Supplier<?>> builderSupplierMap = new IdentityHashMap<>();
     private final List<Class<? extends RegistryModule>> orderedModules = new ArrayList<>();
+    private final Map<Class<? extends RegistryModule>, Set<Class<? extends RegistryModule>>> moduleDependencies = new IdentityHashMap<>();
     private final Set<RegistryModule> registryModules = new HashSet<>();
 
     // The phase of the registrations, this starts at null to define the early state.
@@ -971,6 +989,7 @@ private void syncModules() {
             return;
         }
         final DirectedGraph<Class<? extends RegistryModule>> graph = new DirectedGraph<>();
+        this.moduleDependencies.clear();
         for (RegistryModule aModule : this.registryModules) {
             if (!this.classMap.containsKey(aModule.getClass())) {
                 this.classMap.put(aModule.getClass(), aModule);
@@ -1005,19 +1024,42 @@ private void syncModules() {
     }
 
     private void tryModulePhaseRegistration(RegistryModule module) {
+        final long start = System.nanoTime();
+        if (tryModulePhaseRegistration0(module)) {
+            final long time = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            this.game.getLogger().debug("Registered the module {} in {}ms during the {} phase.",
+                    module.getClass().getSimpleName(), time, this.phase == null ? "EARLY" : this.phase);
+        }
+    }
+
+    /**
+     * Registers the {@link RegistryModule} for the current phase.
+     *
+     * @param module The module
+     * @return Whether anything was registered during this phase
+     */
+    private boolean tryModulePhaseRegistration0(RegistryModule module) {
         try {
             final Set<Method> methods = getCustomRegistrations(module);
-            methods.stream().filter(this::isProperPhase).forEach(method -> invokeCustomRegistration(module, method));
+            boolean registered = false;
+            for (Method method : methods) {
+                if (isProperPhase(method)) {
+                    invokeCustomRegistration(module, method);
+                    registered = true;
+                }
+            }
             if (isProperPhase(module)) {
+                registered = true;
                 module.registerDefaults();
                 for (CatalogMappingData data : getCatalogMappingData(module)) {
                     final Map<String, ?> mappings = data.getMappings();
                     if (mappings.isEmpty()) {
-                        return;
+                        return true;
                     }
                     RegistryHelper.mapFields(data.getTarget(), mappings, data.getIgnoredFields());
                 }
             }
+            return registered;
         } catch (Exception e) {
             throw new RuntimeException("Error trying to initialize module: " + module.getClass().getCanonicalName(), e);
         }
@@ -1103,6 +1145,12 @@ private boolean isProperPhase(Method method) {
     @SuppressWarnings("unchecked")
     private void registerModulePhase() {
         syncModules();
+        // The init phase posts events for the plugins, this will always happen on the current thread
+        if (PARALLEL_REGISTRATION && this.phase != RegistrationPhase.INIT) {
+            registerModulePhaseInParallel();
+            registerAdditionalPhase();
+            return;
+        }
         for (Class<? extends RegistryModule> moduleClass : this.orderedModules) {
             if (!this.classMap.containsKey(moduleClass)) {
                 throw new IllegalStateException("Something funky happened! The module "
@@ -1131,6 +1179,64 @@ private void registerModulePhase() {
         registerAdditionalPhase();
     }
 
+    /**
+     * Registers all the modules for the current phase, every module is registered as soon as
+     * all its dependencies are registered. Independent modules are registered concurrently.
+     */
+    private void registerModulePhaseInParallel() {
+        // The modules are registered with the causes of the calling thread
+        final List<Object> causes = Lists.reverse(CauseStack.current().getCurrentCause().all());
+        final Map<Class<? extends RegistryModule>, CompletableFuture<Void>> futures = new IdentityHashMap<>();
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                Runtime.getRuntime().availableProcessors(), RegistryWorkerThread::new);
+        try {
+            // The modules are topologically ordered, so the dependencies are always scheduled first
+            for (Class<? extends RegistryModule> moduleClass : this.orderedModules) {
+                final RegistryModule module = this.classMap.get(moduleClass);
+                if (module == null) {
+                    throw new IllegalStateException("Something funky happened! The module "
+                            + moduleClass + " is required but seems to be missing.");
+                }
+                final CompletableFuture<?>[] dependencies = this.moduleDependencies
+                        .getOrDefault(moduleClass, Collections.emptySet()).stream()
+                        .map(futures::get)
+                        .filter(Objects::nonNull)
+                        .toArray(CompletableFuture[]::new);
+                futures.put(moduleClass, CompletableFuture.allOf(dependencies)
+                        .thenRunAsync(() -> {
+                            try (CauseStack.Frame frame = CauseStack.current().pushCauseFrame()) {
+                                causes.forEach(frame::pushCause);
+                                tryModulePhaseRegistration(module);
+                            }
+                        }, executor));
+            }
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[futures.size()])).join();
+        } catch (CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * A worker thread to register the modules, every
+     * worker has its own {@link CauseStack}.
+     */
+    private static final class RegistryWorkerThread extends LanternThread {
+
+        private static final AtomicInteger counter = new AtomicInteger();
+
+        private RegistryWorkerThread(Runnable target) {
+            super(target, "registry-worker-" + counter.incrementAndGet());
+            setCauseStack(new LanternCauseStack());
+            setDaemon(true);
+        }
+    }
+
     private void registerAdditionalPhase() {
         for (Class<? extends RegistryModule> moduleClass : this.orderedModules) {
             final RegistryModule module = this.classMap.get(moduleClass);
@@ -1142,8 +1248,11 @@ private void addToGraph(RegistryModule module, DirectedGraph<Class<? extends Reg
         graph.add(module.getClass());
         final RegistrationDependency dependency = module.getClass().getAnnotation(RegistrationDependency.class);
         if (dependency != null) {
+            final Set<Class<? extends RegistryModule>> dependencies = this.moduleDependencies.computeIfAbsent(
+                    module.getClass(), key -> new HashSet<>());
             for (Class<? extends RegistryModule> dependent : dependency.value()) {
                 graph.addEdge(checkNotNull(module.getClass(), "Dependency class was null!"), dependent);
+                dependencies.add(dependent);
             }
         }
     }
@@ -23,39 +23,22 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
  * THE SOFTWARE.
  */
-package org.lanternpowered.server.game.registry.factory;
+package org.lanternpowered.server.game;
 
-import co.aikar.timings.Timing;
-
-public class DummyLanternTiming implements Timing {
-
-    @Override
-    public Timing startTiming() {
-        return this;
-    }
-
-    @Override
-    public void stopTiming() {
-        // Ignore
-    }
-
-    @Override
-    public void startTimingIfSync() {
-        // Ignore
-    }
-
-    @Override
-    public void stopTimingIfSync() {
-        // Ignore
-    }
-
-    @Override
-    public void abort() {
-        // Ignore
-    }
-
-    @Override
-    public void close() {
-        // Ignore
-    }
+/**
+ * The policy that is used when the server falls
+ * behind on its tick schedule.
+ */
+public enum TickCatchUpPolicy {
+    /**
+     * The missed ticks are executed back to back, up to the
+     * configured maximum amount of catch up ticks. Any ticks
+     * that are missed beyond that will be dropped.
+     */
+    BURST,
+    /**
+     * The missed ticks are dropped and the schedule is moved
+     * ahead, the next tick will start immediately.
+     */
+    SKIP,
 }
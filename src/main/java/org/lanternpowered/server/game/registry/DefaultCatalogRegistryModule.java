@@ -69,6 +69,12 @@
      */
     private Map<CatalogKey, T> types = new HashMap<>();
 
+    /**
+     * The amount of catalog types that were registered, used
+     * to detect changes without copying the registered types.
+     */
+    private volatile int registrationCount;
+
     /**
      * Patterns to validate the catalog keys.
      */
@@ -158,6 +164,17 @@ protected void doRegistration(T catalogType, boolean disallowInbuiltPluginIds) {
         checkState(!this.types.containsKey(key), "There is already a catalog type registered with the id: %s", key);
         checkInbuiltPluginIds(catalogType, disallowInbuiltPluginIds);
         this.types.put(key, catalogType);
+        this.registrationCount++;
+    }
+
+    /**
+     * Gets the amount of catalog types that were registered to this
+     * module, the count changes every time a new catalog type is registered.
+     *
+     * @return The registration count
+     */
+    public int getRegistrationCount() {
+        return this.registrationCount;
     }
 
     protected void checkInbuiltPluginIds(T catalogType, boolean disallowInbuiltPluginIds) {
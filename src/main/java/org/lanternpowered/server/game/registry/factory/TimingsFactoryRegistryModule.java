@@ -27,6 +27,7 @@
 
 import co.aikar.timings.Timings;
 import co.aikar.timings.TimingsFactory;
+import org.lanternpowered.server.timings.LanternTimingsFactory;
 import org.spongepowered.api.registry.FactoryRegistry;
 
 public class TimingsFactoryRegistryModule implements FactoryRegistry<TimingsFactory, Timings> {
@@ -38,16 +39,11 @@ public Class<Timings> getFactoryOwner() {
 
     @Override
     public TimingsFactory provideFactory() {
-        return Holder.INSTANCE;
+        return LanternTimingsFactory.get();
     }
 
     @Override
     public void initialize() {
         // Ignore
     }
-
-    private static final class Holder {
-        static final DummyLanternTimingsFactory INSTANCE = new DummyLanternTimingsFactory();
-    }
-
 }
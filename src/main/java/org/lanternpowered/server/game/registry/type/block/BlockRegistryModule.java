@@ -121,6 +121,7 @@
         EquipmentTypeRegistryModule.class,
         InstrumentTypeRegistryModule.class,
         BlockSoundGroupRegistryModule.class,
+        BlockStateRegistryModule.class,
 })
 public final class BlockRegistryModule extends AdditionalPluginCatalogRegistryModule<BlockType> implements BlockRegistry {
 
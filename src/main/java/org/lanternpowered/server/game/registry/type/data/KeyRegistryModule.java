@@ -41,6 +41,8 @@
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.reflect.TypeToken;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import org.lanternpowered.api.cause.CauseStack;
 import org.lanternpowered.server.data.key.LanternKey;
 import org.lanternpowered.server.data.key.LanternKeys;
@@ -132,14 +134,18 @@ public static KeyRegistryModule get() {
     }
 
     private final Map<DataQuery, Key> byQuery = new HashMap<>();
+    private final Object2IntMap<Key> ordinals = new Object2IntOpenHashMap<>();
 
     private KeyRegistryModule() {
         super(Keys.class);
+        this.ordinals.defaultReturnValue(-1);
     }
 
     @Override
     protected void doRegistration(Key key, boolean disallowInbuiltPluginIds) {
         super.doRegistration(key, disallowInbuiltPluginIds);
+        // Assign the ordinal in registration order, so that they stay dense
+        ((LanternKey) key).getOrdinal();
         this.byQuery.putIfAbsent(key.getQuery(), key);
         final LanternKey optionalUnwrappedKey = ((LanternKey) key).getOptionalUnwrappedKey();
         if (optionalUnwrappedKey != null) {
@@ -147,6 +153,27 @@ protected void doRegistration(Key key, boolean disallowInbuiltPluginIds) {
         }
     }
 
+    /**
+     * Gets the ordinal of the given {@link Key}. Ordinals are dense and
+     * assigned in registration order, keys that are equal share the
+     * same ordinal. Keys that weren't registered yet will get a new
+     * ordinal assigned when they are first requested.
+     *
+     * @param key The key
+     * @return The ordinal
+     */
+    public int getOrdinal(Key key) {
+        checkNotNull(key, "key");
+        synchronized (this.ordinals) {
+            int ordinal = this.ordinals.getInt(key);
+            if (ordinal == -1) {
+                ordinal = this.ordinals.size();
+                this.ordinals.put(key, ordinal);
+            }
+            return ordinal;
+        }
+    }
+
     public Optional<Key> getByQuery(DataQuery query) {
         checkNotNull(query, "query");
         return Optional.ofNullable(this.byQuery.get(query));
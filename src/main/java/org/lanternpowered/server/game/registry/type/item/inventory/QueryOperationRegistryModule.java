@@ -31,6 +31,7 @@
 import org.lanternpowered.server.inventory.AbstractSlot;
 import org.lanternpowered.server.inventory.equipment.LanternEquipmentType;
 import org.lanternpowered.server.inventory.query.LanternQueryOperationType;
+import org.lanternpowered.server.inventory.query.QueryOperationScope;
 import org.lanternpowered.server.inventory.query.QueryOperations;
 import org.spongepowered.api.item.ItemType;
 import org.spongepowered.api.item.inventory.Inventory;
@@ -67,11 +68,11 @@ public void registerDefaults() {
         register(new LanternQueryOperationType<Predicate<ItemStack>>(CatalogKeys.lantern("unsafe_item_stack_predicate"),
                 (arg, inventory) -> inventory instanceof Slot && arg.test(((AbstractSlot) inventory).getRawItemStack())));
         register(new LanternQueryOperationType<Class<? extends Inventory>>(CatalogKeys.sponge("inventory_type"),
-                (arg, inventory) -> arg.isInstance(inventory)));
+                (arg, inventory) -> arg.isInstance(inventory), QueryOperationScope.ARCHETYPE));
         register(new LanternQueryOperationType<Class<?>>(CatalogKeys.sponge("type"),
-                (arg, inventory) -> arg.isInstance(inventory)));
+                (arg, inventory) -> arg.isInstance(inventory), QueryOperationScope.ARCHETYPE));
         register(new LanternQueryOperationType<Translation>(CatalogKeys.sponge("inventory_translation"),
-                (arg, inventory) -> inventory.getName().equals(arg)));
+                (arg, inventory) -> inventory.getName().equals(arg), QueryOperationScope.INSTANCE));
         register(new LanternQueryOperationType<InventoryProperty<?,?>>(CatalogKeys.sponge("inventory_property"),
                 (arg, inventory) -> {
                     // Equipment slot types are a special case, because
@@ -93,6 +94,6 @@ public void registerDefaults() {
                         }
                     }
                     return false;
-                }));
+                }, QueryOperationScope.INSTANCE));
     }
 }
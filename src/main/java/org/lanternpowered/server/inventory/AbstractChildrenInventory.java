@@ -88,6 +88,9 @@ public static ViewBuilder<LanternChildrenInventory> viewBuilder() {
     @Nullable private List<AbstractSlot> slots;
     @Nullable private Object2IntMap<AbstractSlot> slotsToIndex;
 
+    @Nullable private SlotStackIndex stackIndex;
+    private boolean stackIndexEnabled;
+
     void initWithSlots(List<AbstractMutableInventory> children, List<? extends AbstractSlot> slots) {
         this.children = children;
         final Object2IntMap<AbstractSlot> slotsToIndex = new Object2IntOpenHashMap<>();
@@ -98,6 +101,7 @@ void initWithSlots(List<AbstractMutableInventory> children, List<? extends Abstr
         }
         this.slots = ImmutableList.copyOf(slots);
         this.slotsToIndex = Object2IntMaps.unmodifiable(slotsToIndex);
+        invalidateQueryCache();
         init();
     }
 
@@ -107,6 +111,7 @@ void initWithChildren(List<AbstractMutableInventory> children, boolean lazySlots
         if (!lazySlots) {
             initSlots();
         }
+        invalidateQueryCache();
         init();
     }
 
@@ -500,15 +505,71 @@ public LanternItemStack peek(int limit, Predicate<ItemStack> matcher) {
         return stack == null ? LanternItemStack.empty() : stack;
     }
 
+    /**
+     * Enables the {@link SlotStackIndex} for this inventory, which allows the
+     * slots with similar stacks to be found directly when offering stacks.
+     *
+     * <p>This should only be enabled for inventories that live as long as their
+     * slots, the index registers listeners to the slots that can't be removed.</p>
+     */
+    public void enableStackIndex() {
+        this.stackIndexEnabled = true;
+    }
+
+    @Nullable
+    private SlotStackIndex getStackIndex() {
+        if (!this.stackIndexEnabled) {
+            return null;
+        }
+        if (this.stackIndex == null) {
+            this.stackIndex = new SlotStackIndex(getSlots());
+        }
+        return this.stackIndex;
+    }
+
+    /**
+     * Gets the slot which is being forwarded to by the inventory, or
+     * the inventory itself if it isn't a {@link AbstractForwardingSlot}.
+     *
+     * @param inventory The inventory
+     * @param <T> The type of the inventory
+     * @return The delegate inventory
+     */
+    static <T extends AbstractInventory> T getDelegate(T inventory) {
+        AbstractInventory delegate = inventory;
+        // Check for the delegate slot if present
+        while (delegate instanceof AbstractForwardingSlot) {
+            delegate = ((AbstractForwardingSlot) delegate).getDelegateSlot();
+        }
+        return (T) delegate;
+    }
+
     @Override
     protected void peekOffer(ItemStack stack, @Nullable Consumer<SlotTransaction> transactionAdder) {
         final Set<Inventory> processed = new HashSet<>();
-        final Inventory inventory = query(QueryOperationTypes.ITEM_STACK_IGNORE_QUANTITY.of(stack));
-        if (inventory instanceof AbstractChildrenInventory) {
-            ((AbstractChildrenInventory) inventory).peekOffer(stack, processed, transactionAdder);
-            // Stack got consumed, stop fast
-            if (stack.isEmpty()) {
-                return;
+        final SlotStackIndex stackIndex = getStackIndex();
+        if (stackIndex != null) {
+            // Offer to the slots with similar stacks first
+            final List<AbstractSlot> slots = getSlots();
+            for (int index : stackIndex.getCandidates((LanternItemStack) stack)) {
+                final AbstractSlot slot = slots.get(index);
+                if (!processed.add(getDelegate(slot))) {
+                    continue;
+                }
+                slot.peekOffer(stack, transactionAdder);
+                // Stack got consumed, stop fast
+                if (stack.isEmpty()) {
+                    return;
+                }
+            }
+        } else {
+            final Inventory inventory = query(QueryOperationTypes.ITEM_STACK_IGNORE_QUANTITY.of(stack));
+            if (inventory instanceof AbstractChildrenInventory) {
+                ((AbstractChildrenInventory) inventory).peekOffer(stack, processed, transactionAdder);
+                // Stack got consumed, stop fast
+                if (stack.isEmpty()) {
+                    return;
+                }
             }
         }
         peekOffer(stack, processed, transactionAdder);
@@ -516,12 +577,7 @@ protected void peekOffer(ItemStack stack, @Nullable Consumer<SlotTransaction> tr
 
     private void peekOffer(ItemStack stack, Set<Inventory> processed, @Nullable Consumer<SlotTransaction> transactionAdder) {
         for (AbstractMutableInventory inventory : getChildren()) {
-            AbstractInventory delegate = inventory;
-            // Check for the delegate slot if present
-            while (delegate instanceof AbstractForwardingSlot) {
-                delegate = ((AbstractForwardingSlot) delegate).getDelegateSlot();
-            }
-            if (!processed.add(delegate)) {
+            if (!processed.add(getDelegate(inventory))) {
                 continue;
             }
             inventory.peekOffer(stack, transactionAdder);
@@ -535,12 +591,29 @@ private void peekOffer(ItemStack stack, Set<Inventory> processed, @Nullable Cons
     @Override
     protected void offer(ItemStack stack, @Nullable Consumer<SlotTransaction> transactionAdder) {
         final Set<Inventory> processed = new HashSet<>();
-        final Inventory inventory = query(QueryOperationTypes.ITEM_STACK_IGNORE_QUANTITY.of(stack));
-        if (inventory instanceof AbstractChildrenInventory) {
-            ((AbstractChildrenInventory) inventory).offer(stack, processed, transactionAdder);
-            // Stack got consumed, stop fast
-            if (stack.isEmpty()) {
-                return;
+        final SlotStackIndex stackIndex = getStackIndex();
+        if (stackIndex != null) {
+            // Offer to the slots with similar stacks first
+            final List<AbstractSlot> slots = getSlots();
+            for (int index : stackIndex.getCandidates((LanternItemStack) stack)) {
+                final AbstractSlot slot = slots.get(index);
+                if (!processed.add(getDelegate(slot))) {
+                    continue;
+                }
+                slot.offer(stack, transactionAdder);
+                // Stack got consumed, stop fast
+                if (stack.isEmpty()) {
+                    return;
+                }
+            }
+        } else {
+            final Inventory inventory = query(QueryOperationTypes.ITEM_STACK_IGNORE_QUANTITY.of(stack));
+            if (inventory instanceof AbstractChildrenInventory) {
+                ((AbstractChildrenInventory) inventory).offer(stack, processed, transactionAdder);
+                // Stack got consumed, stop fast
+                if (stack.isEmpty()) {
+                    return;
+                }
             }
         }
         offer(stack, processed, transactionAdder);
@@ -548,12 +621,7 @@ protected void offer(ItemStack stack, @Nullable Consumer<SlotTransaction> transa
 
     private void offer(ItemStack stack, Set<Inventory> processed, @Nullable Consumer<SlotTransaction> transactionAdder) {
         for (AbstractMutableInventory inventory : getChildren()) {
-            AbstractInventory delegate = inventory;
-            // Check for the delegate slot if present
-            while (delegate instanceof AbstractForwardingSlot) {
-                delegate = ((AbstractForwardingSlot) delegate).getDelegateSlot();
-            }
-            if (!processed.add(delegate)) {
+            if (!processed.add(getDelegate(inventory))) {
                 continue;
             }
             inventory.offer(stack, transactionAdder);
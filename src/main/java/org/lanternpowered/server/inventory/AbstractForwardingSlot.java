@@ -88,6 +88,11 @@ public void addChangeListener(SlotChangeListener listener) {
         throw new IllegalStateException("Cannot add a SlotChangeListener to a ContainerSlot");
     }
 
+    @Override
+    public void addStackChangeListener(SlotChangeListener listener) {
+        throw new IllegalStateException("Cannot add a SlotChangeListener to a ContainerSlot");
+    }
+
     // Delegate all the other methods
 
     @Override
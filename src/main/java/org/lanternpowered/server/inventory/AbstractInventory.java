@@ -39,7 +39,7 @@
 import org.lanternpowered.server.inventory.property.AbstractInventoryProperty;
 import org.lanternpowered.server.inventory.property.LanternInventoryCapacity;
 import org.lanternpowered.server.inventory.property.LanternInventoryTitle;
-import org.lanternpowered.server.inventory.query.LanternQueryOperation;
+import org.lanternpowered.server.inventory.query.QueryOperationScope;
 import org.lanternpowered.server.item.predicate.ItemPredicate;
 import org.lanternpowered.server.text.translation.TextTranslation;
 import org.spongepowered.api.data.Property;
@@ -74,7 +74,6 @@
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
 
@@ -198,6 +197,7 @@ void setCarrier(Carrier carrier, boolean override) {
      */
     void setName(Translation name) {
         this.name = name;
+        invalidateQueryCache();
     }
 
     /**
@@ -206,8 +206,13 @@ void setName(Translation name) {
      * @param parent The parent inventory
      */
     void setParent(@Nullable AbstractInventory parent) {
+        // The results of the old parents can contain this inventory
+        if (this.parent != null) {
+            this.parent.invalidateQueryCache();
+        }
         this.parent = parent;
         this.cachedRoot = null;
+        invalidateQueryCache();
     }
 
     /**
@@ -355,58 +360,91 @@ public AbstractInventory root() {
     static final class ChildrenInventoryQuery extends AbstractChildrenInventory implements IQueryInventory {
     }
 
+    /**
+     * The cached query state, will be reset
+     * when the structure of this inventory changes.
+     */
+    @Nullable private volatile InventoryQueryCache queryCache;
+
+    /**
+     * Invalidates all the cached query results of this inventory, this
+     * must be called every time that the structure of this inventory changes.
+     *
+     * <p>The results of the parent inventories include the nodes of this
+     * inventory, so the caches of all the parents are invalidated as well.</p>
+     */
+    void invalidateQueryCache() {
+        AbstractInventory inventory = this;
+        while (inventory != null) {
+            inventory.queryCache = null;
+            inventory = inventory.parent;
+        }
+    }
+
+    private InventoryQueryCache getQueryCache() {
+        InventoryQueryCache queryCache = this.queryCache;
+        if (queryCache == null) {
+            final Set<AbstractInventory> nodes = new LinkedHashSet<>();
+            try {
+                queryInventories(inventory -> nodes.add((AbstractInventory) checkNotNull(inventory, "inventory")));
+            } catch (QueryInventoryAdder.Stop ignored) {
+            }
+            this.queryCache = queryCache = new InventoryQueryCache(ImmutableList.copyOf(nodes));
+        }
+        return queryCache;
+    }
+
     @Override
     public IQueryInventory query(QueryOperation<?>... operations) {
-        final Set<AbstractInventory> inventories = new LinkedHashSet<>();
-        try {
-            queryInventories(inventory -> {
-                checkNotNull(inventory, "inventory");
-                for (QueryOperation operation : operations) {
-                    if (((LanternQueryOperation) operation).test(inventory)) {
-                        inventories.add((AbstractInventory) inventory);
-                        return;
-                    }
-                }
-            });
-        } catch (QueryInventoryAdder.Stop ignored) {
+        final InventoryQueryCache queryCache = getQueryCache();
+        final QueryOperationScope scope = InventoryQueryCache.getScope(operations);
+        if (!scope.isCacheable()) {
+            return createQueryResult(queryCache.nodes, queryCache.createPlan(operations));
         }
-        if (inventories.isEmpty()) {
-            return genericEmpty();
+        final Object key = operations.length == 1 ? operations[0] : ImmutableList.copyOf(operations);
+        IQueryInventory result = queryCache.getResult(key);
+        if (result != null) {
+            return result;
         }
-        final ChildrenInventoryQuery result = new ChildrenInventoryQuery();
-        result.initWithChildren((List) ImmutableList.copyOf(inventories), true);
+        int[] plan = null;
+        // Try to reuse the plan of other inventories with the same structure
+        final LanternInventoryArchetype<?> archetype = scope == QueryOperationScope.ARCHETYPE &&
+                getArchetype() instanceof LanternInventoryArchetype ? (LanternInventoryArchetype<?>) getArchetype() : null;
+        if (archetype != null) {
+            final InventoryQueryCache.SharedPlan sharedPlan = archetype.getQueryPlan(key);
+            if (sharedPlan != null) {
+                plan = queryCache.getPlan(sharedPlan);
+            }
+        }
+        if (plan == null) {
+            plan = queryCache.createPlan(operations);
+            if (archetype != null) {
+                archetype.putQueryPlan(key, queryCache.share(plan));
+            }
+        }
+        result = createQueryResult(queryCache.nodes, plan);
+        queryCache.putResult(key, result);
         return result;
     }
 
-    private static final class FirstQueriedInventoryFunction<T extends Inventory> implements QueryInventoryAdder {
-
-        private final Predicate<T> predicate;
-        @Nullable T inventory;
-
-        private FirstQueriedInventoryFunction(Predicate<T> predicate) {
-            this.predicate = predicate;
+    private IQueryInventory createQueryResult(List<AbstractInventory> nodes, int[] plan) {
+        if (plan.length == 0) {
+            return genericEmpty();
         }
-
-        @Override
-        public void add(Inventory inventory) {
-            checkNotNull(inventory, "inventory");
-            if (this.inventory != null) {
-                throw Stop.INSTANCE;
-            } else if (this.predicate.test((T) inventory)) {
-                this.inventory = (T) inventory;
-                throw Stop.INSTANCE;
-            }
+        final ImmutableList.Builder<AbstractInventory> inventories = ImmutableList.builder();
+        for (int index : plan) {
+            inventories.add(nodes.get(index));
         }
+        final ChildrenInventoryQuery result = new ChildrenInventoryQuery();
+        result.initWithChildren((List) inventories.build(), true);
+        return result;
     }
 
     @Override
     public <T extends Inventory> Optional<T> query(Class<T> inventoryType) {
-        final FirstQueriedInventoryFunction<T> function = new FirstQueriedInventoryFunction<>(inventoryType::isInstance);
-        try {
-            queryInventories(function);
-        } catch (QueryInventoryAdder.Stop ignored) {
-        }
-        return Optional.ofNullable(function.inventory);
+        final InventoryQueryCache queryCache = getQueryCache();
+        final int index = queryCache.getFirstByType(inventoryType);
+        return index == InventoryQueryCache.NO_NODE ? Optional.empty() : Optional.of((T) queryCache.nodes.get(index));
     }
 
     /**
@@ -55,6 +55,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -92,6 +93,21 @@ public static Builder<AbstractInventorySlot> builder() {
      */
     private final List<SlotChangeListener> changeListeners = new ArrayList<>();
 
+    /**
+     * {@link SlotChangeListener}s that track the modifications of the stack
+     * in this slot, these listeners may be notified from any thread.
+     */
+    private final List<SlotChangeListener> stackChangeListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * The listener that is attached to the stack in this slot.
+     */
+    private final Runnable stackChangeListener = () -> {
+        for (SlotChangeListener listener : this.stackChangeListeners) {
+            listener.accept(this);
+        }
+    };
+
     /**
      * The {@link ItemPredicate} that defines which {@link ItemStack}s can be put in this slot.
      */
@@ -117,10 +133,23 @@ public LanternItemStack getRawItemStack() {
     @Override
     public void setRawItemStack(ItemStack itemStack) {
         checkNotNull(itemStack, "itemStack");
-        if (!this.itemStack.equalTo(itemStack)) {
+        final boolean changed = !this.itemStack.equalTo(itemStack);
+        setItemStack((LanternItemStack) itemStack);
+        // Update after the stack is set, listeners may look at the new contents
+        if (changed) {
             queueUpdate();
         }
-        this.itemStack = (LanternItemStack) itemStack;
+    }
+
+    private void setItemStack(LanternItemStack itemStack) {
+        if (this.itemStack != null && this.itemStack != LanternItemStack.empty()) {
+            this.itemStack.removeChangeListener(this.stackChangeListener);
+        }
+        this.itemStack = itemStack;
+        // The empty stack is shared, it will never be modified
+        if (itemStack != null && itemStack != LanternItemStack.empty()) {
+            itemStack.setChangeListener(this.stackChangeListener);
+        }
     }
 
     @Override
@@ -155,6 +184,12 @@ public void addChangeListener(SlotChangeListener listener) {
         this.changeListeners.add(listener);
     }
 
+    @Override
+    public void addStackChangeListener(SlotChangeListener listener) {
+        checkNotNull(listener, "listener");
+        this.stackChangeListeners.add(listener);
+    }
+
     @Override
     protected List<AbstractSlot> getSlots() {
         return Collections.emptyList();
@@ -218,7 +253,7 @@ public LanternItemStack poll(Predicate<ItemStack> matcher) {
             return LanternItemStack.empty();
         }
         // Just remove the item, the complete stack was being polled
-        this.itemStack = LanternItemStack.empty();
+        setItemStack(LanternItemStack.empty());
         queueUpdate();
         return itemStack;
     }
@@ -239,7 +274,7 @@ public LanternItemStack poll(int limit, Predicate<ItemStack> matcher) {
             itemStack = itemStack.copy();
             itemStack.setQuantity(limit);
         } else {
-            this.itemStack = LanternItemStack.empty();
+            setItemStack(LanternItemStack.empty());
         }
         queueUpdate();
         return itemStack;
@@ -368,14 +403,14 @@ protected void offer(ItemStack stack, @Nullable Consumer<SlotTransaction> transa
         final int quantity = stack.getQuantity();
         if (quantity > availableSpace) {
             if (this.itemStack.isEmpty()) {
-                this.itemStack = (LanternItemStack) stack.copy();
+                setItemStack((LanternItemStack) stack.copy());
             }
             this.itemStack.setQuantity(maxStackSize);
             // Consume items from the input stack
             stack.setQuantity(quantity - availableSpace);
         } else {
             if (this.itemStack.isEmpty()) {
-                this.itemStack = (LanternItemStack) stack.copy();
+                setItemStack((LanternItemStack) stack.copy());
             } else {
                 this.itemStack.setQuantity(this.itemStack.getQuantity() + quantity);
             }
@@ -450,14 +485,14 @@ protected void set(ItemStack stack, boolean force, @Nullable Consumer<SlotTransa
         if (transactionAdder != null) {
             transactionAdder.accept(new SlotTransaction(this, this.itemStack.toSnapshot(), newStack.toSnapshot()));
         }
-        this.itemStack = newStack;
+        setItemStack(newStack);
         queueUpdate();
     }
 
     @Override
     public void clear() {
         if (this.itemStack.isFilled()) {
-            this.itemStack = LanternItemStack.empty();
+            setItemStack(LanternItemStack.empty());
             queueUpdate();
         }
     }
@@ -74,6 +74,15 @@ public AbstractSlot viewedSlot() {
      */
     public abstract void removeTracker(SlotChangeTracker tracker);
 
+    /**
+     * Adds a {@link SlotChangeListener} that will be notified every time that
+     * the stack in this slot is modified directly, without replacing it. The
+     * listener may be notified from any thread.
+     *
+     * @param listener The listener
+     */
+    public abstract void addStackChangeListener(SlotChangeListener listener);
+
     AbstractSlot() {
     }
 }
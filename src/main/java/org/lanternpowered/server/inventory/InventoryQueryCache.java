@@ -0,0 +1,211 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.inventory;
+
+import org.lanternpowered.server.inventory.query.LanternQueryOperation;
+import org.lanternpowered.server.inventory.query.QueryOperationScope;
+import org.spongepowered.api.item.inventory.Inventory;
+import org.spongepowered.api.item.inventory.query.QueryOperation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * Holds the cached query state of a single {@link AbstractInventory}.
+ *
+ * <p>All the {@link Inventory}s that can be reached through
+ * {@link AbstractInventory#queryInventories(QueryInventoryAdder)} are
+ * flattened once into a node list, query plans are arrays of indexes
+ * into that list. Plans of queries that only depend on the archetype
+ * are shared through the {@link LanternInventoryArchetype}, so they can
+ * be replayed against every inventory with the same structure.</p>
+ *
+ * <p>This cache will be discarded when the structure of the inventory
+ * or one of its descendants changes. The cache may be accessed from
+ * multiple threads.</p>
+ */
+final class InventoryQueryCache {
+
+    /**
+     * A plan that doesn't match any node.
+     */
+    private static final int[] EMPTY_PLAN = new int[0];
+
+    /**
+     * All the query nodes, in query order and without duplicates.
+     */
+    final List<AbstractInventory> nodes;
+
+    /**
+     * The types of all the query nodes, archetype scoped plans
+     * can only be shared between the same structures.
+     */
+    private final Class<?>[] structure;
+
+    /**
+     * The materialized query results per operation key.
+     */
+    private final Map<Object, IQueryInventory> results = new ConcurrentHashMap<>();
+
+    /**
+     * The classes queried through {@link Inventory#query(Class)}
+     * mapped to the index of the first matching node, or {@link #NO_NODE}.
+     */
+    private final Map<Class<?>, Integer> firstByType = new ConcurrentHashMap<>();
+
+    static final int NO_NODE = -1;
+
+    InventoryQueryCache(List<AbstractInventory> nodes) {
+        this.nodes = nodes;
+        this.structure = new Class<?>[nodes.size()];
+        for (int i = 0; i < this.structure.length; i++) {
+            this.structure[i] = nodes.get(i).getClass();
+        }
+    }
+
+    /**
+     * A query plan that is shared between the
+     * inventories of a {@link LanternInventoryArchetype}.
+     */
+    static final class SharedPlan {
+
+        private final Class<?>[] structure;
+        private final int[] plan;
+
+        private SharedPlan(Class<?>[] structure, int[] plan) {
+            this.structure = structure;
+            this.plan = plan;
+        }
+    }
+
+    /**
+     * Gets the {@link QueryOperationScope} that applies
+     * to all the given {@link QueryOperation}s.
+     *
+     * @param operations The query operations
+     * @return The combined scope
+     */
+    static QueryOperationScope getScope(QueryOperation<?>[] operations) {
+        QueryOperationScope scope = QueryOperationScope.ARCHETYPE;
+        for (QueryOperation<?> operation : operations) {
+            final QueryOperationScope scope1 = ((LanternQueryOperation) operation).getScope();
+            if (scope1.ordinal() < scope.ordinal()) {
+                scope = scope1;
+            }
+        }
+        return scope;
+    }
+
+    @SuppressWarnings("unchecked")
+    static boolean test(QueryOperation<?>[] operations, Inventory inventory) {
+        for (QueryOperation operation : operations) {
+            if (((LanternQueryOperation) operation).test(inventory)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builds the query plan for the given {@link QueryOperation}s.
+     *
+     * @param operations The query operations
+     * @return The query plan
+     */
+    int[] createPlan(QueryOperation<?>[] operations) {
+        final List<AbstractInventory> nodes = this.nodes;
+        int[] plan = null;
+        int size = 0;
+        for (int i = 0; i < nodes.size(); i++) {
+            if (test(operations, nodes.get(i))) {
+                if (plan == null) {
+                    plan = new int[4];
+                } else if (size == plan.length) {
+                    final int[] newPlan = new int[size * 2];
+                    System.arraycopy(plan, 0, newPlan, 0, size);
+                    plan = newPlan;
+                }
+                plan[size++] = i;
+            }
+        }
+        if (plan == null) {
+            return EMPTY_PLAN;
+        }
+        if (size != plan.length) {
+            final int[] newPlan = new int[size];
+            System.arraycopy(plan, 0, newPlan, 0, size);
+            plan = newPlan;
+        }
+        return plan;
+    }
+
+    /**
+     * Creates a {@link SharedPlan} of the given plan for the structure of this cache.
+     *
+     * @param plan The query plan
+     * @return The shared plan
+     */
+    SharedPlan share(int[] plan) {
+        return new SharedPlan(this.structure, plan);
+    }
+
+    /**
+     * Gets the plan of the {@link SharedPlan} if it can be applied on the node list of
+     * this cache. The node types must match, inventories of the same archetype can
+     * diverge from each other, for example when children are added to them.
+     *
+     * @param sharedPlan The shared plan
+     * @return The query plan, or null if the structure doesn't match
+     */
+    @Nullable
+    int[] getPlan(SharedPlan sharedPlan) {
+        return sharedPlan.structure == this.structure || Arrays.equals(sharedPlan.structure, this.structure) ? sharedPlan.plan : null;
+    }
+
+    IQueryInventory getResult(Object key) {
+        return this.results.get(key);
+    }
+
+    void putResult(Object key, IQueryInventory result) {
+        this.results.put(key, result);
+    }
+
+    int getFirstByType(Class<?> type) {
+        return this.firstByType.computeIfAbsent(type, type1 -> {
+            final List<AbstractInventory> nodes = this.nodes;
+            for (int i = 0; i < nodes.size(); i++) {
+                if (type1.isInstance(nodes.get(i))) {
+                    return i;
+                }
+            }
+            return NO_NODE;
+        });
+    }
+}
@@ -30,16 +30,35 @@
 import org.spongepowered.api.item.inventory.InventoryArchetype;
 import org.spongepowered.api.item.inventory.InventoryProperty;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
 
 @SuppressWarnings("unchecked")
 public abstract class LanternInventoryArchetype<T extends AbstractInventory> extends DefaultCatalogType
         implements InventoryArchetype, InventoryPropertyHolder {
 
+    /**
+     * The query plans that are shared between all
+     * the inventories of this archetype.
+     */
+    private final Map<Object, InventoryQueryCache.SharedPlan> queryPlans = new ConcurrentHashMap<>();
+
     LanternInventoryArchetype(CatalogKey key) {
         super(key);
     }
 
+    @Nullable
+    InventoryQueryCache.SharedPlan getQueryPlan(Object key) {
+        return this.queryPlans.get(key);
+    }
+
+    void putQueryPlan(Object key, InventoryQueryCache.SharedPlan plan) {
+        this.queryPlans.putIfAbsent(key, plan);
+    }
+
     public abstract AbstractArchetypeBuilder<T, ? super T, ?> getBuilder();
 
     @Override
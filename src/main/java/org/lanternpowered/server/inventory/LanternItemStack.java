@@ -36,11 +36,16 @@
 import org.lanternpowered.server.data.ValueCollection;
 import org.lanternpowered.server.data.property.AbstractPropertyHolder;
 import org.lanternpowered.server.item.LanternItemType;
+import org.lanternpowered.server.network.buffer.contextual.EncodedItemStackCache;
 import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataTransactionResult;
 import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.key.Keys;
 import org.spongepowered.api.data.manipulator.DataManipulator;
+import org.spongepowered.api.data.merge.MergeFunction;
 import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.item.ItemType;
 import org.spongepowered.api.item.ItemTypes;
 import org.spongepowered.api.item.inventory.ItemStack;
@@ -49,6 +54,7 @@
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
@@ -58,6 +64,12 @@ public class LanternItemStack implements ItemStack, AbstractPropertyHolder, IAdd
 
     private static final LanternItemStack empty = null;
 
+    /**
+     * A counter to generate content versions, versions are unique
+     * across all the item stacks so they can be shared by copies.
+     */
+    private static final AtomicLong versionCounter = new AtomicLong();
+
     /**
      * Gets a empty {@link ItemStack} if the specified {@link ItemStack}
      * is {@code null}. Otherwise returns the item stack itself.
@@ -88,6 +100,26 @@ public static LanternItemStack empty() {
 
     private int quantity;
 
+    private volatile long version = versionCounter.incrementAndGet();
+    @Nullable private volatile EncodedItemStackCache encodedCache;
+
+    /**
+     * The latest modification stamp of the data collections
+     * at the time that the version was last updated.
+     */
+    private volatile long modificationStamp;
+
+    /**
+     * The cached structural hash, {@code 0} if it needs to be recalculated.
+     */
+    private volatile int structuralHash;
+
+    /**
+     * The listener that is notified when the contents of this item stack
+     * change, this is set by the slot that holds the item stack.
+     */
+    @Nullable private volatile Runnable changeListener;
+
     /**
      * Constructs a new {@link LanternItemStack} for the specified {@link ItemType}.
      *
@@ -108,6 +140,7 @@ public LanternItemStack(ItemType itemType, int quantity) {
         this(itemType, quantity, ValueCollection.create(),
                 itemType == ItemTypes.NONE ? AdditionalContainerCollection.empty() : AdditionalContainerCollection.createConcurrent());
         registerKeys();
+        this.modificationStamp = getModificationStamp();
     }
 
     private LanternItemStack(ItemType itemType, int quantity, ValueCollection valueCollection,
@@ -118,6 +151,9 @@ private LanternItemStack(ItemType itemType, int quantity, ValueCollection valueC
         this.valueCollection = valueCollection;
         this.quantity = quantity;
         this.itemType = itemType;
+        // Direct modifications are applied to the version once it's requested,
+        // the listener needs to be notified immediately
+        valueCollection.setModificationListener(this::notifyChange);
     }
 
     private void registerKeys() {
@@ -129,6 +165,129 @@ private void registerKeys() {
         c.register(Keys.ITEM_ENCHANTMENTS, Collections.emptyList());
     }
 
+    /**
+     * Gets the content version of this item stack. The version changes
+     * every time that the quantity or any of the data is modified, copies
+     * share the version until one of them gets modified.
+     *
+     * @return The content version
+     */
+    public long getVersion() {
+        checkModifications();
+        return this.version;
+    }
+
+    /**
+     * Gets the latest modification stamp of the {@link ValueCollection} and
+     * {@link AdditionalContainerCollection}, including the value collections
+     * of the additional containers.
+     *
+     * @return The modification stamp
+     */
+    private long getModificationStamp() {
+        long stamp = Math.max(this.valueCollection.getModificationStamp(), this.additionalContainers.getModificationStamp());
+        for (DataManipulator<?, ?> container : this.additionalContainers.getAll()) {
+            if (container instanceof IValueContainer) {
+                stamp = Math.max(stamp, ((IValueContainer<?>) container).getValueCollection().getModificationStamp());
+            }
+        }
+        return stamp;
+    }
+
+    /**
+     * Invalidates the content version if the data was modified
+     * directly through the data collections.
+     */
+    private void checkModifications() {
+        if (getModificationStamp() != this.modificationStamp) {
+            markChanged();
+        }
+    }
+
+    /**
+     * Gets the {@link EncodedItemStackCache} of this item stack.
+     *
+     * @return The encoded item stack cache
+     */
+    @Nullable
+    public EncodedItemStackCache getEncodedCache() {
+        return this.encodedCache;
+    }
+
+    /**
+     * Sets the {@link EncodedItemStackCache} of this item stack.
+     *
+     * @param encodedCache The encoded item stack cache
+     */
+    public void setEncodedCache(@Nullable EncodedItemStackCache encodedCache) {
+        this.encodedCache = encodedCache;
+    }
+
+    /**
+     * Gets the structural hash of this item stack. The hash is based on the
+     * {@link ItemType} and all the data, but not the quantity. Stacks that
+     * are similar will always have the same structural hash, so stacks with
+     * different hashes can never be stacked together.
+     *
+     * @return The structural hash
+     */
+    public int getStructuralHash() {
+        checkModifications();
+        int hash = this.structuralHash;
+        if (hash == 0) {
+            hash = 31 * this.itemType.hashCode() + IValueContainer.contentHashCode(this);
+            // Zero is reserved for invalidated hashes
+            if (hash == 0) {
+                hash = 1;
+            }
+            this.structuralHash = hash;
+        }
+        return hash;
+    }
+
+    /**
+     * Invalidates the content version and the structural hash, this
+     * should be called after the data of this item stack was modified.
+     */
+    private void markChanged() {
+        this.modificationStamp = getModificationStamp();
+        this.structuralHash = 0;
+        // Update the version last, a different thread that sees the
+        // new version is guaranteed to see the modified data
+        this.version = versionCounter.incrementAndGet();
+        notifyChange();
+    }
+
+    /**
+     * Sets the listener that will be notified every time that the contents
+     * of this item stack change. Only one listener can be set at the same
+     * time, it's owned by the slot that holds this item stack.
+     *
+     * @param changeListener The change listener
+     */
+    void setChangeListener(Runnable changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    /**
+     * Removes the listener if it's the current listener
+     * of this item stack.
+     *
+     * @param changeListener The change listener
+     */
+    void removeChangeListener(Runnable changeListener) {
+        if (this.changeListener == changeListener) {
+            this.changeListener = null;
+        }
+    }
+
+    private void notifyChange() {
+        final Runnable changeListener = this.changeListener;
+        if (changeListener != null) {
+            changeListener.run();
+        }
+    }
+
     @Override
     public AdditionalContainerCollection<DataManipulator<?, ?>> getAdditionalContainers() {
         return this.additionalContainers;
@@ -150,6 +309,82 @@ public void setRawData(DataView dataView) throws InvalidDataException {
         dataView.remove(DataQueries.ITEM_TYPE);
         this.quantity = dataView.getInt(DataQueries.QUANTITY).orElse(1);
         IAdditionalDataHolder.super.setRawData(dataView);
+        markChanged();
+    }
+
+    // All the modifications to the data end up in one of the following methods,
+    // they will invalidate the content version of this item stack after the
+    // modification, direct modifications of the data collections are detected
+    // through their modification stamps
+
+    @Override
+    public <E> boolean offerFastNoEvents(Key<? extends BaseValue<E>> key, E element) {
+        final boolean result = IAdditionalDataHolder.super.offerFastNoEvents(key, element);
+        markChanged();
+        return result;
+    }
+
+    @Override
+    public <E> DataTransactionResult offerNoEvents(Key<? extends BaseValue<E>> key, E element) {
+        final DataTransactionResult result = IAdditionalDataHolder.super.offerNoEvents(key, element);
+        markChanged();
+        return result;
+    }
+
+    @Override
+    public <E> boolean offerFastNoEvents(BaseValue<E> value) {
+        final boolean result = IAdditionalDataHolder.super.offerFastNoEvents(value);
+        markChanged();
+        return result;
+    }
+
+    @Override
+    public <E> DataTransactionResult offerNoEvents(BaseValue<E> value) {
+        final DataTransactionResult result = IAdditionalDataHolder.super.offerNoEvents(value);
+        markChanged();
+        return result;
+    }
+
+    @Override
+    public boolean offerFastNoEvents(DataManipulator<?, ?> valueContainer, MergeFunction function) {
+        final boolean result = IAdditionalDataHolder.super.offerFastNoEvents(valueContainer, function);
+        markChanged();
+        return result;
+    }
+
+    @Override
+    public DataTransactionResult offerNoEvents(DataManipulator<?, ?> valueContainer, MergeFunction function) {
+        final DataTransactionResult result = IAdditionalDataHolder.super.offerNoEvents(valueContainer, function);
+        markChanged();
+        return result;
+    }
+
+    @Override
+    public boolean removeFastNoEvents(Key<?> key) {
+        final boolean result = IAdditionalDataHolder.super.removeFastNoEvents(key);
+        markChanged();
+        return result;
+    }
+
+    @Override
+    public DataTransactionResult removeNoEvents(Key<?> key) {
+        final DataTransactionResult result = IAdditionalDataHolder.super.removeNoEvents(key);
+        markChanged();
+        return result;
+    }
+
+    @Override
+    public boolean removeFast(Class<? extends DataManipulator<?, ?>> containerClass) {
+        final boolean result = IAdditionalDataHolder.super.removeFast(containerClass);
+        markChanged();
+        return result;
+    }
+
+    @Override
+    public DataTransactionResult remove(Class<? extends DataManipulator<?, ?>> containerClass) {
+        final DataTransactionResult result = IAdditionalDataHolder.super.remove(containerClass);
+        markChanged();
+        return result;
     }
 
     @Override
@@ -177,7 +412,12 @@ public int getQuantity() {
     @Override
     public void setQuantity(int quantity) throws IllegalArgumentException {
         checkArgument(quantity >= 0, "quantity may not be negative");
-        this.quantity = quantity;
+        if (this.quantity != quantity) {
+            this.quantity = quantity;
+            // The quantity isn't part of the structural hash
+            this.version = versionCounter.incrementAndGet();
+            notifyChange();
+        }
     }
 
     /**
@@ -238,7 +478,17 @@ public LanternItemStack copy() {
         if (isEmpty()) {
             return empty;
         }
-        return new LanternItemStack(this.itemType, this.quantity, getValueCollection().copy(), this.additionalContainers.copy());
+        final LanternItemStack copy = new LanternItemStack(
+                this.itemType, this.quantity, getValueCollection().copy(), this.additionalContainers.copy());
+        // The contents are equal, so the encoded data can be shared. Create the
+        // cache now, so that all the copies share it, e.g. the copies that are
+        // send to each viewer of a container will only be encoded once
+        final EncodedItemStackCache encodedCache = EncodedItemStackCache.get(this);
+        copy.version = encodedCache.getVersion();
+        copy.encodedCache = encodedCache;
+        copy.structuralHash = this.structuralHash;
+        copy.modificationStamp = copy.getModificationStamp();
+        return copy;
     }
 
     /**
@@ -290,7 +540,9 @@ public boolean similarTo(ItemStack that) {
         if (emptyA != emptyB) {
             return emptyA && emptyB;
         }
-        return getType() == that.getType() && IValueContainer.matchContents(this, (IValueContainer) that);
+        // Reject stacks with different contents without matching all the values
+        return getType() == that.getType() && getStructuralHash() == ((LanternItemStack) that).getStructuralHash() &&
+                IValueContainer.matchContents(this, (IValueContainer) that);
     }
 
     public static boolean isEmpty(@Nullable ItemStack itemStack) {
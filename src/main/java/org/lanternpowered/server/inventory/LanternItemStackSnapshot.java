@@ -242,7 +242,8 @@ public boolean similarTo(ItemStackSnapshot that) {
      */
     public boolean similarTo(ItemStack that) {
         checkNotNull(that, "that");
-        return getType() == that.getType() && IValueContainer.matchContents(this.itemStack, (IValueContainer) that);
+        return getType() == that.getType() && this.itemStack.getStructuralHash() == ((LanternItemStack) that).getStructuralHash() &&
+                IValueContainer.matchContents(this.itemStack, (IValueContainer) that);
     }
 
     /**
@@ -0,0 +1,164 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.inventory;
+
+import static org.lanternpowered.server.inventory.AbstractInventory.INVALID_SLOT_INDEX;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntAVLTreeSet;
+import it.unimi.dsi.fastutil.ints.IntSortedSet;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * A index of the slots of an inventory by the {@link LanternItemStack#getStructuralHash()}
+ * of their contents. This allows slots with similar stacks to be found without
+ * checking every slot of the inventory.
+ *
+ * <p>The index only provides candidates, they still need to be
+ * checked whether they are actually similar. Stacks can be modified
+ * without notifying the slot, these slots are marked dirty by the
+ * stacks and reindexed before the candidates are looked up.</p>
+ */
+final class SlotStackIndex implements SlotChangeListener {
+
+    private static final int[] EMPTY = new int[0];
+
+    /**
+     * All the slot indices per structural hash, sorted by slot index.
+     */
+    private final Int2ObjectMap<IntSortedSet> slotsByHash = new Int2ObjectOpenHashMap<>();
+
+    /**
+     * The viewed slots mapped to their index in the inventory.
+     */
+    private final Object2IntMap<ISlot> slotIndices = new Object2IntOpenHashMap<>();
+
+    /**
+     * The structural hash of the stack in every slot,
+     * only valid if the slot isn't empty.
+     */
+    private final int[] hashes;
+    private final boolean[] filled;
+
+    /**
+     * The indexed slots, {@code null} for slots that are forwarded
+     * to an already indexed slot.
+     */
+    private final AbstractSlot[] slots;
+
+    /**
+     * The slots whose stacks were modified since they were last indexed,
+     * stacks can be modified from any thread so this is guarded by itself.
+     */
+    private final BitSet dirty = new BitSet();
+    private volatile boolean hasDirty;
+
+    SlotStackIndex(List<AbstractSlot> slots) {
+        this.slotIndices.defaultReturnValue(INVALID_SLOT_INDEX);
+        this.hashes = new int[slots.size()];
+        this.filled = new boolean[slots.size()];
+        this.slots = new AbstractSlot[slots.size()];
+        for (int i = 0; i < slots.size(); i++) {
+            final AbstractSlot slot = AbstractChildrenInventory.getDelegate(slots.get(i));
+            // Slots that are forwarded to multiple times only need to be indexed once
+            if (this.slotIndices.putIfAbsent(slot, i) == INVALID_SLOT_INDEX) {
+                this.slots[i] = slot;
+                slot.addChangeListener(this);
+                slot.addStackChangeListener(this::markDirty);
+                update(i, slot.getRawItemStack());
+            }
+        }
+    }
+
+    @Override
+    public void accept(ISlot slot) {
+        final int index = this.slotIndices.getInt(slot);
+        if (index != INVALID_SLOT_INDEX) {
+            update(index, ((AbstractSlot) slot).getRawItemStack());
+        }
+    }
+
+    private void markDirty(ISlot slot) {
+        final int index = this.slotIndices.getInt(slot);
+        if (index != INVALID_SLOT_INDEX) {
+            synchronized (this.dirty) {
+                this.dirty.set(index);
+                this.hasDirty = true;
+            }
+        }
+    }
+
+    private void update(int index, LanternItemStack itemStack) {
+        if (this.filled[index]) {
+            final IntSortedSet slots = this.slotsByHash.get(this.hashes[index]);
+            slots.remove(index);
+            if (slots.isEmpty()) {
+                this.slotsByHash.remove(this.hashes[index]);
+            }
+        }
+        this.filled[index] = itemStack.isFilled();
+        if (this.filled[index]) {
+            final int hash = itemStack.getStructuralHash();
+            this.hashes[index] = hash;
+            IntSortedSet slots = this.slotsByHash.get(hash);
+            if (slots == null) {
+                slots = new IntAVLTreeSet();
+                this.slotsByHash.put(hash, slots);
+            }
+            slots.add(index);
+        }
+    }
+
+    /**
+     * Gets the indices of the slots that may contain a stack that is similar
+     * to the given {@link LanternItemStack}, in ascending order.
+     *
+     * @param itemStack The item stack
+     * @return The slot indices
+     */
+    int[] getCandidates(LanternItemStack itemStack) {
+        // Reindex the slots whose stacks were modified directly
+        if (this.hasDirty) {
+            final BitSet dirty;
+            synchronized (this.dirty) {
+                dirty = (BitSet) this.dirty.clone();
+                this.dirty.clear();
+                this.hasDirty = false;
+            }
+            for (int i = dirty.nextSetBit(0); i >= 0; i = dirty.nextSetBit(i + 1)) {
+                update(i, this.slots[i].getRawItemStack());
+            }
+        }
+        final IntSortedSet slots = this.slotsByHash.get(itemStack.getStructuralHash());
+        // Copy the indices, offering to the slots may modify the index
+        return slots == null ? EMPTY : slots.toIntArray();
+    }
+}
@@ -137,6 +137,12 @@ public abstract class ClientContainer implements ContainerBase {
      */
     private static int containerIdCounter = 1;
 
+    /**
+     * The fraction of the slots that need to be changed before all the
+     * slots are send at once, instead of sending a message per slot.
+     */
+    private static final double BULK_UPDATE_THRESHOLD = 0.5;
+
     protected static int SHIFT_CLICK_WHEN_FULL_TOP = 0x1;
 
     protected static int SHIFT_CLICK_TOP_FILTER = 0x2;
@@ -260,6 +266,10 @@ protected static int[] compileAllSlotFlags(int[] flags) {
     private BaseClientSlot cursor = new EmptyClientSlot(CURSOR_SLOT_INDEX); // Not really a slot, but the implementation does the trick
     private final int containerId;
     @SuppressWarnings("NullableProblems") protected BaseClientSlot[] slots;
+    /**
+     * A bit set with all the indexes of the {@link #slots} that are dirty.
+     */
+    @SuppressWarnings("NullableProblems") private long[] dirtySlots;
     @Nullable private LanternPlayer player;
     @Nullable private ContainerInteractionBehavior interactionBehavior;
 
@@ -497,6 +507,7 @@ private void populate() {
         for (int i = 0; i < this.slots.length; i++) {
             this.slots[i] = new EmptyClientSlot(i);
         }
+        this.dirtySlots = new long[(this.slots.length + 63) >> 6];
     }
 
     /**
@@ -673,6 +684,7 @@ protected void queueSlotChange(BaseClientSlot clientSlot) {
             return;
         }
         clientSlot.dirtyState = BaseClientSlot.IS_DIRTY;
+        markDirty(clientSlot);
     }
 
     protected void queueSlotChangeSafely(BaseClientSlot clientSlot) {
@@ -682,6 +694,7 @@ protected void queueSlotChangeSafely(BaseClientSlot clientSlot) {
         }
         if ((clientSlot.dirtyState & BaseClientSlot.IS_DIRTY) == 0) {
             clientSlot.dirtyState = BaseClientSlot.IS_DIRTY;
+            markDirty(clientSlot);
         }
     }
 
@@ -706,6 +719,7 @@ protected void queueSilentSlotChange(BaseClientSlot clientSlot) {
             return;
         }
         clientSlot.dirtyState = BaseClientSlot.IS_DIRTY | BaseClientSlot.SILENT_UPDATE;
+        markDirty(clientSlot);
     }
 
     protected void queueSilentSlotChangeSafely(BaseClientSlot clientSlot) {
@@ -715,9 +729,27 @@ protected void queueSilentSlotChangeSafely(BaseClientSlot clientSlot) {
         }
         if ((clientSlot.dirtyState & BaseClientSlot.IS_DIRTY) == 0) {
             clientSlot.dirtyState = BaseClientSlot.IS_DIRTY | BaseClientSlot.SILENT_UPDATE;
+            markDirty(clientSlot);
+        }
+    }
+
+    /**
+     * Marks the index of the {@link BaseClientSlot} as dirty, the cursor
+     * is tracked separately.
+     *
+     * @param clientSlot The client slot
+     */
+    private void markDirty(BaseClientSlot clientSlot) {
+        final int index = clientSlot.index;
+        if (index < this.slots.length && this.slots[index] == clientSlot) {
+            this.dirtySlots[index >> 6] |= 1L << index;
         }
     }
 
+    private void clearDirty(int index) {
+        this.dirtySlots[index >> 6] &= ~(1L << index);
+    }
+
     public LanternPlayer getPlayer() {
         checkState(this.player != null, "No player is bound");
         return this.player;
@@ -751,13 +783,8 @@ public void init() {
         if (message != null) {
             messages.add(message);
         }
-        final ItemStack[] items = new ItemStack[getSlotFlags().length];
-        for (int i = 0; i < items.length; i++) {
-            items[serverSlotIndexToClient(i)] = this.slots[i].getItem();
-            this.slots[i].dirtyState = 0;
-        }
         // Send the inventory content
-        messages.add(new MessagePlayOutWindowItems(this.containerId, items));
+        messages.add(createWindowItemsMessage());
         // Send the cursor item if present
         if (!this.cursor.getRaw().isEmpty()) {
             messages.add(new MessagePlayOutSetWindowSlot(-1, -1, this.cursor.getItem()));
@@ -769,6 +796,22 @@ public void init() {
         this.player.getConnection().send(messages);
     }
 
+    /**
+     * Creates a {@link MessagePlayOutWindowItems} with the content of all
+     * the slots and resets their dirty states.
+     *
+     * @return The window items message
+     */
+    private Message createWindowItemsMessage() {
+        final ItemStack[] items = new ItemStack[getSlotFlags().length];
+        for (int i = 0; i < items.length; i++) {
+            items[serverSlotIndexToClient(i)] = this.slots[i].getItem();
+            this.slots[i].dirtyState = 0;
+        }
+        Arrays.fill(this.dirtySlots, 0L);
+        return new MessagePlayOutWindowItems(this.containerId, items);
+    }
+
     protected void collectInitMessages(List<Message> messages) {
     }
 
@@ -784,9 +827,55 @@ public void update() {
         }
     }
 
+    /**
+     * Gets the amount of dirty slots in the given bit set.
+     *
+     * @param dirtySlots The dirty slots bit set
+     * @return The dirty count
+     */
+    static int getDirtyCount(long[] dirtySlots) {
+        int dirtyCount = 0;
+        for (long bits : dirtySlots) {
+            dirtyCount += Long.bitCount(bits);
+        }
+        return dirtyCount;
+    }
+
+    /**
+     * Gets whether all the slots should be send at once, instead
+     * of sending a message for every dirty slot.
+     *
+     * @param dirtyCount The amount of dirty slots
+     * @param slotCount The amount of slots
+     * @return Whether a bulk update should be send
+     */
+    static boolean isBulkUpdate(int dirtyCount, int slotCount) {
+        return dirtyCount > 1 && dirtyCount >= slotCount * BULK_UPDATE_THRESHOLD;
+    }
+
     protected void collectChangeMessages(List<Message> messages) {
-        for (int i = 0; i < this.slots.length; i++) {
-            collectSlotChangeMessages(messages, i, false);
+        final int dirtyCount = getDirtyCount(this.dirtySlots);
+        boolean silent = false;
+        for (int i = 0; i < this.dirtySlots.length && !silent; i++) {
+            long bits = this.dirtySlots[i];
+            while (bits != 0L && !silent) {
+                final int index = (i << 6) + Long.numberOfTrailingZeros(bits);
+                silent = (this.slots[index].dirtyState & BaseClientSlot.SILENT_UPDATE) != 0;
+                bits &= bits - 1;
+            }
+        }
+        // Silent updates need to be send per slot, otherwise
+        // send all the slots at once if enough slots changed
+        if (!silent && isBulkUpdate(dirtyCount, this.slots.length)) {
+            messages.add(createWindowItemsMessage());
+        } else if (dirtyCount > 0) {
+            for (int i = 0; i < this.dirtySlots.length; i++) {
+                long bits = this.dirtySlots[i];
+                while (bits != 0L) {
+                    collectSlotChangeMessages(messages, (i << 6) + Long.numberOfTrailingZeros(bits), false);
+                    bits &= bits - 1;
+                }
+            }
         }
         // Update the cursor item if needed
         if ((this.cursor.dirtyState & BaseClientSlot.IS_DIRTY) != 0) {
@@ -817,6 +906,7 @@ protected void collectSlotChangeMessages(List<Message> messages, int index, bool
             }
             // Reset the dirty state
             slot.dirtyState = 0;
+            clearDirty(slot.index);
             // Add a update message
             messages.add(new MessagePlayOutSetWindowSlot(containerId, serverSlotIndexToClient(index), slot.getItem()));
         }
@@ -31,6 +31,8 @@
 import org.spongepowered.api.item.inventory.query.QueryOperation;
 import org.spongepowered.api.item.inventory.query.QueryOperationType;
 
+import java.util.Objects;
+
 @SuppressWarnings("unchecked")
 public final class LanternQueryOperation<T> implements QueryOperation<T> {
 
@@ -47,6 +49,32 @@ public QueryOperationType<T> getType() {
         return this.type;
     }
 
+    /**
+     * Gets the {@link QueryOperationScope} of this operation.
+     *
+     * @return The query operation scope
+     */
+    public QueryOperationScope getScope() {
+        return this.type.getScope();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof LanternQueryOperation)) {
+            return false;
+        }
+        final LanternQueryOperation other = (LanternQueryOperation) obj;
+        return other.type == this.type && Objects.equals(other.arg, this.arg);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.type.hashCode() + Objects.hashCode(this.arg);
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
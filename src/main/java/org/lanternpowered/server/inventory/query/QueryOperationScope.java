@@ -0,0 +1,64 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.inventory.query;
+
+import org.spongepowered.api.item.inventory.query.QueryOperationType;
+
+/**
+ * Represents on which state of a inventory the result of
+ * a {@link QueryOperationType} depends. This determines
+ * whether query results can be cached.
+ */
+public enum QueryOperationScope {
+    /**
+     * The result depends on the contents of the inventory, for
+     * example item stack queries. These are never cached.
+     */
+    CONTENTS,
+    /**
+     * The result only depends on the structure of a specific
+     * inventory instance, for example properties or names which
+     * may be applied per instance.
+     */
+    INSTANCE,
+    /**
+     * The result only depends on the structure defined by the
+     * archetype of the inventory, for example inventory types.
+     * Query plans can be shared between all the inventories
+     * of the same archetype.
+     */
+    ARCHETYPE,
+    ;
+
+    /**
+     * Gets whether the result of the query operation may be cached.
+     *
+     * @return Is cacheable
+     */
+    public boolean isCacheable() {
+        return this != CONTENTS;
+    }
+}
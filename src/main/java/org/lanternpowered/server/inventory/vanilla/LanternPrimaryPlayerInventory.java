@@ -72,6 +72,11 @@ protected void init() {
                 .row(this.storage.getRows(), this.hotbar)
                 .build();
         this.reverse = (AbstractChildrenInventory) InventoryTransforms.REVERSE.transform(this);
+
+        // Items are offered often to the player inventory, e.g. when picking them up
+        enableStackIndex();
+        this.priorityHotbar.enableStackIndex();
+        this.prioritySelectedSlotAndHotbar.enableStackIndex();
     }
 
     @Override
@@ -30,4 +30,10 @@
 
 public class ChestInventory extends AbstractGridInventory implements ITileEntityInventory {
 
+    @Override
+    protected void init() {
+        super.init();
+        // Chests are large and hoppers offer to them often
+        enableStackIndex();
+    }
 }
@@ -71,6 +71,8 @@
 import org.lanternpowered.server.permission.Permissions;
 import org.lanternpowered.server.profile.LanternGameProfile;
 import org.lanternpowered.server.text.LanternTexts;
+import org.lanternpowered.server.timings.LanternTiming;
+import org.lanternpowered.server.timings.LanternTimings;
 import org.lanternpowered.server.world.LanternWorld;
 import org.lanternpowered.server.world.LanternWorldProperties;
 import org.spongepowered.api.Sponge;
@@ -280,7 +282,7 @@ protected void channelRead0(ChannelHandlerContext ctx, Message message) {
      */
     @SuppressWarnings("unchecked")
     private void handleMessage(Handler handler, Message message) {
-        try {
+        try (LanternTiming ignored = LanternTimings.getHandlerTiming(message.getClass()).startTiming()) {
             handler.handle(this.networkContext, message);
         } catch (Throwable throwable) {
             Lantern.getLogger().error("Error while handling {}", message, throwable);
@@ -333,14 +335,8 @@ private void messageReceived(Message message) {
             if (registration == null) {
                 throw new DecoderException("Failed to find a message registration for " + messageClass.getName() + "!");
             }
-            registration.getHandler().ifPresent(handler -> {
-                final Handler handler1 = (Handler) handler;
-                if (NettyThreadOnlyHelper.INSTANCE.isHandlerNettyThreadOnly((Class) handler1.getClass())) {
-                    handleMessage(handler1, message);
-                } else {
-                    this.messageQueue.add(new HandlerMessage(message, handler1));
-                }
-            });
+            // The handler message determines on which thread the handler should be called
+            registration.getHandler().ifPresent(handler -> messageReceived(new HandlerMessage(message, (Handler) handler)));
         }
     }
 
@@ -0,0 +1,85 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.network.buffer.contextual;
+
+import org.lanternpowered.server.inventory.LanternItemStack;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * Holds the encoded network representations of a specific
+ * content version of a {@link LanternItemStack}, per {@link Locale}.
+ */
+public final class EncodedItemStackCache {
+
+    /**
+     * Gets the {@link EncodedItemStackCache} for the current content version
+     * of the given {@link LanternItemStack}, a new one will be set if the
+     * item stack doesn't have one yet or if it's outdated.
+     *
+     * @param itemStack The item stack
+     * @return The encoded item stack cache
+     */
+    public static EncodedItemStackCache get(LanternItemStack itemStack) {
+        final long version = itemStack.getVersion();
+        EncodedItemStackCache cache = itemStack.getEncodedCache();
+        if (cache == null || cache.version != version) {
+            cache = new EncodedItemStackCache(version);
+            itemStack.setEncodedCache(cache);
+        }
+        return cache;
+    }
+
+    private final long version;
+    private final Map<Locale, byte[]> encoded = new ConcurrentHashMap<>(2);
+
+    EncodedItemStackCache(long version) {
+        this.version = version;
+    }
+
+    /**
+     * Gets the content version of the {@link LanternItemStack}
+     * that this cache was created for.
+     *
+     * @return The content version
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    @Nullable
+    byte[] get(Locale locale) {
+        return this.encoded.get(locale);
+    }
+
+    void put(Locale locale, byte[] bytes) {
+        this.encoded.put(locale, bytes);
+    }
+}
@@ -46,6 +46,7 @@
 import org.spongepowered.api.text.Text;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -107,6 +108,29 @@ public static void serializeTextForNetwork(DataView dataView, ItemStack itemStac
         });
     }
 
+    /**
+     * Converts the {@link ItemStack} into a {@link RawItemStack} that
+     * can be send to a client with the given {@link Locale}.
+     *
+     * @param itemStack The item stack
+     * @param locale The locale of the client
+     * @return The raw item stack
+     */
+    public static RawItemStack toRawItemStack(ItemStack itemStack, Locale locale) {
+        final DataView dataView = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+        try (TranslationContext ignored = TranslationContext.enter()
+                .disableForcedTranslation()) {
+            store.serialize((LanternItemStack) itemStack, dataView);
+        }
+        try (TranslationContext ignored = TranslationContext.enter()
+                .locale(locale)) {
+            serializeTextForNetwork(dataView, itemStack);
+        }
+        return new RawItemStack(ItemRegistryModule.get().getInternalId(itemStack.getType()),
+                dataView.getShort(ItemStackStore.DATA).orElse((short) 0), itemStack.getQuantity(),
+                dataView.getView(ItemStackStore.TAG).orElse(null));
+    }
+
     ItemStackContextualValueType() {
     }
 
@@ -114,20 +138,25 @@ public static void serializeTextForNetwork(DataView dataView, ItemStack itemStac
     public void write(CodecContext ctx, @Nullable ItemStack object, ByteBuffer buf) throws CodecException {
         if (object == null) {
             buf.writeRawItemStack(null);
-        } else {
-            final DataView dataView = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
-            try (TranslationContext ignored = TranslationContext.enter()
-                    .disableForcedTranslation()) {
-                store.serialize((LanternItemStack) object, dataView);
-            }
-            try (TranslationContext ignored = TranslationContext.enter()
-                    .locale(ctx.getSession().getLocale())) {
-                serializeTextForNetwork(dataView, object);
+            return;
+        }
+        final LanternItemStack itemStack = (LanternItemStack) object;
+        final Locale locale = ctx.getSession().getLocale();
+        // Reuse the encoded bytes if the item stack didn't change since the last time
+        final EncodedItemStackCache cache = EncodedItemStackCache.get(itemStack);
+        byte[] encoded = cache.get(locale);
+        if (encoded == null) {
+            final ByteBuffer encodeBuf = ctx.byteBufAlloc().buffer();
+            try {
+                encodeBuf.writeRawItemStack(toRawItemStack(itemStack, locale));
+                encoded = new byte[encodeBuf.available()];
+                encodeBuf.readBytes(encoded);
+            } finally {
+                encodeBuf.release();
             }
-            buf.writeRawItemStack(new RawItemStack(ItemRegistryModule.get().getInternalId(object.getType()),
-                    dataView.getShort(ItemStackStore.DATA).orElse((short) 0), object.getQuantity(),
-                    dataView.getView(ItemStackStore.TAG).orElse(null)));
+            cache.put(locale, encoded);
         }
+        buf.writeBytes(encoded);
     }
 
     @Override
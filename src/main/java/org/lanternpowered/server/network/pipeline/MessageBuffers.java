@@ -0,0 +1,86 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.network.pipeline;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Helpers for outbound message buffers that reserve space in front of their
+ * contents, this allows the framing and compression handlers to prepend their
+ * headers in place instead of copying the message into a new buffer.
+ */
+final class MessageBuffers {
+
+    /**
+     * The amount of bytes that are reserved in front of every encoded message. This is
+     * enough for the frame length and the uncompressed data length, both var ints.
+     */
+    static final int HEADER_SPACE = 10;
+
+    /**
+     * Gets the amount of bytes that are required to write the var int.
+     *
+     * @param value The value
+     * @return The size in bytes
+     */
+    static int getVarIntSize(int value) {
+        if ((value & 0xffffff80) == 0) {
+            return 1;
+        } else if ((value & 0xffffc000) == 0) {
+            return 2;
+        } else if ((value & 0xffe00000) == 0) {
+            return 3;
+        } else if ((value & 0xf0000000) == 0) {
+            return 4;
+        }
+        return 5;
+    }
+
+    /**
+     * Attempts to write the var int directly in front of the reader index of the
+     * {@link ByteBuf}, the reader index will be moved to the start of the var int.
+     *
+     * @param buf The byte buffer
+     * @param value The value
+     * @return Whether there was enough space in front of the reader index
+     */
+    static boolean prependVarInt(ByteBuf buf, int value) {
+        int index = buf.readerIndex() - getVarIntSize(value);
+        if (index < 0) {
+            return false;
+        }
+        buf.readerIndex(index);
+        while ((value & 0xffffff80) != 0) {
+            buf.setByte(index++, (value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        buf.setByte(index, value & 0x7f);
+        return true;
+    }
+
+    private MessageBuffers() {
+    }
+}
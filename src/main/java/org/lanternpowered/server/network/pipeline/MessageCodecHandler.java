@@ -30,7 +30,6 @@
 
 import com.google.common.collect.Sets;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.DecoderException;
 import io.netty.handler.codec.EncoderException;
@@ -79,21 +78,31 @@ protected void encode(ChannelHandlerContext ctx, Message message, List<Object> o
             throw new EncoderException("Message type (" + message.getClass().getName() + ") is not registered to allow encoding!");
         }
 
-        final ByteBuf opcode = ctx.alloc().buffer();
-
-        // Write the opcode of the message
-        writeVarInt(opcode, codecRegistration.getOpcode());
-
         final Codec codec = codecRegistration.getCodec();
-        final LanternByteBuffer content;
+        final ByteBuf content;
         try {
-            content = (LanternByteBuffer) codec.encode(this.codecContext, message);
+            content = ((LanternByteBuffer) codec.encode(this.codecContext, message)).getDelegate();
         } finally {
             ReferenceCountUtil.release(message);
         }
 
-        // Add the buffer to the output
-        output.add(Unpooled.wrappedBuffer(opcode, content.getDelegate()));
+        try {
+            final int opcode = codecRegistration.getOpcode();
+            // Reserve space in front of the message, the compression and
+            // framing handlers will write their headers in place
+            final ByteBuf buf = ctx.alloc().ioBuffer(
+                    MessageBuffers.HEADER_SPACE + MessageBuffers.getVarIntSize(opcode) + content.readableBytes());
+            buf.setIndex(MessageBuffers.HEADER_SPACE, MessageBuffers.HEADER_SPACE);
+
+            // Write the opcode and the contents of the message
+            writeVarInt(buf, opcode);
+            buf.writeBytes(content);
+
+            // Add the buffer to the output
+            output.add(buf);
+        } finally {
+            content.release();
+        }
     }
 
     private static final Set<Integer> warnedMissingOpcodes = Sets.newConcurrentHashSet();
@@ -61,6 +61,8 @@
 import java.util.zip.Deflater;
 import java.util.zip.Inflater;
 
+import javax.annotation.Nullable;
+
 public final class MessageCompressionHandler extends MessageToMessageCodec<ByteBuf, ByteBuf> {
 
     private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
@@ -68,52 +70,90 @@ public final class MessageCompressionHandler extends MessageToMessageCodec<ByteB
 
     private final int compressionThreshold;
 
+    /**
+     * The maximum size of the byte arrays that will be reused.
+     */
+    private static final int MAX_REUSED_BUFFER_SIZE = 1 << 17;
+
+    @Nullable private byte[] uncompressedBuffer;
+    @Nullable private byte[] compressedBuffer;
+
     public MessageCompressionHandler(int compressionThreshold) {
         this.compressionThreshold = compressionThreshold;
     }
 
     @Override
     protected void encode(ChannelHandlerContext ctx, ByteBuf msg, List<Object> out) {
-        final ByteBuf prefixBuf = ctx.alloc().buffer(5);
-        final ByteBuf contentsBuf;
+        final int length = msg.readableBytes();
+        int dataLength = 0;
 
-        if (msg.readableBytes() >= this.compressionThreshold) {
+        if (length >= this.compressionThreshold) {
             // Message should be compressed
             final int index = msg.readerIndex();
-            final int length = msg.readableBytes();
 
-            final byte[] sourceData = new byte[length];
-            msg.readBytes(sourceData);
-            this.deflater.setInput(sourceData);
+            final byte[] sourceData = getBuffer(length, false);
+            msg.getBytes(index, sourceData, 0, length);
+            this.deflater.setInput(sourceData, 0, length);
             this.deflater.finish();
 
-            final byte[] compressedData = new byte[length];
-            final int compressedLength = this.deflater.deflate(compressedData);
+            final byte[] compressedData = getBuffer(length, true);
+            final int compressedLength = this.deflater.deflate(compressedData, 0, length);
             this.deflater.reset();
 
             if (compressedLength == 0) {
                 // Compression failed in some weird way
                 throw new EncoderException("Failed to compress message of size " + length);
-            } else if (compressedLength >= length) {
-                // Compression increased the size. threshold is probably too low
-                // Send as an uncompressed packet
-                writeVarInt(prefixBuf, 0);
-                msg.readerIndex(index);
-                msg.retain();
-                contentsBuf = msg;
-            } else {
+            } else if (compressedLength < length) {
                 // All is well
-                writeVarInt(prefixBuf, length);
-                contentsBuf = Unpooled.wrappedBuffer(compressedData, 0, compressedLength);
+                dataLength = length;
+                if (index >= MessageBuffers.getVarIntSize(dataLength)) {
+                    // The buffer has space reserved for the header, so it was created by the
+                    // codec handler, the compressed data can be written back into it
+                    msg.setBytes(index, compressedData, 0, compressedLength);
+                    msg.writerIndex(index + compressedLength);
+                } else {
+                    final ByteBuf prefixBuf = ctx.alloc().buffer(5);
+                    writeVarInt(prefixBuf, dataLength);
+                    out.add(Unpooled.wrappedBuffer(prefixBuf, Unpooled.copiedBuffer(compressedData, 0, compressedLength)));
+                    return;
+                }
             }
+            // Otherwise did the compression increase the size, the threshold
+            // is probably too low, send as an uncompressed packet
+        }
+
+        // Try to write the data length in front of the message
+        if (MessageBuffers.prependVarInt(msg, dataLength)) {
+            out.add(msg.retain());
         } else {
-            // Message should be sent through
-            writeVarInt(prefixBuf, 0);
-            msg.retain();
-            contentsBuf = msg;
+            final ByteBuf prefixBuf = ctx.alloc().buffer(5);
+            writeVarInt(prefixBuf, dataLength);
+            out.add(Unpooled.wrappedBuffer(prefixBuf, msg.retain()));
         }
+    }
 
-        out.add(Unpooled.wrappedBuffer(prefixBuf, contentsBuf));
+    /**
+     * Gets a byte array that can be used to (de)compress data. Reasonably
+     * sized arrays will be reused by following messages.
+     *
+     * @param length The minimum length
+     * @param compressed Whether the buffer for the compressed data is requested
+     * @return The byte array
+     */
+    private byte[] getBuffer(int length, boolean compressed) {
+        if (length > MAX_REUSED_BUFFER_SIZE) {
+            return new byte[length];
+        }
+        byte[] buffer = compressed ? this.compressedBuffer : this.uncompressedBuffer;
+        if (buffer == null || buffer.length < length) {
+            buffer = new byte[Math.max(length, 256)];
+            if (compressed) {
+                this.compressedBuffer = buffer;
+            } else {
+                this.uncompressedBuffer = buffer;
+            }
+        }
+        return buffer;
     }
 
     @Override
@@ -48,7 +48,6 @@
 package org.lanternpowered.server.network.pipeline;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToMessageCodec;
 import org.lanternpowered.server.game.Lantern;
@@ -80,12 +79,12 @@ public MessageEncryptionHandler(SecretKey sharedSecret) {
 
     @Override
     protected void encode(ChannelHandlerContext ctx, ByteBuf msg, List<Object> out) {
-        this.encodeBuf.crypt(msg, out);
+        this.encodeBuf.crypt(ctx, msg, out);
     }
 
     @Override
     protected void decode(ChannelHandlerContext ctx, ByteBuf msg, List<Object> out) {
-        this.decodeBuf.crypt(msg, out);
+        this.decodeBuf.crypt(ctx, msg, out);
     }
 
     private static class CryptBuf {
@@ -97,17 +96,27 @@ private CryptBuf(int mode, SecretKey sharedSecret) throws GeneralSecurityExcepti
             this.cipher.init(mode, sharedSecret, new IvParameterSpec(sharedSecret.getEncoded()));
         }
 
-        void crypt(ByteBuf msg, List<Object> out) {
-            final ByteBuffer outBuffer = ByteBuffer.allocate(msg.readableBytes());
+        void crypt(ChannelHandlerContext ctx, ByteBuf msg, List<Object> out) {
+            final int index = msg.readerIndex();
+            final int length = msg.readableBytes();
 
             try {
-                this.cipher.update(msg.nioBuffer(), outBuffer);
+                // AES/CFB8 doesn't change the length of the data and the cipher is copy-safe,
+                // so the data can be processed in place if the buffer has a single backing memory
+                // region that is exposed directly through its nio buffer
+                if (!msg.isReadOnly() && msg.nioBufferCount() == 1 && (msg.hasArray() || msg.isDirect())) {
+                    final ByteBuffer nioBuffer = msg.nioBuffer(index, length);
+                    this.cipher.update(nioBuffer, nioBuffer.duplicate());
+                    out.add(msg.retain());
+                } else {
+                    final ByteBuf outBuf = ctx.alloc().buffer(length);
+                    this.cipher.update(msg.nioBuffer(index, length), outBuf.nioBuffer(0, length));
+                    outBuf.writerIndex(length);
+                    out.add(outBuf);
+                }
             } catch (ShortBufferException e) {
                 throw new AssertionError("Encryption buffer was too short", e);
             }
-
-            outBuffer.flip();
-            out.add(Unpooled.wrappedBuffer(outBuffer));
         }
     }
 
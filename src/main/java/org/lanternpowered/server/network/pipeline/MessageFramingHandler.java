@@ -51,6 +51,7 @@
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.ByteToMessageCodec;
 import io.netty.handler.codec.DecoderException;
 
@@ -58,6 +59,20 @@
 
 public final class MessageFramingHandler extends ByteToMessageCodec<ByteBuf> {
 
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        // Write the length in front of the message if there is space
+        // reserved for it, this avoids copying the message
+        if (msg instanceof ByteBuf) {
+            final ByteBuf buf = (ByteBuf) msg;
+            if (MessageBuffers.prependVarInt(buf, buf.readableBytes())) {
+                ctx.write(buf, promise);
+                return;
+            }
+        }
+        super.write(ctx, msg, promise);
+    }
+
     @Override
     protected void encode(ChannelHandlerContext ctx, ByteBuf buf, ByteBuf output) {
         writeVarInt(output, buf.readableBytes());
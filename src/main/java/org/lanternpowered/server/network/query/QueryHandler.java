@@ -48,33 +48,31 @@
 package org.lanternpowered.server.network.query;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.channel.socket.DatagramPacket;
-import org.lanternpowered.server.LanternServer;
 import org.lanternpowered.server.game.LanternGame;
 import org.lanternpowered.server.network.SimpleRemoteConnection;
+import org.lanternpowered.server.network.status.StatusResponseCache;
 import org.spongepowered.api.Platform;
 import org.spongepowered.api.Sponge;
-import org.spongepowered.api.command.CommandSource;
-import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.cause.EventContext;
 import org.spongepowered.api.event.server.query.QueryServerEvent;
 import org.spongepowered.api.plugin.PluginContainer;
-import org.spongepowered.api.world.World;
 
 import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
 
 /**
  * Class for handling UDP packets according to the minecraft server query protocol.
@@ -92,6 +90,9 @@ class QueryHandler extends SimpleChannelInboundHandler<DatagramPacket> {
     // Whether the a plugin list should be included in responses
     private boolean showPlugins;
 
+    // The plugins string of the full stats, lazily initialized
+    @Nullable private String plugins;
+
     QueryHandler(QueryServer queryServer, boolean showPlugins) {
         this.queryServer = queryServer;
         this.showPlugins = showPlugins;
@@ -149,21 +150,37 @@ private void handleHandshake(ChannelHandlerContext ctx, DatagramPacket packet, i
     }
 
     private void handleBasicStats(ChannelHandlerContext ctx, DatagramPacket packet, int sessionId) {
-        LanternServer server = this.queryServer.getGame().getServer();
+        final StatusResponseCache.Entry entry = this.queryServer.getGame().getServer().getStatusResponseCache().getEntry();
+        final boolean eventOnCacheMissOnly = this.queryServer.getGame().getGlobalConfig().isStatusEventOnCacheMissOnly();
+
+        final ByteBuf buf = ctx.alloc().buffer();
+        buf.writeByte(ACTION_STATS);
+        buf.writeInt(sessionId);
+
+        final byte[] response = eventOnCacheMissOnly ? entry.getBasicQueryResponse() : null;
+        if (response != null) {
+            buf.writeBytes(response);
+        } else {
+            final int index = buf.writerIndex();
+            writeBasicStats(ctx, entry, buf);
+            if (eventOnCacheMissOnly) {
+                entry.setBasicQueryResponse(ByteBufUtil.getBytes(buf, index, buf.writerIndex() - index));
+            }
+        }
+        ctx.write(new DatagramPacket(buf, packet.sender()));
+    }
 
+    private void writeBasicStats(ChannelHandlerContext ctx, StatusResponseCache.Entry entry, ByteBuf buf) {
         // TODO: Find out how to support the size and max size properties
         final Cause cause = Cause.of(EventContext.empty(),
                 new SimpleRemoteConnection((InetSocketAddress) ctx.channel().remoteAddress(), null));
         final QueryServerEvent.Basic event = SpongeEventFactory.createQueryServerEventBasic(cause,
-                (InetSocketAddress) ctx.channel().localAddress(), "SMP", this.getWorldName(), server.getMotd().toPlain(),
-                server.getMaxPlayers(), Integer.MAX_VALUE, server.getOnlinePlayers().size(), 0);
+                (InetSocketAddress) ctx.channel().localAddress(), "SMP", entry.getWorldName(), entry.getPlainDescription(),
+                entry.getMaxPlayers(), Integer.MAX_VALUE, entry.getOnlinePlayers(), 0);
         Sponge.getEventManager().post(event);
 
         final InetSocketAddress address = event.getAddress();
 
-        final ByteBuf buf = ctx.alloc().buffer();
-        buf.writeByte(ACTION_STATS);
-        buf.writeInt(sessionId);
         writeString(buf, event.getMotd());
         writeString(buf, event.getGameType());
         writeString(buf, event.getMap());
@@ -171,49 +188,42 @@ private void handleBasicStats(ChannelHandlerContext ctx, DatagramPacket packet,
         writeString(buf, String.valueOf(event.getMaxPlayerCount()));
         buf.writeShortLE(address.getPort());
         writeString(buf, address.getHostString());
-        ctx.write(new DatagramPacket(buf, packet.sender()));
     }
 
     private void handleFullStats(ChannelHandlerContext ctx, DatagramPacket packet, int sessionId) {
-        final LanternGame game = this.queryServer.getGame();
-        final LanternServer server = game.getServer();
-        final Platform platform = game.getPlatform();
-
-        final PluginContainer api = platform.getContainer(Platform.Component.API);
-        final PluginContainer impl = platform.getContainer(Platform.Component.IMPLEMENTATION);
-        final PluginContainer mc = platform.getContainer(Platform.Component.GAME);
+        final StatusResponseCache.Entry entry = this.queryServer.getGame().getServer().getStatusResponseCache().getEntry();
+        final boolean eventOnCacheMissOnly = this.queryServer.getGame().getGlobalConfig().isStatusEventOnCacheMissOnly();
 
-        final StringBuilder plugins = new StringBuilder()
-                .append(impl.getName())
-                .append(" ")
-                .append(impl.getVersion())
-                .append(" on ")
-                .append(api.getName())
-                .append(" ")
-                .append(api.getVersion());
-
-        if (this.showPlugins) {
-            final List<PluginContainer> containers = new ArrayList<>(game.getPluginManager().getPlugins());
-            containers.remove(api);
-            containers.remove(impl);
-            containers.remove(mc);
+        final ByteBuf buf = ctx.alloc().buffer();
+        buf.writeByte(ACTION_STATS);
+        buf.writeInt(sessionId);
 
-            char delim = ':';
-            for (PluginContainer plugin : containers) {
-                plugins.append(delim).append(' ').append(plugin.getName());
-                delim = ';';
+        final byte[] response = eventOnCacheMissOnly ? entry.getFullQueryResponse() : null;
+        if (response != null) {
+            buf.writeBytes(response);
+        } else {
+            final int index = buf.writerIndex();
+            writeFullStats(ctx, entry, buf);
+            if (eventOnCacheMissOnly) {
+                entry.setFullQueryResponse(ByteBufUtil.getBytes(buf, index, buf.writerIndex() - index));
             }
         }
+        ctx.write(new DatagramPacket(buf, packet.sender()));
+    }
 
-        final List<String> playerNames = server.getOnlinePlayers()
-                .stream().map(CommandSource::getName).collect(Collectors.toList());
+    private void writeFullStats(ChannelHandlerContext ctx, StatusResponseCache.Entry entry, ByteBuf buf) {
+        final PluginContainer mc = this.queryServer.getGame().getPlatform().getContainer(Platform.Component.GAME);
+
+        final List<String> playerNames = new ArrayList<>(entry.getPlayerNames());
         final Cause cause = Cause.of(EventContext.empty(),
                 new SimpleRemoteConnection((InetSocketAddress) ctx.channel().remoteAddress(), null));
 
         final QueryServerEvent.Full event = SpongeEventFactory.createQueryServerEventFull(cause,
                 (InetSocketAddress) ctx.channel().localAddress(), new HashMap<>(),
-                "MINECRAFT", "SMP", getWorldName(), server.getMotd().toPlain(), playerNames, plugins.toString(),
-                mc.getVersion().orElse("unknown"), server.getMaxPlayers(), Integer.MAX_VALUE, playerNames.size(), 0);
+                "MINECRAFT", "SMP", entry.getWorldName(), entry.getPlainDescription(), playerNames, getPlugins(),
+                mc.getVersion().orElse("unknown"), entry.getMaxPlayers(), Integer.MAX_VALUE, entry.getOnlinePlayers(), 0);
+        Sponge.getEventManager().post(event);
+
         final InetSocketAddress address = event.getAddress();
 
         final Map<String, Object> data = new LinkedHashMap<>();
@@ -227,12 +237,9 @@ private void handleFullStats(ChannelHandlerContext ctx, DatagramPacket packet, i
         data.put("maxplayers", event.getMaxPlayerCount());
         data.put("hostport", address.getPort());
         data.put("hostip", address.getHostString());
-        event.getCustomValuesMap().entrySet().stream().filter(entry -> !data.containsKey(entry.getKey()))
-                .forEach(entry -> data.put(entry.getKey(), entry.getValue()));
+        event.getCustomValuesMap().entrySet().stream().filter(value -> !data.containsKey(value.getKey()))
+                .forEach(value -> data.put(value.getKey(), value.getValue()));
 
-        final ByteBuf buf = ctx.alloc().buffer();
-        buf.writeByte(ACTION_STATS);
-        buf.writeInt(sessionId);
         // constant: splitnum\x00\x80\x00
         buf.writeBytes(new byte[] { 0x73, 0x70, 0x6C, 0x69, 0x74, 0x6E, 0x75, 0x6D, 0x00, (byte) 0x80, 0x00 });
         for (Entry<String, Object> e : data.entrySet()) {
@@ -242,19 +249,48 @@ private void handleFullStats(ChannelHandlerContext ctx, DatagramPacket packet, i
         buf.writeByte(0);
         // constant: \x01player_\x00\x00
         buf.writeBytes(new byte[] { 0x01, 0x70, 0x6C, 0x61, 0x79, 0x65, 0x72, 0x5F, 0x00, 0x00 });
-        for (Player player : game.getServer().getOnlinePlayers()) {
-            writeString(buf, player.getName());
+        for (String playerName : event.getPlayers()) {
+            writeString(buf, playerName);
         }
         buf.writeByte(0);
-        ctx.write(new DatagramPacket(buf, packet.sender()));
     }
 
-    private String getWorldName() {
-        final Collection<World> worlds = this.queryServer.getGame().getServer().getWorlds();
-        if (!worlds.isEmpty()) {
-            return worlds.iterator().next().getName();
+    private String getPlugins() {
+        // The plugins cannot change after the server is started
+        if (this.plugins != null) {
+            return this.plugins;
+        }
+
+        final LanternGame game = this.queryServer.getGame();
+        final Platform platform = game.getPlatform();
+
+        final PluginContainer api = platform.getContainer(Platform.Component.API);
+        final PluginContainer impl = platform.getContainer(Platform.Component.IMPLEMENTATION);
+        final PluginContainer mc = platform.getContainer(Platform.Component.GAME);
+
+        final StringBuilder plugins = new StringBuilder()
+                .append(impl.getName())
+                .append(" ")
+                .append(impl.getVersion())
+                .append(" on ")
+                .append(api.getName())
+                .append(" ")
+                .append(api.getVersion());
+
+        if (this.showPlugins) {
+            final List<PluginContainer> containers = new ArrayList<>(game.getPluginManager().getPlugins());
+            containers.remove(api);
+            containers.remove(impl);
+            containers.remove(mc);
+
+            char delim = ':';
+            for (PluginContainer plugin : containers) {
+                plugins.append(delim).append(' ').append(plugin.getName());
+                delim = ';';
+            }
         }
-        return "none";
+
+        return this.plugins = plugins.toString();
     }
 
     private static void writeString(ByteBuf out, String str) {
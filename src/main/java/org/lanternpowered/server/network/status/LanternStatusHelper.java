@@ -25,9 +25,16 @@
  */
 package org.lanternpowered.server.network.status;
 
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
 import org.lanternpowered.server.LanternServer;
 import org.lanternpowered.server.entity.living.player.LanternPlayer;
+import org.lanternpowered.server.game.version.LanternMinecraftVersion;
 import org.lanternpowered.server.profile.LanternGameProfile;
+import org.lanternpowered.server.text.gson.JsonTextSerializer;
 import org.lanternpowered.server.util.collect.Lists2;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.server.ClientPingServerEvent;
@@ -37,6 +44,7 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 public final class LanternStatusHelper {
@@ -46,6 +54,8 @@ public final class LanternStatusHelper {
      */
     private static final int DEFAULT_MAX_PLAYERS_DISPLAYED = 12;
 
+    private static final Gson GSON = new Gson();
+
     public static ClientPingServerEvent.Response.Players createPlayers(LanternServer server) {
         // Get the online players
         final Collection<LanternPlayer> players = server.getRawOnlinePlayers();
@@ -72,6 +82,63 @@ public static ClientPingServerEvent.Response.Players createPlayers(LanternServer
         return SpongeEventFactory.createClientPingServerEventResponsePlayers(gameProfiles, max, online);
     }
 
+    /**
+     * Creates the json that is send to the client for the given
+     * {@link ClientPingServerEvent.Response}.
+     *
+     * @param response The response
+     * @return The json
+     */
+    public static String createStatusJson(ClientPingServerEvent.Response response) {
+        final JsonObject rootObject = new JsonObject();
+        final JsonObject versionObject = new JsonObject();
+
+        checkState(response.getVersion() instanceof LanternMinecraftVersion);
+        final LanternMinecraftVersion serverVersion = (LanternMinecraftVersion) response.getVersion();
+        versionObject.addProperty("name", serverVersion.getName());
+        versionObject.addProperty("protocol", serverVersion.getProtocol());
+
+        final ClientPingServerEvent.Response.Players players = response.getPlayers().orElse(null);
+        if (players != null) {
+            final JsonObject playersObject = new JsonObject();
+            playersObject.addProperty("max", players.getMax());
+            playersObject.addProperty("online", players.getOnline());
+
+            final List<GameProfile> profiles = players.getProfiles();
+            if (!profiles.isEmpty()) {
+                final JsonArray array = new JsonArray();
+                for (GameProfile profile : profiles) {
+                    final Optional<String> optName = profile.getName();
+                    if (!optName.isPresent()) {
+                        continue;
+                    }
+                    final JsonObject profileObject = new JsonObject();
+                    profileObject.addProperty("name", optName.get());
+                    profileObject.addProperty("id", profile.getUniqueId().toString());
+                    array.add(profileObject);
+                }
+                playersObject.add("sample", array);
+            }
+            rootObject.add("players", playersObject);
+        }
+
+        rootObject.add("version", versionObject);
+        rootObject.add("description", JsonTextSerializer.getGson().toJsonTree(response.getDescription()));
+
+        response.getFavicon().ifPresent(icon -> rootObject.addProperty("favicon", ((LanternFavicon) icon).getEncoded()));
+
+        final JsonObject fmlObject = new JsonObject();
+        // Trick the client that the server is fml, we support fml channels anyway
+        fmlObject.addProperty("type", "FML");
+        // The client shouldn't know the plugins (mods) list
+        fmlObject.add("modList", new JsonArray());
+
+        // Add the fml info
+        rootObject.add("modinfo", fmlObject);
+
+        return GSON.toJson(rootObject);
+    }
+
     private LanternStatusHelper() {
     }
 }
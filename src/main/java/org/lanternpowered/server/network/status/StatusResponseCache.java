@@ -0,0 +1,301 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.network.status;
+
+import com.google.common.collect.ImmutableList;
+import org.lanternpowered.server.LanternServer;
+import org.lanternpowered.server.entity.living.player.LanternPlayer;
+import org.lanternpowered.server.game.Lantern;
+import org.lanternpowered.server.network.vanilla.message.type.status.MessageStatusOutResponse;
+import org.spongepowered.api.MinecraftVersion;
+import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.event.server.ClientPingServerEvent;
+import org.spongepowered.api.network.status.Favicon;
+import org.spongepowered.api.profile.GameProfile;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.world.World;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+/**
+ * A cache for the status of the server that is shared by the server list pings
+ * and the query responses. A cached {@link Entry} expires after the configured
+ * duration and is invalidated directly when a player joins or leaves the server,
+ * or when the message of the day or the favicon are changed.
+ */
+public final class StatusResponseCache {
+
+    private final LanternServer server;
+
+    @Nullable private volatile Entry entry;
+
+    public StatusResponseCache(LanternServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Invalidates the current {@link Entry}.
+     */
+    public void invalidate() {
+        this.entry = null;
+    }
+
+    /**
+     * Gets the current {@link Entry}, a new one will be
+     * created if the previous one expired or was invalidated.
+     *
+     * @return The entry
+     */
+    public Entry getEntry() {
+        final Text motd = this.server.getMotd();
+        final Favicon favicon = this.server.getFavicon().orElse(null);
+        final long time = System.nanoTime();
+
+        Entry entry = this.entry;
+        if (entry == null || time >= entry.expirationTime ||
+                entry.description != motd || entry.favicon != favicon) {
+            final long duration = TimeUnit.MILLISECONDS.toNanos(Lantern.getGame().getGlobalConfig().getStatusCacheDuration());
+            entry = new Entry(this.server, time + duration, motd, favicon);
+            this.entry = entry;
+        }
+        return entry;
+    }
+
+    public static final class Entry {
+
+        private final long expirationTime;
+
+        private final MinecraftVersion version;
+        private final Text description;
+        @Nullable private final Favicon favicon;
+
+        private final int online;
+        private final int max;
+        private final List<GameProfile> profiles;
+
+        private final List<String> playerNames;
+        private final String plainDescription;
+        private final String worldName;
+
+        // The message of the unmodified response, built lazily
+        @Nullable private volatile MessageStatusOutResponse responseMessage;
+        // The message that resulted from the ping event, only used
+        // if the event is only posted when the cache is missed
+        @Nullable private volatile MessageStatusOutResponse eventResponseMessage;
+        // Whether the ping event was posted for this entry, the event
+        // response message is null if the event was cancelled
+        private volatile boolean eventPosted;
+
+        // The encoded query responses, only used if the event is
+        // only posted when the cache is missed
+        @Nullable private volatile byte[] basicQueryResponse;
+        @Nullable private volatile byte[] fullQueryResponse;
+
+        private Entry(LanternServer server, long expirationTime, Text description, @Nullable Favicon favicon) {
+            this.expirationTime = expirationTime;
+            this.version = Lantern.getGame().getPlatform().getMinecraftVersion();
+            this.description = description;
+            this.favicon = favicon;
+
+            final ClientPingServerEvent.Response.Players players = LanternStatusHelper.createPlayers(server);
+            this.online = players.getOnline();
+            this.max = players.getMax();
+            this.profiles = ImmutableList.copyOf(players.getProfiles());
+
+            final Collection<LanternPlayer> onlinePlayers = server.getRawOnlinePlayers();
+            final ImmutableList.Builder<String> playerNames = ImmutableList.builder();
+            for (LanternPlayer player : onlinePlayers) {
+                playerNames.add(player.getName());
+            }
+            this.playerNames = playerNames.build();
+            this.plainDescription = description.toPlain();
+
+            final Collection<World> worlds = server.getWorlds();
+            this.worldName = worlds.isEmpty() ? "none" : worlds.iterator().next().getName();
+        }
+
+        /**
+         * Creates a new {@link LanternStatusResponse} from the
+         * cached data that can be passed through the ping event.
+         *
+         * @return The status response
+         */
+        public LanternStatusResponse createResponse() {
+            final ClientPingServerEvent.Response.Players players = SpongeEventFactory.createClientPingServerEventResponsePlayers(
+                    new ArrayList<>(this.profiles), this.max, this.online);
+            return new LanternStatusResponse(this.version, Optional.ofNullable(this.favicon), this.description, players);
+        }
+
+        /**
+         * Gets the {@link MessageStatusOutResponse} for the given {@link LanternStatusResponse}, the
+         * cached message will be reused if the response wasn't modified by the ping event.
+         *
+         * @param response The status response
+         * @return The status response message
+         */
+        public MessageStatusOutResponse getResponseMessage(LanternStatusResponse response) {
+            if (!isUnmodified(response)) {
+                return new MessageStatusOutResponse(LanternStatusHelper.createStatusJson(response));
+            }
+            MessageStatusOutResponse responseMessage = this.responseMessage;
+            if (responseMessage == null) {
+                this.responseMessage = responseMessage = new MessageStatusOutResponse(LanternStatusHelper.createStatusJson(response));
+            }
+            return responseMessage;
+        }
+
+        private boolean isUnmodified(LanternStatusResponse response) {
+            if (response.getVersion() != this.version || response.getDescription() != this.description ||
+                    response.getFavicon().orElse(null) != this.favicon) {
+                return false;
+            }
+            final ClientPingServerEvent.Response.Players players = response.getPlayers().orElse(null);
+            return players != null && players.getOnline() == this.online && players.getMax() == this.max &&
+                    players.getProfiles().equals(this.profiles);
+        }
+
+        /**
+         * Gets whether the outcome of the ping event was
+         * already recorded for this entry.
+         *
+         * @return Whether the event outcome is available
+         */
+        public boolean hasEventResult() {
+            return this.eventPosted;
+        }
+
+        /**
+         * Gets the {@link MessageStatusOutResponse} that resulted from the ping
+         * event, {@code null} if the event was cancelled or not posted yet.
+         *
+         * @return The status response message
+         */
+        @Nullable
+        public MessageStatusOutResponse getEventResponseMessage() {
+            return this.eventResponseMessage;
+        }
+
+        /**
+         * Sets the outcome of the ping event, it will be reused for the
+         * lifetime of this entry.
+         *
+         * @param responseMessage The status response message, or {@code null} if the event was cancelled
+         */
+        public void setEventResult(@Nullable MessageStatusOutResponse responseMessage) {
+            this.eventResponseMessage = responseMessage;
+            this.eventPosted = true;
+        }
+
+        /**
+         * Gets the amount of online players.
+         *
+         * @return The online players
+         */
+        public int getOnlinePlayers() {
+            return this.online;
+        }
+
+        /**
+         * Gets the maximum amount of players.
+         *
+         * @return The maximum players
+         */
+        public int getMaxPlayers() {
+            return this.max;
+        }
+
+        /**
+         * Gets the names of all the online players.
+         *
+         * @return The player names
+         */
+        public List<String> getPlayerNames() {
+            return this.playerNames;
+        }
+
+        /**
+         * Gets the message of the day as plain text.
+         *
+         * @return The plain message of the day
+         */
+        public String getPlainDescription() {
+            return this.plainDescription;
+        }
+
+        /**
+         * Gets the name of the default world.
+         *
+         * @return The world name
+         */
+        public String getWorldName() {
+            return this.worldName;
+        }
+
+        /**
+         * Gets the encoded basic query response, without the session id.
+         *
+         * @return The basic query response
+         */
+        @Nullable
+        public byte[] getBasicQueryResponse() {
+            return this.basicQueryResponse;
+        }
+
+        /**
+         * Sets the encoded basic query response, without the session id.
+         *
+         * @param basicQueryResponse The basic query response
+         */
+        public void setBasicQueryResponse(byte[] basicQueryResponse) {
+            this.basicQueryResponse = basicQueryResponse;
+        }
+
+        /**
+         * Gets the encoded full query response, without the session id.
+         *
+         * @return The full query response
+         */
+        @Nullable
+        public byte[] getFullQueryResponse() {
+            return this.fullQueryResponse;
+        }
+
+        /**
+         * Sets the encoded full query response, without the session id.
+         *
+         * @param fullQueryResponse The full query response
+         */
+        public void setFullQueryResponse(byte[] fullQueryResponse) {
+            this.fullQueryResponse = fullQueryResponse;
+        }
+    }
+}
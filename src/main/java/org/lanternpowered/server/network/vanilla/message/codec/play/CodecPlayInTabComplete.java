@@ -27,6 +27,7 @@
 
 import com.flowpowered.math.vector.Vector3i;
 import io.netty.handler.codec.CodecException;
+import io.netty.util.AttributeKey;
 import org.lanternpowered.server.network.buffer.ByteBuffer;
 import org.lanternpowered.server.network.message.codec.Codec;
 import org.lanternpowered.server.network.message.codec.CodecContext;
@@ -34,6 +35,13 @@
 
 public final class CodecPlayInTabComplete implements Codec<MessagePlayInTabComplete> {
 
+    /**
+     * The sequence number of the latest tab complete request of a client. The
+     * numbers are assigned while decoding, so they follow the order in which
+     * the requests were received, even if they are handled concurrently.
+     */
+    public static final AttributeKey<Long> SEQUENCE = AttributeKey.valueOf("tab-complete-sequence");
+
     @Override
     public MessagePlayInTabComplete decode(CodecContext context, ByteBuffer buf) throws CodecException {
         String text = buf.readString();
@@ -42,6 +50,9 @@ public MessagePlayInTabComplete decode(CodecContext context, ByteBuffer buf) thr
         if (buf.readBoolean()) {
             blockPosition = buf.readVector3i();
         }
-        return new MessagePlayInTabComplete(text, assumeCommand, blockPosition);
+        final Long lastSequence = context.getChannel().attr(SEQUENCE).get();
+        final long sequence = lastSequence == null ? 0 : lastSequence + 1;
+        context.getChannel().attr(SEQUENCE).set(sequence);
+        return new MessagePlayInTabComplete(text, assumeCommand, blockPosition, sequence);
     }
 }
@@ -25,16 +25,12 @@
  */
 package org.lanternpowered.server.network.vanilla.message.codec.play;
 
-import com.flowpowered.math.vector.Vector3i;
 import io.netty.handler.codec.CodecException;
 import org.lanternpowered.server.network.buffer.ByteBuffer;
 import org.lanternpowered.server.network.message.codec.Codec;
 import org.lanternpowered.server.network.message.codec.CodecContext;
-import org.lanternpowered.server.network.vanilla.message.type.play.MessagePlayOutBlockChange;
 import org.lanternpowered.server.network.vanilla.message.type.play.MessagePlayOutMultiBlockChange;
 
-import java.util.Collection;
-
 public final class CodecPlayOutMultiBlockChange implements Codec<MessagePlayOutMultiBlockChange> {
 
     @Override
@@ -42,13 +38,15 @@ public ByteBuffer encode(CodecContext context, MessagePlayOutMultiBlockChange me
         ByteBuffer buf = context.byteBufAlloc().buffer();
         buf.writeInteger(message.getChunkX());
         buf.writeInteger(message.getChunkZ());
-        Collection<MessagePlayOutBlockChange> changes = message.getChanges();
-        buf.writeVarInt(changes.size());
-        for (MessagePlayOutBlockChange change : changes) {
-            Vector3i position = change.getPosition();
-            buf.writeByte((byte) ((position.getX() & 0xf) << 4 | position.getZ() & 0xf));
-            buf.writeByte((byte) position.getY());
-            buf.writeVarInt(change.getBlockState());
+        final short[] positions = message.getPositions();
+        final int[] blockStates = message.getBlockStates();
+        buf.writeVarInt(positions.length);
+        for (int i = 0; i < positions.length; i++) {
+            final int position = positions[i] & 0xffff;
+            // Swap the x and z coordinates into the protocol order
+            buf.writeByte((byte) ((position & 0xf) << 4 | (position >> 4) & 0xf));
+            buf.writeByte((byte) (position >> 8));
+            buf.writeVarInt(blockStates[i]);
         }
         return buf;
     }
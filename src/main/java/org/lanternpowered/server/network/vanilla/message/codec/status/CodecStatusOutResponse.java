@@ -35,6 +35,7 @@ public final class CodecStatusOutResponse implements Codec<MessageStatusOutRespo
 
     @Override
     public ByteBuffer encode(CodecContext context, MessageStatusOutResponse message) throws CodecException {
-        return context.byteBufAlloc().buffer().writeString(message.getResponse());
+        final byte[] response = message.getEncodedResponse();
+        return context.byteBufAlloc().buffer(5 + response.length).writeByteArray(response);
     }
 }
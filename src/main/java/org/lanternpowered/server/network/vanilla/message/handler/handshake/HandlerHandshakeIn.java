@@ -27,6 +27,8 @@
 
 import static org.lanternpowered.server.text.translation.TranslationHelper.t;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import com.google.gson.Gson;
@@ -44,18 +46,27 @@
 import org.lanternpowered.server.network.vanilla.message.type.handshake.MessageHandshakeIn;
 import org.lanternpowered.server.profile.LanternGameProfile;
 import org.lanternpowered.server.profile.LanternProfileProperty;
+import org.lanternpowered.server.util.TokenBucket;
 import org.lanternpowered.server.util.UUIDHelper;
 import org.spongepowered.api.profile.property.ProfileProperty;
 
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 public final class HandlerHandshakeIn implements Handler<MessageHandshakeIn> {
 
     private static final String FML_MARKER = "\0FML\0";
     private static final Gson GSON = new Gson();
 
+    // The buckets that limit the status requests per ip address
+    private final LoadingCache<InetAddress, TokenBucket> pingBuckets = Caffeine.newBuilder()
+            .expireAfterAccess(1, TimeUnit.MINUTES)
+            .build(address -> new TokenBucket(Lantern.getGame().getGlobalConfig().getStatusPingBurst(),
+                    Lantern.getGame().getGlobalConfig().getStatusPingsPerSecond(), System.nanoTime()));
+
     @NettyThreadOnly
     @Override
     public void handle(NetworkContext context, MessageHandshakeIn message) {
@@ -74,6 +85,12 @@ public void handle(NetworkContext context, MessageHandshakeIn message) {
         }
 
         final ProxyType proxyType = Lantern.getGame().getGlobalConfig().getProxyType();
+        // Limit the status requests, the address is the one of the proxy if one is being used
+        if (nextState == ProtocolState.STATUS && proxyType == ProxyType.NONE && !tryAcquirePing(session)) {
+            session.getChannel().close();
+            return;
+        }
+
         String hostname = message.getHostname();
         InetSocketAddress virtualAddress;
 
@@ -177,4 +194,11 @@ public void handle(NetworkContext context, MessageHandshakeIn message) {
         }
     }
 
+    private boolean tryAcquirePing(NetworkSession session) {
+        if (Lantern.getGame().getGlobalConfig().getStatusPingsPerSecond() <= 0.0) {
+            return true;
+        }
+        final TokenBucket bucket = this.pingBuckets.get(session.getAddress().getAddress());
+        return bucket.tryAcquire();
+    }
 }
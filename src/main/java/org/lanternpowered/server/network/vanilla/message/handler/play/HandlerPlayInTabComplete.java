@@ -28,12 +28,14 @@
 import com.google.common.collect.ImmutableList;
 import org.apache.commons.lang3.StringUtils;
 import org.lanternpowered.server.command.LanternCommandManager;
+import org.lanternpowered.server.game.Lantern;
+import org.lanternpowered.server.network.AsyncHandled;
 import org.lanternpowered.server.network.NetworkContext;
 import org.lanternpowered.server.network.message.handler.Handler;
+import org.lanternpowered.server.network.vanilla.message.codec.play.CodecPlayInTabComplete;
 import org.lanternpowered.server.network.vanilla.message.type.play.MessagePlayInTabComplete;
 import org.lanternpowered.server.network.vanilla.message.type.play.MessagePlayOutTabComplete;
 import org.spongepowered.api.Sponge;
-import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.cause.Cause;
@@ -42,23 +44,50 @@
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
+/**
+ * Handles the tab complete requests of the clients. Completing can be expensive, so the
+ * requests are handled on a async thread, this means that the command elements and
+ * {@link TabCompleteEvent}s that are triggered by the completion are called off the
+ * main thread. Completions of requests that are older than the latest request of the
+ * client are dropped, they would otherwise overwrite the newer suggestions.
+ */
 public final class HandlerPlayInTabComplete implements Handler<MessagePlayInTabComplete> {
 
+    @AsyncHandled
     @Override
     public void handle(NetworkContext context, MessagePlayInTabComplete message) {
+        if (isStale(context, message)) {
+            return;
+        }
+        final Player player = context.getSession().getPlayer();
+        final Location<World> targetBlock = message.getBlockPosition()
+                .map(pos -> new Location<>(player.getWorld(), pos)).orElse(null);
+        final List<String> suggestions = complete(context, message, player, targetBlock);
+        // Only send the suggestions if the client didn't request newer ones
+        if (suggestions != null && !isStale(context, message)) {
+            context.getSession().send(new MessagePlayOutTabComplete(suggestions));
+        }
+    }
+
+    private static boolean isStale(NetworkContext context, MessagePlayInTabComplete message) {
+        final Long sequence = context.getChannel().attr(CodecPlayInTabComplete.SEQUENCE).get();
+        return sequence != null && sequence != message.getSequence();
+    }
+
+    @Nullable
+    private static List<String> complete(NetworkContext context, MessagePlayInTabComplete message,
+            Player player, @Nullable Location<World> targetBlock) {
         final String text = message.getText();
         // The content with normalized spaces, the spaces are trimmed
         // from the ends and there are never two spaces directly after eachother
         final String textNormalized = StringUtils.normalizeSpace(text);
 
-        final Player player = context.getSession().getPlayer();
-        final Location<World> targetBlock = message.getBlockPosition()
-                .map(pos -> new Location<>(player.getWorld(), pos)).orElse(null);
-
         final boolean hasPrefix = textNormalized.startsWith("/");
         if (hasPrefix || message.getAssumeCommand()) {
             String command = textNormalized;
@@ -84,7 +113,7 @@ public void handle(NetworkContext context, MessagePlayInTabComplete message) {
                         .collect(ImmutableList.toImmutableList());
             }
 
-            context.getSession().send(new MessagePlayOutTabComplete(suggestions));
+            return suggestions;
         } else {
             // Vanilla mc will complete user names if
             // no command is being completed
@@ -96,19 +125,16 @@ public void handle(NetworkContext context, MessagePlayInTabComplete message) {
                 part = text.substring(index + 1);
             }
             if (part.isEmpty()) {
-                return;
+                return null;
             }
-            final String part1 = part.toLowerCase();
-            final List<String> suggestions = Sponge.getServer().getOnlinePlayers().stream()
-                    .map(CommandSource::getName)
-                    .filter(n -> n.toLowerCase().startsWith(part1))
-                    .collect(Collectors.toList());
+            final List<String> suggestions = new ArrayList<>(Lantern.getServer().getPlayerNameIndex().getMatches(part));
             final Cause cause = Cause.of(EventContext.empty(), context.getSession().getPlayer());
             final TabCompleteEvent.Chat event = SpongeEventFactory.createTabCompleteEventChat(
                     cause, ImmutableList.copyOf(suggestions), suggestions, text, Optional.ofNullable(targetBlock), false);
-            if (!Sponge.getEventManager().post(event)) {
-                context.getSession().send(new MessagePlayOutTabComplete(suggestions));
+            if (Sponge.getEventManager().post(event)) {
+                return null;
             }
+            return suggestions;
         }
     }
 }
@@ -37,9 +37,11 @@ public final class MessagePlayInTabComplete implements Message {
     private final String text;
     private final boolean assumeCommand;
     private final Optional<Vector3i> blockPosition;
+    private final long sequence;
 
-    public MessagePlayInTabComplete(String text, boolean assumeCommand, @Nullable Vector3i blockPosition) {
+    public MessagePlayInTabComplete(String text, boolean assumeCommand, @Nullable Vector3i blockPosition, long sequence) {
         this.blockPosition = Optional.ofNullable(blockPosition);
+        this.sequence = sequence;
         this.assumeCommand = assumeCommand;
         this.text = text;
     }
@@ -55,4 +57,14 @@ public boolean getAssumeCommand() {
     public String getText() {
         return this.text;
     }
+
+    /**
+     * Gets the sequence number of this request, it increases
+     * with every tab complete request of the same client.
+     *
+     * @return The sequence number
+     */
+    public long getSequence() {
+        return this.sequence;
+    }
 }
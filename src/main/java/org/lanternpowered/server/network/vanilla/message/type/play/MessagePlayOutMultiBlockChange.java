@@ -27,17 +27,25 @@
 
 import org.lanternpowered.server.network.message.Message;
 
-import java.util.Collection;
-
 public final class MessagePlayOutMultiBlockChange implements Message {
 
     private final int chunkX;
     private final int chunkZ;
 
-    private final Collection<MessagePlayOutBlockChange> changes;
+    private final short[] positions;
+    private final int[] blockStates;
 
-    public MessagePlayOutMultiBlockChange(int chunkX, int chunkZ, Collection<MessagePlayOutBlockChange> changes) {
-        this.changes = changes;
+    /**
+     * Creates a new multi block change message.
+     *
+     * @param chunkX The x coordinate of the chunk
+     * @param chunkZ The z coordinate of the chunk
+     * @param positions The chunk local positions of the changes, packed as {@code (y << 8) | (z << 4) | x}
+     * @param blockStates The block states, at the same index as their position
+     */
+    public MessagePlayOutMultiBlockChange(int chunkX, int chunkZ, short[] positions, int[] blockStates) {
+        this.positions = positions;
+        this.blockStates = blockStates;
         this.chunkX = chunkX;
         this.chunkZ = chunkZ;
     }
@@ -50,7 +58,11 @@ public int getChunkZ() {
         return this.chunkZ;
     }
 
-    public Collection<MessagePlayOutBlockChange> getChanges() {
-        return this.changes;
+    public short[] getPositions() {
+        return this.positions;
+    }
+
+    public int[] getBlockStates() {
+        return this.blockStates;
     }
 }
@@ -29,10 +29,18 @@
 
 import org.lanternpowered.server.network.message.Message;
 
+import java.nio.charset.StandardCharsets;
+
+import javax.annotation.Nullable;
+
 public final class MessageStatusOutResponse implements Message {
 
     private final String response;
 
+    // The utf-8 encoded response, cached so that shared
+    // response messages only need to be encoded once
+    @Nullable private volatile byte[] encodedResponse;
+
     /**
      * Creates a status response.
      * 
@@ -51,4 +59,17 @@ public String getResponse() {
         return this.response;
     }
 
+    /**
+     * Gets the utf-8 encoded json response.
+     *
+     * @return The encoded json response
+     */
+    public byte[] getEncodedResponse() {
+        byte[] encodedResponse = this.encodedResponse;
+        if (encodedResponse == null) {
+            this.encodedResponse = encodedResponse = this.response.getBytes(StandardCharsets.UTF_8);
+        }
+        return encodedResponse;
+    }
+
 }
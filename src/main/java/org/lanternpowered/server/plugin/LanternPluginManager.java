@@ -118,6 +118,8 @@ public void loadPlugins(boolean scanClasspath) throws IOException {
             Files.createDirectories(this.pluginsFolder);
         }
 
+        pluginScanner.saveIndex();
+
         final Map<String, PluginCandidate> plugins = pluginScanner.getPlugins();
         this.logger.info("{} plugin(s) found", plugins.size());
 
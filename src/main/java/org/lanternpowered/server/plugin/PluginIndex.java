@@ -0,0 +1,165 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.plugin;
+
+import com.google.common.collect.ImmutableList;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import org.lanternpowered.server.game.Lantern;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * A index that remembers which classes within a plugin jar are plugin
+ * classes, jars that didn't change since they were indexed (same path,
+ * size and modification time) don't have to be scanned again.
+ */
+final class PluginIndex {
+
+    private static final int VERSION = 1;
+    private static final Gson GSON = new Gson();
+
+    private final Path file;
+    // The entries that were loaded from the index file
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // The entries that were requested or updated during this session,
+    // jars that are no longer present will be removed from the index
+    private final Map<String, Entry> usedEntries = new ConcurrentHashMap<>();
+    private volatile boolean dirty;
+
+    private PluginIndex(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Loads the {@link PluginIndex} from the given file.
+     *
+     * @param file The index file
+     * @return The plugin index
+     */
+    static PluginIndex load(Path file) {
+        final PluginIndex index = new PluginIndex(file);
+        if (Files.exists(file)) {
+            try (BufferedReader reader = Files.newBufferedReader(file)) {
+                final Root root = GSON.fromJson(reader, Root.class);
+                if (root != null && root.version == VERSION && root.jars != null) {
+                    for (Entry entry : root.jars) {
+                        if (entry.path != null && entry.plugins != null) {
+                            index.entries.put(entry.path, entry);
+                        }
+                    }
+                }
+            } catch (IOException | JsonParseException e) {
+                Lantern.getLogger().warn("Failed to read the plugin index, all the plugins will be scanned.", e);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Gets the plugin classes of the jar if the jar didn't change.
+     *
+     * @param jar The jar file
+     * @param size The size of the jar file
+     * @param lastModified The last modification time of the jar file
+     * @return The plugin class names, or null if the jar has to be scanned
+     */
+    @Nullable
+    List<String> get(Path jar, long size, long lastModified) {
+        final String path = jar.toAbsolutePath().toString();
+        final Entry entry = this.entries.get(path);
+        if (entry == null || entry.size != size || entry.lastModified != lastModified) {
+            return null;
+        }
+        this.usedEntries.put(path, entry);
+        return ImmutableList.copyOf(entry.plugins);
+    }
+
+    /**
+     * Puts the plugin classes of the jar.
+     *
+     * @param jar The jar file
+     * @param size The size of the jar file
+     * @param lastModified The last modification time of the jar file
+     * @param plugins The plugin class names
+     */
+    void put(Path jar, long size, long lastModified, List<String> plugins) {
+        final Entry entry = new Entry();
+        entry.path = jar.toAbsolutePath().toString();
+        entry.size = size;
+        entry.lastModified = lastModified;
+        entry.plugins = new ArrayList<>(plugins);
+        this.usedEntries.put(entry.path, entry);
+        this.dirty = true;
+    }
+
+    /**
+     * Saves the index if it was modified or if jars were removed.
+     */
+    void save() {
+        if (!this.dirty && this.usedEntries.keySet().equals(this.entries.keySet())) {
+            return;
+        }
+        final Root root = new Root();
+        root.version = VERSION;
+        root.jars = new ArrayList<>(this.usedEntries.values());
+        try {
+            final Path parent = this.file.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(this.file)) {
+                GSON.toJson(root, writer);
+            }
+        } catch (IOException e) {
+            Lantern.getLogger().warn("Failed to write the plugin index.", e);
+        }
+    }
+
+    private static final class Root {
+
+        private int version;
+        @Nullable private List<Entry> jars;
+    }
+
+    private static final class Entry {
+
+        @Nullable private String path;
+        private long size;
+        private long lastModified;
+        @Nullable private List<String> plugins;
+    }
+}
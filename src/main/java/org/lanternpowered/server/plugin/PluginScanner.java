@@ -27,7 +27,10 @@
 
 import static org.spongepowered.api.plugin.Plugin.ID_PATTERN;
 
+import com.google.common.io.ByteStreams;
+import org.lanternpowered.server.game.DirectoryKeys;
 import org.lanternpowered.server.game.Lantern;
+import org.lanternpowered.server.plugin.asm.ClassConstantPool;
 import org.lanternpowered.server.plugin.asm.PluginClassVisitor;
 import org.objectweb.asm.ClassReader;
 import org.slf4j.Logger;
@@ -41,6 +44,7 @@
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.DirectoryStream;
 import java.nio.file.FileVisitOption;
 import java.nio.file.FileVisitResult;
@@ -61,6 +65,7 @@
 import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
 import java.util.jar.Manifest;
+import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 
 import javax.annotation.Nullable;
@@ -79,20 +84,32 @@ final class PluginScanner {
 
     private static final String METADATA_FILE = McModInfo.STANDARD_FILENAME;
 
+    private static final byte[] PLUGIN_DESCRIPTOR = PluginClassVisitor.PLUGIN_DESCRIPTOR.getBytes(StandardCharsets.UTF_8);
+
     private static final String JAVA_HOME = System.getProperty("java.home");
     private static final Logger logger = Lantern.getLogger();
 
     private final Map<String, PluginCandidate> plugins = new HashMap<>();
     private final Set<String> pluginClasses = new HashSet<>();
 
+    private final PluginIndex index = PluginIndex.load(DirectoryKeys.DefaultValues.CACHE.resolve("plugin-index.json"));
+
     @Nullable private FileVisitor<Path> classFileVisitor;
 
     public Map<String, PluginCandidate> getPlugins() {
         return this.plugins;
     }
 
+    /**
+     * Saves the index of the scanned plugin jars.
+     */
+    void saveIndex() {
+        this.index.save();
+    }
+
     void scanClassPath(URLClassLoader loader) {
         final Set<URI> sources = new HashSet<>();
+        final List<Path> jars = new ArrayList<>();
 
         for (URL url : loader.getURLs()) {
             if (!url.getProtocol().equals("file")) {
@@ -119,11 +136,13 @@ void scanClassPath(URLClassLoader loader) {
                     if (Files.isDirectory(path)) {
                         scanClasspathDirectory(path);
                     } else if (JAR_FILE.matches(path)) {
-                        scanJar(path, true);
+                        jars.add(path);
                     }
                 }
             }
         }
+
+        scanJars(jars, true);
     }
 
     private void scanClasspathDirectory(Path dir) {
@@ -142,8 +161,8 @@ private void scanClasspathDirectory(Path dir) {
 
     private void visitClasspathFile(Path path) {
         if (CLASS_FILE.matches(path)) {
-            try (InputStream in = Files.newInputStream(path)) {
-                final PluginCandidate candidate = scanClassFile(in, null);
+            try {
+                final PluginCandidate candidate = scanClassFile(Files.readAllBytes(path), null);
                 if (candidate != null) {
                     addCandidate(candidate);
                 }
@@ -163,18 +182,124 @@ public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
     }
 
     void scanDirectory(Path path) {
+        final List<Path> jars = new ArrayList<>();
         try (DirectoryStream<Path> dir = Files.newDirectoryStream(path, JAR_FILTER)) {
             for (Path jar : dir) {
-                scanJar(jar, false);
+                jars.add(jar);
             }
         } catch (IOException e) {
             logger.error("Failed to search for plugins in {}", path, e);
         }
+
+        scanJars(jars, false);
+    }
+
+    private void scanJars(List<Path> jars, boolean classpath) {
+        // Scan the jars in parallel, the candidates are still added in the original order
+        final List<JarScanResult> results = jars.parallelStream()
+                .map(jar -> scanJar(jar, classpath))
+                .collect(Collectors.toList());
+        for (JarScanResult result : results) {
+            if (result != null) {
+                addCandidates(result);
+            }
+        }
+    }
+
+    private static final class JarScanResult {
+
+        private final Path path;
+        private final boolean classpath;
+        private final List<PluginCandidate> candidates;
+        @Nullable private final List<PluginMetadata> metadata;
+
+        private JarScanResult(Path path, boolean classpath,
+                List<PluginCandidate> candidates, @Nullable List<PluginMetadata> metadata) {
+            this.path = path;
+            this.classpath = classpath;
+            this.candidates = candidates;
+            this.metadata = metadata;
+        }
     }
 
-    private void scanJar(Path path, boolean classpath) {
+    @Nullable
+    private JarScanResult scanJar(Path path, boolean classpath) {
         logger.trace("Scanning {} for plugins", path);
 
+        final long size;
+        final long lastModified;
+        try {
+            size = Files.size(path);
+            lastModified = Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            logger.error("Failed to scan plugin JAR: {}", path, e);
+            return null;
+        }
+
+        // Try to use the indexed plugin classes first
+        final List<String> pluginClasses = this.index.get(path, size, lastModified);
+        if (pluginClasses != null) {
+            final JarScanResult result = scanIndexedJar(path, classpath, pluginClasses);
+            if (result != null) {
+                return result;
+            }
+        }
+
+        final JarScanResult result = scanFullJar(path, classpath);
+        if (result != null) {
+            this.index.put(path, size, lastModified, result.candidates.stream()
+                    .map(PluginCandidate::getPluginClass)
+                    .collect(Collectors.toList()));
+        }
+        return result;
+    }
+
+    /**
+     * Only scans the indexed plugin classes of the jar, {@code null} will be
+     * returned if the jar should be scanned completely.
+     */
+    @Nullable
+    private JarScanResult scanIndexedJar(Path path, boolean classpath, List<String> pluginClasses) {
+        final List<PluginCandidate> candidates = new ArrayList<>();
+        List<PluginMetadata> metadata = null;
+
+        try (JarFile jarFile = new JarFile(path.toFile())) {
+            if (jarFile.getManifest() == null && !classpath) {
+                logger.warn("Missing JAR manifest in {}", path);
+            }
+
+            final ZipEntry metadataEntry = jarFile.getEntry(METADATA_FILE);
+            if (metadataEntry != null) {
+                try (InputStream in = jarFile.getInputStream(metadataEntry)) {
+                    metadata = McModInfo.DEFAULT.read(in);
+                }
+            }
+
+            for (String pluginClass : pluginClasses) {
+                final ZipEntry entry = jarFile.getEntry(pluginClass.replace('.', '/') + CLASS_EXTENSION);
+                if (entry == null) {
+                    return null;
+                }
+                final byte[] bytes;
+                try (InputStream in = jarFile.getInputStream(entry)) {
+                    bytes = ByteStreams.toByteArray(in);
+                }
+                final PluginCandidate candidate = scanClassFile(bytes, path);
+                if (candidate == null) {
+                    return null;
+                }
+                candidates.add(candidate);
+            }
+        } catch (IOException e) {
+            // Let the full scan handle the errors
+            return null;
+        }
+
+        return new JarScanResult(path, classpath, candidates, metadata);
+    }
+
+    @Nullable
+    private JarScanResult scanFullJar(Path path, boolean classpath) {
         final List<PluginCandidate> candidates = new ArrayList<>();
         List<PluginMetadata> metadata = null;
 
@@ -182,7 +307,7 @@ private void scanJar(Path path, boolean classpath) {
         try (JarInputStream jar = new JarInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
             ZipEntry entry = jar.getNextEntry();
             if (entry == null) {
-                return;
+                return null;
             }
 
             Manifest manifest = jar.getManifest();
@@ -210,22 +335,30 @@ private void scanJar(Path path, boolean classpath) {
                             metadata = McModInfo.DEFAULT.read(jar);
                         } catch (IOException e) {
                             logger.error("Failed to read plugin metadata from " + METADATA_FILE + " in {}", path, e);
-                            return;
+                            return null;
                         }
                     }
                     continue;
                 }
 
-                final PluginCandidate candidate = scanClassFile(jar, path);
+                final PluginCandidate candidate = scanClassFile(ByteStreams.toByteArray(jar), path);
                 if (candidate != null) {
                     candidates.add(candidate);
                 }
             } while ((entry = jar.getNextEntry()) != null);
         } catch (IOException e) {
             logger.error("Failed to scan plugin JAR: {}", path, e);
-            return;
+            return null;
         }
 
+        return new JarScanResult(path, classpath, candidates, metadata);
+    }
+
+    private void addCandidates(JarScanResult result) {
+        final Path path = result.path;
+        final List<PluginCandidate> candidates = result.candidates;
+        final List<PluginMetadata> metadata = result.metadata;
+
         if (!candidates.isEmpty()) {
             boolean success = false;
 
@@ -255,7 +388,7 @@ private void scanJar(Path path, boolean classpath) {
                         + "This is not a problem when testing plugins, however it is recommended to include one in public plugins.\n"
                         + "Please see https://docs.spongepowered.org/master/en/plugin/plugin-meta.html for details.", path, METADATA_FILE);
             }
-        } else if (!classpath) {
+        } else if (!result.classpath) {
             logger.error("No valid plugins found in {}. Is the file actually a plugin JAR? Please keep in"
                     + "mind that Lantern can only load Sponge plugins.", path);
         }
@@ -285,8 +418,12 @@ private boolean addCandidate(PluginCandidate candidate) {
     }
 
     @Nullable
-    private PluginCandidate scanClassFile(InputStream in, @Nullable Path source) throws IOException {
-        final ClassReader reader = new ClassReader(in);
+    private PluginCandidate scanClassFile(byte[] classFile, @Nullable Path source) {
+        // Skip the classes that don't reference the plugin annotation, without parsing them
+        if (!ClassConstantPool.mayContainUtf8(classFile, classFile.length, PLUGIN_DESCRIPTOR)) {
+            return null;
+        }
+        final ClassReader reader = new ClassReader(classFile);
         final PluginClassVisitor visitor = new PluginClassVisitor();
 
         try {
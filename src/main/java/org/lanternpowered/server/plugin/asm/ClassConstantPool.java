@@ -0,0 +1,137 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.plugin.asm;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A utility to inspect the constant pool of a class file without
+ * parsing the complete class.
+ */
+public final class ClassConstantPool {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    /**
+     * Gets whether the constant pool of the class file contains the given utf-8 constant. This
+     * can be used to skip classes that can't reference something before they are fully parsed,
+     * for example annotation descriptors. If the class file cannot be understood, {@code true}
+     * will be returned so that the caller falls back to a full parse.
+     *
+     * @param classFile The class file bytes
+     * @param value The utf-8 constant, only ascii characters are supported
+     * @return Whether the constant may be present
+     */
+    public static boolean mayContainUtf8(byte[] classFile, String value) {
+        return mayContainUtf8(classFile, classFile.length, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Gets whether the constant pool of the class file contains the given utf-8 constant.
+     *
+     * @param classFile The class file bytes
+     * @param length The length of the class file
+     * @param value The utf-8 constant bytes
+     * @return Whether the constant may be present
+     * @see #mayContainUtf8(byte[], String)
+     */
+    public static boolean mayContainUtf8(byte[] classFile, int length, byte[] value) {
+        if (length < 10 || readInt(classFile, 0) != MAGIC) {
+            return true;
+        }
+        final int count = readUnsignedShort(classFile, 8);
+        int index = 10;
+        for (int i = 1; i < count; i++) {
+            if (index >= length) {
+                return true;
+            }
+            final int tag = classFile[index++];
+            switch (tag) {
+                case 1: // Utf8
+                    if (index + 2 > length) {
+                        return true;
+                    }
+                    final int size = readUnsignedShort(classFile, index);
+                    index += 2;
+                    if (size == value.length && index + size <= length && regionMatches(classFile, index, value)) {
+                        return true;
+                    }
+                    index += size;
+                    break;
+                case 7: // Class
+                case 8: // String
+                case 16: // MethodType
+                case 19: // Module
+                case 20: // Package
+                    index += 2;
+                    break;
+                case 15: // MethodHandle
+                    index += 3;
+                    break;
+                case 3: // Integer
+                case 4: // Float
+                case 9: // Fieldref
+                case 10: // Methodref
+                case 11: // InterfaceMethodref
+                case 12: // NameAndType
+                case 17: // Dynamic
+                case 18: // InvokeDynamic
+                    index += 4;
+                    break;
+                case 5: // Long
+                case 6: // Double
+                    index += 8;
+                    // Takes two entries
+                    i++;
+                    break;
+                default:
+                    // Unknown constant, let the caller decide
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean regionMatches(byte[] classFile, int index, byte[] value) {
+        for (int i = 0; i < value.length; i++) {
+            if (classFile[index + i] != value[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int readUnsignedShort(byte[] bytes, int index) {
+        return ((bytes[index] & 0xff) << 8) | (bytes[index + 1] & 0xff);
+    }
+
+    private static int readInt(byte[] bytes, int index) {
+        return (readUnsignedShort(bytes, index) << 16) | readUnsignedShort(bytes, index + 2);
+    }
+
+    private ClassConstantPool() {
+    }
+}
@@ -35,7 +35,7 @@
 
 public final class PluginClassVisitor extends ClassVisitor {
 
-    private static final String PLUGIN_DESCRIPTOR = "Lorg/spongepowered/api/plugin/Plugin;";
+    public static final String PLUGIN_DESCRIPTOR = "Lorg/spongepowered/api/plugin/Plugin;";
 
     private String className;
     @Nullable private PluginAnnotationVisitor annotationVisitor;
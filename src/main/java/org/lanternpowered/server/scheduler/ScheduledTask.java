@@ -26,6 +26,8 @@
 package org.lanternpowered.server.scheduler;
 
 import com.google.common.base.MoreObjects;
+import org.lanternpowered.server.timings.LanternTiming;
+import org.lanternpowered.server.timings.LanternTimingsFactory;
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.scheduler.Task;
 
@@ -33,6 +35,8 @@
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
+import javax.annotation.Nullable;
+
 /**
  * An internal representation of a {@link Task} created by a plugin.
  */
@@ -50,6 +54,7 @@ public class ScheduledTask implements Task {
     private final String name;
     final TaskSynchronicity syncType;
     private final String stringRepresentation;
+    @Nullable private LanternTiming timing;
 
     // Internal Task state. Not for user-service use.
     public enum ScheduledTaskState {
@@ -139,6 +144,22 @@ public Consumer<Task> getConsumer() {
         return this.executor;
     }
 
+    /**
+     * Gets the {@link LanternTiming} of this task. Timings are shared
+     * between the tasks with the same executor type, task names
+     * are generated per task and would never be reused.
+     *
+     * @return The timing
+     */
+    LanternTiming getTiming() {
+        LanternTiming timing = this.timing;
+        if (timing == null) {
+            final String name = "Task: " + this.executor.getClass().getName() + (isAsynchronous() ? " (async)" : "");
+            this.timing = timing = LanternTimingsFactory.get().of(this.owner.getId(), name, null, false);
+        }
+        return timing;
+    }
+
     @Override
     public UUID getUniqueId() {
         return this.id;
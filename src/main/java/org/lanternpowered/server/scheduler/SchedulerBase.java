@@ -26,6 +26,7 @@
 package org.lanternpowered.server.scheduler;
 
 import org.lanternpowered.server.game.Lantern;
+import org.lanternpowered.server.timings.LanternTiming;
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.scheduler.Task;
 
@@ -175,7 +176,7 @@ protected void processTask(ScheduledTask task) {
     protected void startTask(final ScheduledTask task) {
         executeTaskRunnable(task, () -> {
             task.setState(ScheduledTask.ScheduledTaskState.RUNNING);
-            try {
+            try (LanternTiming ignored = task.getTiming().startTiming()) {
                 task.getConsumer().accept(task);
             } catch (Throwable t) {
                 Lantern.getLogger().error("The Scheduler tried to run the task {} owned by {}, but an error occurred.",
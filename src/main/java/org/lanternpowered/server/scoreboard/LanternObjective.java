@@ -31,9 +31,6 @@
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
-import org.lanternpowered.server.network.message.Message;
-import org.lanternpowered.server.network.vanilla.message.type.play.MessagePlayOutScoreboardObjective;
-import org.lanternpowered.server.network.vanilla.message.type.play.MessagePlayOutScoreboardScore;
 import org.spongepowered.api.scoreboard.Score;
 import org.spongepowered.api.scoreboard.Scoreboard;
 import org.spongepowered.api.scoreboard.critieria.Criterion;
@@ -41,10 +38,8 @@
 import org.spongepowered.api.scoreboard.objective.displaymode.ObjectiveDisplayMode;
 import org.spongepowered.api.text.Text;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -94,12 +89,8 @@ public void setDisplayName(Text displayName) throws IllegalArgumentException {
     }
 
     private void sendObjectiveUpdate() {
-        if (!this.scoreboards.isEmpty()) {
-            final List<Message> message = Collections.singletonList(new MessagePlayOutScoreboardObjective.Update(
-                    this.name, this.displayName, this.displayMode));
-            for (Scoreboard scoreboard : this.scoreboards) {
-                ((LanternScoreboard) scoreboard).sendToPlayers(() -> message);
-            }
+        for (Scoreboard scoreboard : this.scoreboards) {
+            ((LanternScoreboard) scoreboard).queueChange(changes -> changes.addObjective(this.name, ScoreboardChanges.Type.UPDATE));
         }
     }
 
@@ -142,13 +133,9 @@ public void addScore(Score score) throws IllegalArgumentException {
         sendScoreToClient(score);
     }
 
-    private void sendScoreToClient(Score score) {
-        if (!this.scoreboards.isEmpty()) {
-            final List<Message> message = Collections.singletonList(new MessagePlayOutScoreboardScore.CreateOrUpdate(
-                    getName(), score.getName(), score.getScore()));
-            for (Scoreboard scoreboard : this.scoreboards) {
-                ((LanternScoreboard) scoreboard).sendToPlayers(() -> message);
-            }
+    void sendScoreToClient(Score score) {
+        for (Scoreboard scoreboard : this.scoreboards) {
+            ((LanternScoreboard) scoreboard).queueChange(changes -> changes.addScore(this.name, score.getName()));
         }
     }
 
@@ -166,28 +153,19 @@ public Score getOrCreateScore(Text name) {
     public boolean removeScore(Score score) {
         if (this.scores.remove(checkNotNull(score, "score").getName(), score)) {
             ((LanternScore) score).removeObjective(this);
-            updateClientAfterRemove(score);
+            sendScoreToClient(score);
             return true;
         }
         return false;
     }
 
-    private void updateClientAfterRemove(Score score) {
-        final Map<Objective, Message> messages = new HashMap<>();
-        for (Scoreboard scoreboard : this.scoreboards) {
-            ((LanternScoreboard) scoreboard).sendToPlayers(() -> Collections.singletonList(
-                    messages.computeIfAbsent(this, obj -> new MessagePlayOutScoreboardScore.Remove(
-                            getName(), score.getName()))));
-        }
-    }
-
     @Override
     public boolean removeScore(Text name) {
         checkNotNull(name, "name");
         final Score score = this.scores.remove(name);
         if (score != null) {
             ((LanternScore) score).removeObjective(this);
-            updateClientAfterRemove(score);
+            sendScoreToClient(score);
             return true;
         }
         return false;
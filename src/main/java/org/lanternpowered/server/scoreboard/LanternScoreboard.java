@@ -52,11 +52,13 @@
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Supplier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 
@@ -68,19 +70,81 @@ public class LanternScoreboard implements Scoreboard {
     private final Map<DisplaySlot, Objective> objectivesInSlot = new HashMap<>();
     private final Map<String, Team> teams = new HashMap<>();
 
-    void sendToPlayers(Supplier<List<Message>> messageSupplier) {
-        if (!this.players.isEmpty()) {
-            final List<Message> messages = messageSupplier.get();
-            this.players.forEach(player -> player.getConnection().send(messages));
+    /**
+     * All the scoreboards that have pending changes.
+     */
+    private static final Set<LanternScoreboard> dirtyScoreboards = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Flushes the pending changes of all the {@link LanternScoreboard}s, this
+     * should be called once at the end of every tick.
+     */
+    public static void flushAll() {
+        if (dirtyScoreboards.isEmpty()) {
+            return;
+        }
+        final Iterator<LanternScoreboard> it = dirtyScoreboards.iterator();
+        while (it.hasNext()) {
+            final LanternScoreboard scoreboard = it.next();
+            it.remove();
+            scoreboard.flush();
+        }
+    }
+
+    private final ScoreboardChanges changes = new ScoreboardChanges();
+
+    /**
+     * Applies the given change to the pending changes of this scoreboard,
+     * all the changes will be sent to the players at the end of the tick.
+     *
+     * @param change The change to apply
+     */
+    void queueChange(Consumer<ScoreboardChanges> change) {
+        synchronized (this.changes) {
+            // Nobody can see the change, so don't track it
+            if (this.players.isEmpty()) {
+                return;
+            }
+            change.accept(this.changes);
+        }
+        dirtyScoreboards.add(this);
+    }
+
+    /**
+     * Sends all the pending changes to the players as one shared batch.
+     */
+    void flush() {
+        final List<Message> messages;
+        synchronized (this.changes) {
+            if (this.changes.isEmpty()) {
+                return;
+            }
+            if (this.players.isEmpty()) {
+                this.changes.clear();
+                return;
+            }
+            messages = new ArrayList<>();
+            this.changes.collectMessages(this, messages);
+            this.changes.clear();
+        }
+        if (!messages.isEmpty()) {
+            // All the players share the same messages
+            final List<Message> unmodifiableMessages = Collections.unmodifiableList(messages);
+            this.players.forEach(player -> player.getConnection().send(unmodifiableMessages));
         }
     }
 
     public void removePlayer(LanternPlayer player) {
+        // Apply the pending changes first, the removal is based on the current state
+        flush();
         this.players.remove(player);
         player.getConnection().send(collectRemoveMessages(new ArrayList<>()));
     }
 
     public void addPlayer(LanternPlayer player) {
+        // The pending changes are already included in the current state,
+        // so they need to be flushed to the other players first
+        flush();
         this.players.add(player);
         player.getConnection().send(collectAddMessages(new ArrayList<>()));
     }
@@ -113,6 +177,7 @@ public void refreshPlayer(Player player) {
     }
 
     public void refreshPlayers(Iterable<Player> players) {
+        flush();
         final List<Message> messages = new ArrayList<>();
         collectRemoveMessages(messages);
         collectAddMessages(messages);
@@ -142,10 +207,10 @@ public void addObjective(Objective objective) throws IllegalArgumentException {
         this.objectivesByCriterion.put(objective.getCriterion(), objective);
         ((LanternObjective) objective).addScoreboard(this);
         // Create the scoreboard objective on the client
-        this.sendToPlayers(() -> this.createObjectiveInitMessages(objective));
+        queueChange(changes -> changes.addObjective(objective.getName(), ScoreboardChanges.Type.CREATE));
     }
 
-    private List<Message> createObjectiveInitMessages(Objective objective) {
+    List<Message> createObjectiveInitMessages(Objective objective) {
         final List<Message> messages = new ArrayList<>();
         messages.add(new MessagePlayOutScoreboardObjective.Create(
                 objective.getName(), objective.getDisplayName(), objective.getDisplayMode()));
@@ -163,16 +228,14 @@ public void updateDisplaySlot(@Nullable Objective objective, DisplaySlot display
             final Objective oldObjective = this.objectivesInSlot.remove(displaySlot);
             if (oldObjective != null) {
                 // Clear the display slot on the client
-                this.sendToPlayers(() -> Collections.singletonList(
-                        new MessagePlayOutScoreboardDisplayObjective(null, displaySlot)));
+                queueChange(changes -> changes.addDisplaySlot(displaySlot));
             }
         } else {
             checkState(this.objectives.containsValue(objective),
                     "The specified objective does not exist in this scoreboard.");
             if (this.objectivesInSlot.put(displaySlot, objective) != objective) {
                 // Update the displayed objective on the client
-                this.sendToPlayers(() -> Collections.singletonList(
-                        new MessagePlayOutScoreboardDisplayObjective(objective.getName(), displaySlot)));
+                queueChange(changes -> changes.addDisplaySlot(displaySlot));
             }
         }
     }
@@ -194,7 +257,7 @@ public void removeObjective(Objective objective) {
             ((LanternObjective) objective).removeScoreboard(this);
             this.objectivesByCriterion.remove(objective.getCriterion(), objective);
             this.objectivesInSlot.entrySet().removeIf(entry -> entry.getValue().equals(objective));
-            sendToPlayers(() -> Collections.singletonList(new MessagePlayOutScoreboardObjective.Remove(objective.getName())));
+            queueChange(changes -> changes.addObjective(objective.getName(), ScoreboardChanges.Type.REMOVE));
         }
     }
 
@@ -239,7 +302,7 @@ public void registerTeam(Team team) throws IllegalArgumentException {
         this.teams.put(team.getName(), team);
         final LanternTeam lanternTeam = (LanternTeam) team;
         lanternTeam.setScoreboard(this);
-        sendToPlayers(() -> Collections.singletonList(lanternTeam.toCreateMessage()));
+        queueChange(changes -> changes.addTeam(team.getName(), ScoreboardChanges.Type.CREATE));
     }
 
     @Override
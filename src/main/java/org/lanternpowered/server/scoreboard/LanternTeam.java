@@ -96,7 +96,7 @@ MessagePlayOutTeams.CreateOrUpdate toUpdateMessage() {
 
     private void sendUpdate() {
         if (this.scoreboard != null) {
-            this.scoreboard.sendToPlayers(() -> Collections.singletonList(toUpdateMessage()));
+            this.scoreboard.queueChange(changes -> changes.addTeam(this.name, ScoreboardChanges.Type.UPDATE));
         }
     }
 
@@ -246,8 +246,7 @@ public Set<Text> getMembers() {
     public void addMember(Text member) {
         checkNotNull(member, "member");
         if (this.members.add(member) && this.scoreboard != null) {
-            this.scoreboard.sendToPlayers(() -> Collections.singletonList(
-                    new MessagePlayOutTeams.AddMembers(this.name, Collections.singletonList(member))));
+            this.scoreboard.queueChange(changes -> changes.addTeamMembers(this.name, Collections.singletonList(member), true));
         }
     }
 
@@ -256,8 +255,7 @@ public boolean removeMember(Text member) {
         checkNotNull(member, "member");
         if (this.members.remove(member)) {
             if (this.scoreboard != null) {
-                this.scoreboard.sendToPlayers(() -> Collections.singletonList(
-                        new MessagePlayOutTeams.RemoveMembers(this.name, Collections.singletonList(member))));
+                this.scoreboard.queueChange(changes -> changes.addTeamMembers(this.name, Collections.singletonList(member), false));
             }
             return true;
         }
@@ -275,9 +273,8 @@ public List<Text> addMembers(Collection<Text> members) {
                 failedMembers.add(member);
             }
         }
-        if (this.scoreboard != null) {
-            this.scoreboard.sendToPlayers(() -> Collections.singletonList(
-                    new MessagePlayOutTeams.AddMembers(this.name, addedMembers)));
+        if (this.scoreboard != null && !addedMembers.isEmpty()) {
+            this.scoreboard.queueChange(changes -> changes.addTeamMembers(this.name, addedMembers, true));
         }
         return failedMembers;
     }
@@ -296,9 +293,8 @@ public List<Text> removeMembers(Collection<Text> members) {
                 failedMembers.add(member);
             }
         }
-        if (this.scoreboard != null) {
-            this.scoreboard.sendToPlayers(() -> Collections.singletonList(
-                    new MessagePlayOutTeams.RemoveMembers(this.name, removedMembers)));
+        if (this.scoreboard != null && !removedMembers.isEmpty()) {
+            this.scoreboard.queueChange(changes -> changes.addTeamMembers(this.name, removedMembers, false));
         }
         return failedMembers;
     }
@@ -314,7 +310,7 @@ public boolean unregister() {
             return false;
         }
         this.scoreboard.removeTeam(this);
-        this.scoreboard.sendToPlayers(() -> Collections.singletonList(new MessagePlayOutTeams.Remove(this.name)));
+        this.scoreboard.queueChange(changes -> changes.addTeam(this.name, ScoreboardChanges.Type.REMOVE));
         this.scoreboard = null;
         return true;
     }
@@ -0,0 +1,242 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.scoreboard;
+
+import org.lanternpowered.server.network.message.Message;
+import org.lanternpowered.server.network.vanilla.message.type.play.MessagePlayOutScoreboardDisplayObjective;
+import org.lanternpowered.server.network.vanilla.message.type.play.MessagePlayOutScoreboardObjective;
+import org.lanternpowered.server.network.vanilla.message.type.play.MessagePlayOutScoreboardScore;
+import org.lanternpowered.server.network.vanilla.message.type.play.MessagePlayOutTeams;
+import org.spongepowered.api.scoreboard.Score;
+import org.spongepowered.api.scoreboard.Team;
+import org.spongepowered.api.scoreboard.displayslot.DisplaySlot;
+import org.spongepowered.api.scoreboard.objective.Objective;
+import org.spongepowered.api.text.Text;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collects all the changes that are applied to a {@link LanternScoreboard}
+ * during a tick. Redundant changes are collapsed, for example a objective
+ * that is created and updated within the same tick will only result in a
+ * create message and only the last value of a score will be sent.
+ *
+ * <p>All the messages are constructed from the state of the scoreboard
+ * at the moment that the changes are flushed.</p>
+ */
+final class ScoreboardChanges {
+
+    enum Type {
+        CREATE,
+        UPDATE,
+        REMOVE,
+        /**
+         * The old entry was removed and a new one with
+         * the same name was created afterwards.
+         */
+        RECREATE,
+        ;
+
+        /**
+         * Merges the given type with this type.
+         *
+         * @param type The type that is applied after this type
+         * @return The merged type, or {@code null} if the changes cancel each other
+         */
+        Type merge(Type type) {
+            switch (this) {
+                case CREATE:
+                    return type == REMOVE ? null : CREATE;
+                case RECREATE:
+                    return type == REMOVE ? REMOVE : RECREATE;
+                case REMOVE:
+                    return type == REMOVE ? REMOVE : RECREATE;
+                case UPDATE:
+                default:
+                    return type == UPDATE ? UPDATE : type;
+            }
+        }
+    }
+
+    private final Map<String, Type> objectives = new LinkedHashMap<>();
+    private final Map<String, Set<Text>> scores = new LinkedHashMap<>();
+    private final Set<DisplaySlot> displaySlots = new LinkedHashSet<>();
+    private final Map<String, Type> teams = new LinkedHashMap<>();
+    /**
+     * The member changes per team, {@code true} if the
+     * member was added and {@code false} if removed.
+     */
+    private final Map<String, Map<Text, Boolean>> teamMembers = new LinkedHashMap<>();
+
+    private static void merge(Map<String, Type> changes, String name, Type type) {
+        final Type oldType = changes.get(name);
+        final Type newType = oldType == null ? type : oldType.merge(type);
+        if (newType == null) {
+            changes.remove(name);
+        } else {
+            changes.put(name, newType);
+        }
+    }
+
+    boolean isEmpty() {
+        return this.objectives.isEmpty() && this.scores.isEmpty() && this.displaySlots.isEmpty() &&
+                this.teams.isEmpty() && this.teamMembers.isEmpty();
+    }
+
+    void clear() {
+        this.objectives.clear();
+        this.scores.clear();
+        this.displaySlots.clear();
+        this.teams.clear();
+        this.teamMembers.clear();
+    }
+
+    void addObjective(String objectiveName, Type type) {
+        merge(this.objectives, objectiveName, type);
+    }
+
+    void addScore(String objectiveName, Text scoreName) {
+        this.scores.computeIfAbsent(objectiveName, name -> new LinkedHashSet<>()).add(scoreName);
+    }
+
+    void addDisplaySlot(DisplaySlot displaySlot) {
+        this.displaySlots.add(displaySlot);
+    }
+
+    void addTeam(String teamName, Type type) {
+        merge(this.teams, teamName, type);
+        // The team was created and removed within the same tick, the
+        // client never saw it so the member changes can't be sent either
+        if (type == Type.REMOVE && !this.teams.containsKey(teamName)) {
+            this.teamMembers.remove(teamName);
+        }
+    }
+
+    void addTeamMembers(String teamName, Iterable<Text> members, boolean add) {
+        final Map<Text, Boolean> changes = this.teamMembers.computeIfAbsent(teamName, name -> new LinkedHashMap<>());
+        for (Text member : members) {
+            final Boolean oldState = changes.get(member);
+            // Adding and removing a member within the same tick cancels out
+            if (oldState != null && oldState != add) {
+                changes.remove(member);
+            } else {
+                changes.put(member, add);
+            }
+        }
+    }
+
+    /**
+     * Collects all the {@link Message}s that are required to apply
+     * the changes to the clients that are viewing the scoreboard.
+     *
+     * @param scoreboard The scoreboard
+     * @param messages The messages list to add the messages to
+     */
+    void collectMessages(LanternScoreboard scoreboard, List<Message> messages) {
+        // Objectives that will be (re)created with all their scores
+        final Set<String> createdObjectives = new HashSet<>();
+        for (Map.Entry<String, Type> entry : this.objectives.entrySet()) {
+            final Type type = entry.getValue();
+            if (type == Type.REMOVE || type == Type.RECREATE) {
+                messages.add(new MessagePlayOutScoreboardObjective.Remove(entry.getKey()));
+            }
+            if (type == Type.REMOVE) {
+                continue;
+            }
+            final Objective objective = scoreboard.getObjective(entry.getKey()).orElse(null);
+            if (objective == null) {
+                continue;
+            }
+            if (type == Type.UPDATE) {
+                messages.add(new MessagePlayOutScoreboardObjective.Update(
+                        objective.getName(), objective.getDisplayName(), objective.getDisplayMode()));
+            } else {
+                messages.addAll(scoreboard.createObjectiveInitMessages(objective));
+                createdObjectives.add(objective.getName());
+            }
+        }
+        for (Map.Entry<String, Set<Text>> entry : this.scores.entrySet()) {
+            final String objectiveName = entry.getKey();
+            if (createdObjectives.contains(objectiveName) || this.objectives.get(objectiveName) == Type.REMOVE) {
+                continue;
+            }
+            final Objective objective = scoreboard.getObjective(objectiveName).orElse(null);
+            if (objective == null) {
+                continue;
+            }
+            for (Text scoreName : entry.getValue()) {
+                final Score score = ((LanternObjective) objective).scores.get(scoreName);
+                if (score != null) {
+                    messages.add(new MessagePlayOutScoreboardScore.CreateOrUpdate(objectiveName, scoreName, score.getScore()));
+                } else {
+                    messages.add(new MessagePlayOutScoreboardScore.Remove(objectiveName, scoreName));
+                }
+            }
+        }
+        for (DisplaySlot displaySlot : this.displaySlots) {
+            final Objective objective = scoreboard.getObjective(displaySlot).orElse(null);
+            messages.add(new MessagePlayOutScoreboardDisplayObjective(objective == null ? null : objective.getName(), displaySlot));
+        }
+        for (Map.Entry<String, Type> entry : this.teams.entrySet()) {
+            final Type type = entry.getValue();
+            if (type == Type.REMOVE || type == Type.RECREATE) {
+                messages.add(new MessagePlayOutTeams.Remove(entry.getKey()));
+            }
+            if (type == Type.REMOVE) {
+                continue;
+            }
+            final Team team = scoreboard.getTeam(entry.getKey()).orElse(null);
+            if (team != null) {
+                messages.add(type == Type.UPDATE ? ((LanternTeam) team).toUpdateMessage() : ((LanternTeam) team).toCreateMessage());
+            }
+        }
+        for (Map.Entry<String, Map<Text, Boolean>> entry : this.teamMembers.entrySet()) {
+            final String teamName = entry.getKey();
+            final Type type = this.teams.get(teamName);
+            // The create message already contains all the members
+            if (type != null && type != Type.UPDATE) {
+                continue;
+            }
+            final List<Text> added = new ArrayList<>();
+            final List<Text> removed = new ArrayList<>();
+            for (Map.Entry<Text, Boolean> memberEntry : entry.getValue().entrySet()) {
+                (memberEntry.getValue() ? added : removed).add(memberEntry.getKey());
+            }
+            if (!removed.isEmpty()) {
+                messages.add(new MessagePlayOutTeams.RemoveMembers(teamName, removed));
+            }
+            if (!added.isEmpty()) {
+                messages.add(new MessagePlayOutTeams.AddMembers(teamName, added));
+            }
+        }
+    }
+}
@@ -42,6 +42,8 @@
     private Asset asset;
     @Nullable
     private ScriptFunctionMethod<T> functionMethod;
+    @Nullable
+    private String cacheKey;
 
     private final String code;
 
@@ -99,4 +101,19 @@ ScriptFunctionMethod<T> getFunctionMethod() {
     void setFunctionMethod(@Nullable ScriptFunctionMethod<T> functionMethod) {
         this.functionMethod = functionMethod;
     }
+
+    /**
+     * Gets the {@link ScriptBytecodeCache} key of the compiled code,
+     * {@code null} if the script isn't cacheable.
+     *
+     * @return The cache key
+     */
+    @Nullable
+    String getCacheKey() {
+        return this.cacheKey;
+    }
+
+    void setCacheKey(@Nullable String cacheKey) {
+        this.cacheKey = cacheKey;
+    }
 }
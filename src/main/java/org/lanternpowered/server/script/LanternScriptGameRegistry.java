@@ -36,10 +36,15 @@
 import com.google.gson.GsonBuilder;
 import groovy.lang.GroovyClassLoader;
 import org.codehaus.groovy.control.CompilationFailedException;
+import org.codehaus.groovy.control.CompilationUnit;
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.control.Phases;
+import org.codehaus.groovy.tools.GroovyClass;
 import org.lanternpowered.api.script.Script;
 import org.lanternpowered.api.script.ScriptGameRegistry;
 import org.lanternpowered.api.script.ScriptObjectTypes;
 import org.lanternpowered.server.asset.AssetRepository;
+import org.lanternpowered.server.game.DirectoryKeys;
 import org.lanternpowered.server.game.Lantern;
 import org.lanternpowered.server.script.json.JsonSerializers;
 import org.lanternpowered.server.script.transformer.AdditionalImportsScriptTransformer;
@@ -63,13 +68,20 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import javax.annotation.Nullable;
 
@@ -77,6 +89,8 @@ public class LanternScriptGameRegistry implements ScriptGameRegistry {
 
     private static final LanternScriptGameRegistry instance = new LanternScriptGameRegistry();
 
+    private static final String UNKNOWN_SCRIPT_NAME = "UnknownScript";
+
     public static LanternScriptGameRegistry get() {
         return instance;
     }
@@ -95,7 +109,16 @@ public static LanternScriptGameRegistry get() {
     );
     private final Map<String, LanternScript<Object>> assetScripts = new ConcurrentHashMap<>();
     private final Map<String, LanternScript<Object>> functionAssetScripts = new ConcurrentHashMap<>();
-    private final GroovyClassLoader classLoader;
+    // The asset scripts that are currently being compiled, other threads
+    // that request the same script will wait for the result
+    private final Map<String, CompletableFuture<LanternScript<Object>>> compilingAssetScripts = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<LanternScript<Object>>> compilingFunctionAssetScripts = new ConcurrentHashMap<>();
+    // The threads that are compiling the scripts of the futures and the futures that the
+    // threads are waiting for, used to detect cyclic dependencies between the threads
+    private final Map<CompletableFuture<?>, Thread> compilingThreads = new HashMap<>();
+    private final Map<Thread, CompletableFuture<?>> awaitedScripts = new HashMap<>();
+    private final ScriptClassLoader classLoader;
+    private final ScriptBytecodeCache bytecodeCache = new ScriptBytecodeCache(DirectoryKeys.DefaultValues.CACHE.resolve("scripts"));
     private final Map<Class<?>, Class<?>> constructorClasses = ImmutableMap.<Class<?>, Class<?>>builder()
             .put(ScriptObjectTypes.WEATHER, WeatherBuilder.class)
             .build();
@@ -105,7 +128,7 @@ public static LanternScriptGameRegistry get() {
             .create();
 
     private LanternScriptGameRegistry() {
-        this.classLoader = new GroovyClassLoader();
+        this.classLoader = new ScriptClassLoader();
     }
 
     /**
@@ -148,7 +171,8 @@ public <T extends CatalogType> T construct(Object plugin, String asset, String i
 
     public <T extends CatalogType> Collection<T> constructAll(String assetDirectory, Class<T> objectType) {
         final AssetRepository assetRepository = Lantern.getAssetRepository();
-        return assetRepository.getAssets(assetDirectory, false).stream()
+        // Construct the objects in parallel, the scripts they depend on will be compiled concurrently
+        return assetRepository.getAssets(assetDirectory, false).parallelStream()
                 .map(asset -> {
                     final String assetId = asset.getId();
                     int index = assetId.lastIndexOf('/');
@@ -190,7 +214,7 @@ public <T extends CatalogType> T construct(Asset asset, String id, Class<T> obje
     @Override
     public <T> Script<T> compile(Asset asset, Class<T> function) {
         final String id = ((org.lanternpowered.api.asset.Asset) asset).getId();
-        return (Script<T>) this.functionAssetScripts.computeIfAbsent(id, id0 -> {
+        return (Script<T>) compileAsset(this.functionAssetScripts, this.compilingFunctionAssetScripts, id, id0 -> {
             try {
                 return this.compileScript(Joiner.on('\n').join(asset.readLines()),
                         (ScriptFunctionMethod) ScriptFunctionMethod.of(function), asset, null);
@@ -217,7 +241,7 @@ public <T> Script<T> compile(Object plugin, String asset, Class<T> function) {
     @Override
     public Script<Object> compile(Asset asset) {
         final String id = ((org.lanternpowered.api.asset.Asset) asset).getId();
-        return this.assetScripts.computeIfAbsent(id, id0 -> {
+        return compileAsset(this.assetScripts, this.compilingAssetScripts, id, id0 -> {
             try {
                 return this.compileScript(Joiner.on('\n').join(asset.readLines()), null, asset, null);
             } catch (IOException e) {
@@ -226,6 +250,87 @@ public Script<Object> compile(Asset asset) {
         });
     }
 
+    /**
+     * Compiles all the script {@link Asset}s within the given directory. The
+     * scripts will be compiled in parallel.
+     *
+     * @param assetDirectory The asset directory
+     * @return The compiled scripts
+     */
+    public Collection<Script<Object>> compileAll(String assetDirectory) {
+        final AssetRepository assetRepository = Lantern.getAssetRepository();
+        return assetRepository.getAssets(assetDirectory, false).parallelStream()
+                .map(this::compile)
+                .collect(ImmutableList.toImmutableList());
+    }
+
+    /**
+     * Gets the compiled script for the given asset id from the map, or compiles
+     * it if it's missing. The same script will never be compiled concurrently,
+     * dependencies that are requested by multiple scripts are only compiled once.
+     */
+    private LanternScript<Object> compileAsset(Map<String, LanternScript<Object>> scripts,
+            Map<String, CompletableFuture<LanternScript<Object>>> compilingScripts, String id,
+            Function<String, LanternScript<Object>> compiler) {
+        LanternScript<Object> script = scripts.get(id);
+        if (script != null) {
+            return script;
+        }
+        final Thread thread = Thread.currentThread();
+        final CompletableFuture<LanternScript<Object>> future = new CompletableFuture<>();
+        final CompletableFuture<LanternScript<Object>> other;
+        synchronized (this.compilingThreads) {
+            other = compilingScripts.putIfAbsent(id, future);
+            if (other == null) {
+                this.compilingThreads.put(future, thread);
+            } else {
+                // Waiting for a script that is waiting for this thread would never finish
+                CompletableFuture<?> awaited = other;
+                Thread compilingThread;
+                while ((compilingThread = this.compilingThreads.get(awaited)) != null) {
+                    if (compilingThread == thread) {
+                        throw new IllegalArgumentException("Detected a cyclic dependency while compiling the script: " + id);
+                    }
+                    awaited = this.awaitedScripts.get(compilingThread);
+                    if (awaited == null) {
+                        break;
+                    }
+                }
+                this.awaitedScripts.put(thread, other);
+            }
+        }
+        if (other != null) {
+            try {
+                return other.join();
+            } catch (CompletionException e) {
+                final Throwable cause = e.getCause();
+                throw cause instanceof RuntimeException ? (RuntimeException) cause : e;
+            } finally {
+                synchronized (this.compilingThreads) {
+                    this.awaitedScripts.remove(thread);
+                }
+            }
+        }
+        try {
+            // The script may be compiled before the future was added
+            script = scripts.get(id);
+            if (script == null) {
+                script = compiler.apply(id);
+                scripts.put(id, script);
+            }
+            future.complete(script);
+            return script;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            synchronized (this.compilingThreads) {
+                compilingScripts.remove(id, future);
+                this.compilingThreads.remove(future);
+            }
+        }
+    }
+
     @Override
     public Script<Object> compile(String scriptSource) {
         checkNotNull(scriptSource, "scriptSource");
@@ -241,22 +346,33 @@ public Script<Object> compile(Object plugin, String asset) {
         return this.compile(theAsset);
     }
 
-    private Script<Object> compile0(String assetId) {
+    private LanternScript<Object> compile0(String assetId) {
         final AssetRepository assetRepository = Lantern.getAssetRepository();
         final Asset theAsset = assetRepository.get(assetId).orElseThrow(
                 () -> new IllegalArgumentException("There is no asset with the specified id: " + assetId));
-        return this.compile(theAsset);
+        return (LanternScript<Object>) this.compile(theAsset);
     }
 
     private <F> LanternScript<F> compileScript(String code,
             @Nullable ScriptFunctionMethod<F> functionMethod, @Nullable Asset asset, @Nullable Script<F> script) {
         final TransformedScript transformedScript = this.transformScript(code, functionMethod,
                 asset == null ? null : ((org.lanternpowered.api.asset.Asset) asset).getId());
-        transformedScript.getDependencies().forEach(this::compile0);
+        final String className = transformedScript.getClassName();
+        // Generated scripts from plain sources have an unique class name, caching is useless
+        boolean cacheable = !className.contains(UNKNOWN_SCRIPT_NAME);
+        final List<String> dependencyKeys = new ArrayList<>();
+        for (String dependency : transformedScript.getDependencies()) {
+            final String dependencyKey = compile0(dependency).getCacheKey();
+            if (dependencyKey == null) {
+                cacheable = false;
+            } else {
+                dependencyKeys.add(dependencyKey);
+            }
+        }
+        final String key = cacheable ? ScriptBytecodeCache.createKey(className, transformedScript.getCode(), dependencyKeys) : null;
         final Class<?> theClass;
         try {
-            theClass = this.classLoader.parseClass(transformedScript.getCode(),
-                    transformedScript.getClassName());
+            theClass = this.compileClass(transformedScript, key);
         } catch (CompilationFailedException e) {
             throw new IllegalArgumentException("Failed to compile the script source.\nOriginal code:\n``\n" + code +
                     "\n``\nTransformed code:\n``\n" + transformedScript.getCode() + "\n``", e);
@@ -270,6 +386,7 @@ private <F> LanternScript<F> compileScript(String code,
             }
             script1.setFunctionMethod(functionMethod);
         }
+        script1.setCacheKey(key);
         try {
             script1.setFunction(theClass.newInstance());
         } catch (InstantiationException | IllegalAccessException e) {
@@ -278,6 +395,33 @@ private <F> LanternScript<F> compileScript(String code,
         return script1;
     }
 
+    /**
+     * Compiles the {@link TransformedScript} into a {@link Class}, the bytecode will be
+     * loaded from the {@link ScriptBytecodeCache} if the same code was compiled before.
+     *
+     * @param transformedScript The transformed script
+     * @param key The cache key, or null if the script isn't cacheable
+     * @return The compiled class
+     */
+    private Class<?> compileClass(TransformedScript transformedScript, @Nullable String key) {
+        final String className = transformedScript.getClassName();
+        Map<String, byte[]> classes = key == null ? null : this.bytecodeCache.get(key);
+        if (classes == null) {
+            final CompilationUnit compilationUnit = new CompilationUnit(CompilerConfiguration.DEFAULT, null, this.classLoader);
+            compilationUnit.addSource(className.replace('.', '/') + ".groovy", transformedScript.getCode());
+            compilationUnit.compile(Phases.CLASS_GENERATION);
+            classes = new LinkedHashMap<>();
+            for (Object object : compilationUnit.getClasses()) {
+                final GroovyClass groovyClass = (GroovyClass) object;
+                classes.put(groovyClass.getName(), groovyClass.getBytes());
+            }
+            if (key != null) {
+                this.bytecodeCache.put(key, classes);
+            }
+        }
+        return this.classLoader.defineClasses(className, classes);
+    }
+
     /**
      * Transforms the source into something compilable.
      *
@@ -290,7 +434,7 @@ private TransformedScript transformScript(String code, @Nullable ScriptFunctionM
             className = TransformerUtil.generateClassNameFromAssetPath(asset);
         } else {
             final String name = LanternScript.class.getName();
-            className = name.substring(0, name.lastIndexOf('.')) + ".gen.UnknownScript" + UUID.randomUUID().toString().replace("-", "");
+            className = name.substring(0, name.lastIndexOf('.')) + ".gen." + UNKNOWN_SCRIPT_NAME + UUID.randomUUID().toString().replace("-", "");
         }
         final ScriptTransformerContext context = new ScriptTransformerContext(className, code, functionMethod, asset);
         try {
@@ -307,6 +451,34 @@ private TransformedScript transformScript(String code, @Nullable ScriptFunctionM
         return new TransformedScript(context.compile(), className, ImmutableSet.copyOf(context.getDependencies()));
     }
 
+    private static final class ScriptClassLoader extends GroovyClassLoader {
+
+        /**
+         * Defines all the classes of a script, a new inner loader is used for every
+         * script so that scripts can be redefined. The main class will be cached so
+         * that other scripts can reference it.
+         *
+         * @param className The main class name
+         * @param classes The bytecode by class name
+         * @return The main class
+         */
+        Class<?> defineClasses(String className, Map<String, byte[]> classes) {
+            final InnerLoader loader = new InnerLoader(this);
+            Class<?> mainClass = null;
+            for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+                final Class<?> theClass = loader.defineClass(entry.getKey(), entry.getValue());
+                if (entry.getKey().equals(className)) {
+                    mainClass = theClass;
+                }
+            }
+            if (mainClass == null) {
+                throw new IllegalStateException("The script class " + className + " wasn't generated.");
+            }
+            setClassCacheEntry(mainClass);
+            return mainClass;
+        }
+    }
+
     private final class TransformedScript {
 
         private final String code;
@@ -0,0 +1,193 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.script;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import groovy.lang.GroovySystem;
+import org.lanternpowered.server.game.Lantern;
+import org.lanternpowered.server.plugin.InternalPluginsInfo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+/**
+ * A on-disk cache for the bytecode of compiled scripts. The entries are keyed
+ * by the hash of the transformed script code, the entries will be stored in a
+ * directory that is specific to the versions of the api, the implementation
+ * and groovy. Directories of other versions are removed when the cache is
+ * initialized, these are no longer valid.
+ */
+final class ScriptBytecodeCache {
+
+    /**
+     * The version of the cache format, must be increased every time the format
+     * or the output of the script transformers changes in a way that cannot
+     * be detected through the transformed code.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    private final Path directory;
+    private boolean initialized;
+
+    ScriptBytecodeCache(Path directory) {
+        this.directory = directory.resolve(createFingerprint());
+    }
+
+    private static String createFingerprint() {
+        final Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putInt(FORMAT_VERSION);
+        hasher.putString(String.valueOf(InternalPluginsInfo.Api.VERSION), StandardCharsets.UTF_8);
+        hasher.putString(String.valueOf(InternalPluginsInfo.Implementation.VERSION), StandardCharsets.UTF_8);
+        hasher.putString(GroovySystem.getVersion(), StandardCharsets.UTF_8);
+        return hasher.hash().toString().substring(0, 16);
+    }
+
+    /**
+     * Creates the cache key for the given class name and transformed code. The
+     * keys of the dependencies are included, so that the script will be
+     * recompiled when one of the scripts it was compiled against changes.
+     *
+     * @param className The class name
+     * @param code The transformed code
+     * @param dependencyKeys The cache keys of the dependencies
+     * @return The key
+     */
+    static String createKey(String className, String code, Collection<String> dependencyKeys) {
+        final Hasher hasher = Hashing.sha256().newHasher()
+                .putString(className, StandardCharsets.UTF_8)
+                .putChar('\0')
+                .putString(code, StandardCharsets.UTF_8);
+        // Sort the keys, the order of the dependencies doesn't matter
+        for (String dependencyKey : new TreeSet<>(dependencyKeys)) {
+            hasher.putChar('\0').putString(dependencyKey, StandardCharsets.UTF_8);
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Attempts to get the bytecode of all the classes that are
+     * generated for the script with the given key.
+     *
+     * @param key The key
+     * @return The bytecode by class name, or null if not cached
+     */
+    @Nullable
+    Map<String, byte[]> get(String key) {
+        final Path file = this.directory.resolve(key + ".bin");
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (DataInputStream dis = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            final int count = dis.readInt();
+            final Map<String, byte[]> classes = new LinkedHashMap<>(count);
+            for (int i = 0; i < count; i++) {
+                final String name = dis.readUTF();
+                final byte[] bytecode = new byte[dis.readInt()];
+                dis.readFully(bytecode);
+                classes.put(name, bytecode);
+            }
+            return classes;
+        } catch (IOException e) {
+            Lantern.getLogger().warn("Failed to read the cached script bytecode: {}", file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the bytecode of all the classes that are
+     * generated for the script with the given key.
+     *
+     * @param key The key
+     * @param classes The bytecode by class name
+     */
+    void put(String key, Map<String, byte[]> classes) {
+        final Path file = this.directory.resolve(key + ".bin");
+        try {
+            initialize();
+            final Path tmpFile = Files.createTempFile(this.directory, key, ".tmp");
+            try (DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpFile)))) {
+                dos.writeInt(classes.size());
+                for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+                    dos.writeUTF(entry.getKey());
+                    dos.writeInt(entry.getValue().length);
+                    dos.write(entry.getValue());
+                }
+            }
+            Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Lantern.getLogger().warn("Failed to write the cached script bytecode: {}", file, e);
+        }
+    }
+
+    private synchronized void initialize() throws IOException {
+        if (this.initialized) {
+            return;
+        }
+        final Path parent = this.directory.getParent();
+        if (parent != null && Files.exists(parent)) {
+            // Remove the caches of other versions
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(parent)) {
+                for (Path path : stream) {
+                    if (!path.equals(this.directory)) {
+                        delete(path);
+                    }
+                }
+            }
+        }
+        Files.createDirectories(this.directory);
+        // Only mark as initialized once the directory exists, a failure will be retried
+        this.initialized = true;
+    }
+
+    private static void delete(Path path) throws IOException {
+        try (Stream<Path> stream = Files.walk(path)) {
+            stream.sorted(Comparator.reverseOrder()).forEach(path1 -> {
+                try {
+                    Files.delete(path1);
+                } catch (IOException e) {
+                    Lantern.getLogger().debug("Failed to delete the stale script cache file: {}", path1, e);
+                }
+            });
+        }
+    }
+}
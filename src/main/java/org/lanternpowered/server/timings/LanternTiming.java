@@ -0,0 +1,201 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.timings;
+
+import co.aikar.timings.Timing;
+import com.google.common.base.MoreObjects;
+import org.lanternpowered.server.game.Lantern;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+
+public final class LanternTiming implements Timing {
+
+    private final LanternTimingsFactory factory;
+    private final int id;
+    private final String name;
+    private final String plugin;
+    @Nullable private final LanternTiming group;
+    private final boolean verbose;
+
+    // The total amount of nanoseconds and the invocation count of all the threads
+    private final LongAdder total = new LongAdder();
+    private final LongAdder count = new LongAdder();
+
+    LanternTiming(LanternTimingsFactory factory, int id, String plugin, String name,
+            @Nullable LanternTiming group, boolean verbose) {
+        this.factory = factory;
+        this.verbose = verbose;
+        this.plugin = plugin;
+        this.group = group;
+        this.name = name;
+        this.id = id;
+    }
+
+    /**
+     * Gets the internal id of this timing.
+     *
+     * @return The id
+     */
+    public int getId() {
+        return this.id;
+    }
+
+    /**
+     * Gets the name of this timing.
+     *
+     * @return The name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gets the id of the plugin that owns this timing.
+     *
+     * @return The plugin id
+     */
+    public String getPlugin() {
+        return this.plugin;
+    }
+
+    /**
+     * Gets the group of this timing, the group will
+     * be measured together with this timing.
+     *
+     * @return The group
+     */
+    @Nullable
+    public LanternTiming getGroup() {
+        return this.group;
+    }
+
+    /**
+     * Gets whether this timing is only measured
+     * when verbose timings are enabled.
+     *
+     * @return Is verbose
+     */
+    public boolean isVerbose() {
+        return this.verbose;
+    }
+
+    /**
+     * Gets the total amount of nanoseconds that were
+     * measured by this timing, of all the threads.
+     *
+     * @return The total nanos
+     */
+    long getTotal() {
+        return this.total.sum();
+    }
+
+    /**
+     * Gets the amount of times that this timing
+     * was measured, of all the threads.
+     *
+     * @return The count
+     */
+    long getCount() {
+        return this.count.sum();
+    }
+
+    private boolean isActive() {
+        return this.factory.enabled && (!this.verbose || this.factory.verbose);
+    }
+
+    @Override
+    public LanternTiming startTiming() {
+        if (isActive()) {
+            final TimingData data = TimingData.current();
+            if (this.group != null) {
+                data.start(this.group.id);
+            }
+            data.start(this.id);
+        }
+        return this;
+    }
+
+    @Override
+    public void stopTiming() {
+        // The nesting depth always needs to be unwound, even if the timings were
+        // disabled while this timing was running, otherwise it would never be
+        // measured again after the timings are enabled. Only recording is skipped.
+        final boolean record = this.factory.enabled;
+        final TimingData data = TimingData.current();
+        stop(data, record);
+        if (this.group != null) {
+            this.group.stop(data, record);
+        }
+    }
+
+    private void stop(TimingData data, boolean record) {
+        final long elapsed = data.stop(this.id);
+        if (elapsed >= 0 && record) {
+            this.total.add(elapsed);
+            this.count.increment();
+        }
+    }
+
+    @Override
+    public void startTimingIfSync() {
+        if (Lantern.getServer().isMainThread()) {
+            startTiming();
+        }
+    }
+
+    @Override
+    public void stopTimingIfSync() {
+        if (Lantern.getServer().isMainThread()) {
+            stopTiming();
+        }
+    }
+
+    @Override
+    public void abort() {
+        final TimingData data = TimingData.current();
+        data.abort(this.id);
+        if (this.group != null) {
+            data.abort(this.group.id);
+        }
+    }
+
+    @Override
+    public void close() {
+        stopTiming();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("id", this.id)
+                .add("plugin", this.plugin)
+                .add("name", this.name)
+                .add("group", this.group == null ? null : this.group.name)
+                .toString();
+    }
+}
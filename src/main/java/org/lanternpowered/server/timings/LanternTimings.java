@@ -0,0 +1,116 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.timings;
+
+import org.lanternpowered.server.plugin.InternalPluginsInfo;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * All the timings that are used by the server itself.
+ */
+public final class LanternTimings {
+
+    private static final String PLUGIN = InternalPluginsInfo.Implementation.IDENTIFIER;
+
+    public static final LanternTiming SERVER_TICK = of("Server Tick");
+    public static final LanternTiming NETWORK_SESSIONS = of("Network Sessions");
+    public static final LanternTiming SYNC_SCHEDULER = of("Scheduler - Sync");
+    public static final LanternTiming WORLD_TICK = of("World Tick");
+    public static final LanternTiming ENTITY_TICK = of("Entity Tick");
+    public static final LanternTiming TILE_ENTITY_TICK = of("Tile Entity Tick");
+    public static final LanternTiming CHUNK_LOAD = of("Chunk Load");
+    public static final LanternTiming CHUNK_GENERATE = of("Chunk Generate");
+    public static final LanternTiming CHUNK_SAVE = of("Chunk Save");
+    public static final LanternTiming NETWORK_HANDLERS = of("Network Handlers");
+
+    private static final Map<Class<?>, LanternTiming> entityTimings = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, LanternTiming> tileEntityTimings = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, LanternTiming> handlerTimings = new ConcurrentHashMap<>();
+
+    private static LanternTiming of(String name) {
+        return LanternTimingsFactory.get().of(PLUGIN, name, null, false);
+    }
+
+    private static LanternTiming ofVerbose(String name, LanternTiming group) {
+        return LanternTimingsFactory.get().of(PLUGIN, name, group, true);
+    }
+
+    /**
+     * Gets whether timings are enabled.
+     *
+     * @return Is enabled
+     */
+    public static boolean isEnabled() {
+        return LanternTimingsFactory.get().enabled;
+    }
+
+    /**
+     * Gets the {@link LanternTiming} for the pulse of the given entity type.
+     *
+     * @param entityType The entity class
+     * @return The timing
+     */
+    public static LanternTiming getEntityTiming(Class<?> entityType) {
+        return entityTimings.computeIfAbsent(entityType, type -> ofVerbose("Entity Tick - " + type.getSimpleName(), ENTITY_TICK));
+    }
+
+    /**
+     * Gets the {@link LanternTiming} for the pulse of the given tile entity type.
+     *
+     * @param tileEntityType The tile entity class
+     * @return The timing
+     */
+    public static LanternTiming getTileEntityTiming(Class<?> tileEntityType) {
+        return tileEntityTimings.computeIfAbsent(tileEntityType,
+                type -> ofVerbose("Tile Entity Tick - " + type.getSimpleName(), TILE_ENTITY_TICK));
+    }
+
+    /**
+     * Gets the {@link LanternTiming} for the given network message type.
+     *
+     * @param messageType The message class
+     * @return The timing
+     */
+    public static LanternTiming getHandlerTiming(Class<?> messageType) {
+        return handlerTimings.computeIfAbsent(messageType,
+                type -> ofVerbose("Network Handler - " + type.getSimpleName(), NETWORK_HANDLERS));
+    }
+
+    /**
+     * Gets the {@link LanternTiming} for the pulse of the given world.
+     *
+     * @param worldName The world name
+     * @return The timing
+     */
+    public static LanternTiming getWorldTiming(String worldName) {
+        return LanternTimingsFactory.get().of(PLUGIN, "World Tick - " + worldName, WORLD_TICK, false);
+    }
+
+    private LanternTimings() {
+    }
+}
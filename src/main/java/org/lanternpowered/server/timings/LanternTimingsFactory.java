@@ -0,0 +1,217 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.timings;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import co.aikar.timings.Timing;
+import co.aikar.timings.TimingsFactory;
+import com.google.common.collect.ImmutableList;
+import org.lanternpowered.server.config.GlobalConfig;
+import org.lanternpowered.server.game.Lantern;
+import org.lanternpowered.server.util.Conditions;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.channel.MessageChannel;
+import org.spongepowered.api.text.format.TextColors;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+public final class LanternTimingsFactory implements TimingsFactory {
+
+    public static LanternTimingsFactory get() {
+        return Holder.INSTANCE;
+    }
+
+    private final Map<String, LanternTiming> timingsByName = new ConcurrentHashMap<>();
+    // All the timings, indexed by their id
+    private final List<LanternTiming> timings = new CopyOnWriteArrayList<>();
+    private final TimingsHistory history = new TimingsHistory();
+
+    volatile boolean enabled;
+    volatile boolean verbose;
+    private volatile int historyInterval = 300;
+    private volatile int historyLength = 3600;
+    private volatile long resetTime = System.currentTimeMillis();
+
+    private LanternTimingsFactory() {
+    }
+
+    /**
+     * Initializes the timings from the {@link GlobalConfig}.
+     *
+     * @param config The global config
+     */
+    public void init(GlobalConfig config) {
+        final GlobalConfig.Timings timings = config.getTimings();
+        setHistoryInterval(timings.getHistoryInterval());
+        setHistoryLength(timings.getHistoryLength());
+        setVerboseTimingsEnabled(timings.isVerbose());
+        setTimingsEnabled(timings.isEnabled());
+    }
+
+    @Override
+    public Timing of(Object plugin, String name, @Nullable Timing groupHandler) {
+        final String pluginId = Conditions.checkPlugin(plugin, "plugin").getId();
+        return of(pluginId, name, (LanternTiming) groupHandler, false);
+    }
+
+    /**
+     * Gets or creates the {@link LanternTiming} for the given plugin id and name.
+     *
+     * @param pluginId The plugin id
+     * @param name The name
+     * @param group The group timing
+     * @param verbose Whether the timing should only be measured in verbose mode
+     * @return The timing
+     */
+    public LanternTiming of(String pluginId, String name, @Nullable LanternTiming group, boolean verbose) {
+        checkNotNull(pluginId, "pluginId");
+        checkNotNull(name, "name");
+        final String key = pluginId + ':' + name + (group == null ? "" : ':' + group.getName());
+        LanternTiming timing = this.timingsByName.get(key);
+        if (timing != null) {
+            return timing;
+        }
+        synchronized (this.timings) {
+            return this.timingsByName.computeIfAbsent(key, key1 -> {
+                final LanternTiming timing1 = new LanternTiming(this, this.timings.size(), pluginId, name, group, verbose);
+                this.timings.add(timing1);
+                return timing1;
+            });
+        }
+    }
+
+    /**
+     * Collects the timings of the tick that just finished. This
+     * should be called on the main thread at the end of every tick.
+     */
+    public void pulse() {
+        if (this.enabled) {
+            this.history.collect(this.timings, LanternTimings.SERVER_TICK.getId(),
+                    this.historyInterval, this.historyLength);
+        }
+    }
+
+    @Override
+    public boolean isTimingsEnabled() {
+        return this.enabled;
+    }
+
+    @Override
+    public void setTimingsEnabled(boolean enabled) {
+        if (this.enabled != enabled) {
+            this.enabled = enabled;
+            if (enabled) {
+                reset();
+            }
+        }
+    }
+
+    @Override
+    public boolean isVerboseTimingsEnabled() {
+        return this.verbose;
+    }
+
+    @Override
+    public void setVerboseTimingsEnabled(boolean enabled) {
+        this.verbose = enabled;
+    }
+
+    @Override
+    public int getHistoryInterval() {
+        return this.historyInterval;
+    }
+
+    @Override
+    public void setHistoryInterval(int interval) {
+        checkArgument(interval > 0, "The history interval must be greater than 0");
+        this.historyInterval = interval;
+    }
+
+    @Override
+    public int getHistoryLength() {
+        return this.historyLength;
+    }
+
+    @Override
+    public void setHistoryLength(int length) {
+        checkArgument(length > 0, "The history length must be greater than 0");
+        this.historyLength = length;
+    }
+
+    @Override
+    public void reset() {
+        this.history.reset();
+        this.resetTime = System.currentTimeMillis();
+    }
+
+    @Override
+    public void generateReport(@Nullable CommandSource source) {
+        generateReport(source == null ? Lantern.getServer().getConsole()::sendMessage : source::sendMessage);
+    }
+
+    @Override
+    public void generateReport(MessageChannel channel) {
+        checkNotNull(channel, "channel");
+        generateReport((Consumer<Text>) channel::send);
+    }
+
+    private void generateReport(Consumer<Text> messageConsumer) {
+        if (!this.enabled) {
+            messageConsumer.accept(Text.of(TextColors.RED, "Timings are not enabled."));
+            return;
+        }
+        // Collect the data on the current thread and write it async
+        final List<LanternTiming> timings = ImmutableList.copyOf(this.timings);
+        final TimingsReport report = new TimingsReport(timings, this.history.getEntries(timings.size()),
+                this.history.getLagTicks(), System.currentTimeMillis() - this.resetTime, this.historyInterval);
+        final Path directory = Lantern.getGame().getGameDirectory().resolve("timings");
+        messageConsumer.accept(Text.of("Generating the timings report..."));
+        Lantern.getScheduler().submitAsyncTask(() -> {
+            try {
+                final Path file = report.write(directory);
+                messageConsumer.accept(Text.of("The timings report was written to: ", file.toAbsolutePath().toString()));
+            } catch (IOException e) {
+                Lantern.getLogger().error("Failed to write the timings report", e);
+                messageConsumer.accept(Text.of(TextColors.RED, "Failed to write the timings report, check the console for errors."));
+            }
+        });
+    }
+
+    private static final class Holder {
+        static final LanternTimingsFactory INSTANCE = new LanternTimingsFactory();
+    }
+}
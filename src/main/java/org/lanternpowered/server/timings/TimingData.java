@@ -0,0 +1,95 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.timings;
+
+import java.util.Arrays;
+
+/**
+ * The nesting state of the timings of a single thread. Only the owning
+ * thread accesses the data, the measured durations are accumulated by
+ * the {@link LanternTiming}s themselves. The data isn't referenced from
+ * anywhere else, so it's released together with the thread.
+ */
+final class TimingData {
+
+    private static final ThreadLocal<TimingData> current = ThreadLocal.withInitial(TimingData::new);
+
+    /**
+     * Gets the {@link TimingData} of the current thread.
+     *
+     * @return The timing data
+     */
+    static TimingData current() {
+        return current.get();
+    }
+
+    // The start nanos and the nesting depth, indexed by timing id
+    private long[] starts = new long[32];
+    private int[] depths = new int[32];
+
+    private TimingData() {
+    }
+
+    private void ensureCapacity(int id) {
+        if (id < this.depths.length) {
+            return;
+        }
+        final int length = Math.max(id + 1, this.depths.length * 2);
+        this.starts = Arrays.copyOf(this.starts, length);
+        this.depths = Arrays.copyOf(this.depths, length);
+    }
+
+    void start(int id) {
+        ensureCapacity(id);
+        // Only the outer most invocation is measured
+        if (this.depths[id]++ == 0) {
+            this.starts[id] = System.nanoTime();
+        }
+    }
+
+    /**
+     * Stops the timing with the given id.
+     *
+     * @param id The timing id
+     * @return The elapsed nanos if the outer most invocation was stopped, otherwise -1
+     */
+    long stop(int id) {
+        if (id >= this.depths.length || this.depths[id] == 0) {
+            // Timings were enabled while the timing was running
+            return -1L;
+        }
+        if (--this.depths[id] == 0) {
+            return System.nanoTime() - this.starts[id];
+        }
+        return -1L;
+    }
+
+    void abort(int id) {
+        if (id < this.depths.length) {
+            this.depths[id] = 0;
+        }
+    }
+}
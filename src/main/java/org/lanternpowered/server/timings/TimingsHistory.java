@@ -0,0 +1,221 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.timings;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Collects the timing data at the end of every tick. The
+ * timings of the last ticks are kept in a ring buffer, every history interval
+ * the ticks are summarized into a {@link Entry}.
+ */
+final class TimingsHistory {
+
+    /**
+     * The duration of a tick that is considered to be lagging.
+     */
+    static final long LAG_TICK_NANOS = 50_000_000L;
+
+    /**
+     * A summary of all the ticks within a history interval.
+     */
+    static final class Entry {
+
+        final long start;
+        final long end;
+        final int ticks;
+        final int lagTicks;
+        final long[] totals;
+        final long[] counts;
+        final long[] maxTicks;
+
+        Entry(long start, long end, int ticks, int lagTicks, long[] totals, long[] counts, long[] maxTicks) {
+            this.start = start;
+            this.end = end;
+            this.ticks = ticks;
+            this.lagTicks = lagTicks;
+            this.totals = totals;
+            this.counts = counts;
+            this.maxTicks = maxTicks;
+        }
+    }
+
+    /**
+     * A single tick within the ring buffer.
+     */
+    static final class Tick {
+
+        long time;
+        long duration;
+        long[] totals = new long[0];
+    }
+
+    // The cumulative totals of the last collection
+    private long[] lastTotals = new long[0];
+    private long[] lastCounts = new long[0];
+
+    // The current interval
+    private long intervalStart = System.currentTimeMillis();
+    private long[] intervalTotals = new long[0];
+    private long[] intervalCounts = new long[0];
+    private long[] intervalMaxTicks = new long[0];
+    private int intervalTicks;
+    private int intervalLagTicks;
+
+    // The ring buffer with the most recent ticks
+    private Tick[] ticks = new Tick[0];
+    private int tickIndex;
+
+    private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+
+    /**
+     * Collects the timings of the tick that just finished.
+     *
+     * @param timings The timings that are registered, indexed by id
+     * @param serverTick The id of the timing that measures the server tick
+     * @param interval The history interval, in ticks
+     * @param length The history length, in ticks
+     */
+    synchronized void collect(List<LanternTiming> timings, int serverTick, int interval, int length) {
+        final int timingCount = timings.size();
+        if (this.ticks.length != interval) {
+            this.ticks = new Tick[interval];
+            this.tickIndex = 0;
+        }
+        if (this.lastTotals.length < timingCount) {
+            this.lastTotals = Arrays.copyOf(this.lastTotals, timingCount);
+            this.lastCounts = Arrays.copyOf(this.lastCounts, timingCount);
+            this.intervalTotals = Arrays.copyOf(this.intervalTotals, timingCount);
+            this.intervalCounts = Arrays.copyOf(this.intervalCounts, timingCount);
+            this.intervalMaxTicks = Arrays.copyOf(this.intervalMaxTicks, timingCount);
+        }
+        Tick tick = this.ticks[this.tickIndex];
+        if (tick == null) {
+            this.ticks[this.tickIndex] = tick = new Tick();
+        }
+        if (tick.totals.length < timingCount) {
+            tick.totals = new long[timingCount];
+        }
+        this.tickIndex = (this.tickIndex + 1) % interval;
+
+        for (int id = 0; id < timingCount; id++) {
+            final LanternTiming timing = timings.get(id);
+            final long total = timing.getTotal();
+            final long count = timing.getCount();
+            final long deltaTotal = total - this.lastTotals[id];
+            final long deltaCount = count - this.lastCounts[id];
+            this.lastTotals[id] = total;
+            this.lastCounts[id] = count;
+            tick.totals[id] = deltaTotal;
+            this.intervalTotals[id] += deltaTotal;
+            this.intervalCounts[id] += deltaCount;
+            if (deltaTotal > this.intervalMaxTicks[id]) {
+                this.intervalMaxTicks[id] = deltaTotal;
+            }
+        }
+        tick.time = System.currentTimeMillis();
+        tick.duration = tick.totals[serverTick];
+        this.intervalTicks++;
+        if (tick.duration > LAG_TICK_NANOS) {
+            this.intervalLagTicks++;
+        }
+        if (this.intervalTicks >= interval) {
+            this.entries.add(createEntry(timingCount));
+            // Remove the entries that are outside the history length
+            final int maxEntries = Math.max(1, length / interval);
+            while (this.entries.size() > maxEntries) {
+                this.entries.poll();
+            }
+            resetInterval();
+        }
+    }
+
+    private Entry createEntry(int timingCount) {
+        return new Entry(this.intervalStart, System.currentTimeMillis(), this.intervalTicks, this.intervalLagTicks,
+                Arrays.copyOf(this.intervalTotals, timingCount),
+                Arrays.copyOf(this.intervalCounts, timingCount),
+                Arrays.copyOf(this.intervalMaxTicks, timingCount));
+    }
+
+    private void resetInterval() {
+        this.intervalStart = System.currentTimeMillis();
+        Arrays.fill(this.intervalTotals, 0L);
+        Arrays.fill(this.intervalCounts, 0L);
+        Arrays.fill(this.intervalMaxTicks, 0L);
+        this.intervalTicks = 0;
+        this.intervalLagTicks = 0;
+    }
+
+    /**
+     * Gets all the history entries, including the interval
+     * that is currently being collected.
+     *
+     * @param timingCount The amount of timings that are registered
+     * @return The entries
+     */
+    synchronized List<Entry> getEntries(int timingCount) {
+        final List<Entry> entries = new ArrayList<>(this.entries);
+        if (this.intervalTicks > 0) {
+            entries.add(createEntry(timingCount));
+        }
+        return entries;
+    }
+
+    /**
+     * Gets copies of the ticks within the ring buffer that took
+     * longer than {@link #LAG_TICK_NANOS}, ordered from old to new.
+     *
+     * @return The lag ticks
+     */
+    synchronized List<Tick> getLagTicks() {
+        final List<Tick> ticks = new ArrayList<>();
+        for (int i = 0; i < this.ticks.length; i++) {
+            final Tick tick = this.ticks[(this.tickIndex + i) % this.ticks.length];
+            if (tick != null && tick.duration > LAG_TICK_NANOS) {
+                final Tick copy = new Tick();
+                copy.time = tick.time;
+                copy.duration = tick.duration;
+                copy.totals = tick.totals.clone();
+                ticks.add(copy);
+            }
+        }
+        return ticks;
+    }
+
+    /**
+     * Resets all the collected history. The current totals
+     * are kept as baseline for the next collection.
+     */
+    synchronized void reset() {
+        this.entries.clear();
+        this.ticks = new Tick[0];
+        this.tickIndex = 0;
+        resetInterval();
+    }
+}
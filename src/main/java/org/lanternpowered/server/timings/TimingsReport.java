@@ -0,0 +1,229 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.timings;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.lanternpowered.server.game.Lantern;
+import org.spongepowered.api.Platform;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Writes the collected timings to a local json and html file.
+ */
+final class TimingsReport {
+
+    private static final Gson GSON = new Gson();
+    private static final DateTimeFormatter FILE_NAME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+
+    private final List<LanternTiming> timings;
+    private final List<TimingsHistory.Entry> entries;
+    private final List<TimingsHistory.Tick> lagTicks;
+    private final long sampleTime;
+    private final int historyInterval;
+
+    // The totals over all the history entries, indexed by timing id
+    private final long[] totals;
+    private final long[] counts;
+    private final long[] maxTicks;
+    private final int ticks;
+    private final int lagTickCount;
+
+    TimingsReport(List<LanternTiming> timings, List<TimingsHistory.Entry> entries,
+            List<TimingsHistory.Tick> lagTicks, long sampleTime, int historyInterval) {
+        this.historyInterval = historyInterval;
+        this.sampleTime = sampleTime;
+        this.lagTicks = lagTicks;
+        this.timings = timings;
+        this.entries = entries;
+        final int timingCount = timings.size();
+        this.totals = new long[timingCount];
+        this.counts = new long[timingCount];
+        this.maxTicks = new long[timingCount];
+        int ticks = 0;
+        int lagTickCount = 0;
+        for (TimingsHistory.Entry entry : entries) {
+            ticks += entry.ticks;
+            lagTickCount += entry.lagTicks;
+            for (int id = 0; id < Math.min(timingCount, entry.totals.length); id++) {
+                this.totals[id] += entry.totals[id];
+                this.counts[id] += entry.counts[id];
+                this.maxTicks[id] = Math.max(this.maxTicks[id], entry.maxTicks[id]);
+            }
+        }
+        this.ticks = ticks;
+        this.lagTickCount = lagTickCount;
+    }
+
+    /**
+     * Writes the report files into the given directory.
+     *
+     * @param directory The directory
+     * @return The path of the html report
+     * @throws IOException If the files couldn't be written
+     */
+    Path write(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            Files.createDirectories(directory);
+        }
+        final String name = "timings-" + LocalDateTime.now().format(FILE_NAME_FORMATTER);
+        try (BufferedWriter writer = Files.newBufferedWriter(directory.resolve(name + ".json"))) {
+            GSON.toJson(toJson(), writer);
+        }
+        final Path htmlFile = directory.resolve(name + ".html");
+        try (BufferedWriter writer = Files.newBufferedWriter(htmlFile)) {
+            writer.write(toHtml());
+        }
+        return htmlFile;
+    }
+
+    private JsonObject toJson() {
+        final JsonObject json = new JsonObject();
+        final Platform platform = Lantern.getGame().getPlatform();
+        json.addProperty("server", platform.getContainer(Platform.Component.IMPLEMENTATION).getName());
+        json.addProperty("version", platform.getContainer(Platform.Component.IMPLEMENTATION).getVersion().orElse("unknown"));
+        json.addProperty("generated", Instant.now().toString());
+        json.addProperty("sampleTime", this.sampleTime);
+        json.addProperty("historyInterval", this.historyInterval);
+        json.addProperty("ticks", this.ticks);
+        json.addProperty("lagTicks", this.lagTickCount);
+
+        final JsonArray timingsJson = new JsonArray();
+        for (LanternTiming timing : this.timings) {
+            final int id = timing.getId();
+            final JsonObject timingJson = new JsonObject();
+            timingJson.addProperty("id", id);
+            timingJson.addProperty("name", timing.getName());
+            timingJson.addProperty("plugin", timing.getPlugin());
+            final LanternTiming group = timing.getGroup();
+            if (group != null) {
+                timingJson.addProperty("group", group.getId());
+            }
+            timingJson.addProperty("verbose", timing.isVerbose());
+            timingJson.addProperty("total", this.totals[id]);
+            timingJson.addProperty("count", this.counts[id]);
+            timingJson.addProperty("maxTick", this.maxTicks[id]);
+            timingsJson.add(timingJson);
+        }
+        json.add("timings", timingsJson);
+
+        final JsonArray historyJson = new JsonArray();
+        for (TimingsHistory.Entry entry : this.entries) {
+            final JsonObject entryJson = new JsonObject();
+            entryJson.addProperty("start", entry.start);
+            entryJson.addProperty("end", entry.end);
+            entryJson.addProperty("ticks", entry.ticks);
+            entryJson.addProperty("lagTicks", entry.lagTicks);
+            final JsonArray dataJson = new JsonArray();
+            for (int id = 0; id < entry.totals.length; id++) {
+                if (entry.counts[id] == 0) {
+                    continue;
+                }
+                final JsonArray timingJson = new JsonArray();
+                timingJson.add(id);
+                timingJson.add(entry.totals[id]);
+                timingJson.add(entry.counts[id]);
+                timingJson.add(entry.maxTicks[id]);
+                dataJson.add(timingJson);
+            }
+            entryJson.add("timings", dataJson);
+            historyJson.add(entryJson);
+        }
+        json.add("history", historyJson);
+
+        final JsonArray lagTicksJson = new JsonArray();
+        for (TimingsHistory.Tick tick : this.lagTicks) {
+            final JsonObject tickJson = new JsonObject();
+            tickJson.addProperty("time", tick.time);
+            tickJson.addProperty("duration", tick.duration);
+            final JsonArray dataJson = new JsonArray();
+            for (int id = 0; id < tick.totals.length; id++) {
+                if (tick.totals[id] == 0) {
+                    continue;
+                }
+                final JsonArray timingJson = new JsonArray();
+                timingJson.add(id);
+                timingJson.add(tick.totals[id]);
+                dataJson.add(timingJson);
+            }
+            tickJson.add("timings", dataJson);
+            lagTicksJson.add(tickJson);
+        }
+        json.add("lagTickDetails", lagTicksJson);
+        return json;
+    }
+
+    private String toHtml() {
+        final List<LanternTiming> timings = new ArrayList<>(this.timings);
+        timings.removeIf(timing -> this.counts[timing.getId()] == 0);
+        timings.sort(Comparator.comparingLong((LanternTiming timing) -> this.totals[timing.getId()]).reversed());
+
+        final double ticks = Math.max(1, this.ticks);
+        final StringBuilder builder = new StringBuilder();
+        builder.append("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"utf-8\">\n<title>Timings Report</title>\n")
+                .append("<style>body{font-family:monospace}table{border-collapse:collapse}")
+                .append("td,th{padding:2px 8px;text-align:right}td:nth-child(1),td:nth-child(2){text-align:left}")
+                .append("tr:nth-child(even){background:#eee}.lag{color:#c00}</style>\n</head>\n<body>\n")
+                .append("<h1>Timings Report</h1>\n<p>Sample time: ").append(this.sampleTime / 1000).append("s, ticks: ")
+                .append(this.ticks).append(", <span class=\"lag\">lag ticks: ").append(this.lagTickCount).append("</span></p>\n")
+                .append("<table>\n<tr><th>Name</th><th>Plugin</th><th>Total (ms)</th><th>Count</th><th>Avg (&micro;s)</th>")
+                .append("<th>Per tick (ms)</th><th>Max tick (ms)</th></tr>\n");
+        for (LanternTiming timing : timings) {
+            final int id = timing.getId();
+            final long total = this.totals[id];
+            final long count = this.counts[id];
+            builder.append("<tr><td>").append(escape(timing.getName())).append("</td><td>").append(escape(timing.getPlugin()))
+                    .append("</td><td>").append(format(total / 1e6))
+                    .append("</td><td>").append(count)
+                    .append("</td><td>").append(format(total / 1e3 / Math.max(1, count)))
+                    .append("</td><td>").append(format(total / 1e6 / ticks))
+                    .append("</td><td").append(this.maxTicks[id] > TimingsHistory.LAG_TICK_NANOS ? " class=\"lag\">" : ">")
+                    .append(format(this.maxTicks[id] / 1e6))
+                    .append("</td></tr>\n");
+        }
+        builder.append("</table>\n</body>\n</html>\n");
+        return builder.toString();
+    }
+
+    private static String format(double value) {
+        return String.format("%.3f", value);
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
@@ -26,6 +26,7 @@
 package org.lanternpowered.server.transformer.data;
 
 import org.lanternpowered.launch.transformer.ClassTransformer;
+import org.lanternpowered.launch.transformer.DependentClassTransformer;
 import org.lanternpowered.server.data.FastCompositeValueStoreHelper;
 import org.lanternpowered.server.data.ICompositeValueStore;
 import org.lanternpowered.server.entity.LanternEntity;
@@ -36,6 +37,8 @@
 import org.spongepowered.api.data.value.mutable.CompositeValueStore;
 import org.spongepowered.api.entity.Entity;
 
+import java.util.Map;
+
 /**
  * This {@link ClassTransformer} attempts to replace method calls inside {@link CompositeValueStore}s
  * that return {@link DataTransactionResult}. A lot of times are these {@link DataTransactionResult}s
@@ -103,12 +106,20 @@
  * boolean success = entity1.offerFast(Keys.HEALTH, 2.0);
  * }
  * </pre>
+ * <p>
+ * Whether a method call is replaced depends on the hierarchy of its owner, so every inspected
+ * owner is a dependency of the transformed class.
  */
 @SuppressWarnings("deprecation")
-public final class FastValueContainerClassTransformer implements ClassTransformer {
+public final class FastValueContainerClassTransformer implements DependentClassTransformer {
+
+    @Override
+    public String getDependencyState(ClassLoader loader, String dependency) {
+        return Integer.toString(FastValueContainerChecker.isCompositeValueStore(dependency));
+    }
 
     @Override
-    public byte[] transform(ClassLoader classLoader, String className, byte[] byteCode) {
+    public byte[] transform(ClassLoader classLoader, String className, byte[] byteCode, Map<String, String> dependencies) {
         // We don't want to get stuck in a loop, just ignore everything in the data package,
         // we can assume that everything in that package is optimized already or should be.
         if (className.startsWith("org.lanternpowered.server.data.") ||
@@ -117,7 +128,7 @@ public byte[] transform(ClassLoader classLoader, String className, byte[] byteCo
         }
         final ClassReader classReader = new ClassReader(byteCode);
         final ClassWriter classWriter = new ClassWriter(Opcodes.ASM5);
-        final FastValueContainerClassVisitor classVisitor = new FastValueContainerClassVisitor(classWriter);
+        final FastValueContainerClassVisitor classVisitor = new FastValueContainerClassVisitor(classWriter, dependencies);
         classReader.accept(classVisitor, 0);
         return classWriter.toByteArray();
     }
@@ -31,10 +31,15 @@
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.MethodVisitor;
 
+import java.util.Map;
+
 final class FastValueContainerClassVisitor extends ClassVisitor {
 
-    FastValueContainerClassVisitor(ClassVisitor cv) {
+    private final Map<String, String> dependencies;
+
+    FastValueContainerClassVisitor(ClassVisitor cv, Map<String, String> dependencies) {
         super(ASM5, cv);
+        this.dependencies = dependencies;
     }
 
     @Override
@@ -45,6 +50,6 @@ public void visit(int version, int access, String name, String signature, String
 
     @Override
     public MethodVisitor visitMethod(int access, String name, String desc, String signature, String[] exceptions) {
-        return new FastValueContainerMethodVisitor(super.visitMethod(access, name, desc, signature, exceptions));
+        return new FastValueContainerMethodVisitor(super.visitMethod(access, name, desc, signature, exceptions), this.dependencies);
     }
 }
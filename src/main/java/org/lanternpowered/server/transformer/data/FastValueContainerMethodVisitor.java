@@ -77,8 +77,20 @@ final class FastValueContainerMethodVisitor extends MethodVisitor {
     private String desc;
     private boolean itf;
 
-    FastValueContainerMethodVisitor(MethodVisitor mv) {
+    // The inspected owners and their state, may be null
+    private final Map<String, String> dependencies;
+
+    FastValueContainerMethodVisitor(MethodVisitor mv, Map<String, String> dependencies) {
         super(ASM5, mv);
+        this.dependencies = dependencies;
+    }
+
+    private int getCompositeValueStoreType(String owner) {
+        final int store = FastValueContainerChecker.isCompositeValueStore(owner);
+        if (this.dependencies != null) {
+            this.dependencies.put(owner, Integer.toString(store));
+        }
+        return store;
     }
 
     private void reset() {
@@ -244,7 +256,7 @@ public void visitMethodInsn(int opcode, String owner, String name, String desc,
 
         final String key = name + ';' + desc;
         if (opcode == INVOKEVIRTUAL && (entry = entries.get(key)) != null &&
-                (store = FastValueContainerChecker.isCompositeValueStore(owner)) != STATE_NOT_STORE) {
+                (store = getCompositeValueStoreType(owner)) != STATE_NOT_STORE) {
             this.store = store;
             this.entry = entry;
             this.opcode = opcode;
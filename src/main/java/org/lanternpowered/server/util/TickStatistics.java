@@ -0,0 +1,186 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps track of the tick rate and the duration of ticks.
+ *
+ * <p>The tick rate is tracked in buckets of one second for up to
+ * {@link #MAX_SECONDS}, the durations of the most recent
+ * {@link #MAX_TICKS} ticks are kept to calculate percentiles.</p>
+ */
+public final class TickStatistics {
+
+    /**
+     * The maximum amount of seconds the tick rate can be tracked for.
+     */
+    public static final int MAX_SECONDS = 15 * 60;
+
+    /**
+     * The maximum amount of ticks that are tracked for the durations.
+     */
+    public static final int MAX_TICKS = 1200;
+
+    private static final long SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final double nominalTicksPerSecond;
+
+    // The amount of ticks that started within each second
+    private final int[] ticksPerSecond = new int[MAX_SECONDS];
+    private long firstSecond = Long.MIN_VALUE;
+    private long currentSecond;
+
+    // The durations of the most recent ticks
+    private final long[] durations = new long[MAX_TICKS];
+    private int durationIndex;
+    private int durationCount;
+
+    /**
+     * Constructs new {@link TickStatistics}.
+     *
+     * @param nominalTicksPerSecond The tick rate that is reported until there is enough data
+     */
+    public TickStatistics(double nominalTicksPerSecond) {
+        this.nominalTicksPerSecond = nominalTicksPerSecond;
+    }
+
+    private static int bucket(long second) {
+        return (int) Math.floorMod(second, (long) MAX_SECONDS);
+    }
+
+    /**
+     * Records a tick.
+     *
+     * @param startNanos The start of the tick, in {@link System#nanoTime()}
+     * @param durationNanos The duration of the tick, in nanoseconds
+     */
+    public synchronized void record(long startNanos, long durationNanos) {
+        final long second = Math.floorDiv(startNanos, SECOND_NANOS);
+        if (this.firstSecond == Long.MIN_VALUE) {
+            this.firstSecond = second;
+            this.currentSecond = second;
+        } else if (second > this.currentSecond) {
+            // Clear the buckets of the seconds that passed
+            final long passed = Math.min(second - this.currentSecond, MAX_SECONDS);
+            for (long i = 1; i <= passed; i++) {
+                this.ticksPerSecond[bucket(this.currentSecond + i)] = 0;
+            }
+            this.currentSecond = second;
+        }
+        this.ticksPerSecond[bucket(this.currentSecond)]++;
+        this.durations[this.durationIndex] = durationNanos;
+        this.durationIndex = (this.durationIndex + 1) % MAX_TICKS;
+        if (this.durationCount < MAX_TICKS) {
+            this.durationCount++;
+        }
+    }
+
+    /**
+     * Gets the average amount of ticks per second over the last
+     * completed seconds. The current second isn't included.
+     *
+     * @param seconds The amount of seconds, up to {@link #MAX_SECONDS}
+     * @return The ticks per second
+     */
+    public double getTicksPerSecond(int seconds) {
+        return getTicksPerSecond(seconds, System.nanoTime());
+    }
+
+    /**
+     * Gets the average amount of ticks per second over the last
+     * completed seconds before the given time.
+     *
+     * @param seconds The amount of seconds, up to {@link #MAX_SECONDS}
+     * @param nowNanos The current time, in {@link System#nanoTime()}
+     * @return The ticks per second
+     */
+    public synchronized double getTicksPerSecond(int seconds, long nowNanos) {
+        checkArgument(seconds > 0 && seconds <= MAX_SECONDS, "seconds must be between 1 and %s", MAX_SECONDS);
+        if (this.firstSecond == Long.MIN_VALUE) {
+            return this.nominalTicksPerSecond;
+        }
+        final long nowSecond = Math.max(this.currentSecond, Math.floorDiv(nowNanos, SECOND_NANOS));
+        // The first second is most likely incomplete
+        final int available = (int) Math.min(seconds, nowSecond - this.firstSecond - 1);
+        if (available <= 0) {
+            return this.nominalTicksPerSecond;
+        }
+        long ticks = 0;
+        for (int i = 1; i <= available; i++) {
+            final long second = nowSecond - i;
+            // No ticks were recorded for the seconds after the current one
+            if (second <= this.currentSecond && this.currentSecond - second < MAX_SECONDS) {
+                ticks += this.ticksPerSecond[bucket(second)];
+            }
+        }
+        return (double) ticks / available;
+    }
+
+    /**
+     * Gets the average duration of the most recent ticks.
+     *
+     * @param ticks The amount of ticks, up to {@link #MAX_TICKS}
+     * @return The average duration, in milliseconds
+     */
+    public synchronized double getAverageTickTime(int ticks) {
+        checkArgument(ticks > 0 && ticks <= MAX_TICKS, "ticks must be between 1 and %s", MAX_TICKS);
+        final int count = Math.min(ticks, this.durationCount);
+        if (count == 0) {
+            return 0;
+        }
+        long total = 0;
+        for (int i = 1; i <= count; i++) {
+            total += this.durations[(this.durationIndex - i + MAX_TICKS) % MAX_TICKS];
+        }
+        return (double) total / count / 1e6;
+    }
+
+    /**
+     * Gets the duration percentile of the most recent ticks,
+     * up to {@link #MAX_TICKS} ticks are taken into account.
+     *
+     * @param percentile The percentile, between 0 and 1
+     * @return The duration, in milliseconds
+     */
+    public double getTickTimePercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 1, "percentile must be between 0 and 1");
+        final long[] durations;
+        synchronized (this) {
+            if (this.durationCount == 0) {
+                return 0;
+            }
+            durations = Arrays.copyOf(this.durations, this.durationCount);
+        }
+        Arrays.sort(durations);
+        final int index = (int) Math.ceil(percentile * durations.length) - 1;
+        return durations[Math.max(0, index)] / 1e6;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A token bucket that can be used to rate limit actions. The bucket is
+ * refilled at a constant rate up to its capacity, every action takes
+ * a single token.
+ */
+public final class TokenBucket {
+
+    private static final double SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final double capacity;
+    private final double tokensPerNano;
+
+    private double tokens;
+    private long lastRefill;
+
+    /**
+     * Constructs a new full {@link TokenBucket}.
+     *
+     * @param capacity The maximum amount of tokens, the burst size
+     * @param tokensPerSecond The amount of tokens that are added every second
+     * @param nowNanos The current time in nanoseconds
+     */
+    public TokenBucket(double capacity, double tokensPerSecond, long nowNanos) {
+        checkArgument(capacity >= 1.0, "The capacity must be at least one");
+        checkArgument(tokensPerSecond > 0.0, "The tokens per second must be greater than zero");
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerSecond / SECOND_NANOS;
+        this.tokens = capacity;
+        this.lastRefill = nowNanos;
+    }
+
+    /**
+     * Attempts to take a token from this bucket.
+     *
+     * @return Whether a token was available
+     */
+    public boolean tryAcquire() {
+        return tryAcquire(System.nanoTime());
+    }
+
+    /**
+     * Attempts to take a token from this bucket.
+     *
+     * @param nowNanos The current time in nanoseconds
+     * @return Whether a token was available
+     */
+    public synchronized boolean tryAcquire(long nowNanos) {
+        final long elapsed = nowNanos - this.lastRefill;
+        if (elapsed > 0) {
+            this.tokens = Math.min(this.capacity, this.tokens + elapsed * this.tokensPerNano);
+            this.lastRefill = nowNanos;
+        }
+        if (this.tokens < 1.0) {
+            return false;
+        }
+        this.tokens -= 1.0;
+        return true;
+    }
+}
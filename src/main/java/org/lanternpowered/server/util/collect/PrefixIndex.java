@@ -0,0 +1,135 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.util.collect;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * A thread safe index of {@link String}s which can be searched
+ * by a case insensitive prefix. Lookups cost {@code O(log(n) + k)},
+ * where {@code k} is the amount of matches, instead of testing
+ * every value in a collection.
+ *
+ * <p>Values keep their original case, multiple values that are
+ * equal when ignoring the case are all retained.</p>
+ */
+public final class PrefixIndex {
+
+    /**
+     * The highest {@code char}, everything that starts with a prefix
+     * is located between the prefix and the prefix followed by this char.
+     */
+    private static final char MAX_CHAR = Character.MAX_VALUE;
+
+    private final NavigableMap<String, Set<String>> entries = new ConcurrentSkipListMap<>();
+
+    private static String toKey(String value) {
+        return value.toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Adds the given value to this index.
+     *
+     * @param value The value
+     */
+    public void add(String value) {
+        checkNotNull(value, "value");
+        this.entries.computeIfAbsent(toKey(value), key -> ConcurrentHashMap.newKeySet()).add(value);
+    }
+
+    /**
+     * Adds all the given values to this index.
+     *
+     * @param values The values
+     */
+    public void addAll(Iterable<String> values) {
+        values.forEach(this::add);
+    }
+
+    /**
+     * Removes the given value from this index.
+     *
+     * @param value The value
+     */
+    public void remove(String value) {
+        checkNotNull(value, "value");
+        this.entries.computeIfPresent(toKey(value), (key, values) -> {
+            values.remove(value);
+            return values.isEmpty() ? null : values;
+        });
+    }
+
+    /**
+     * Removes all the values from this index.
+     */
+    public void clear() {
+        this.entries.clear();
+    }
+
+    /**
+     * Gets whether this index contains the given value.
+     *
+     * @param value The value
+     * @return Whether the value is present
+     */
+    public boolean contains(String value) {
+        final Set<String> values = this.entries.get(toKey(value));
+        return values != null && values.contains(value);
+    }
+
+    /**
+     * Gets all the values that start with the given
+     * prefix, ignoring the case, in alphabetical order.
+     *
+     * @param prefix The prefix
+     * @return The matching values
+     */
+    public ImmutableList<String> getMatches(String prefix) {
+        checkNotNull(prefix, "prefix");
+        final Map<String, Set<String>> matches;
+        if (prefix.isEmpty()) {
+            matches = this.entries;
+        } else {
+            final String key = toKey(prefix);
+            matches = this.entries.subMap(key, true, key + MAX_CHAR, true);
+        }
+        final ImmutableList.Builder<String> builder = ImmutableList.builder();
+        for (Collection<String> values : matches.values()) {
+            builder.addAll(values);
+        }
+        return builder.build();
+    }
+}
@@ -221,6 +221,22 @@ public byte[] getPackedArray() {
         return this.getPackedArray(null);
     }
 
+    /**
+     * Sets the content of the array from an array that contains in each byte
+     * two packed nibbles. The lengths don't have to match, if it's shorter then
+     * the remaining content be set to zero, and if it's longer then will the
+     * rest of the content be ignored.
+     *
+     * @param array the packed content
+     */
+    public void setPackedArray(byte[] array) {
+        final int length = Math.min(array.length, this.backingArraySize);
+        System.arraycopy(array, 0, this.backingArray, 0, length);
+        if (length < this.backingArraySize) {
+            Arrays.fill(this.backingArray, length, this.backingArraySize, (byte) 0);
+        }
+    }
+
     /**
      * Creates a copy of this nibble array.
      *
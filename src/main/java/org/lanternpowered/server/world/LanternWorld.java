@@ -49,6 +49,7 @@
 import org.lanternpowered.server.block.behavior.types.BreakBlockBehavior;
 import org.lanternpowered.server.block.behavior.types.InteractWithBlockBehavior;
 import org.lanternpowered.server.block.behavior.types.PlaceBlockBehavior;
+import org.lanternpowered.server.block.behavior.types.RandomTickBehavior;
 import org.lanternpowered.server.config.world.WorldConfig;
 import org.lanternpowered.server.data.io.ChunkIOService;
 import org.lanternpowered.server.data.io.ScoreboardIO;
@@ -69,6 +70,9 @@
 import org.lanternpowered.server.network.vanilla.message.type.play.MessagePlayOutStopSounds;
 import org.lanternpowered.server.text.chat.LanternChatType;
 import org.lanternpowered.server.text.title.LanternTitles;
+import org.lanternpowered.server.timings.LanternTiming;
+import org.lanternpowered.server.timings.LanternTimings;
+import org.lanternpowered.server.util.TickStatistics;
 import org.lanternpowered.server.util.VecHelper;
 import org.lanternpowered.server.world.chunk.ChunkLoadingTicket;
 import org.lanternpowered.server.world.chunk.LanternChunk;
@@ -237,6 +241,15 @@ public class LanternWorld implements AbstractExtent, org.lanternpowered.api.worl
 
     private final PortalAgent portalAgent;
 
+    // The timing of the world pulse, lazily initialized
+    @Nullable private LanternTiming timing;
+
+    // The tick statistics of the world pulse
+    private final TickStatistics tickStatistics = new TickStatistics(LanternGame.TICKS_PER_SECOND);
+
+    // The auto saver of this world
+    private final WorldAutoSaver autoSaver;
+
     // The context of this world
     private final Context worldContext;
 
@@ -263,6 +276,7 @@ public LanternWorld(LanternGame game, WorldConfig worldConfig, Path directory,
         this.logger = LoggerFactory.getLogger("world/" + properties.getWorldName());
         this.directory = directory;
         this.worldConfig = worldConfig;
+        this.autoSaver = new WorldAutoSaver(this, worldConfig);
         this.scoreboard = scoreboard;
         this.properties = properties;
         this.game = game;
@@ -332,6 +346,8 @@ void shutdown() {
         }
         // Shut the chunk manager down
         this.chunkManager.shutdown();
+        // The scoreboard is saved after the shutdown
+        this.autoSaver.awaitPendingWrites();
     }
 
     /**
@@ -471,7 +487,8 @@ public MutableBlockVolumeWorker<World> getBlockWorker() {
     @Override
     public boolean save() throws IOException {
         this.chunkManager.save();
-        // Save the scoreboard
+        // Save the scoreboard, after the pending auto save
+        this.autoSaver.awaitPendingWrites();
         ScoreboardIO.write(this.directory, this.scoreboard);
         // Save the world properties
         Lantern.getServer().getWorldManager().saveWorldProperties(this.properties);
@@ -1412,7 +1429,12 @@ private void pulseEntities() {
                 this.entitiesByUniqueId.remove(entity.getUniqueId());
             } else {
                 final Vector3i lastChunkSection = entity.getLastChunkSectionCoords();
-                entity.pulse();
+                final LanternTiming timing = LanternTimings.getEntityTiming(entity.getClass()).startTiming();
+                try {
+                    entity.pulse();
+                } finally {
+                    timing.stopTiming();
+                }
                 final Vector3i pos = entity.getPosition().toInt();
                 final Vector3i newChunk = new Vector3i(pos.getX() >> 4, fixEntityYSection(pos.getY() >> 4), pos.getZ() >> 4);
                 if (lastChunkSection == null || !lastChunkSection.equals(newChunk)) {
@@ -1526,7 +1548,25 @@ public int getSeaLevel() {
         return IGeneratorType.getSeaLevel(getProperties().getGeneratorType(), getProperties().getGeneratorSettings());
     }
 
+    /**
+     * Gets the {@link TickStatistics} of the world pulse.
+     *
+     * @return The tick statistics
+     */
+    public TickStatistics getTickStatistics() {
+        return this.tickStatistics;
+    }
+
     public void pulse() {
+        if (this.timing == null) {
+            this.timing = LanternTimings.getWorldTiming(getName());
+        }
+        try (LanternTiming ignored = this.timing.startTiming()) {
+            pulse0();
+        }
+    }
+
+    private void pulse0() {
         final CauseStack causeStack = CauseStack.current();
         causeStack.pushCause(this);
 
@@ -1537,16 +1577,23 @@ public void pulse() {
         }
 
         // Pulse the entities
-        pulseEntities();
+        try (LanternTiming ignored = LanternTimings.ENTITY_TICK.startTiming()) {
+            pulseEntities();
+        }
 
         // Pulse the tile entities
-        getLoadedChunks().forEach(chunk -> ((LanternChunk) chunk).pulse());
+        try (LanternTiming ignored = LanternTimings.TILE_ENTITY_TICK.startTiming()) {
+            this.chunkManager.pulseChunks(causeStack, this.players);
+        }
 
         causeStack.popCause();
 
         // TODO: Maybe async?
         this.observedChunkManager.pulse();
         this.entityProtocolManager.updateTrackers(this.players);
+
+        // Save modified data, spread over multiple ticks
+        this.autoSaver.pulse();
     }
 
     public void broadcast(Supplier<Message> message) {
@@ -1679,6 +1726,32 @@ private boolean digBlock(int x, int y, int z, @Nullable GameProfile profile, @Nu
         }
     }
 
+    /**
+     * Performs a random tick for the block at the given position, this
+     * processes the {@link RandomTickBehavior}s of the block type.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param z The z coordinate
+     * @param blockType The block type at the position
+     */
+    public void randomTickBlock(int x, int y, int z, LanternBlockType blockType) {
+        final BehaviorPipeline<Behavior> pipeline = blockType.getPipeline();
+
+        final CauseStack causeStack = CauseStack.current();
+        try (CauseStack.Frame frame = causeStack.pushCauseFrame()) {
+            frame.addContext(ContextKeys.BLOCK_LOCATION, new Location<>(this, x, y, z));
+            frame.addContext(ContextKeys.BLOCK_TYPE, blockType);
+            final BehaviorContextImpl context = new BehaviorContextImpl(causeStack);
+            if (context.process(pipeline.pipeline(RandomTickBehavior.class),
+                    (ctx, behavior) -> behavior.tryRandomTick(pipeline, ctx)).isSuccess()) {
+                context.accept();
+            } else {
+                context.revert();
+            }
+        }
+    }
+
     @Override
     public int getBlockDigTimeWith(int x, int y, int z, ItemStack itemStack, GameProfile profile) {
         checkNotNull(profile, "profile");
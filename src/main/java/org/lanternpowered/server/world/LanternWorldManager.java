@@ -41,6 +41,7 @@
 import org.lanternpowered.server.config.GlobalConfig;
 import org.lanternpowered.server.config.world.WorldConfig;
 import org.lanternpowered.server.data.io.ScoreboardIO;
+import org.lanternpowered.server.data.io.anvil.AnvilChunkIOService;
 import org.lanternpowered.server.game.DirectoryKeys;
 import org.lanternpowered.server.game.Lantern;
 import org.lanternpowered.server.game.LanternGame;
@@ -119,6 +120,9 @@ private static class WorldLookupEntry {
         // The reference to the world instance
         @Nullable public volatile LanternWorld world;
 
+        // The last asynchronous write of the world properties
+        CompletableFuture<?> pendingWrite = CompletableFuture.completedFuture(null);
+
         WorldLookupEntry(LanternWorldProperties properties, Path folder, int dimensionId) {
             this.dimensionId = dimensionId;
             this.properties = properties;
@@ -410,6 +414,102 @@ public FileVisitResult visitFile(Path path, BasicFileAttributes attrs) throws IO
         }, this.executor);
     }
 
+    /**
+     * Creates an instance of the given template world. The instance shares
+     * the region files of the template, only the chunks that are modified
+     * within the instance will be stored in its own folder. No chunk data
+     * is copied while creating the instance.
+     *
+     * <p>The template must be unloaded and cannot be loaded while any of
+     * its instances are loaded. An instance can be discarded through
+     * {@link #deleteWorld(WorldProperties)}, or its modifications can be
+     * written back to the template through {@link #mergeWorldInstance(WorldProperties)}.</p>
+     *
+     * @param template The properties of the template world
+     * @param instanceName The name of the instance
+     * @return The properties of the instance, if successful
+     */
+    public CompletableFuture<Optional<WorldProperties>> createWorldInstance(WorldProperties template, String instanceName) {
+        checkNotNull(template, "template");
+        checkNotNull(instanceName, "instanceName");
+        return Functional.asyncFailableFuture(() -> {
+            // Get the lookup entry
+            final WorldLookupEntry entry = this.worldByProperties.get(template);
+
+            // The region files of the template are shared, so it may not be modified
+            if (entry.world != null) {
+                this.logger.error("The template world {} must be unloaded before instances can be created.",
+                        template.getWorldName());
+                return Optional.empty();
+            }
+            if (AnvilChunkIOService.getTemplateDirectory(entry.folder).isPresent()) {
+                this.logger.error("Cannot use the world instance {} as a template.", template.getWorldName());
+                return Optional.empty();
+            }
+
+            // Get the new dimension id
+            final int dimensionId = getNextFreeDimensionId();
+
+            // The folder of the new world
+            final Path targetFolder = this.getWorldFolder(instanceName, dimensionId);
+            if (Files.exists(targetFolder) && Files.list(targetFolder).count() > 0) {
+                this.logger.error("The instance world folder already exists and it isn't empty!");
+                return Optional.empty();
+            }
+            Files.createDirectories(targetFolder);
+            AnvilChunkIOService.setTemplateDirectory(targetFolder, entry.folder);
+
+            final WorldConfigResult result = this.getOrCreateWorldConfig(instanceName);
+            // Copy the settings
+            result.config.copyFrom(entry.properties.getConfig());
+            result.config.save();
+
+            // Every instance needs its own unique id
+            final LevelData levelData = LanternWorldPropertiesIO.read(entry.folder, instanceName, UUID.randomUUID());
+            final LanternWorldProperties properties = LanternWorldPropertiesIO.convert(levelData, result.config, false);
+
+            final LevelData newData = new LevelData(levelData.worldName, levelData.uniqueId, levelData.worldData,
+                    levelData.spongeWorldData, dimensionId, null);
+
+            // Store the new world
+            this.addUpdatedWorldProperties(properties, targetFolder, dimensionId);
+
+            // Save the level data of the instance
+            LanternWorldPropertiesIO.write(targetFolder, newData);
+
+            return Optional.of(properties);
+        }, this.executor);
+    }
+
+    /**
+     * Writes all the chunks that were modified within the unloaded world
+     * instance back to its template world. The template and all of its
+     * instances must be unloaded.
+     *
+     * @param instance The properties of the world instance
+     * @return Whether the merge was successful
+     */
+    public CompletableFuture<Boolean> mergeWorldInstance(WorldProperties instance) {
+        checkNotNull(instance, "instance");
+        return Functional.asyncFailableFuture(() -> {
+            final WorldLookupEntry entry = this.worldByProperties.get(instance);
+            if (entry.world != null) {
+                return false;
+            }
+            final Path templateFolder = AnvilChunkIOService.getTemplateDirectory(entry.folder).orElse(null);
+            if (templateFolder == null || AnvilChunkIOService.isTemplateInUse(templateFolder)) {
+                return false;
+            }
+            for (WorldLookupEntry other : this.worldByProperties.values()) {
+                if (other.world != null && Files.isSameFile(other.folder, templateFolder)) {
+                    return false;
+                }
+            }
+            AnvilChunkIOService.mergeIntoTemplate(entry.folder);
+            return true;
+        }, this.executor);
+    }
+
     /**
      * Renames an unloaded world.
      *
@@ -489,15 +589,49 @@ public boolean saveWorldProperties(WorldProperties worldProperties) {
         checkNotNull(worldProperties, "worldProperties");
         final WorldLookupEntry entry = this.worldByProperties.get(worldProperties);
         checkNotNull(entry, "entry");
-        final LanternWorldProperties worldProperties0 = (LanternWorldProperties) worldProperties;
+        final LevelData levelData = convertWorldProperties(entry);
+        final CompletableFuture<?> pendingWrite;
+        synchronized (entry) {
+            pendingWrite = entry.pendingWrite;
+        }
+        // Don't let a pending write overwrite the newer data
+        pendingWrite.join();
+        return writeWorldProperties(entry, levelData);
+    }
+
+    /**
+     * Converts the {@link WorldProperties} on the current thread and
+     * writes them to the disk asynchronously. Writes of the same world
+     * properties are applied in the order that they were submitted.
+     *
+     * @param worldProperties The world properties
+     * @return The future that is completed once the properties are written
+     */
+    public CompletableFuture<Boolean> saveWorldPropertiesAsync(WorldProperties worldProperties) {
+        checkNotNull(worldProperties, "worldProperties");
+        final WorldLookupEntry entry = this.worldByProperties.get(worldProperties);
+        checkNotNull(entry, "entry");
+        final LevelData levelData = convertWorldProperties(entry);
+        synchronized (entry) {
+            final CompletableFuture<Boolean> future = entry.pendingWrite.thenApplyAsync(
+                    ignored -> writeWorldProperties(entry, levelData), this.executor);
+            entry.pendingWrite = future;
+            return future;
+        }
+    }
+
+    private LevelData convertWorldProperties(WorldLookupEntry entry) {
         final BitSet dimensionMap = entry.dimensionId == 0 ? (BitSet) this.dimensionMap.clone() : null;
+        return LanternWorldPropertiesIO.convert(entry.properties, entry.dimensionId, dimensionMap);
+    }
+
+    private boolean writeWorldProperties(WorldLookupEntry entry, LevelData levelData) {
         try {
-            final LevelData levelData = LanternWorldPropertiesIO.convert(worldProperties0, entry.dimensionId, dimensionMap);
             LanternWorldPropertiesIO.write(entry.folder, levelData);
-            worldProperties0.getConfig().save();
+            entry.properties.getConfig().save();
         } catch (IOException e) {
             this.logger.error("Unable to save the world properties of {}: {}",
-                    worldProperties.getWorldName(), e.getMessage(), e);
+                    entry.properties.getWorldName(), e.getMessage(), e);
             return false;
         }
         return true;
@@ -630,6 +764,12 @@ private Optional<World> loadWorld(@Nullable WorldLookupEntry worldEntry) {
         if (worldEntry.world != null) {
             return Optional.of(worldEntry.world);
         }
+        // The region files of a template are shared with its instances
+        if (AnvilChunkIOService.isTemplateInUse(worldEntry.folder)) {
+            this.logger.error("Unable to load the world {}, it's used as template by a loaded instance.",
+                    worldEntry.properties.getWorldName());
+            return Optional.empty();
+        }
         WorldConfigResult result;
         try {
             result = getOrCreateWorldConfig(worldEntry.properties.getWorldName());
@@ -644,8 +784,15 @@ private Optional<World> loadWorld(@Nullable WorldLookupEntry worldEntry) {
             this.logger.error("Unable to read the scoreboard data.", e);
             scoreboard = Scoreboard.builder().build();
         }
-        // Create the world instance
-        final LanternWorld world = new LanternWorld(this.game, result.config, worldEntry.folder, scoreboard, worldEntry.properties);
+        // Create the world instance, this will fail if the template of
+        // the world or one of its instances got loaded in the meantime
+        final LanternWorld world;
+        try {
+            world = new LanternWorld(this.game, result.config, worldEntry.folder, scoreboard, worldEntry.properties);
+        } catch (IllegalStateException e) {
+            this.logger.error("Unable to load the world {}: {}", worldEntry.properties.getWorldName(), e.getMessage());
+            return Optional.empty();
+        }
         // Share the world instance
         worldEntry.world = world;
         worldEntry.properties.setWorld(world);
@@ -717,11 +864,13 @@ private void addWorldTask(LanternWorld world) {
                 final Thread thread0 = Thread.currentThread();
                 while (!thread0.isInterrupted() && !this.tickEnd.isTerminated()) {
                     this.tickBegin.arriveAndAwaitAdvance();
+                    final long start = System.nanoTime();
                     try {
                         world.pulse();
                     } catch (Exception e) {
                         this.logger.error("Error occurred while pulsing the world {}", world.getName(), e);
                     } finally {
+                        world.getTickStatistics().record(start, System.nanoTime() - start);
                         this.tickEnd.arriveAndAwaitAdvance();
                     }
                 }
@@ -63,6 +63,11 @@ public void onBlockChange(int x, int y, int z, BlockState oldBlockState, BlockSt
         this.listeners.forEach(listener -> listener.onBlockChange(x, y, z, oldBlockState, newBlockState));
     }
 
+    @Override
+    public void onSectionChange(LanternChunk chunk, int section) {
+        this.listeners.forEach(listener -> listener.onSectionChange(chunk, section));
+    }
+
     @Override
     public void onBlockAction(int x, int y, int z, BlockType blockType, BlockAction blockAction) {
         this.listeners.forEach(listener -> listener.onBlockAction(x, y, z, blockType, blockAction));
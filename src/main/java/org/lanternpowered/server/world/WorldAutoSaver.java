@@ -0,0 +1,165 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.world;
+
+import org.lanternpowered.server.config.world.WorldConfig;
+import org.lanternpowered.server.data.io.ScoreboardIO;
+import org.lanternpowered.server.data.io.UserIO;
+import org.lanternpowered.server.entity.living.player.LanternPlayer;
+import org.lanternpowered.server.game.Lantern;
+import org.lanternpowered.server.world.chunk.LanternChunk;
+import org.lanternpowered.server.world.chunk.LanternChunkManager;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.world.Chunk;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Saves the modified state of a {@link LanternWorld} periodically. The chunks
+ * are not written all at once, but spread over the following ticks, limited by
+ * a chunk count per tick and a byte budget per second to avoid stalling the world.
+ * The players, scoreboard and world properties are serialized on the world thread
+ * and written asynchronously.
+ */
+final class WorldAutoSaver {
+
+    private static final long NANOS_PER_SECOND = 1000000000L;
+
+    private final LanternWorld world;
+    private final WorldConfig config;
+
+    // The chunks that are waiting to be saved in the current cycle
+    private final Queue<LanternChunk> pendingChunks = new ArrayDeque<>();
+
+    // The amount of ticks until the next save cycle starts
+    private int ticksUntilSave;
+
+    // The amount of bytes that may still be written
+    private long byteAllowance;
+    private long lastAllowanceTime;
+
+    // The last asynchronous write of the scoreboard
+    private CompletableFuture<Void> pendingScoreboardWrite = CompletableFuture.completedFuture(null);
+
+    WorldAutoSaver(LanternWorld world, WorldConfig config) {
+        this.world = world;
+        this.config = config;
+        this.ticksUntilSave = config.getAutoSaveInterval();
+    }
+
+    /**
+     * Pulses the auto saver, should be called once every world tick.
+     */
+    void pulse() {
+        final int interval = this.config.getAutoSaveInterval();
+        if (interval <= 0) {
+            this.pendingChunks.clear();
+            return;
+        }
+        if (--this.ticksUntilSave <= 0) {
+            this.ticksUntilSave = interval;
+            startCycle();
+        }
+        if (!this.pendingChunks.isEmpty()) {
+            saveChunks();
+        }
+    }
+
+    private void startCycle() {
+        final LanternChunkManager chunkManager = this.world.getChunkManager();
+        chunkManager.saveTickets();
+        // Save the players that are located in this world
+        final Path savesDirectory = Lantern.getGame().getSavesDirectory();
+        for (LanternPlayer player : this.world.getRawPlayers()) {
+            UserIO.saveAsync(savesDirectory, player).exceptionally(e -> {
+                this.world.logger.warn("An error occurred while saving the player data for {}", player.getProfile(), e);
+                return null;
+            });
+            player.getAdvancementsProgress().save();
+        }
+        final Path directory = this.world.getDirectory();
+        final DataContainer scoreboardData = ScoreboardIO.serialize(this.world.getScoreboard());
+        this.pendingScoreboardWrite = this.pendingScoreboardWrite.thenCompose(ignored -> Lantern.getScheduler().submitAsyncTask(() -> {
+            try {
+                ScoreboardIO.write(directory, scoreboardData);
+            } catch (IOException e) {
+                this.world.logger.warn("An error occurred while saving the scoreboard", e);
+            }
+        }));
+        Lantern.getServer().getWorldManager().saveWorldPropertiesAsync(this.world.getProperties());
+        // Chunks left over from the previous cycle are still queued
+        if (this.pendingChunks.isEmpty()) {
+            for (Chunk chunk : chunkManager.getLoadedChunks()) {
+                final LanternChunk chunk0 = (LanternChunk) chunk;
+                if (chunk0.needsSaving()) {
+                    this.pendingChunks.add(chunk0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits for the pending asynchronous writes of this
+     * auto saver, so that they can't overwrite newer data.
+     */
+    void awaitPendingWrites() {
+        this.pendingScoreboardWrite.join();
+    }
+
+    private void saveChunks() {
+        final long maxBytesPerSecond = this.config.getAutoSaveMaxBytesPerSecond();
+        final long time = System.nanoTime();
+        if (maxBytesPerSecond > 0) {
+            // Refill the allowance based on the elapsed time, at most one second worth of data
+            final long elapsed = Math.min(time - this.lastAllowanceTime, NANOS_PER_SECOND);
+            this.byteAllowance = Math.min(maxBytesPerSecond,
+                    this.byteAllowance + elapsed * maxBytesPerSecond / NANOS_PER_SECOND);
+            if (this.byteAllowance <= 0) {
+                this.lastAllowanceTime = time;
+                return;
+            }
+        }
+        this.lastAllowanceTime = time;
+        final LanternChunkManager chunkManager = this.world.getChunkManager();
+        final int chunksPerTick = Math.max(1, this.config.getAutoSaveChunksPerTick());
+        int saved = 0;
+        LanternChunk chunk;
+        while (saved < chunksPerTick && (chunk = this.pendingChunks.poll()) != null) {
+            final int bytes = chunkManager.saveIfNeeded(chunk);
+            if (bytes < 0) {
+                continue;
+            }
+            saved++;
+            if (maxBytesPerSecond > 0 && (this.byteAllowance -= bytes) <= 0) {
+                break;
+            }
+        }
+    }
+}
@@ -65,6 +65,15 @@ public interface WorldEventListener {
      */
     void onBlockChange(int x, int y, int z, BlockState oldBlockState, BlockState newBlockState);
 
+    /**
+     * Is called when a large amount of {@link BlockState}s within
+     * the chunk section at the specified index is changed at once.
+     *
+     * @param chunk The chunk
+     * @param section The index of the chunk section
+     */
+    void onSectionChange(LanternChunk chunk, int section);
+
     /**
      * Is called when the {@link BlockAction} is triggered for the
      * {@link BlockType} at the specified coordinates.
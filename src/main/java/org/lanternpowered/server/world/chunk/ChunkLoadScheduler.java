@@ -0,0 +1,262 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.world.chunk;
+
+import com.flowpowered.math.vector.Vector2i;
+import org.lanternpowered.server.game.Lantern;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Schedules asynchronous chunk loads. Queued chunks are loaded in the order
+ * of their priority, which is the distance to the nearest player and can be
+ * updated when players move. Loads that didn't start yet can be cancelled.
+ *
+ * <p>Chunks that need to be generated are moved into a separate queue which
+ * is processed by a separate (smaller) set of threads, this prevents slow
+ * generation from blocking plain disk loads. The threads are only started
+ * once the first chunk is queued.</p>
+ */
+final class ChunkLoadScheduler {
+
+    private final Object lock = new Object();
+
+    // The chunks that are queued to be loaded from disk
+    private final PriorityQueue<Task> loadQueue = new PriorityQueue<>();
+
+    // The chunks that are queued to be generated
+    private final PriorityQueue<Task> generationQueue = new PriorityQueue<>();
+
+    // All the tasks that are queued or running, mapped by their coordinates
+    private final Map<Vector2i, Task> tasks = new HashMap<>();
+
+    private final List<Thread> threads = new ArrayList<>();
+
+    private final int loadThreads;
+    private final int generationThreads;
+    private final ThreadFactory threadFactory;
+    private final ToLongFunction<Vector2i> priorityFunction;
+    private final Predicate<Vector2i> needsGeneration;
+    private final Consumer<Vector2i> loader;
+
+    private long sequence;
+    private boolean shutdown;
+
+    private static final class Task implements Comparable<Task> {
+
+        private final Vector2i coords;
+        private final long sequence;
+
+        private long priority;
+        private boolean generate;
+        private boolean running;
+
+        private Task(Vector2i coords, long sequence, long priority) {
+            this.coords = coords;
+            this.sequence = sequence;
+            this.priority = priority;
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            final int value = Long.compare(this.priority, other.priority);
+            return value != 0 ? value : Long.compare(this.sequence, other.sequence);
+        }
+    }
+
+    /**
+     * Constructs a new {@link ChunkLoadScheduler}.
+     *
+     * @param loadThreads The amount of threads that load chunks from disk
+     * @param generationThreads The amount of threads that generate chunks
+     * @param threadFactory The thread factory
+     * @param priorityFunction The function to calculate the priority of a chunk, lower values are loaded first
+     * @param needsGeneration The predicate to check whether a chunk needs to be generated
+     * @param loader The function to load (and generate) a chunk
+     */
+    ChunkLoadScheduler(int loadThreads, int generationThreads, ThreadFactory threadFactory,
+            ToLongFunction<Vector2i> priorityFunction, Predicate<Vector2i> needsGeneration, Consumer<Vector2i> loader) {
+        this.loadThreads = loadThreads;
+        this.generationThreads = generationThreads;
+        this.threadFactory = threadFactory;
+        this.priorityFunction = priorityFunction;
+        this.needsGeneration = needsGeneration;
+        this.loader = loader;
+    }
+
+    private void startThreads() {
+        for (int i = 0; i < this.loadThreads; i++) {
+            this.threads.add(this.threadFactory.newThread(() -> process(this.loadQueue)));
+        }
+        for (int i = 0; i < this.generationThreads; i++) {
+            this.threads.add(this.threadFactory.newThread(() -> process(this.generationQueue)));
+        }
+        this.threads.forEach(Thread::start);
+    }
+
+    /**
+     * Queues the chunk at the given coordinates to be loaded.
+     *
+     * @param coords The chunk coordinates
+     * @return Whether the chunk was queued, false if it was already queued or loading
+     */
+    boolean queue(Vector2i coords) {
+        final long priority = this.priorityFunction.applyAsLong(coords);
+        synchronized (this.lock) {
+            if (this.shutdown || this.tasks.containsKey(coords)) {
+                return false;
+            }
+            if (this.threads.isEmpty()) {
+                startThreads();
+            }
+            final Task task = new Task(coords, this.sequence++, priority);
+            this.tasks.put(coords, task);
+            this.loadQueue.add(task);
+            this.lock.notifyAll();
+            return true;
+        }
+    }
+
+    /**
+     * Cancels the load of the chunk at the given coordinates,
+     * if the load didn't start yet.
+     *
+     * @param coords The chunk coordinates
+     * @return Whether the load was cancelled
+     */
+    boolean cancel(Vector2i coords) {
+        synchronized (this.lock) {
+            final Task task = this.tasks.get(coords);
+            if (task == null || task.running) {
+                return false;
+            }
+            this.tasks.remove(coords);
+            (task.generate ? this.generationQueue : this.loadQueue).remove(task);
+            return true;
+        }
+    }
+
+    /**
+     * Recalculates the priorities of all the queued chunks.
+     */
+    void updatePriorities() {
+        synchronized (this.lock) {
+            updatePriorities(this.loadQueue);
+            updatePriorities(this.generationQueue);
+        }
+    }
+
+    private void updatePriorities(PriorityQueue<Task> queue) {
+        if (queue.isEmpty()) {
+            return;
+        }
+        final List<Task> tasks = new ArrayList<>(queue);
+        queue.clear();
+        for (Task task : tasks) {
+            task.priority = this.priorityFunction.applyAsLong(task.coords);
+        }
+        queue.addAll(tasks);
+    }
+
+    /**
+     * Stops all the threads, the queued chunks won't be loaded. Waits
+     * for the chunks that are currently being loaded to finish.
+     */
+    void shutdown() {
+        final List<Thread> threads;
+        synchronized (this.lock) {
+            this.shutdown = true;
+            this.loadQueue.clear();
+            this.generationQueue.clear();
+            this.tasks.clear();
+            this.lock.notifyAll();
+            threads = new ArrayList<>(this.threads);
+        }
+        boolean interrupted = false;
+        for (Thread thread : threads) {
+            // Don't wait for itself
+            if (thread == Thread.currentThread()) {
+                continue;
+            }
+            while (thread.isAlive()) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void process(PriorityQueue<Task> queue) {
+        while (true) {
+            final Task task;
+            synchronized (this.lock) {
+                while (queue.isEmpty() && !this.shutdown) {
+                    try {
+                        this.lock.wait();
+                    } catch (InterruptedException ignored) {
+                    }
+                }
+                if (this.shutdown) {
+                    return;
+                }
+                task = queue.poll();
+                task.running = true;
+            }
+            try {
+                // Move the chunk to the generation queue if it isn't stored yet,
+                // the chunk will be loaded by one of the generation threads
+                if (!task.generate && this.needsGeneration.test(task.coords)) {
+                    synchronized (this.lock) {
+                        task.generate = true;
+                        task.running = false;
+                        this.generationQueue.add(task);
+                        this.lock.notifyAll();
+                    }
+                    continue;
+                }
+                this.loader.accept(task.coords);
+            } catch (Throwable t) {
+                Lantern.getLogger().error("Failed to load the chunk at ({};{})", task.coords.getX(), task.coords.getY(), t);
+            }
+            synchronized (this.lock) {
+                this.tasks.remove(task.coords, task);
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.world.chunk;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static org.lanternpowered.server.world.chunk.LanternChunk.CHUNK_SECTION_VOLUME;
+
+import it.unimi.dsi.fastutil.shorts.Short2ObjectOpenHashMap;
+import org.lanternpowered.server.util.collect.array.NibbleArray;
+import org.lanternpowered.server.world.chunk.LanternChunk.ChunkSection;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+
+/**
+ * A pool that recycles the backing arrays of {@link ChunkSection}s that
+ * are no longer in use. All the arrays are zeroed before they are put
+ * back into the pool, so they can be directly reused by chunk loading
+ * and generation.
+ */
+public final class ChunkSectionPool {
+
+    private static final int TYPES_BYTES = CHUNK_SECTION_VOLUME * 2;
+    private static final int NIBBLE_ARRAY_BYTES = CHUNK_SECTION_VOLUME / 2;
+
+    private final ArrayDeque<short[]> types = new ArrayDeque<>();
+    private final ArrayDeque<NibbleArray> nibbleArrays = new ArrayDeque<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    /**
+     * The maximum amount of chunk sections worth
+     * of arrays that will be kept in the pool.
+     */
+    private final int capacity;
+
+    ChunkSectionPool(int capacity) {
+        checkArgument(capacity >= 0, "The capacity cannot be negative");
+        this.capacity = capacity;
+    }
+
+    /**
+     * Gets a zeroed block types array.
+     *
+     * @return The types array
+     */
+    public short[] takeTypes() {
+        final short[] types;
+        synchronized (this.types) {
+            types = this.types.pollFirst();
+        }
+        if (types == null) {
+            this.misses.increment();
+            return new short[CHUNK_SECTION_VOLUME];
+        }
+        this.hits.increment();
+        this.bytesSaved.add(TYPES_BYTES);
+        return types;
+    }
+
+    /**
+     * Gets a zeroed {@link NibbleArray}.
+     *
+     * @return The nibble array
+     */
+    public NibbleArray takeNibbleArray() {
+        final NibbleArray nibbleArray;
+        synchronized (this.nibbleArrays) {
+            nibbleArray = this.nibbleArrays.pollFirst();
+        }
+        if (nibbleArray == null) {
+            this.misses.increment();
+            return new NibbleArray(CHUNK_SECTION_VOLUME);
+        }
+        this.hits.increment();
+        this.bytesSaved.add(NIBBLE_ARRAY_BYTES);
+        return nibbleArray;
+    }
+
+    /**
+     * Creates a new {@link ChunkSection} from pooled arrays.
+     *
+     * @param types The block types to copy into the section, or null for a empty section
+     * @return The chunk section
+     */
+    public ChunkSection newSection(@Nullable short[] types) {
+        final short[] types0 = takeTypes();
+        if (types != null) {
+            checkArgument(types.length == CHUNK_SECTION_VOLUME, "Type array length mismatch: Got "
+                    + types.length + ", but expected " + CHUNK_SECTION_VOLUME);
+            System.arraycopy(types, 0, types0, 0, CHUNK_SECTION_VOLUME);
+        }
+        return new ChunkSection(types0, takeNibbleArray(), takeNibbleArray(), new Short2ObjectOpenHashMap<>());
+    }
+
+    /**
+     * Releases the backing arrays of the {@link ChunkSection} back into
+     * the pool. The section may no longer be used after this call.
+     *
+     * @param section The chunk section
+     */
+    void release(ChunkSection section) {
+        synchronized (this.types) {
+            if (this.types.size() < this.capacity) {
+                Arrays.fill(section.types, (short) 0);
+                this.types.addFirst(section.types);
+            }
+        }
+        synchronized (this.nibbleArrays) {
+            // Each section holds two nibble arrays
+            if (this.nibbleArrays.size() < this.capacity * 2) {
+                section.lightFromSky.fill((byte) 0);
+                section.lightFromBlock.fill((byte) 0);
+                this.nibbleArrays.addFirst(section.lightFromSky);
+                this.nibbleArrays.addFirst(section.lightFromBlock);
+            }
+        }
+    }
+
+    /**
+     * Gets the fraction of array requests that could
+     * be served from the pool, between 0 and 1.
+     *
+     * @return The hit rate
+     */
+    public double getHitRate() {
+        final long hits = this.hits.sum();
+        final long total = hits + this.misses.sum();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    /**
+     * Gets the total amount of bytes that didn't
+     * have to be allocated thanks to the pool.
+     *
+     * @return The saved bytes
+     */
+    public long getBytesSaved() {
+        return this.bytesSaved.sum();
+    }
+}
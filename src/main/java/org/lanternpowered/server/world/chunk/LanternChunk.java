@@ -66,6 +66,7 @@
 import org.lanternpowered.server.util.collect.array.NibbleArray;
 import org.lanternpowered.server.world.LanternWorld;
 import org.lanternpowered.server.world.TrackerIdAllocator;
+import org.lanternpowered.server.world.WorldEventListener;
 import org.lanternpowered.server.world.extent.AbstractExtent;
 import org.lanternpowered.server.world.extent.ExtentViewDownsize;
 import org.lanternpowered.server.world.extent.worker.LanternMutableBiomeVolumeWorker;
@@ -91,6 +92,7 @@
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.EntitySnapshot;
 import org.spongepowered.api.entity.EntityType;
+import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.item.inventory.ItemStack;
 import org.spongepowered.api.profile.GameProfile;
 import org.spongepowered.api.util.AABB;
@@ -116,6 +118,7 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.PriorityBlockingQueue;
@@ -200,24 +203,13 @@ public static class ChunkSection {
          */
         int nonAirCount;
 
-        ChunkSection() {
-            this(null);
-        }
-
-        ChunkSection(@Nullable short[] types) {
-            if (types != null) {
-                checkArgument(types.length == CHUNK_SECTION_VOLUME, "Type array length mismatch: Got "
-                        + types.length + ", but expected " + CHUNK_SECTION_VOLUME);
-                this.types = new short[CHUNK_SECTION_VOLUME];
-                System.arraycopy(types, 0, this.types, 0, CHUNK_SECTION_VOLUME);
-                recountTypes();
-            } else {
-                this.types = new short[CHUNK_SECTION_VOLUME];
-            }
-            this.tileEntities = new Short2ObjectOpenHashMap<>();
-            this.lightFromBlock = new NibbleArray(CHUNK_SECTION_VOLUME);
-            this.lightFromSky = new NibbleArray(CHUNK_SECTION_VOLUME);
-        }
+        /**
+         * The amount of blocks in this chunk section that have random
+         * tick behaviors. The mutable {@link LanternBlockType#getTickRandomly()}
+         * is only checked when the blocks are selected, otherwise toggling it
+         * would make the counts of the loaded sections drift.
+         */
+        int randomTickCount;
 
         public ChunkSection(short[] types, NibbleArray lightFromSky, NibbleArray lightFromBlock,
                 Short2ObjectMap<LanternTileEntity> tileEntities) {
@@ -264,6 +256,26 @@ private void recountTypes() {
                     this.typesCountMap.put(type, (short) (this.typesCountMap.get(type) + 1));
                 }
             }
+            this.randomTickCount = 0;
+            for (Short2ShortMap.Entry entry : this.typesCountMap.short2ShortEntrySet()) {
+                if (isRandomTicking(entry.getShortKey())) {
+                    this.randomTickCount += entry.getShortValue();
+                }
+            }
+        }
+
+        /**
+         * Gets whether the block state of the given type can be ticked randomly.
+         *
+         * @param type The block state type
+         * @return Whether the block state ticks randomly
+         */
+        static boolean isRandomTicking(short type) {
+            if (type == 0) {
+                return false;
+            }
+            final BlockState blockState = BlockRegistryModule.get().getStateByInternalIdAndData(type).orElse(null);
+            return blockState != null && ((LanternBlockType) blockState.getType()).hasRandomTickBehaviors();
         }
 
         private ChunkSectionSnapshot asSnapshot(boolean skylight) {
@@ -378,6 +390,12 @@ private ChunkSectionSnapshot(short[] types, Short2ShortMap typesCountMap, Short2
 
     private boolean dirtyBlockActions;
 
+    // The amount of modifications that were applied to this chunk
+    private final AtomicInteger modificationCount = new AtomicInteger();
+
+    // The modification count at the moment this chunk was last saved or loaded
+    private volatile int savedModificationCount;
+
     // Whether the light in this chunk is populated
     private boolean lightPopulated;
 
@@ -476,6 +494,19 @@ public void initializeSections(ChunkSection[] sections) {
         this.loaded = true;
     }
 
+    /**
+     * Gets a copy of the sections of this chunk. Only used
+     * to recycle the sections once the chunk is unloaded.
+     *
+     * @return The chunk sections
+     */
+    ChunkSection[] getSections() {
+        if (this.chunkSections == null) {
+            return new ChunkSection[0];
+        }
+        return this.chunkSections.getRawObjects().clone();
+    }
+
     /**
      * Initializes the biomes array of the chunk.
      * (Only used for initializing the chunk.)
@@ -781,6 +812,7 @@ public void setBiomes(short[] biomes) {
         } finally {
             this.biomesLock.unlockWrite(stamp);
         }
+        markDirty();
     }
 
     /**
@@ -828,6 +860,7 @@ public void setBiomeId(int x, int y, int z, short biome) {
         } finally {
             this.biomesLock.unlockWrite(stamp);
         }
+        markDirty();
     }
 
     public short getType(Vector3i coordinates) {
@@ -855,6 +888,37 @@ public short getType(int x, int y, int z) {
         }, false);
     }
 
+    /**
+     * Gets the types of the blocks at the chunk local indices, each index is
+     * packed as {@code (y << 8) | (z << 4) | x}. Indices within the same
+     * section should be grouped together to avoid locking sections twice.
+     *
+     * @param indices the chunk local indices
+     * @param types the array to store the types in, at the same index
+     */
+    public void getTypes(short[] indices, int[] types) {
+        if (!this.loaded) {
+            Arrays.fill(types, 0, indices.length, 0);
+            return;
+        }
+        int start = 0;
+        while (start < indices.length) {
+            final int section = (indices[start] & 0xffff) >> 12;
+            int end = start + 1;
+            while (end < indices.length && (indices[end] & 0xffff) >> 12 == section) {
+                end++;
+            }
+            final int from = start;
+            final int to = end;
+            this.chunkSections.work(section, chunkSection -> {
+                for (int i = from; i < to; i++) {
+                    types[i] = chunkSection == null ? 0 : chunkSection.types[indices[i] & 0xfff];
+                }
+            }, false);
+            start = end;
+        }
+    }
+
     @Override
     public boolean setBlock(int x, int y, int z, BlockState block) {
         return setBlock(x, y, z, block, BlockChangeFlags.ALL);
@@ -890,77 +954,14 @@ public boolean setBlock(int x, int y, int z, BlockState block, BlockChangeFlag f
                     return section;
                 }
                 // Create a new section
-                section = new ChunkSection();
-            }
-            final int index = ChunkSection.index(rx, y & 0xf, rz);
-            final short oldType = section.types[index];
-            if (oldType == type1) {
-                return section;
+                section = this.world.getChunkManager().getSectionPool().newSection(null);
             }
-            if (oldType != 0) {
-                short count = section.typesCountMap.get(oldType);
-                if (count > 0) {
-                    if (--count <= 0) {
-                        section.typesCountMap.remove(oldType);
-                    } else {
-                        section.typesCountMap.put(oldType, count);
-                    }
-                }
-            }
-            if (type1 != 0) {
-                section.typesCountMap.put(type1, (short) (section.typesCountMap.get(type1) + 1));
-                if (oldType == 0) {
-                    section.nonAirCount++;
-                }
-            } else {
-                section.nonAirCount--;
-            }
-            final BlockState oldState = BlockRegistryModule.get().getStateByInternalIdAndData(oldType).get();
-            changeData[0] = oldState;
+            changeData[0] = setBlock0(section, ChunkSection.index(rx, y & 0xf, rz), x, y, z, block, type1);
             // The section is empty, destroy it
             if (section.nonAirCount <= 0) {
+                this.world.getChunkManager().getSectionPool().release(section);
                 return null;
             }
-            final LanternTileEntity tileEntity = section.tileEntities.get((short) index);
-            boolean remove = false;
-            boolean refresh = false;
-            final Optional<TileEntityProvider> tileEntityProvider = ((LanternBlockType) block.getType()).getTileEntityProvider();
-            if (tileEntity != null) {
-                if (oldType == 0 || type1 == 0) {
-                    remove = true;
-                } else if (tileEntity instanceof ITileEntityRefreshBehavior) {
-                    if (((ITileEntityRefreshBehavior) tileEntity).shouldRefresh(oldState, block)) {
-                        remove = true;
-                        refresh = true;
-                    }
-                } else if (oldType >> 4 != type1 >> 4) {
-                    // The default behavior will only refresh if the
-                    // block type is changed and not the block state
-                    remove = true;
-                    refresh = true;
-                }
-                if (refresh && !tileEntityProvider.isPresent()) {
-                    refresh = false;
-                }
-            } else if (tileEntityProvider.isPresent()) {
-                refresh = true;
-            }
-            if (remove) {
-                tileEntity.setValid(false);
-            }
-            if (refresh) {
-                final Location<World> location = tileEntity != null ? tileEntity.getLocation() : new Location<>(this.world, x, y, z);
-                final LanternTileEntity newTileEntity = (LanternTileEntity) tileEntityProvider.get().get(block, location, null);
-                section.tileEntities.put((short) index, newTileEntity);
-                newTileEntity.setLocation(location);
-                newTileEntity.setBlock(block);
-                newTileEntity.setValid(true);
-            } else if (remove) {
-                section.tileEntities.remove((short) index);
-            } else if (tileEntity != null) {
-                tileEntity.setBlock(block);
-            }
-            section.types[index] = type1;
             return section;
         });
 
@@ -979,12 +980,204 @@ public boolean setBlock(int x, int y, int z, BlockState block, BlockChangeFlag f
         }
 
         if (changeData[0] != null) {
+            markDirty();
             this.world.getEventListener().onBlockChange(x, y, z, changeData[0], block);
         }
 
         return true;
     }
 
+    /**
+     * Sets all the {@link BlockState}s within the chunk section at the given
+     * index. The whole section is modified under a single lock, the height map
+     * is updated once per touched column and the observers will be notified
+     * of the whole section instead of every block if enough blocks changed.
+     *
+     * @param sectionIndex The index of the chunk section
+     * @param blocks The block states, indexed like {@link ChunkSection#index(int, int, int)},
+     *               {@code null} entries will be left untouched
+     * @return The amount of blocks that were changed
+     */
+    public int setBlocks(int sectionIndex, BlockState[] blocks) {
+        checkNotNull(blocks, "blocks");
+        checkArgument(blocks.length == CHUNK_SECTION_VOLUME, "Blocks array length mismatch: Got "
+                + blocks.length + ", but expected " + CHUNK_SECTION_VOLUME);
+        checkArgument(sectionIndex >= 0 && sectionIndex < CHUNK_SECTIONS, "Invalid section index: %s", sectionIndex);
+        if (!this.loaded) {
+            return 0;
+        }
+
+        final BlockRegistryModule registry = BlockRegistryModule.get();
+        final BlockState[] oldBlocks = new BlockState[CHUNK_SECTION_VOLUME];
+        // The highest y coordinate per column at which a non air block was placed
+        final int[] raisedHeights = new int[CHUNK_AREA];
+        // The highest y coordinate per column at which a block was removed
+        final int[] loweredHeights = new int[CHUNK_AREA];
+        Arrays.fill(raisedHeights, -1);
+        Arrays.fill(loweredHeights, -1);
+
+        final int xBase = this.min.getX();
+        final int yBase = sectionIndex << 4;
+        final int zBase = this.min.getZ();
+        final int[] changes = new int[1];
+        this.chunkSections.work(sectionIndex, section -> {
+            for (int index = 0; index < CHUNK_SECTION_VOLUME; index++) {
+                final BlockState block = blocks[index];
+                if (block == null) {
+                    continue;
+                }
+                short type = registry.getStateInternalIdAndData(block);
+                // Air doesn't have metadata values
+                if (type >> 4 == 0) {
+                    type = 0;
+                }
+                if (section == null) {
+                    // The section is still filled with air
+                    if (type == 0) {
+                        continue;
+                    }
+                    section = this.world.getChunkManager().getSectionPool().newSection(null);
+                }
+                final int rx = index & 0xf;
+                final int rz = (index >> 4) & 0xf;
+                final int y = yBase + (index >> 8);
+                final BlockState oldBlock = setBlock0(section, index, xBase + rx, y, zBase + rz, block, type);
+                if (oldBlock != null) {
+                    oldBlocks[index] = oldBlock;
+                    changes[0]++;
+                    final int column = rz << 4 | rx;
+                    if (type != 0) {
+                        raisedHeights[column] = Math.max(raisedHeights[column], y);
+                    } else {
+                        loweredHeights[column] = Math.max(loweredHeights[column], y);
+                    }
+                }
+            }
+            // The section is empty, destroy it
+            if (section == null) {
+                return null;
+            } else if (section.nonAirCount <= 0) {
+                this.world.getChunkManager().getSectionPool().release(section);
+                return null;
+            }
+            return section;
+        });
+        if (changes[0] == 0) {
+            return 0;
+        }
+
+        final long stamp = this.heightMapLock.writeLock();
+        try {
+            for (int column = 0; column < CHUNK_AREA; column++) {
+                final int height = this.heightMap[column] & 0xff;
+                if (raisedHeights[column] > height) {
+                    this.heightMap[column] = (byte) raisedHeights[column];
+                    this.heightMapUpdateFlags.clear(column);
+                } else if (loweredHeights[column] >= height) {
+                    this.heightMapUpdateFlags.set(column);
+                }
+            }
+        } finally {
+            this.heightMapLock.unlockWrite(stamp);
+        }
+
+        markDirty();
+        final WorldEventListener eventListener = this.world.getEventListener();
+        if (changes[0] >= this.world.getProperties().getConfig().getChunkClumpingThreshold()) {
+            eventListener.onSectionChange(this, sectionIndex);
+        } else {
+            for (int index = 0; index < CHUNK_SECTION_VOLUME; index++) {
+                final BlockState oldBlock = oldBlocks[index];
+                if (oldBlock != null) {
+                    eventListener.onBlockChange(xBase + (index & 0xf), yBase + (index >> 8),
+                            zBase + ((index >> 4) & 0xf), oldBlock, blocks[index]);
+                }
+            }
+        }
+        return changes[0];
+    }
+
+    /**
+     * Applies the block type at the index within the given {@link ChunkSection},
+     * the coordinates are the world coordinates of the block.
+     *
+     * @return The previous block state, or {@code null} if nothing changed
+     */
+    @Nullable
+    private BlockState setBlock0(ChunkSection section, int index, int x, int y, int z, BlockState block, short type) {
+        final short oldType = section.types[index];
+        if (oldType == type) {
+            return null;
+        }
+        if (oldType != 0) {
+            short count = section.typesCountMap.get(oldType);
+            if (count > 0) {
+                if (--count <= 0) {
+                    section.typesCountMap.remove(oldType);
+                } else {
+                    section.typesCountMap.put(oldType, count);
+                }
+            }
+        }
+        if (type != 0) {
+            section.typesCountMap.put(type, (short) (section.typesCountMap.get(type) + 1));
+            if (oldType == 0) {
+                section.nonAirCount++;
+            }
+        } else {
+            section.nonAirCount--;
+        }
+        final BlockState oldState = BlockRegistryModule.get().getStateByInternalIdAndData(oldType).get();
+        if (oldType != 0 && ((LanternBlockType) oldState.getType()).hasRandomTickBehaviors()) {
+            section.randomTickCount--;
+        }
+        if (type != 0 && ((LanternBlockType) block.getType()).hasRandomTickBehaviors()) {
+            section.randomTickCount++;
+        }
+        section.types[index] = type;
+        final LanternTileEntity tileEntity = section.tileEntities.get((short) index);
+        boolean remove = false;
+        boolean refresh = false;
+        final Optional<TileEntityProvider> tileEntityProvider = ((LanternBlockType) block.getType()).getTileEntityProvider();
+        if (tileEntity != null) {
+            if (oldType == 0 || type == 0) {
+                remove = true;
+            } else if (tileEntity instanceof ITileEntityRefreshBehavior) {
+                if (((ITileEntityRefreshBehavior) tileEntity).shouldRefresh(oldState, block)) {
+                    remove = true;
+                    refresh = true;
+                }
+            } else if (oldType >> 4 != type >> 4) {
+                // The default behavior will only refresh if the
+                // block type is changed and not the block state
+                remove = true;
+                refresh = true;
+            }
+            if (refresh && !tileEntityProvider.isPresent()) {
+                refresh = false;
+            }
+        } else if (tileEntityProvider.isPresent()) {
+            refresh = true;
+        }
+        if (remove) {
+            tileEntity.setValid(false);
+        }
+        if (refresh) {
+            final Location<World> location = tileEntity != null ? tileEntity.getLocation() : new Location<>(this.world, x, y, z);
+            final LanternTileEntity newTileEntity = (LanternTileEntity) tileEntityProvider.get().get(block, location, null);
+            section.tileEntities.put((short) index, newTileEntity);
+            newTileEntity.setLocation(location);
+            newTileEntity.setBlock(block);
+            newTileEntity.setValid(true);
+            this.world.getChunkManager().getTickingTileEntities().add(this, newTileEntity);
+        } else if (remove) {
+            section.tileEntities.remove((short) index);
+        } else if (tileEntity != null) {
+            tileEntity.setBlock(block);
+        }
+        return oldState;
+    }
+
     public void addBlockAction(int x, int y, int z, BlockType blockType, BlockAction blockAction) {
         checkVolumeBounds(x, y, z);
         if (!this.loaded) {
@@ -1127,21 +1320,51 @@ public void pulse() {
             this.scheduledBlockUpdateQueue.poll();
             // TODO: Update
         }
+        // The tile entities are pulsed through the TickingTileEntityList
+    }
 
-        final CauseStack causeStack = CauseStack.Companion.current();
-        causeStack.pushCause(this); // Add the chunk that is being pulsed
-        getTileEntities().forEach(tileEntity -> {
-            causeStack.pushCause(tileEntity); // Add the tile entity to the cause
-            try {
-                ((LanternTileEntity) tileEntity).pulse();
-            } catch (Throwable t) {
-                final Vector3i pos = tileEntity.getLocation().getBlockPosition();
-                Lantern.getLogger().error("Failed to pulse TileEntity at ({};{};{})", pos.getX(), pos.getY(), pos.getZ(), t);
-            } finally {
-                causeStack.popCause(); // Pop the tile entity
-            }
-        });
-        causeStack.popCause(); // Pop the chunk
+    /**
+     * Selects random blocks within this chunk that should be ticked. The
+     * sections without any randomly ticking blocks are skipped entirely.
+     *
+     * @param speed The amount of blocks that will be selected per section
+     * @param random The random to select the blocks with
+     * @param positions The array to store the selected positions in, relative to the chunk
+     *                  and packed as {@code (y << 8) | (z << 4) | x}, its length must be
+     *                  at least {@code speed * CHUNK_SECTIONS}
+     * @param blockTypes The array to store the block types of the selected positions in
+     * @return The amount of selected blocks that tick randomly
+     */
+    int selectRandomTicks(int speed, Random random, int[] positions, LanternBlockType[] blockTypes) {
+        if (!this.loaded) {
+            return 0;
+        }
+        int count = 0;
+        for (int i = 0; i < CHUNK_SECTIONS; i++) {
+            final int start = count;
+            final int yBase = i << 12;
+            count = this.chunkSections.work(i, section -> {
+                int index = start;
+                if (section == null || section.randomTickCount <= 0) {
+                    return index;
+                }
+                for (int j = 0; j < speed; j++) {
+                    final int blockIndex = random.nextInt(CHUNK_SECTION_VOLUME);
+                    final short type = section.types[blockIndex];
+                    if (type == 0) {
+                        continue;
+                    }
+                    final LanternBlockType blockType = (LanternBlockType) BlockRegistryModule.get()
+                            .getStateByInternalIdAndData(type).get().getType();
+                    if (blockType.getTickRandomly()) {
+                        positions[index] = yBase | blockIndex;
+                        blockTypes[index++] = blockType;
+                    }
+                }
+                return index;
+            }, false);
+        }
+        return count;
     }
 
     @Override
@@ -1460,11 +1683,94 @@ void buryEntities() {
     }
 
     public void addEntity(LanternEntity entity, int section) {
-        this.entities[section].add(entity);
+        if (this.entities[section].add(entity)) {
+            markDirty();
+        }
     }
 
     public void removeEntity(LanternEntity entity, int section) {
-        this.entities[section].remove(entity);
+        if (this.entities[section].remove(entity)) {
+            markDirty();
+        }
+    }
+
+    /**
+     * Marks this chunk as modified, it will be
+     * written by the next (auto) save.
+     */
+    public void markDirty() {
+        this.modificationCount.incrementAndGet();
+    }
+
+    /**
+     * Gets the amount of modifications that were
+     * applied to this chunk.
+     *
+     * @return The modification count
+     */
+    public int getModificationCount() {
+        return this.modificationCount.get();
+    }
+
+    /**
+     * Marks this chunk as saved up to the given modification
+     * count. Modifications that happened while the chunk was
+     * being written will keep the chunk dirty.
+     *
+     * @param modificationCount The modification count before saving
+     */
+    void markSaved(int modificationCount) {
+        this.savedModificationCount = modificationCount;
+    }
+
+    /**
+     * Gets whether this chunk was modified since
+     * it was last loaded or saved.
+     *
+     * @return Is dirty
+     */
+    public boolean isDirty() {
+        return this.savedModificationCount != this.modificationCount.get();
+    }
+
+    /**
+     * Gets whether this chunk should be written to the disk. The
+     * entities and tile entities are polled for modifications that
+     * didn't pass through the chunk, these count as modifications
+     * of this chunk.
+     *
+     * @return Needs to be saved
+     */
+    public boolean needsSaving() {
+        pollModifications();
+        return isDirty();
+    }
+
+    /**
+     * Polls the entities and tile entities within this chunk
+     * for modifications and marks the chunk dirty if there
+     * were any.
+     */
+    void pollModifications() {
+        boolean modified = false;
+        for (Set<LanternEntity> entities : this.entities) {
+            for (LanternEntity entity : entities) {
+                // Players are saved separately
+                if (!(entity instanceof Player) && entity.pollModified()) {
+                    modified = true;
+                }
+            }
+        }
+        final List<LanternTileEntity> tileEntities = new ArrayList<>();
+        addTileEntitiesTo(tileEntities);
+        for (LanternTileEntity tileEntity : tileEntities) {
+            if (tileEntity.pollModified()) {
+                modified = true;
+            }
+        }
+        if (modified) {
+            markDirty();
+        }
     }
 
     @Override
@@ -1528,7 +1834,21 @@ public Collection<TileEntity> getTileEntities() {
         if (this.chunkSections == null) {
             return Collections.emptyList();
         }
-        final ImmutableSet.Builder<TileEntity> tileEntities = ImmutableSet.builder();
+        final List<LanternTileEntity> tileEntities = new ArrayList<>();
+        addTileEntitiesTo(tileEntities);
+        return ImmutableSet.<TileEntity>copyOf(tileEntities);
+    }
+
+    /**
+     * Adds all the valid {@link LanternTileEntity}s in this
+     * chunk to the target {@link Collection}.
+     *
+     * @param tileEntities the target collection
+     */
+    public void addTileEntitiesTo(Collection<? super LanternTileEntity> tileEntities) {
+        if (this.chunkSections == null) {
+            return;
+        }
         for (int i = 0; i < CHUNK_SECTIONS; i++) {
             this.chunkSections.work(i, chunkSection -> {
                 if (chunkSection == null) {
@@ -1545,7 +1865,6 @@ public Collection<TileEntity> getTileEntities() {
                 }
             }, true);
         }
-        return tileEntities.build();
     }
 
     @Override
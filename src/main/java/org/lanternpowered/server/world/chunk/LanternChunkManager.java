@@ -34,27 +34,33 @@
 import static org.lanternpowered.server.world.chunk.LanternChunk.CHUNK_SECTION_VOLUME;
 import static org.lanternpowered.server.world.chunk.LanternChunkLayout.CHUNK_BIOME_VOLUME;
 
+import com.flowpowered.math.GenericMath;
 import com.flowpowered.math.vector.Vector2i;
+import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.ListMultimap;
-import com.google.common.collect.MapMaker;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Sets;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import org.lanternpowered.api.cause.CauseStack;
 import org.lanternpowered.api.util.concurrent.SoftThreadLocal;
+import org.lanternpowered.server.block.LanternBlockType;
 import org.lanternpowered.server.config.world.WorldConfig;
 import org.lanternpowered.server.data.io.ChunkIOService;
+import org.lanternpowered.server.entity.living.player.LanternPlayer;
 import org.lanternpowered.server.game.DirectoryKeys;
 import org.lanternpowered.server.game.Lantern;
 import org.lanternpowered.server.game.LanternGame;
 import org.lanternpowered.server.game.registry.type.block.BlockRegistryModule;
 import org.lanternpowered.server.plugin.InternalPluginsInfo;
+import org.lanternpowered.server.timings.LanternTiming;
+import org.lanternpowered.server.timings.LanternTimings;
 import org.lanternpowered.server.util.ThreadHelper;
 import org.lanternpowered.server.util.gen.biome.ObjectArrayImmutableBiomeBuffer;
 import org.lanternpowered.server.util.gen.biome.ShortArrayMutableBiomeBuffer;
@@ -66,6 +72,7 @@
 import org.lanternpowered.server.world.chunk.LanternChunk.ChunkSection;
 import org.lanternpowered.server.world.extent.ExtentBufferHelper;
 import org.lanternpowered.server.world.extent.SoftBufferExtentViewDownsize;
+import org.lanternpowered.server.world.rules.RuleTypes;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.block.BlockTypes;
@@ -95,12 +102,15 @@
 import org.spongepowered.api.world.gen.WorldGenerator;
 
 import java.io.IOException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -110,13 +120,9 @@
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -124,11 +130,11 @@
 
 public final class LanternChunkManager {
 
-    // The maximum amount of threads that can load chunks asynchronously
-    private static final int CHUNK_LOADING_MAX_POOL_SIZE = 10;
+    // The amount of threads that load chunks asynchronously from disk
+    private static final int CHUNK_LOADING_THREADS = 4;
 
-    // The core amount of threads that can load chunks asynchronously
-    private static final int CHUNK_LOADING_CORE_POOL_SIZE = 4;
+    // The amount of threads that generate chunks asynchronously
+    private static final int CHUNK_GENERATION_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
 
     // The delay to unload chunks that are not forced,
     // loaded through loadChunk methods
@@ -143,9 +149,36 @@ public final class LanternChunkManager {
     // All the chunks that are loaded into the server
     private final Map<Vector2i, LanternChunk> loadedChunks = new ConcurrentHashMap<>();
 
-    // A cache that can be used to get chunks that weren't unloaded
-    // so much after all, because of active references to the chunk
-    private final Map<Vector2i, LanternChunk> reusableChunks = new MapMaker().weakValues().makeMap();
+    // A bounded cache of recently unloaded chunks, these can be resurrected
+    // without reading them again, the least recently unloaded chunks are
+    // moved to the evicted chunks once the cache is full
+    private final Map<Vector2i, LanternChunk> reusableChunks;
+
+    // The chunks that were evicted from the reusable chunks, these can still be
+    // resurrected as long as something else references them, their sections are
+    // only recycled into the section pool once they are garbage collected
+    private final Map<Vector2i, EvictedChunkReference> evictedChunks = new ConcurrentHashMap<>();
+    private final ReferenceQueue<LanternChunk> evictedChunkQueue = new ReferenceQueue<>();
+
+    // The pool that recycles the backing arrays of chunk sections
+    private final ChunkSectionPool sectionPool;
+
+    // All the tile entities within the loaded chunks that need to be ticked
+    private final TickingTileEntityList tickingTileEntities = new TickingTileEntityList();
+
+    // The keys of the chunks that are within the ticking radius of a player,
+    // reused every tick
+    private final LongOpenHashSet tickingChunks = new LongOpenHashSet();
+
+    // The weight of the random ticks of the current tick in the average
+    private static final double RANDOM_TICKS_AVERAGE_WEIGHT = 0.05;
+
+    // The buffers that are used to select the random block ticks of a chunk
+    private int[] randomTickPositions = new int[0];
+    private LanternBlockType[] randomTickBlockTypes = new LanternBlockType[0];
+
+    // The moving average of the amount of random block ticks per tick
+    private volatile double averageRandomTicks;
 
     // A set which contains chunks that are pending for removal,
     // chunks loaded by loadChunk may not have been locked in the process,
@@ -175,116 +208,61 @@ public int hashCode() {
         }
     }
 
-    // All the futures that will cause chunk loading/unloading, they are stored
-    // here to allow them to be cancelled
-    private final Map<Vector2i, LanternChunkQueueTask> chunkQueueTasks = new ConcurrentHashMap<>();
+    // The scheduler of the asynchronous chunk loads
+    private final ChunkLoadScheduler chunkLoadScheduler;
 
-    // The chunk load executor
-    private final ThreadPoolExecutor chunkTaskExecutor = new ThreadPoolExecutor(
-            CHUNK_LOADING_CORE_POOL_SIZE, CHUNK_LOADING_MAX_POOL_SIZE, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
-            ThreadHelper.newThreadFactory());
-
-    // Some objects that can be used in {@link Chunk} population.
-    private class PopulationData {
-
-        private final Random random = new Random();
-        private final ChunkLoadingTicket lockTicket = new InternalLoadingTicket();
-    }
-
-    private LanternChunkQueueTask queueTask(Vector2i coords, Runnable runnable) {
-        final LanternChunkQueueTask task = new LanternChunkQueueTask(coords, runnable);
-        task.setFuture(this.chunkTaskExecutor.submit(task));
-        return task;
-    }
-
-    private class LanternChunkQueueTask implements Callable<Void> {
+    private static final class EvictedChunkReference extends WeakReference<LanternChunk> {
 
         private final Vector2i coords;
-        // The runnable that should be executed
-        private final Runnable runnable;
-        // The future attached to this callable
-        @Nullable private Future<Void> future;
+        private final ChunkSection[] sections;
 
-        LanternChunkQueueTask(Vector2i coords, Runnable runnable) {
-            this.runnable = runnable;
+        private EvictedChunkReference(Vector2i coords, LanternChunk chunk, ReferenceQueue<LanternChunk> queue) {
+            super(chunk, queue);
             this.coords = coords;
-        }
-
-        public void setFuture(Future<Void> future) {
-            this.future = future;
-            synchronized (this) {
-                notifyAll();
-            }
-        }
-
-        @Override
-        public Void call() throws Exception {
-            // Wait for the future to be set, in case it's getting directly executed
-            synchronized (this) {
-                while (this.future == null) {
-                    try {
-                        wait();
-                    } catch (InterruptedException ignored) {
-                    }
-                }
-            }
-            this.runnable.run();
-            return null;
-        }
-
-        boolean cancel() {
-            // We have to wait for the future to be set before we
-            // can cancel it, shouldn't be long
-            synchronized (this) {
-                while (this.future == null) {
-                    try {
-                        wait();
-                    } catch (InterruptedException ignored) {
-                    }
-                }
-            }
-            return this.future.cancel(false);
-        }
-
-        @Override
-        public boolean equals(Object other) {
-            return other instanceof LanternChunkQueueTask && ((LanternChunkQueueTask) other).coords.equals(this.coords);
-        }
-
-        @Override
-        public int hashCode() {
-            return this.coords.hashCode();
+            // Only the sections are referenced, the chunk itself must be collectable
+            this.sections = chunk.getSections();
         }
     }
 
-    private class LanternChunkUnloadTask implements Runnable {
-
-        // The callable that is bound to the unloading task
-        private final LanternChunkQueueTask callable;
+    // Some objects that can be used in {@link Chunk} population.
+    private class PopulationData {
 
-        private LanternChunkUnloadTask(LanternChunkQueueTask callable) {
-            this.callable = callable;
-        }
+        private final Random random = new Random();
+        private final ChunkLoadingTicket lockTicket = new InternalLoadingTicket();
+    }
 
-        @Override
-        public void run() {
-            unload0(this.callable.coords, CauseStack.currentOrEmpty(), false);
+    /**
+     * Gets the load priority of the chunk at the given coordinates, this
+     * is the squared distance (in chunks) to the nearest player.
+     *
+     * @param coords The chunk coordinates
+     * @return The priority, lower values are loaded first
+     */
+    private long getLoadPriority(Vector2i coords) {
+        long priority = Long.MAX_VALUE;
+        for (LanternPlayer player : this.world.getRawPlayers()) {
+            final Vector3d position = player.getPosition();
+            final long dx = (GenericMath.floor(position.getX()) >> 4) - coords.getX();
+            final long dz = (GenericMath.floor(position.getZ()) >> 4) - coords.getY();
+            priority = Math.min(priority, dx * dx + dz * dz);
         }
+        return priority;
     }
 
-    private class LanternChunkLoadTask implements Runnable {
-
-        // The coordinates of the chunk
-        private final Vector2i coords;
-
-        private LanternChunkLoadTask(Vector2i coords) {
-            this.coords = coords;
+    private boolean needsGeneration(Vector2i coords) {
+        try {
+            return !this.chunkIOService.exists(coords.getX(), coords.getY());
+        } catch (IOException e) {
+            return false;
         }
+    }
 
-        @Override
-        public void run() {
-            doChunkLoad(this.coords);
-        }
+    /**
+     * Updates the priorities of all the queued chunk loads,
+     * should be called when players move to different chunks.
+     */
+    public void updateLoadPriorities() {
+        this.chunkLoadScheduler.updatePriorities();
     }
 
     private void doChunkLoad(Vector2i coords) {
@@ -348,6 +326,25 @@ public LanternChunkManager(
         this.worldConfig = worldConfig;
         this.world = world;
         this.game = game;
+        this.chunkLoadScheduler = new ChunkLoadScheduler(
+                CHUNK_LOADING_THREADS, CHUNK_GENERATION_THREADS, ThreadHelper.newThreadFactory(),
+                this::getLoadPriority, this::needsGeneration, this::doChunkLoad);
+        this.sectionPool = new ChunkSectionPool(Math.max(0, worldConfig.getChunkSectionPoolSize()));
+        final int cacheSize = worldConfig.getChunkCacheSize();
+        this.reusableChunks = new LinkedHashMap<Vector2i, LanternChunk>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Vector2i, LanternChunk> eldest) {
+                if (size() <= cacheSize) {
+                    return false;
+                }
+                // Something may still reference the chunk, so it can only be
+                // recycled after it is garbage collected
+                final Vector2i coords = eldest.getKey();
+                LanternChunkManager.this.evictedChunks.put(coords, new EvictedChunkReference(
+                        coords, eldest.getValue(), LanternChunkManager.this.evictedChunkQueue));
+                return true;
+            }
+        };
     }
 
     public LanternWorld getWorld() {
@@ -567,6 +564,136 @@ public Optional<PlayerEntityLoadingTicket> createPlayerEntityTicket(Object plugi
         return Optional.of(ticket);
     }
 
+    /**
+     * Gets the {@link TickingTileEntityList} of this chunk manager.
+     *
+     * @return The ticking tile entity list
+     */
+    public TickingTileEntityList getTickingTileEntities() {
+        return this.tickingTileEntities;
+    }
+
+    /**
+     * Gets the key that represents the chunk coordinates.
+     *
+     * @param x The x coordinate
+     * @param z The z coordinate
+     * @return The key
+     */
+    static long key(int x, int z) {
+        return ((long) x << 32) | (z & 0xffffffffL);
+    }
+
+    /**
+     * Pulses all the loaded chunks and ticking tile entities that
+     * are within the ticking radius of one of the given players.
+     *
+     * @param causeStack The cause stack
+     * @param players The players in the world
+     */
+    public void pulseChunks(CauseStack causeStack, Collection<LanternPlayer> players) {
+        final int radius = this.worldConfig.getChunkTickingRadius();
+        LongOpenHashSet tickingChunks = null;
+        if (radius >= 0) {
+            tickingChunks = this.tickingChunks;
+            tickingChunks.clear();
+            for (LanternPlayer player : players) {
+                final Vector3d position = player.getPosition();
+                final int chunkX = GenericMath.floor(position.getX()) >> 4;
+                final int chunkZ = GenericMath.floor(position.getZ()) >> 4;
+                for (int x = chunkX - radius; x <= chunkX + radius; x++) {
+                    for (int z = chunkZ - radius; z <= chunkZ + radius; z++) {
+                        tickingChunks.add(key(x, z));
+                    }
+                }
+            }
+        }
+        recycleEvictedChunks();
+        final int randomTickSpeed = this.world.getOrCreateRule(RuleTypes.RANDOM_TICK_SPEED).getValue();
+        final Random random = ThreadLocalRandom.current();
+        int randomTicks = 0;
+        for (LanternChunk chunk : this.loadedChunks.values()) {
+            if (chunk.loaded && (tickingChunks == null || tickingChunks.contains(key(chunk.getX(), chunk.getZ())))) {
+                chunk.pulse();
+                if (randomTickSpeed > 0) {
+                    randomTicks += randomTick(chunk, randomTickSpeed, random);
+                }
+            }
+        }
+        this.averageRandomTicks = this.averageRandomTicks * (1.0 - RANDOM_TICKS_AVERAGE_WEIGHT) +
+                randomTicks * RANDOM_TICKS_AVERAGE_WEIGHT;
+        this.tickingTileEntities.pulse(causeStack, tickingChunks);
+    }
+
+    /**
+     * Performs the random block ticks for the given chunk.
+     *
+     * @param chunk The chunk
+     * @param speed The amount of blocks that are selected per chunk section
+     * @param random The random
+     * @return The amount of blocks that were ticked
+     */
+    private int randomTick(LanternChunk chunk, int speed, Random random) {
+        final int length = speed * CHUNK_SECTIONS;
+        if (this.randomTickPositions.length < length) {
+            this.randomTickPositions = new int[length];
+            this.randomTickBlockTypes = new LanternBlockType[length];
+        }
+        final int[] positions = this.randomTickPositions;
+        final LanternBlockType[] blockTypes = this.randomTickBlockTypes;
+        final int count = chunk.selectRandomTicks(speed, random, positions, blockTypes);
+        final int xBase = chunk.getX() << 4;
+        final int zBase = chunk.getZ() << 4;
+        for (int i = 0; i < count; i++) {
+            final int position = positions[i];
+            final int x = xBase + (position & 0xf);
+            final int y = position >> 8;
+            final int z = zBase + ((position >> 4) & 0xf);
+            try {
+                this.world.randomTickBlock(x, y, z, blockTypes[i]);
+            } catch (Throwable t) {
+                this.game.getLogger().error("Failed to random tick the block at ({};{};{})", x, y, z, t);
+            }
+            blockTypes[i] = null;
+        }
+        return count;
+    }
+
+    /**
+     * Gets the moving average of the amount of blocks
+     * that are randomly ticked each tick.
+     *
+     * @return The average amount of random block ticks
+     */
+    public double getAverageRandomTicks() {
+        return this.averageRandomTicks;
+    }
+
+    /**
+     * Gets the {@link ChunkSectionPool} of this chunk manager.
+     *
+     * @return The chunk section pool
+     */
+    public ChunkSectionPool getSectionPool() {
+        return this.sectionPool;
+    }
+
+    /**
+     * Releases the sections of all the evicted chunks
+     * that were garbage collected into the section pool.
+     */
+    private void recycleEvictedChunks() {
+        EvictedChunkReference reference;
+        while ((reference = (EvictedChunkReference) this.evictedChunkQueue.poll()) != null) {
+            this.evictedChunks.remove(reference.coords, reference);
+            for (ChunkSection section : reference.sections) {
+                if (section != null) {
+                    this.sectionPool.release(section);
+                }
+            }
+        }
+    }
+
     /**
      * Gets a immutable set with all the loaded chunks.
      * 
@@ -696,16 +823,33 @@ private LanternChunk getOrCreateChunk(Vector2i coords, CauseStack causeStack, bo
             return chunk;
         }
         // Lets try to visit the graveyard, try to retrieve chunks that where
-        // not gc yet, allowing us to reuse them to avoid loading a new chunk
-        chunk = this.reusableChunks.get(coords);
+        // not recycled yet, allowing us to reuse them to avoid loading a new chunk
+        synchronized (this.reusableChunks) {
+            chunk = this.reusableChunks.remove(coords);
+        }
+        if (chunk == null) {
+            final EvictedChunkReference reference = this.evictedChunks.remove(coords);
+            if (reference != null) {
+                chunk = reference.get();
+                // The chunk is being reused, its sections may no longer be recycled
+                reference.clear();
+            }
+        }
         if (chunk != null) {
+            // Wait for the unload to finish before the chunk is marked as loaded again
+            chunk.lock.lock();
+            try {
+                chunk.loaded = true;
+            } finally {
+                chunk.lock.unlock();
+            }
             this.loadedChunks.put(coords, chunk);
-            this.reusableChunks.remove(coords);
             if (!this.ticketsByPos.containsKey(coords)) {
                 this.pendingForUnload.add(new UnloadingChunkEntry(coords));
             }
             this.game.getEventManager().post(SpongeEventFactory.createLoadChunkEvent(causeStack.getCurrentCause(), chunk));
             this.world.getEventListener().onLoadChunk(chunk);
+            this.tickingTileEntities.addAll(chunk);
             // Resurrect all the entities in the chunk
             chunk.resurrectEntities();
             this.world.addEntities(chunk.getEntities());
@@ -948,15 +1092,15 @@ private boolean load0(LanternChunk chunk, CauseStack causeStack, boolean generat
         boolean success = true;
         try {
             chunk.lockState = LanternChunk.LockState.LOADING;
-            final LanternChunkQueueTask task = this.chunkQueueTasks.remove(chunk.getCoords());
-            // Try to cancel the task, the task will probably be ignored
-            // because we are already locked
-            if (task != null) {
-                task.cancel();
-            }
-            try {
+            // Try to cancel the queued load, it's being loaded now
+            this.chunkLoadScheduler.cancel(chunk.getCoords());
+            try (LanternTiming ignored = LanternTimings.CHUNK_LOAD.startTiming()) {
                 // Try to load the chunk
                 if (this.chunkIOService.read(chunk)) {
+                    // Loading the entities and tile entities isn't a modification
+                    chunk.pollModifications();
+                    chunk.markSaved(chunk.getModificationCount());
+                    this.tickingTileEntities.addAll(chunk);
                     this.game.getEventManager().post(SpongeEventFactory.createLoadChunkEvent(causeStack.getCurrentCause(), chunk));
                     this.world.getEventListener().onLoadChunk(chunk);
                     return true;
@@ -975,14 +1119,16 @@ private boolean load0(LanternChunk chunk, CauseStack causeStack, boolean generat
             }
             Cause cause0 = causeStack.getCurrentCause();
             // Generate chunk
-            try {
+            try (LanternTiming ignored = LanternTimings.CHUNK_GENERATE.startTiming()) {
                 generate(chunk, cause0);
+                chunk.markDirty();
             } catch (Throwable e) {
                 this.game.getLogger().error("Error while generating chunk ({};{})", chunk.getX(), chunk.getZ(), e);
                 return success = false;
             }
             // Try to populate the chunk
             tryPopulateSurroundingChunks(chunk, cause0);
+            this.tickingTileEntities.addAll(chunk);
             this.game.getEventManager().post(SpongeEventFactory.createLoadChunkEvent(cause0, chunk));
             this.world.getEventListener().onLoadChunk(chunk);
             return true;
@@ -1044,7 +1190,7 @@ private void generate(LanternChunk chunk, Cause cause) {
         for (int sy = 0; sy < CHUNK_SECTIONS; sy++) {
             final int nonAirCount = blockBuffer.nonAirCount[sy];
             if (nonAirCount > 0) {
-                sections[sy] = new ChunkSection(blockBuffer.types[sy]);
+                sections[sy] = this.sectionPool.newSection(blockBuffer.types[sy]);
             }
         }
 
@@ -1184,7 +1330,7 @@ public boolean save(LanternChunk chunk) {
         chunk.lock.lock();
         try {
             chunk.lockState = LanternChunk.LockState.SAVING;
-            return save0(chunk);
+            return save0(chunk) >= 0;
         } finally {
             chunk.lockState = LanternChunk.LockState.NONE;
             chunk.lockCondition.signalAll();
@@ -1192,14 +1338,44 @@ public boolean save(LanternChunk chunk) {
         }
     }
 
-    private boolean save0(LanternChunk chunk) {
+    /**
+     * Attempts to save the chunk if it was modified since it was
+     * last saved. Chunks that are currently locked by a different
+     * thread will be skipped.
+     *
+     * @param chunk The chunk
+     * @return The amount of bytes that were written, or -1 if nothing was written
+     */
+    public int saveIfNeeded(LanternChunk chunk) {
+        checkNotNull(chunk, "chunk");
+        if (!chunk.lock.tryLock()) {
+            return -1;
+        }
         try {
-            this.chunkIOService.write(chunk);
-            return true;
+            if (!chunk.loaded || !chunk.needsSaving()) {
+                return -1;
+            }
+            chunk.lockState = LanternChunk.LockState.SAVING;
+            return save0(chunk);
+        } finally {
+            chunk.lockState = LanternChunk.LockState.NONE;
+            chunk.lockCondition.signalAll();
+            chunk.lock.unlock();
+        }
+    }
+
+    private int save0(LanternChunk chunk) {
+        // Capture the count before writing, changes during
+        // the write will keep the chunk dirty
+        final int modificationCount = chunk.getModificationCount();
+        try (LanternTiming ignored = LanternTimings.CHUNK_SAVE.startTiming()) {
+            final int bytes = this.chunkIOService.write(chunk);
+            chunk.markSaved(modificationCount);
+            return bytes;
         } catch (IOException e) {
             this.game.getLogger().error("Error while saving " + chunk, e);
         }
-        return false;
+        return -1;
     }
 
     /**
@@ -1275,21 +1451,25 @@ private boolean unload0(LanternChunk chunk, CauseStack causeStack, boolean wait)
             if (!chunk.loaded) {
                 return true;
             }
-            final LanternChunkQueueTask task = this.chunkQueueTasks.remove(coords);
-            // Try to cancel all the current tasks
-            if (task != null) {
-                task.cancel();
-            }
+            // Try to cancel the queued load
+            this.chunkLoadScheduler.cancel(coords);
             // Post the chunk unload event
             this.game.getEventManager().post(SpongeEventFactory.createUnloadChunkEvent(causeStack.getCurrentCause(), chunk));
             this.world.getEventListener().onUnloadChunk(chunk);
             // Remove from the loaded chunks
             this.loadedChunks.remove(coords);
+            this.tickingTileEntities.removeAll(chunk);
             // Move the chunk to the graveyard
-            this.reusableChunks.put(coords, chunk);
+            synchronized (this.reusableChunks) {
+                this.reusableChunks.put(coords, chunk);
+            }
             // Bury the entities
             chunk.buryEntities();
-            save0(chunk);
+            if (chunk.needsSaving()) {
+                save0(chunk);
+            }
+            // References that are still held to the chunk will see that it's unloaded
+            chunk.loaded = false;
             return true;
         } finally {
             chunk.lockState = LanternChunk.LockState.NONE;
@@ -1362,11 +1542,7 @@ void force(LanternLoadingTicket ticket, Vector2i coords, boolean callEvents) {
             queueLoad = true;
         }
         if (queueLoad) {
-            LanternChunkQueueTask task = this.chunkQueueTasks.get(coords);
-            if (task == null || !(task.runnable instanceof LanternChunkLoadTask)) {
-                this.chunkQueueTasks.computeIfAbsent(coords, coords1 ->
-                        queueTask(coords1, new LanternChunkLoadTask(coords1)));
-            }
+            this.chunkLoadScheduler.queue(coords);
         }
         if  (callEvents) {
             final Vector3i coords0 = new Vector3i(coords.getX(), 0, coords.getY());
@@ -1391,15 +1567,12 @@ private void postForcedChunkEvent(CauseStack causeStack, LanternLoadingTicket ti
      */
     void unforce(LanternLoadingTicket ticket, Vector2i coords, @Nullable CauseStack causeStack) {
         if (unlockInternally(coords, ticket)) {
-            final LanternChunk chunk = getChunk(coords, false);
-            // Try to cancel any queued chunk loadings
-            if (chunk != null && chunk.lock.isLocked() && chunk.lockState == LanternChunk.LockState.LOADING) {
-                final LanternChunkQueueTask task = this.chunkQueueTasks.get(coords);
-                if (task != null && task.runnable instanceof LanternChunkLoadTask) {
-                    task.cancel();
-                }
+            // Try to cancel the queued chunk load if no other tickets need the chunk,
+            // there is nothing to unload if it didn't start yet
+            final boolean cancelled = !this.ticketsByPos.containsKey(coords) && this.chunkLoadScheduler.cancel(coords);
+            final LanternChunk chunk = cancelled ? null : getChunk(coords, false);
             // Queue the chunk for unload, will be some ticks later
-            } else {
+            if (!cancelled && (chunk == null || !chunk.lock.isLocked() || chunk.lockState != LanternChunk.LockState.LOADING)) {
                 final UnloadingChunkEntry entry = new UnloadingChunkEntry(coords);
                 if (!this.pendingForUnload.contains(entry)) {
                     this.pendingForUnload.offer(entry);
@@ -1426,15 +1599,25 @@ void attach(LanternLoadingTicket ticket) {
     }
 
     public void save() {
+        saveTickets();
+        for (Entry<Vector2i, LanternChunk> entry : this.loadedChunks.entrySet()) {
+            // Save the chunk, if it was modified
+            final LanternChunk chunk = entry.getValue();
+            if (chunk.needsSaving()) {
+                save(chunk);
+            }
+        }
+    }
+
+    /**
+     * Saves all the {@link ChunkLoadingTicket}s.
+     */
+    public void saveTickets() {
         try {
             LanternLoadingTicketIO.save(this.worldFolder, this.tickets);
         } catch (IOException e) {
             this.game.getLogger().warn("An error occurred while saving the chunk loading tickets", e);
         }
-        for (Entry<Vector2i, LanternChunk> entry : this.loadedChunks.entrySet()) {
-            // Save the chunk
-            save(entry.getValue());
-        }
     }
 
     /**
@@ -1442,24 +1625,25 @@ public void save() {
      * be saved in the process.
      */
     public void shutdown() {
-        try {
-            LanternLoadingTicketIO.save(this.worldFolder, this.tickets);
-        } catch (IOException e) {
-            this.game.getLogger().warn("An error occurred while saving the chunk loading tickets", e);
-        }
+        saveTickets();
         final CauseStack causeStack = CauseStack.current();
         final Cause cause = causeStack.getCurrentCause();
         for (Entry<Vector2i, LanternChunk> entry : this.loadedChunks.entrySet()) {
             final LanternChunk chunk = entry.getValue();
             // Post the chunk unload event
             this.game.getEventManager().post(SpongeEventFactory.createUnloadChunkEvent(cause, chunk));
-            // Save the chunk
-            save(chunk);
+            // Save the chunk, if it was modified
+            if (chunk.needsSaving()) {
+                save(chunk);
+            }
         }
         // Cleanup
         this.loadedChunks.clear();
-        this.reusableChunks.clear();
-        this.chunkTaskExecutor.shutdown();
+        synchronized (this.reusableChunks) {
+            this.reusableChunks.clear();
+        }
+        this.evictedChunks.clear();
+        this.chunkLoadScheduler.shutdown();
         try {
             this.chunkIOService.unload();
         } catch (IOException e) {
@@ -0,0 +1,192 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.world.chunk;
+
+import com.flowpowered.math.vector.Vector3i;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import org.lanternpowered.api.cause.CauseStack;
+import org.lanternpowered.server.block.tile.LanternTileEntity;
+import org.lanternpowered.server.game.Lantern;
+import org.lanternpowered.server.timings.LanternTiming;
+import org.lanternpowered.server.timings.LanternTimings;
+import org.spongepowered.api.block.tileentity.TileEntity;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.annotation.Nullable;
+
+/**
+ * A flat list of all the {@link LanternTileEntity}s within the loaded
+ * chunks of a world that need to be pulsed every tick.
+ *
+ * <p>Tile entities and chunks can be added and removed from any thread,
+ * the changes are queued and applied on the world thread at the start
+ * of the next pulse. Invalid tile entities are dropped while iterating.</p>
+ */
+public final class TickingTileEntityList {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // The pending additions and chunk removals, in order
+    private final Queue<Object> pendingChanges = new ConcurrentLinkedQueue<>();
+
+    // All the tile entities that are currently tracked
+    private final ReferenceOpenHashSet<LanternTileEntity> tracked = new ReferenceOpenHashSet<>();
+
+    // The tile entities and the chunks they are located in, stored in parallel
+    private LanternTileEntity[] tileEntities = new LanternTileEntity[INITIAL_CAPACITY];
+    private LanternChunk[] chunks = new LanternChunk[INITIAL_CAPACITY];
+    private int size;
+
+    private static final class Addition {
+
+        private final LanternChunk chunk;
+        private final LanternTileEntity tileEntity;
+
+        private Addition(LanternChunk chunk, LanternTileEntity tileEntity) {
+            this.chunk = chunk;
+            this.tileEntity = tileEntity;
+        }
+    }
+
+    /**
+     * Adds the {@link LanternTileEntity} if its type is ticking.
+     *
+     * @param chunk The chunk the tile entity is located in
+     * @param tileEntity The tile entity
+     */
+    public void add(LanternChunk chunk, LanternTileEntity tileEntity) {
+        if (tileEntity.getType().isTicking()) {
+            this.pendingChanges.add(new Addition(chunk, tileEntity));
+        }
+    }
+
+    /**
+     * Adds all the ticking {@link LanternTileEntity}s of the given chunk.
+     *
+     * @param chunk The chunk
+     */
+    public void addAll(LanternChunk chunk) {
+        for (TileEntity tileEntity : chunk.getTileEntities()) {
+            add(chunk, (LanternTileEntity) tileEntity);
+        }
+    }
+
+    /**
+     * Removes all the {@link LanternTileEntity}s of the given chunk.
+     *
+     * @param chunk The chunk
+     */
+    public void removeAll(LanternChunk chunk) {
+        this.pendingChanges.add(chunk);
+    }
+
+    /**
+     * Gets the amount of tile entities that are currently being ticked.
+     *
+     * @return The size
+     */
+    public int size() {
+        return this.size;
+    }
+
+    private void applyPendingChanges() {
+        Object change;
+        while ((change = this.pendingChanges.poll()) != null) {
+            if (change instanceof Addition) {
+                final Addition addition = (Addition) change;
+                if (this.tracked.add(addition.tileEntity)) {
+                    if (this.size == this.tileEntities.length) {
+                        final int capacity = this.size << 1;
+                        this.tileEntities = Arrays.copyOf(this.tileEntities, capacity);
+                        this.chunks = Arrays.copyOf(this.chunks, capacity);
+                    }
+                    this.tileEntities[this.size] = addition.tileEntity;
+                    this.chunks[this.size++] = addition.chunk;
+                }
+            } else {
+                final LanternChunk chunk = (LanternChunk) change;
+                int j = 0;
+                for (int i = 0; i < this.size; i++) {
+                    if (this.chunks[i] == chunk) {
+                        this.tracked.remove(this.tileEntities[i]);
+                    } else {
+                        this.tileEntities[j] = this.tileEntities[i];
+                        this.chunks[j++] = this.chunks[i];
+                    }
+                }
+                clear(j);
+            }
+        }
+    }
+
+    private void clear(int from) {
+        Arrays.fill(this.tileEntities, from, this.size, null);
+        Arrays.fill(this.chunks, from, this.size, null);
+        this.size = from;
+    }
+
+    /**
+     * Pulses all the tracked {@link LanternTileEntity}s.
+     *
+     * @param causeStack The cause stack
+     * @param tickingChunks The keys of the chunks in which tile entities
+     *                      may be pulsed, or {@code null} if all of them may be pulsed
+     */
+    public void pulse(CauseStack causeStack, @Nullable LongSet tickingChunks) {
+        applyPendingChanges();
+        int j = 0;
+        for (int i = 0; i < this.size; i++) {
+            final LanternTileEntity tileEntity = this.tileEntities[i];
+            final LanternChunk chunk = this.chunks[i];
+            // Drop the tile entities that were removed from the chunk
+            if (!tileEntity.isValid()) {
+                this.tracked.remove(tileEntity);
+                continue;
+            }
+            this.tileEntities[j] = tileEntity;
+            this.chunks[j++] = chunk;
+            if (tickingChunks != null && !tickingChunks.contains(LanternChunkManager.key(chunk.getX(), chunk.getZ()))) {
+                continue;
+            }
+            causeStack.pushCause(chunk); // Add the chunk that is being pulsed
+            causeStack.pushCause(tileEntity); // Add the tile entity to the cause
+            try (LanternTiming ignored = LanternTimings.getTileEntityTiming(tileEntity.getClass()).startTiming()) {
+                tileEntity.pulse();
+            } catch (Throwable t) {
+                final Vector3i pos = tileEntity.getLocation().getBlockPosition();
+                Lantern.getLogger().error("Failed to pulse TileEntity at ({};{};{})", pos.getX(), pos.getY(), pos.getZ(), t);
+            } finally {
+                causeStack.popCause(); // Pop the tile entity
+                causeStack.popCause(); // Pop the chunk
+            }
+        }
+        clear(j);
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.world.extent.worker;
+
+import static org.lanternpowered.server.world.chunk.LanternChunk.CHUNK_SECTION_SIZE;
+import static org.lanternpowered.server.world.chunk.LanternChunk.CHUNK_SECTION_VOLUME;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.lanternpowered.server.util.LanternThread;
+import org.lanternpowered.server.util.UncheckedThrowables;
+import org.lanternpowered.server.world.LanternWorld;
+import org.lanternpowered.server.world.chunk.LanternChunk;
+import org.lanternpowered.server.world.chunk.LanternChunkManager;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeFiller;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeReducer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+/**
+ * Splits block volume work up into parts that are aligned to the chunk sections,
+ * the parts of large enough volumes are processed in parallel.
+ */
+final class ChunkSectionPartitions {
+
+    /**
+     * The maximum amount of partitions, larger volumes
+     * will be processed as a single partition.
+     */
+    private static final long MAX_PARTITIONS = 1 << 20;
+
+    /**
+     * The minimum amount of partitions before they will be processed in
+     * parallel, smaller volumes aren't worth the overhead.
+     */
+    private static final int PARALLEL_THRESHOLD = 8;
+
+    /**
+     * The executor that processes the partitions. The common fork join pool isn't
+     * used, it's shared with plugins and the processing shouldn't be blocked by them.
+     */
+    private static final ExecutorService executor = Executors.newFixedThreadPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors() - 1), WorkerThread::new);
+
+    /**
+     * Gets whether the region between the given min and max
+     * coordinates can be written to the volume section by section.
+     *
+     * @param volume The volume
+     * @param min The minimum block coordinates
+     * @param max The maximum block coordinates
+     * @return Whether the region can be written in bulk
+     */
+    static boolean canWriteSections(MutableBlockVolume volume, Vector3i min, Vector3i max) {
+        return volume instanceof LanternWorld && volume.containsBlock(min) && volume.containsBlock(max) &&
+                count(min, max) <= MAX_PARTITIONS;
+    }
+
+    /**
+     * Writes the blocks produced by the filler to the region between the min and
+     * max coordinates in the world. Every chunk section is produced on its own and
+     * applied through {@link LanternChunk#setBlocks(int, BlockState[])}.
+     *
+     * @param world The world
+     * @param min The minimum block coordinates
+     * @param max The maximum block coordinates
+     * @param filler The filler, which receives world coordinates
+     */
+    static void writeSections(LanternWorld world, Vector3i min, Vector3i max, BlockVolumeFiller filler) {
+        // Load the chunks on the calling thread, loading may post events
+        final LanternChunkManager chunkManager = world.getChunkManager();
+        final List<Partition> partitions = partition(min, max);
+        for (Partition partition : partitions) {
+            partition.chunk = chunkManager.getOrLoadChunk(partition.xMin >> 4, partition.zMin >> 4);
+        }
+        process(partitions, partition -> {
+            final BlockState[] blocks = new BlockState[CHUNK_SECTION_VOLUME];
+            for (int z = partition.zMin; z <= partition.zMax; z++) {
+                for (int y = partition.yMin; y <= partition.yMax; y++) {
+                    for (int x = partition.xMin; x <= partition.xMax; x++) {
+                        blocks[LanternChunk.ChunkSection.index(x & 0xf, y & 0xf, z & 0xf)] = filler.produce(x, y, z);
+                    }
+                }
+            }
+            return partition.chunk.setBlocks(partition.yMin >> 4, blocks);
+        });
+    }
+
+    /**
+     * Reduces all the blocks in the volume. The volume is only reduced in parallel if
+     * the identity is immutable, otherwise would the partitions share the identity.
+     *
+     * @param volume The volume
+     * @param reducer The reducer
+     * @param merge The function that merges two partial reductions
+     * @param identity The identity of the reduction
+     * @param <T> The type of the reduction
+     * @return The reduction
+     * @see #reduce(UnmodifiableBlockVolume, BlockVolumeReducer, BiFunction, Supplier)
+     */
+    static <T> T reduce(UnmodifiableBlockVolume volume, BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T identity) {
+        if (isImmutable(identity)) {
+            return reduce(volume, reducer, merge, () -> identity);
+        }
+        return reduce(volume, reducer, identity, volume.getBlockMin(), volume.getBlockMax());
+    }
+
+    /**
+     * Reduces all the blocks in the volume. Every chunk section part is reduced
+     * separately, starting from its own identity, and the results are merged in order.
+     *
+     * @param volume The volume
+     * @param reducer The reducer
+     * @param merge The function that merges two partial reductions
+     * @param identity The supplier of the identities of the reduction
+     * @param <T> The type of the reduction
+     * @return The reduction
+     */
+    static <T> T reduce(UnmodifiableBlockVolume volume, BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge,
+            Supplier<T> identity) {
+        final Vector3i min = volume.getBlockMin();
+        final Vector3i max = volume.getBlockMax();
+        if (count(min, max) > MAX_PARTITIONS) {
+            return reduce(volume, reducer, identity.get(), min, max);
+        }
+        final List<T> reductions = process(partition(min, max), partition -> reduce(volume, reducer, identity.get(),
+                new Vector3i(partition.xMin, partition.yMin, partition.zMin),
+                new Vector3i(partition.xMax, partition.yMax, partition.zMax)));
+        T reduction = reductions.get(0);
+        for (int i = 1; i < reductions.size(); i++) {
+            reduction = merge.apply(reduction, reductions.get(i));
+        }
+        return reduction;
+    }
+
+    private static <T> T reduce(UnmodifiableBlockVolume volume, BlockVolumeReducer<T> reducer, T identity,
+            Vector3i min, Vector3i max) {
+        T reduction = identity;
+        for (int z = min.getZ(); z <= max.getZ(); z++) {
+            for (int y = min.getY(); y <= max.getY(); y++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    reduction = reducer.reduce(volume, x, y, z, reduction);
+                }
+            }
+        }
+        return reduction;
+    }
+
+    private static boolean isImmutable(@Nullable Object object) {
+        return object == null || object instanceof String || object instanceof Enum || object instanceof Boolean ||
+                object instanceof Character || object instanceof Integer || object instanceof Long ||
+                object instanceof Short || object instanceof Byte || object instanceof Double || object instanceof Float;
+    }
+
+    /**
+     * Applies the function to all the partitions and returns the results in order. The
+     * partitions are only processed in parallel if there are enough of them, nested work
+     * that is started from within a worker will always be processed on that worker.
+     *
+     * @param partitions The partitions
+     * @param function The function to apply
+     * @param <T> The type of the results
+     * @return The results
+     */
+    private static <T> List<T> process(List<Partition> partitions, Function<Partition, T> function) {
+        final List<T> results = new ArrayList<>(partitions.size());
+        if (partitions.size() < PARALLEL_THRESHOLD || Thread.currentThread() instanceof WorkerThread) {
+            for (Partition partition : partitions) {
+                results.add(function.apply(partition));
+            }
+            return results;
+        }
+        final List<Future<T>> futures = new ArrayList<>(partitions.size());
+        for (Partition partition : partitions) {
+            futures.add(executor.submit(() -> function.apply(partition)));
+        }
+        boolean interrupted = false;
+        try {
+            for (Future<T> future : futures) {
+                while (true) {
+                    try {
+                        results.add(future.get());
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    } catch (ExecutionException e) {
+                        throw UncheckedThrowables.throwUnchecked(e.getCause());
+                    }
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return results;
+    }
+
+    private static long count(Vector3i min, Vector3i max) {
+        return ((long) (max.getX() >> 4) - (min.getX() >> 4) + 1) *
+                ((long) (max.getY() >> 4) - (min.getY() >> 4) + 1) *
+                ((long) (max.getZ() >> 4) - (min.getZ() >> 4) + 1);
+    }
+
+    private static List<Partition> partition(Vector3i min, Vector3i max) {
+        final List<Partition> partitions = new ArrayList<>();
+        for (int z = min.getZ() >> 4; z <= max.getZ() >> 4; z++) {
+            for (int x = min.getX() >> 4; x <= max.getX() >> 4; x++) {
+                for (int y = min.getY() >> 4; y <= max.getY() >> 4; y++) {
+                    final int xMin = x << 4;
+                    final int yMin = y << 4;
+                    final int zMin = z << 4;
+                    partitions.add(new Partition(
+                            Math.max(xMin, min.getX()), Math.max(yMin, min.getY()), Math.max(zMin, min.getZ()),
+                            Math.min(xMin + CHUNK_SECTION_SIZE - 1, max.getX()),
+                            Math.min(yMin + CHUNK_SECTION_SIZE - 1, max.getY()),
+                            Math.min(zMin + CHUNK_SECTION_SIZE - 1, max.getZ())));
+                }
+            }
+        }
+        return partitions;
+    }
+
+    private static final class Partition {
+
+        private final int xMin;
+        private final int yMin;
+        private final int zMin;
+        private final int xMax;
+        private final int yMax;
+        private final int zMax;
+
+        @Nullable private LanternChunk chunk;
+
+        private Partition(int xMin, int yMin, int zMin, int xMax, int yMax, int zMax) {
+            this.xMin = xMin;
+            this.yMin = yMin;
+            this.zMin = zMin;
+            this.xMax = xMax;
+            this.yMax = yMax;
+            this.zMax = zMax;
+        }
+    }
+
+    private static final class WorkerThread extends LanternThread {
+
+        private static final AtomicInteger counter = new AtomicInteger();
+
+        private WorkerThread(Runnable target) {
+            super(target, "block-volume-worker-" + counter.incrementAndGet());
+            setDaemon(true);
+        }
+    }
+
+    private ChunkSectionPartitions() {
+    }
+}
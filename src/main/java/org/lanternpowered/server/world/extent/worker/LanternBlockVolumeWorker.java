@@ -29,6 +29,7 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.flowpowered.math.vector.Vector3i;
+import org.lanternpowered.server.world.LanternWorld;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.world.extent.BlockVolume;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
@@ -67,6 +68,13 @@ public void map(BlockVolumeMapper mapper, MutableBlockVolume destination) {
         final int xMax = unmodifiableVolume.getBlockMax().getX();
         final int yMax = unmodifiableVolume.getBlockMax().getY();
         final int zMax = unmodifiableVolume.getBlockMax().getZ();
+        final Vector3i destinationMin = unmodifiableVolume.getBlockMin().add(offset);
+        final Vector3i destinationMax = unmodifiableVolume.getBlockMax().add(offset);
+        if (ChunkSectionPartitions.canWriteSections(destination, destinationMin, destinationMax)) {
+            ChunkSectionPartitions.writeSections((LanternWorld) destination, destinationMin, destinationMax,
+                    (x, y, z) -> mapper.map(unmodifiableVolume, x - xOffset, y - yOffset, z - zOffset));
+            return;
+        }
         for (int z = zMin; z <= zMax; z++) {
             for (int y = yMin; y <= yMax; y++) {
                 for (int x = xMin; x <= xMax; x++) {
@@ -95,6 +103,18 @@ public void merge(BlockVolume second, BlockVolumeMerger merger, MutableBlockVolu
         final int yMax = firstUnmodifiableVolume.getBlockMax().getY();
         final int zMax = firstUnmodifiableVolume.getBlockMax().getZ();
         final UnmodifiableBlockVolume secondUnmodifiableVolume = second.getUnmodifiableBlockView();
+        final Vector3i destinationMin = firstUnmodifiableVolume.getBlockMin().add(offsetDestination);
+        final Vector3i destinationMax = firstUnmodifiableVolume.getBlockMax().add(offsetDestination);
+        if (ChunkSectionPartitions.canWriteSections(destination, destinationMin, destinationMax)) {
+            ChunkSectionPartitions.writeSections((LanternWorld) destination, destinationMin, destinationMax, (x, y, z) -> {
+                final int x0 = x - xOffsetDestination;
+                final int y0 = y - yOffsetDestination;
+                final int z0 = z - zOffsetDestination;
+                return merger.merge(firstUnmodifiableVolume, x0, y0, z0,
+                        secondUnmodifiableVolume, x0 + xOffsetSecond, y0 + yOffsetSecond, z0 + zOffsetSecond);
+            });
+            return;
+        }
         for (int z = zMin; z <= zMax; z++) {
             for (int y = yMin; y <= yMax; y++) {
                 for (int x = xMin; x <= xMax; x++) {
@@ -125,22 +145,9 @@ public void iterate(BlockVolumeVisitor<V> visitor) {
 
     @Override
     public <T> T reduce(BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T identity) {
-        final UnmodifiableBlockVolume unmodifiableVolume = this.volume.getUnmodifiableBlockView();
-        final int xMin = unmodifiableVolume.getBlockMin().getX();
-        final int yMin = unmodifiableVolume.getBlockMin().getY();
-        final int zMin = unmodifiableVolume.getBlockMin().getZ();
-        final int xMax = unmodifiableVolume.getBlockMax().getX();
-        final int yMax = unmodifiableVolume.getBlockMax().getY();
-        final int zMax = unmodifiableVolume.getBlockMax().getZ();
-        T reduction = identity;
-        for (int z = zMin; z <= zMax; z++) {
-            for (int y = yMin; y <= yMax; y++) {
-                for (int x = xMin; x <= xMax; x++) {
-                    reduction = reducer.reduce(unmodifiableVolume, x, y, z, reduction);
-                }
-            }
-        }
-        return reduction;
+        // Large volumes are reduced per chunk section, the reduction
+        // function is expected to be safe to call from multiple threads
+        return ChunkSectionPartitions.reduce(this.volume.getUnmodifiableBlockView(), reducer, merge, identity);
     }
 
     private Vector3i align(BlockVolume other) {
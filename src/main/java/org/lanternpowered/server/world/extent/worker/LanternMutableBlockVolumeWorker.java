@@ -25,6 +25,7 @@
  */
 package org.lanternpowered.server.world.extent.worker;
 
+import org.lanternpowered.server.world.LanternWorld;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.extent.worker.MutableBlockVolumeWorker;
@@ -45,6 +46,10 @@ public void fill(BlockVolumeFiller filler) {
         final int xMax = this.volume.getBlockMax().getX();
         final int yMax = this.volume.getBlockMax().getY();
         final int zMax = this.volume.getBlockMax().getZ();
+        if (ChunkSectionPartitions.canWriteSections(this.volume, this.volume.getBlockMin(), this.volume.getBlockMax())) {
+            ChunkSectionPartitions.writeSections((LanternWorld) this.volume, this.volume.getBlockMin(), this.volume.getBlockMax(), filler);
+            return;
+        }
         for (int z = zMin; z <= zMax; z++) {
             for (int y = yMin; y <= yMax; y++) {
                 for (int x = xMin; x <= xMax; x++) {
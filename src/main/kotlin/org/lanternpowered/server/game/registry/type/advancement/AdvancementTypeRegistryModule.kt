@@ -28,12 +28,15 @@ package org.lanternpowered.server.game.registry.type.advancement
 import org.lanternpowered.api.catalog.CatalogKey
 import org.lanternpowered.server.advancement.LanternAdvancementType
 import org.lanternpowered.server.game.registry.DefaultCatalogRegistryModule
+import org.lanternpowered.server.game.registry.type.text.TextColorRegistryModule
 import org.spongepowered.api.advancement.AdvancementType
 import org.spongepowered.api.advancement.AdvancementTypes
+import org.spongepowered.api.registry.util.RegistrationDependency
 import org.spongepowered.api.text.format.TextColor
 import org.spongepowered.api.text.format.TextColors
 import org.spongepowered.api.text.format.TextFormat
 
+@RegistrationDependency(TextColorRegistryModule::class)
 class AdvancementTypeRegistryModule : DefaultCatalogRegistryModule<AdvancementType>(AdvancementTypes::class) {
 
     override fun registerDefaults() {
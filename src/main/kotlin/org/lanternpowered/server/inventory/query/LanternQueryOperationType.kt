@@ -30,8 +30,11 @@ import org.lanternpowered.server.catalog.DefaultCatalogType
 import org.spongepowered.api.item.inventory.query.QueryOperation
 import org.spongepowered.api.item.inventory.query.QueryOperationType
 
-class LanternQueryOperationType<T>(key: CatalogKey, protected val queryOperator: QueryOperator<T>) :
-        DefaultCatalogType(key), QueryOperationType<T> {
+class LanternQueryOperationType<T> @JvmOverloads constructor(
+        key: CatalogKey,
+        protected val queryOperator: QueryOperator<T>,
+        val scope: QueryOperationScope = QueryOperationScope.CONTENTS
+) : DefaultCatalogType(key), QueryOperationType<T> {
 
     override fun of(arg: T): QueryOperation<T> = LanternQueryOperation(this, arg)
 }
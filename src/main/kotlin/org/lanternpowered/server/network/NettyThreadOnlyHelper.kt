@@ -33,12 +33,18 @@ import java.util.concurrent.ConcurrentHashMap
 object NettyThreadOnlyHelper {
 
     private val map = ConcurrentHashMap<Class<out Handler<out Message>>, Boolean>()
+    private val asyncMap = ConcurrentHashMap<Class<out Handler<out Message>>, Boolean>()
 
     fun isHandlerNettyThreadOnly(handlerClass: Class<out Handler<out Message>>): Boolean {
-        return this.map.computeIfAbsent(handlerClass) { isHandlerNettyThreadOnly0(it) }
+        return this.map.computeIfAbsent(handlerClass) { isHandleMethodAnnotated(it, NettyThreadOnly::class.java) }
     }
 
-    private fun isHandlerNettyThreadOnly0(handlerClass: Class<out Handler<out Message>>): Boolean {
+    fun isHandlerAsync(handlerClass: Class<out Handler<out Message>>): Boolean {
+        return this.asyncMap.computeIfAbsent(handlerClass) { isHandleMethodAnnotated(it, AsyncHandled::class.java) }
+    }
+
+    private fun isHandleMethodAnnotated(handlerClass: Class<out Handler<out Message>>,
+            annotationClass: Class<out Annotation>): Boolean {
         for (method in handlerClass.methods) {
             if (method.name != "handle" || method.parameterCount != 2 || method.isSynthetic) {
                 continue
@@ -53,7 +59,7 @@ object NettyThreadOnlyHelper {
             if (messageType.rawType != params[1]) {
                 continue
             }
-            if (method.getAnnotation(NettyThreadOnly::class.java) != null) {
+            if (method.getAnnotation(annotationClass) != null) {
                 return true
             }
         }
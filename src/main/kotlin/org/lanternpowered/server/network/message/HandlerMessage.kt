@@ -53,6 +53,8 @@ data class HandlerMessage<M : Message> @JvmOverloads constructor(
 fun getDefaultHandleThread(handler: Handler<*>): HandlerMessage.HandleThread {
     return if (NettyThreadOnlyHelper.isHandlerNettyThreadOnly(handler::class.java)) {
         HandlerMessage.HandleThread.NETTY
+    } else if (NettyThreadOnlyHelper.isHandlerAsync(handler::class.java)) {
+        HandlerMessage.HandleThread.ASYNC
     } else {
         HandlerMessage.HandleThread.MAIN
     }
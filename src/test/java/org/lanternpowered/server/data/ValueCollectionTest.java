@@ -0,0 +1,227 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.reflect.TypeParameter;
+import com.google.common.reflect.TypeToken;
+import org.junit.Test;
+import org.lanternpowered.server.catalog.LanternCatalogKey;
+import org.lanternpowered.server.data.element.Element;
+import org.lanternpowered.server.data.key.LanternKeyBuilder;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.mutable.Value;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public class ValueCollectionTest {
+
+    private static final Key<Value<Integer>> KEY_A = createKey(Integer.class, "a");
+    private static final Key<Value<Integer>> KEY_B = createKey(Integer.class, "b");
+    private static final Key<Value<String>> KEY_C = createKey(String.class, "c");
+
+    private static <E> Key<Value<E>> createKey(Class<E> elementType, String id) {
+        final TypeToken<Value<E>> valueToken = new TypeToken<Value<E>>() {}
+                .where(new TypeParameter<E>() {}, TypeToken.of(elementType));
+        return new LanternKeyBuilder<>().type(valueToken).query(DataQuery.of(id)).key(new LanternCatalogKey("test", id)).build();
+    }
+
+    private static <E> E get(ValueCollection valueCollection, Key<Value<E>> key) {
+        return valueCollection.getElement(key).get().get();
+    }
+
+    private static <E> void set(ValueCollection valueCollection, Key<Value<E>> key, E value) {
+        valueCollection.getElement(key).get().set(value);
+    }
+
+    @Test
+    public void testRegister() {
+        final ValueCollection valueCollection = ValueCollection.create();
+        valueCollection.register(KEY_A, 1);
+        valueCollection.register(KEY_C, "c");
+        assertTrue(valueCollection.has(KEY_A));
+        assertFalse(valueCollection.has(KEY_B));
+        assertTrue(valueCollection.has(KEY_C));
+        assertEquals(1, (int) get(valueCollection, KEY_A));
+        assertEquals("c", get(valueCollection, KEY_C));
+        assertFalse(valueCollection.getElement(KEY_B).isPresent());
+        assertEquals(ImmutableList.of(KEY_A, KEY_C), ImmutableList.copyOf(valueCollection.getKeys()));
+        assertEquals(2, valueCollection.getAll().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRegisterTwice() {
+        final ValueCollection valueCollection = ValueCollection.create();
+        valueCollection.register(KEY_A, 1);
+        valueCollection.register(KEY_A, 2);
+    }
+
+    @Test
+    public void testCopy() {
+        final ValueCollection original = ValueCollection.create();
+        original.register(KEY_A, 1);
+        original.register(KEY_C, "c");
+        final ValueCollection copy = original.copy();
+        assertEquals(ImmutableList.copyOf(original.getKeys()), ImmutableList.copyOf(copy.getKeys()));
+        assertEquals(1, (int) get(copy, KEY_A));
+        assertEquals("c", get(copy, KEY_C));
+        // Every registration is owned by a single collection
+        final Element<Integer> originalElement = original.getElement(KEY_A).get();
+        final Element<Integer> copyElement = copy.getElement(KEY_A).get();
+        assertNotSame(originalElement, copyElement);
+    }
+
+    @Test
+    public void testCopyMutateIsolation() {
+        final ValueCollection original = ValueCollection.create();
+        original.register(KEY_A, 1);
+        final ValueCollection copy = original.copy();
+        set(copy, KEY_A, 2);
+        assertEquals(1, (int) get(original, KEY_A));
+        assertEquals(2, (int) get(copy, KEY_A));
+        set(original, KEY_A, 3);
+        assertEquals(3, (int) get(original, KEY_A));
+        assertEquals(2, (int) get(copy, KEY_A));
+        // A copy of a copy is isolated as well
+        final ValueCollection copy2 = copy.copy();
+        set(copy, KEY_A, 4);
+        assertEquals(2, (int) get(copy2, KEY_A));
+    }
+
+    @Test
+    public void testCopyRegisterIsolation() {
+        final ValueCollection original = ValueCollection.create();
+        original.register(KEY_A, 1);
+        final ValueCollection copy = original.copy();
+        copy.register(KEY_B, 2);
+        original.register(KEY_C, "c");
+        assertTrue(copy.has(KEY_B));
+        assertFalse(copy.has(KEY_C));
+        assertTrue(original.has(KEY_C));
+        assertFalse(original.has(KEY_B));
+        assertEquals(ImmutableList.of(KEY_A, KEY_B), ImmutableList.copyOf(copy.getKeys()));
+        assertEquals(ImmutableList.of(KEY_A, KEY_C), ImmutableList.copyOf(original.getKeys()));
+        assertEquals(2, (int) get(copy, KEY_B));
+    }
+
+    @Test
+    public void testModificationStamp() {
+        final ValueCollection original = ValueCollection.create();
+        long stamp = original.getModificationStamp();
+        original.register(KEY_A, 1);
+        assertTrue(original.getModificationStamp() > stamp);
+        stamp = original.getModificationStamp();
+        set(original, KEY_A, 2);
+        assertTrue(original.getModificationStamp() > stamp);
+        stamp = original.getModificationStamp();
+        // Setting the same element isn't a modification
+        set(original, KEY_A, 2);
+        assertEquals(stamp, original.getModificationStamp());
+        final ValueCollection copy = original.copy();
+        assertEquals(stamp, copy.getModificationStamp());
+        // Modifications of the copy don't affect the original
+        set(copy, KEY_A, 3);
+        assertEquals(stamp, original.getModificationStamp());
+        assertTrue(copy.getModificationStamp() > stamp);
+    }
+
+    @Test
+    public void testCopySharedIsolation() {
+        final ValueCollection original = ValueCollection.create();
+        original.register(KEY_A, 1);
+        original.register(KEY_B, 2);
+        final ValueCollection copy = original.copy();
+        final ValueCollection copy2 = copy.copy();
+        // Only the accessed registrations are copied, the others stay shared
+        set(copy2, KEY_A, 3);
+        set(original, KEY_B, 4);
+        assertEquals(1, (int) get(original, KEY_A));
+        assertEquals(1, (int) get(copy, KEY_A));
+        assertEquals(3, (int) get(copy2, KEY_A));
+        assertEquals(4, (int) get(original, KEY_B));
+        assertEquals(2, (int) get(copy, KEY_B));
+        assertEquals(2, (int) get(copy2, KEY_B));
+        // Once copied, a registration is owned by the collection
+        assertSame(copy.getElement(KEY_A).get(), copy.getElement(KEY_A).get());
+    }
+
+    @Test
+    public void testCopyConcurrentAccess() throws InterruptedException {
+        final ValueCollection original = ValueCollection.create();
+        original.register(KEY_A, 1);
+        final ValueCollection copy = original.copy();
+        final int threads = 8;
+        final AtomicReferenceArray<Element<Integer>> elements = new AtomicReferenceArray<>(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final Thread[] workers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            final int index = i;
+            workers[i] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                elements.set(index, copy.getElement(KEY_A).get());
+            });
+            workers[i].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        // Every reader has to get the same copy
+        for (int i = 1; i < threads; i++) {
+            assertSame(elements.get(0), elements.get(i));
+        }
+        assertNotSame(original.getElement(KEY_A).get(), elements.get(0));
+    }
+
+    @Test
+    public void testCopyModificationStamp() {
+        final ValueCollection original = ValueCollection.create();
+        original.register(KEY_A, 1);
+        final long stamp = original.getModificationStamp();
+        final ValueCollection copy = original.copy();
+        // Copying a shared registration isn't a modification
+        get(copy, KEY_A);
+        get(original, KEY_A);
+        assertEquals(stamp, copy.getModificationStamp());
+        assertEquals(stamp, original.getModificationStamp());
+        // The copied registrations report to their own collection
+        set(original, KEY_A, 2);
+        assertEquals(stamp, copy.getModificationStamp());
+        assertTrue(original.getModificationStamp() > stamp);
+    }
+}
@@ -26,8 +26,10 @@
 package org.lanternpowered.server.data.persistence.nbt;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.ints.IntList;
 import org.junit.Test;
 import org.lanternpowered.server.data.MemoryDataContainer;
 import org.spongepowered.api.data.DataContainer;
@@ -42,6 +44,7 @@
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.zip.GZIPOutputStream;
 
 public class NbtDataContainerStreamsTest {
@@ -65,9 +68,9 @@ public class NbtDataContainerStreamsTest {
     private static final DataQuery Q = DataQuery.of("Q");
     private static final DataQuery R = DataQuery.of("R");
     private static final DataQuery S = DataQuery.of("S");
+    private static final DataQuery T = DataQuery.of("T");
 
-    @Test
-    public void test() throws IOException {
+    private static DataContainer createTestContainer() {
         final DataContainer container = new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
         container.set(A, (byte) 54);
         container.set(B, (short) 5493);
@@ -90,6 +93,46 @@ public void test() throws IOException {
         container.set(Q, true);
         container.set(R, new boolean[] { true, false, true, true });
         container.set(S, new String[] { "S", "s", "z" });
+        container.set(T, Lists.newArrayList(1, 2, 3, 4));
+        return container;
+    }
+
+    private static byte[] write(DataView dataView) throws IOException {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (NbtDataContainerOutputStream output = new NbtDataContainerOutputStream(baos)) {
+            output.write(dataView);
+            output.flush();
+        }
+        return baos.toByteArray();
+    }
+
+    @Test
+    public void testCompact() throws IOException {
+        final DataContainer container = createTestContainer();
+        final byte[] content = write(container);
+
+        final DataContainer newContainer;
+        try (NbtDataContainerInputStream input = new NbtDataContainerInputStream(
+                new ByteArrayInputStream(content), Integer.MAX_VALUE, true)) {
+            newContainer = input.read();
+        }
+        assertEquals(container, newContainer);
+        assertTrue(newContainer.getIntegerList(T).get() instanceof IntList);
+
+        // Compact containers are moved into compact views
+        final DataContainer root = MemoryDataContainer.createCompact();
+        root.set(A, newContainer);
+        assertTrue(newContainer.isEmpty());
+        assertEquals(container.get(G.then(A)), root.get(A.then(G).then(A)));
+        assertEquals(root.getView(A).get().getView(G).get().getCurrentPath(), A.then(G));
+
+        // And written the same way as the original container
+        assertTrue(Arrays.equals(content, write(root.getView(A).get())));
+    }
+
+    @Test
+    public void test() throws IOException {
+        final DataContainer container = createTestContainer();
 
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         DataOutputStream dos = new DataOutputStream(baos);
@@ -0,0 +1,135 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.inventory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.lanternpowered.server.inventory.TestItemStacks.DAMAGE;
+import static org.lanternpowered.server.inventory.TestItemStacks.NAME;
+import static org.lanternpowered.server.inventory.TestItemStacks.STONE;
+import static org.lanternpowered.server.inventory.TestItemStacks.SWORD;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.lanternpowered.server.data.IValueContainer;
+
+public class LanternItemStackTest {
+
+    @BeforeClass
+    public static void init() {
+        TestItemStacks.init();
+    }
+
+    private static void assertSimilar(LanternItemStack itemStackA, LanternItemStack itemStackB) {
+        assertTrue(itemStackA.similarTo(itemStackB));
+        assertTrue(IValueContainer.matchContents(itemStackA, itemStackB));
+        // The structural hash has to be consistent with the content matching
+        assertEquals(itemStackA.getStructuralHash(), itemStackB.getStructuralHash());
+        assertEquals(IValueContainer.contentHashCode(itemStackA), IValueContainer.contentHashCode(itemStackB));
+    }
+
+    @Test
+    public void testSimilarStacks() {
+        final LanternItemStack itemStackA = new LanternItemStack(SWORD);
+        final LanternItemStack itemStackB = new LanternItemStack(SWORD);
+        assertSimilar(itemStackA, itemStackB);
+        itemStackA.offerFastNoEvents(DAMAGE, 5);
+        itemStackB.offerFastNoEvents(DAMAGE, 5);
+        assertSimilar(itemStackA, itemStackB);
+        // The quantity isn't part of the contents
+        final LanternItemStack itemStackC = new LanternItemStack(STONE, 10);
+        final LanternItemStack itemStackD = new LanternItemStack(STONE, 20);
+        assertSimilar(itemStackC, itemStackD);
+    }
+
+    @Test
+    public void testDifferentStacks() {
+        final LanternItemStack itemStackA = new LanternItemStack(SWORD);
+        final LanternItemStack itemStackB = new LanternItemStack(SWORD);
+        itemStackB.offerFastNoEvents(DAMAGE, 5);
+        assertFalse(itemStackA.similarTo(itemStackB));
+        assertFalse(IValueContainer.matchContents(itemStackA, itemStackB));
+        assertNotEquals(itemStackA.getStructuralHash(), itemStackB.getStructuralHash());
+        assertFalse(new LanternItemStack(STONE).similarTo(new LanternItemStack(SWORD)));
+    }
+
+    @Test
+    public void testOfferInvalidatesHash() {
+        final LanternItemStack itemStack = new LanternItemStack(SWORD);
+        final int hash = itemStack.getStructuralHash();
+        final long version = itemStack.getVersion();
+        itemStack.offerFastNoEvents(DAMAGE, 5);
+        assertNotEquals(version, itemStack.getVersion());
+        assertNotEquals(hash, itemStack.getStructuralHash());
+        // Reverting the data reverts the hash, but not the version
+        final long version2 = itemStack.getVersion();
+        itemStack.offerFastNoEvents(DAMAGE, 0);
+        assertEquals(hash, itemStack.getStructuralHash());
+        assertNotEquals(version2, itemStack.getVersion());
+    }
+
+    @Test
+    public void testDirectModificationInvalidatesHash() {
+        final LanternItemStack itemStack = new LanternItemStack(SWORD);
+        final int hash = itemStack.getStructuralHash();
+        final long version = itemStack.getVersion();
+        // Modify the value collection without going through the item stack
+        itemStack.getValueCollection().getElement(NAME).get().set("Excalibur");
+        assertNotEquals(version, itemStack.getVersion());
+        assertNotEquals(hash, itemStack.getStructuralHash());
+        final LanternItemStack other = new LanternItemStack(SWORD);
+        other.offerFastNoEvents(NAME, "Excalibur");
+        assertSimilar(itemStack, other);
+    }
+
+    @Test
+    public void testQuantityChangesVersion() {
+        final LanternItemStack itemStack = new LanternItemStack(STONE, 10);
+        final int hash = itemStack.getStructuralHash();
+        final long version = itemStack.getVersion();
+        itemStack.setQuantity(20);
+        assertNotEquals(version, itemStack.getVersion());
+        assertEquals(hash, itemStack.getStructuralHash());
+    }
+
+    @Test
+    public void testCopy() {
+        final LanternItemStack itemStack = new LanternItemStack(SWORD);
+        itemStack.offerFastNoEvents(DAMAGE, 5);
+        final LanternItemStack copy = itemStack.copy();
+        // Copies share the version until one of them is modified
+        assertEquals(itemStack.getVersion(), copy.getVersion());
+        assertSimilar(itemStack, copy);
+        final long version = itemStack.getVersion();
+        copy.offerFastNoEvents(DAMAGE, 10);
+        assertEquals(version, itemStack.getVersion());
+        assertNotEquals(version, copy.getVersion());
+        assertEquals(5, (int) itemStack.get(DAMAGE).get());
+        assertFalse(itemStack.similarTo(copy));
+    }
+}
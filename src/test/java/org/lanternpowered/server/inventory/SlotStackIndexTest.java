@@ -0,0 +1,141 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.inventory;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.lanternpowered.server.inventory.TestItemStacks.DAMAGE;
+import static org.lanternpowered.server.inventory.TestItemStacks.STONE;
+import static org.lanternpowered.server.inventory.TestItemStacks.SWORD;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.lanternpowered.server.inventory.type.slot.LanternSlot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SlotStackIndexTest {
+
+    private static final int[] NONE = new int[0];
+
+    @BeforeClass
+    public static void init() {
+        TestItemStacks.init();
+    }
+
+    private static List<AbstractSlot> createSlots(int count) {
+        final List<AbstractSlot> slots = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            slots.add(new LanternSlot());
+        }
+        return slots;
+    }
+
+    @Test
+    public void testSet() {
+        final List<AbstractSlot> slots = createSlots(4);
+        final SlotStackIndex stackIndex = new SlotStackIndex(slots);
+        assertArrayEquals(NONE, stackIndex.getCandidates(new LanternItemStack(STONE)));
+        slots.get(1).setRawItemStack(new LanternItemStack(STONE, 10));
+        slots.get(3).setRawItemStack(new LanternItemStack(STONE, 20));
+        slots.get(2).setRawItemStack(new LanternItemStack(SWORD));
+        assertArrayEquals(new int[] { 1, 3 }, stackIndex.getCandidates(new LanternItemStack(STONE)));
+        assertArrayEquals(new int[] { 2 }, stackIndex.getCandidates(new LanternItemStack(SWORD)));
+        // Replace a stack
+        slots.get(1).setRawItemStack(new LanternItemStack(SWORD));
+        assertArrayEquals(new int[] { 3 }, stackIndex.getCandidates(new LanternItemStack(STONE)));
+        assertArrayEquals(new int[] { 1, 2 }, stackIndex.getCandidates(new LanternItemStack(SWORD)));
+    }
+
+    @Test
+    public void testOffer() {
+        final List<AbstractSlot> slots = createSlots(3);
+        final SlotStackIndex stackIndex = new SlotStackIndex(slots);
+        slots.get(2).offerFast(new LanternItemStack(STONE, 5));
+        assertArrayEquals(new int[] { 2 }, stackIndex.getCandidates(new LanternItemStack(STONE)));
+        // Offering to a filled slot only changes the quantity
+        slots.get(2).offerFast(new LanternItemStack(STONE, 5));
+        assertArrayEquals(new int[] { 2 }, stackIndex.getCandidates(new LanternItemStack(STONE)));
+        slots.get(0).offerFast(new LanternItemStack(STONE, 5));
+        assertArrayEquals(new int[] { 0, 2 }, stackIndex.getCandidates(new LanternItemStack(STONE)));
+    }
+
+    @Test
+    public void testPoll() {
+        final List<AbstractSlot> slots = createSlots(3);
+        final SlotStackIndex stackIndex = new SlotStackIndex(slots);
+        slots.get(0).setRawItemStack(new LanternItemStack(STONE, 10));
+        slots.get(1).setRawItemStack(new LanternItemStack(STONE, 10));
+        // Partially polling keeps the stack in the index
+        slots.get(0).poll(5);
+        assertArrayEquals(new int[] { 0, 1 }, stackIndex.getCandidates(new LanternItemStack(STONE)));
+        slots.get(0).poll();
+        assertArrayEquals(new int[] { 1 }, stackIndex.getCandidates(new LanternItemStack(STONE)));
+        slots.get(1).poll();
+        assertArrayEquals(NONE, stackIndex.getCandidates(new LanternItemStack(STONE)));
+    }
+
+    @Test
+    public void testDirectModification() {
+        final List<AbstractSlot> slots = createSlots(2);
+        final SlotStackIndex stackIndex = new SlotStackIndex(slots);
+        slots.get(0).setRawItemStack(new LanternItemStack(SWORD));
+        slots.get(1).setRawItemStack(new LanternItemStack(SWORD));
+        // Modify the stacks without notifying the slots
+        slots.get(0).getRawItemStack().offerFastNoEvents(DAMAGE, 5);
+        slots.get(1).getRawItemStack().getValueCollection().getElement(DAMAGE).get().set(5);
+        assertArrayEquals(NONE, stackIndex.getCandidates(new LanternItemStack(SWORD)));
+        final LanternItemStack damaged = new LanternItemStack(SWORD);
+        damaged.offerFastNoEvents(DAMAGE, 5);
+        assertArrayEquals(new int[] { 0, 1 }, stackIndex.getCandidates(damaged));
+    }
+
+    @Test
+    public void testDirectQuantityModification() {
+        final List<AbstractSlot> slots = createSlots(2);
+        final SlotStackIndex stackIndex = new SlotStackIndex(slots);
+        slots.get(0).setRawItemStack(new LanternItemStack(STONE, 10));
+        slots.get(1).setRawItemStack(new LanternItemStack(STONE, 10));
+        assertArrayEquals(new int[] { 0, 1 }, stackIndex.getCandidates(new LanternItemStack(STONE)));
+        // Emptying the stack without notifying the slot
+        slots.get(0).getRawItemStack().setQuantity(0);
+        assertArrayEquals(new int[] { 1 }, stackIndex.getCandidates(new LanternItemStack(STONE)));
+        slots.get(0).getRawItemStack().setQuantity(5);
+        assertArrayEquals(new int[] { 0, 1 }, stackIndex.getCandidates(new LanternItemStack(STONE)));
+    }
+
+    @Test
+    public void testReplacedStackModification() {
+        final List<AbstractSlot> slots = createSlots(1);
+        final SlotStackIndex stackIndex = new SlotStackIndex(slots);
+        final LanternItemStack sword = new LanternItemStack(SWORD);
+        slots.get(0).setRawItemStack(sword);
+        slots.get(0).setRawItemStack(new LanternItemStack(SWORD));
+        // The old stack is no longer tracked by the slot
+        sword.offerFastNoEvents(DAMAGE, 5);
+        assertArrayEquals(new int[] { 0 }, stackIndex.getCandidates(new LanternItemStack(SWORD)));
+    }
+}
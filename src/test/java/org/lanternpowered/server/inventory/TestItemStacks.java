@@ -0,0 +1,116 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.inventory;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.reflect.TypeParameter;
+import com.google.common.reflect.TypeToken;
+import org.lanternpowered.server.behavior.Behavior;
+import org.lanternpowered.server.behavior.pipeline.MutableBehaviorPipeline;
+import org.lanternpowered.server.behavior.pipeline.impl.MutableBehaviorPipelineImpl;
+import org.lanternpowered.server.catalog.LanternCatalogKey;
+import org.lanternpowered.server.data.ValueCollection;
+import org.lanternpowered.server.data.key.LanternKeyBuilder;
+import org.lanternpowered.server.game.registry.util.RegistryHelper;
+import org.lanternpowered.server.item.LanternItemType;
+import org.lanternpowered.server.item.PropertyProviderCollection;
+import org.lanternpowered.server.item.TranslationProvider;
+import org.lanternpowered.server.util.ReflectionHelper;
+import org.lanternpowered.server.util.UncheckedThrowables;
+import org.spongepowered.api.CatalogKey;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.key.Keys;
+import org.spongepowered.api.data.value.mutable.Value;
+import org.spongepowered.api.text.translation.FixedTranslation;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Provides {@link LanternItemType}s and {@link Key}s to construct
+ * {@link LanternItemStack}s without initializing the game registry.
+ */
+final class TestItemStacks {
+
+    static final Key<Value<String>> NAME = createKey(String.class, "name");
+    static final Key<Value<Integer>> DAMAGE = createKey(Integer.class, "damage");
+
+    static final LanternItemType STONE;
+    static final LanternItemType SWORD;
+
+    static {
+        // Replace the keys that are registered by every item stack
+        RegistryHelper.mapFields(Keys.class, ImmutableMap.of(
+                "display_name", createKey(Object.class, "display_name"),
+                "item_lore", createKey(Object.class, "item_lore"),
+                "breakable_block_types", createKey(Object.class, "breakable_block_types"),
+                "item_enchantments", createKey(Object.class, "item_enchantments")));
+        final LanternItemType none = createType("none", 64, valueCollection -> {});
+        STONE = createType("stone", 64, valueCollection -> valueCollection.register(NAME, "stone"));
+        SWORD = createType("sword", 1, valueCollection -> {
+            valueCollection.register(NAME, "sword");
+            valueCollection.register(DAMAGE, 0);
+        });
+        try {
+            ReflectionHelper.setField(LanternItemStack.class.getDeclaredField("empty"), null, new LanternItemStack(none, 0));
+        } catch (Throwable t) {
+            throw UncheckedThrowables.throwUnchecked(t);
+        }
+    }
+
+    /**
+     * Makes sure that the test item types and keys are initialized.
+     */
+    static void init() {
+    }
+
+    private static <E> Key<Value<E>> createKey(Class<E> elementType, String id) {
+        final TypeToken<Value<E>> valueToken = new TypeToken<Value<E>>() {}
+                .where(new TypeParameter<E>() {}, TypeToken.of(elementType));
+        return new LanternKeyBuilder<>().type(valueToken).query(DataQuery.of(id)).key(new LanternCatalogKey("test", id)).build();
+    }
+
+    private static LanternItemType createType(String id, int maxStackQuantity, Consumer<ValueCollection> keysProvider) {
+        try {
+            // The constructor isn't visible outside the item package
+            final Constructor<LanternItemType> constructor = LanternItemType.class.getDeclaredConstructor(
+                    CatalogKey.class, PropertyProviderCollection.class, MutableBehaviorPipeline.class,
+                    TranslationProvider.class, Consumer.class, BlockType.class, int.class);
+            constructor.setAccessible(true);
+            return constructor.newInstance(new LanternCatalogKey("test", id), PropertyProviderCollection.builder().build(),
+                    new MutableBehaviorPipelineImpl<>(Behavior.class, new ArrayList<>()),
+                    TranslationProvider.of(new FixedTranslation(id)), keysProvider, null, maxStackQuantity);
+        } catch (ReflectiveOperationException e) {
+            throw UncheckedThrowables.throwUnchecked(e);
+        }
+    }
+
+    private TestItemStacks() {
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.inventory.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ClientContainerTest {
+
+    private static long[] createDirtySlots(int slotCount, int... dirty) {
+        final long[] dirtySlots = new long[(slotCount + 63) >> 6];
+        for (int index : dirty) {
+            dirtySlots[index >> 6] |= 1L << index;
+        }
+        return dirtySlots;
+    }
+
+    @Test
+    public void testDirtyCount() {
+        assertEquals(0, ClientContainer.getDirtyCount(createDirtySlots(63)));
+        assertEquals(3, ClientContainer.getDirtyCount(createDirtySlots(63, 0, 31, 62)));
+        // Slots in different words of the bit set
+        assertEquals(4, ClientContainer.getDirtyCount(createDirtySlots(90, 0, 63, 64, 89)));
+    }
+
+    @Test
+    public void testBulkUpdate() {
+        // A chest with the main inventory
+        final int slotCount = 63;
+        assertFalse(ClientContainer.isBulkUpdate(0, slotCount));
+        assertFalse(ClientContainer.isBulkUpdate(1, slotCount));
+        assertFalse(ClientContainer.isBulkUpdate(31, slotCount));
+        assertTrue(ClientContainer.isBulkUpdate(32, slotCount));
+        assertTrue(ClientContainer.isBulkUpdate(slotCount, slotCount));
+    }
+
+    @Test
+    public void testBulkUpdateSingleSlot() {
+        // Sending a single slot is always cheaper than all the slots
+        assertFalse(ClientContainer.isBulkUpdate(1, 1));
+        assertFalse(ClientContainer.isBulkUpdate(1, 2));
+        assertTrue(ClientContainer.isBulkUpdate(2, 2));
+    }
+
+    @Test
+    public void testBulkUpdateDirtySlots() {
+        final int slotCount = 90;
+        final int[] dirty = new int[45];
+        for (int i = 0; i < dirty.length; i++) {
+            dirty[i] = i * 2;
+        }
+        final long[] dirtySlots = createDirtySlots(slotCount, dirty);
+        assertTrue(ClientContainer.isBulkUpdate(ClientContainer.getDirtyCount(dirtySlots), slotCount));
+        dirtySlots[0] = 0L;
+        assertFalse(ClientContainer.isBulkUpdate(ClientContainer.getDirtyCount(dirtySlots), slotCount));
+    }
+}
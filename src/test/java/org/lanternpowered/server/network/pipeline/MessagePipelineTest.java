@@ -0,0 +1,140 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.network.pipeline;
+
+import static org.junit.Assert.assertEquals;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+import java.util.Random;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+public class MessagePipelineTest {
+
+    private static final String MESSAGE = "Encoding %s %s messages took: %s ms";
+    private static final int COMPRESSION_THRESHOLD = 256;
+    private static final int TESTS = 20000;
+
+    private static final SecretKey SECRET_KEY = new SecretKeySpec(new byte[] {
+            1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 }, "AES");
+
+    /**
+     * Creates a payload that is similar to a entity move message, too small to be compressed.
+     */
+    private static byte[] createEntityMovePayload() {
+        return new byte[] { 0x26, (byte) 0xa4, 0x03, 0x00, 0x12, (byte) 0xff, (byte) 0xe0, 0x00, 0x00, 0x01 };
+    }
+
+    /**
+     * Creates a payload that is similar to a chunk data message, mostly repeating palette data.
+     */
+    private static byte[] createChunkPayload() {
+        final Random random = new Random(0L);
+        final byte[] payload = new byte[24576];
+        for (int i = 0; i < payload.length; i++) {
+            payload[i] = (byte) (random.nextInt(8) == 0 ? random.nextInt(16) : i & 0x3);
+        }
+        return payload;
+    }
+
+    private static EmbeddedChannel createChannel() {
+        return new EmbeddedChannel(new MessageEncryptionHandler(SECRET_KEY), new MessageFramingHandler(),
+                new MessageCompressionHandler(COMPRESSION_THRESHOLD));
+    }
+
+    private static ByteBuf createMessage(byte[] payload, boolean reserveHeader) {
+        final ByteBuf buf = Unpooled.directBuffer();
+        if (reserveHeader) {
+            buf.setIndex(MessageBuffers.HEADER_SPACE, MessageBuffers.HEADER_SPACE);
+        }
+        return buf.writeBytes(payload);
+    }
+
+    private static ByteBuf encode(byte[] payload, boolean reserveHeader) {
+        final EmbeddedChannel channel = createChannel();
+        channel.writeOutbound(createMessage(payload, reserveHeader));
+        final ByteBuf encoded = Unpooled.buffer();
+        ByteBuf buf;
+        while ((buf = channel.readOutbound()) != null) {
+            encoded.writeBytes(buf);
+            buf.release();
+        }
+        channel.finish();
+        return encoded;
+    }
+
+    private static void testRoundTrip(byte[] payload) {
+        final ByteBuf encoded = encode(payload, true);
+        // The reserved header space shouldn't change the result
+        assertEquals(encode(payload, false), encoded);
+
+        final EmbeddedChannel channel = createChannel();
+        channel.writeInbound(encoded);
+        final ByteBuf decoded = channel.readInbound();
+        assertEquals(Unpooled.wrappedBuffer(payload), decoded);
+        decoded.release();
+        channel.finish();
+    }
+
+    @Test
+    public void testEntityMoveRoundTrip() {
+        testRoundTrip(createEntityMovePayload());
+    }
+
+    @Test
+    public void testChunkRoundTrip() {
+        testRoundTrip(createChunkPayload());
+    }
+
+    @Test
+    public void testEncodePerformance() {
+        final byte[] entityMovePayload = createEntityMovePayload();
+        final byte[] chunkPayload = createChunkPayload();
+        for (int i = 0; i < 3; i++) {
+            testEncodePerformance0("entity move", entityMovePayload, TESTS);
+            testEncodePerformance0("chunk", chunkPayload, TESTS / 20);
+        }
+    }
+
+    private static void testEncodePerformance0(String name, byte[] payload, int tests) {
+        final EmbeddedChannel channel = createChannel();
+        final long time = System.currentTimeMillis();
+        for (int i = 0; i < tests; i++) {
+            channel.writeOutbound(createMessage(payload, true));
+            ByteBuf buf;
+            while ((buf = channel.readOutbound()) != null) {
+                buf.release();
+            }
+        }
+        System.out.println(String.format(MESSAGE, tests, name, System.currentTimeMillis() - time));
+        channel.finish();
+    }
+}
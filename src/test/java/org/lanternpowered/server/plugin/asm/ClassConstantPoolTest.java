@@ -0,0 +1,70 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.plugin.asm;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.io.ByteStreams;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public class ClassConstantPoolTest {
+
+    private static byte[] getClassFile(Class<?> theClass) throws IOException {
+        final String name = theClass.getName();
+        try (InputStream is = theClass.getResourceAsStream(name.substring(name.lastIndexOf('.') + 1) + ".class")) {
+            return ByteStreams.toByteArray(is);
+        }
+    }
+
+    @Test
+    public void testAnnotationDescriptor() throws IOException {
+        assertTrue(ClassConstantPool.mayContainUtf8(getClassFile(ClassConstantPoolTest.class), "Lorg/junit/Test;"));
+        assertFalse(ClassConstantPool.mayContainUtf8(getClassFile(WideConstants.class), "Lorg/junit/Test;"));
+    }
+
+    @Test
+    public void testWideConstants() throws IOException {
+        final byte[] classFile = getClassFile(WideConstants.class);
+        assertTrue(ClassConstantPool.mayContainUtf8(classFile, "constantAfterWideValues"));
+        assertFalse(ClassConstantPool.mayContainUtf8(classFile, "missingConstant"));
+    }
+
+    @Test
+    public void testInvalidClassFile() {
+        assertTrue(ClassConstantPool.mayContainUtf8(new byte[] { 1, 2, 3 }, "anything"));
+    }
+
+    private static final class WideConstants {
+
+        private long longValue = 1234567890123L;
+        private double doubleValue = 1234567.891;
+        private String value = "constantAfterWideValues";
+    }
+}
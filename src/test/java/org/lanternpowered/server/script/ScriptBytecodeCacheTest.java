@@ -0,0 +1,98 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.script;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+public class ScriptBytecodeCacheTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testPutAndGet() throws Exception {
+        final Path directory = this.folder.getRoot().toPath();
+        final ScriptBytecodeCache cache = new ScriptBytecodeCache(directory);
+        final String key = ScriptBytecodeCache.createKey("test.Script", "return 1", ImmutableList.of());
+        assertNull(cache.get(key));
+        cache.put(key, ImmutableMap.of("test.Script", new byte[] { 1, 2, 3 }, "test.Script$1", new byte[] { 4 }));
+        // A new cache instance reads the entries that were written before
+        final Map<String, byte[]> classes = new ScriptBytecodeCache(directory).get(key);
+        assertEquals(ImmutableList.of("test.Script", "test.Script$1"), ImmutableList.copyOf(classes.keySet()));
+        assertArrayEquals(new byte[] { 1, 2, 3 }, classes.get("test.Script"));
+        assertArrayEquals(new byte[] { 4 }, classes.get("test.Script$1"));
+    }
+
+    @Test
+    public void testKey() {
+        final String key = ScriptBytecodeCache.createKey("test.Script", "return 1", ImmutableList.of());
+        assertEquals(key, ScriptBytecodeCache.createKey("test.Script", "return 1", ImmutableList.of()));
+        assertNotEquals(key, ScriptBytecodeCache.createKey("test.Script", "return 2", ImmutableList.of()));
+        assertNotEquals(key, ScriptBytecodeCache.createKey("test.Script2", "return 1", ImmutableList.of()));
+    }
+
+    @Test
+    public void testDependencyKeys() {
+        final String dependencyKeyA = ScriptBytecodeCache.createKey("test.A", "return 1", ImmutableList.of());
+        final String dependencyKeyB = ScriptBytecodeCache.createKey("test.B", "return 2", ImmutableList.of());
+        final String key = ScriptBytecodeCache.createKey("test.Script", "code", ImmutableList.of(dependencyKeyA, dependencyKeyB));
+        // The order of the dependencies doesn't matter
+        assertEquals(key, ScriptBytecodeCache.createKey("test.Script", "code", ImmutableList.of(dependencyKeyB, dependencyKeyA)));
+        assertNotEquals(key, ScriptBytecodeCache.createKey("test.Script", "code", ImmutableList.of()));
+        // A change in a dependency changes the key of the script
+        final String changedKeyA = ScriptBytecodeCache.createKey("test.A", "return 3", ImmutableList.of());
+        assertNotEquals(key, ScriptBytecodeCache.createKey("test.Script", "code", ImmutableList.of(changedKeyA, dependencyKeyB)));
+    }
+
+    @Test
+    public void testStaleDirectoriesRemoved() throws Exception {
+        final Path directory = this.folder.getRoot().toPath();
+        final Path staleDirectory = Files.createDirectories(directory.resolve("stale"));
+        Files.write(staleDirectory.resolve("entry.bin"), new byte[] { 1 });
+        final ScriptBytecodeCache cache = new ScriptBytecodeCache(directory);
+        // Reading doesn't touch the other directories
+        assertNull(cache.get("key"));
+        assertTrue(Files.exists(staleDirectory));
+        cache.put("key", ImmutableMap.of("test.Script", new byte[] { 1 }));
+        assertFalse(Files.exists(staleDirectory));
+        assertTrue(cache.get("key") != null);
+    }
+}
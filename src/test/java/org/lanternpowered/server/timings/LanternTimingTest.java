@@ -0,0 +1,153 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.timings;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LanternTimingTest {
+
+    private static final String PLUGIN = "test";
+
+    /**
+     * The amount of start/stop pairs that are measured in the overhead test.
+     */
+    private static final int ITERATIONS = 2_000_000;
+
+    private final LanternTimingsFactory factory = LanternTimingsFactory.get();
+
+    @Before
+    public void enable() {
+        this.factory.setTimingsEnabled(true);
+    }
+
+    @After
+    public void disable() {
+        this.factory.setTimingsEnabled(false);
+    }
+
+    @Test
+    public void testNestedTiming() {
+        final LanternTiming timing = this.factory.of(PLUGIN, "nested", null, false);
+        timing.startTiming();
+        timing.startTiming();
+        timing.stopTiming();
+        assertEquals(0, timing.getCount());
+        timing.stopTiming();
+        assertEquals(1, timing.getCount());
+    }
+
+    @Test
+    public void testGroupTiming() {
+        final LanternTiming group = this.factory.of(PLUGIN, "group", null, false);
+        final LanternTiming timing = this.factory.of(PLUGIN, "grouped", group, false);
+        try (LanternTiming ignored = timing.startTiming()) {
+            assertEquals(0, group.getCount());
+        }
+        assertEquals(1, timing.getCount());
+        assertEquals(1, group.getCount());
+    }
+
+    @Test
+    public void testDisableWhileRunning() {
+        final LanternTiming timing = this.factory.of(PLUGIN, "disable-while-running", null, false);
+        timing.startTiming();
+        this.factory.setTimingsEnabled(false);
+        timing.stopTiming();
+        assertEquals(0, timing.getCount());
+        // The timing should be measured again once the timings are enabled
+        this.factory.setTimingsEnabled(true);
+        timing.startTiming();
+        timing.stopTiming();
+        assertEquals(1, timing.getCount());
+    }
+
+    @Test
+    public void testEnableWhileRunning() {
+        final LanternTiming timing = this.factory.of(PLUGIN, "enable-while-running", null, false);
+        this.factory.setTimingsEnabled(false);
+        timing.startTiming();
+        this.factory.setTimingsEnabled(true);
+        timing.stopTiming();
+        assertEquals(0, timing.getCount());
+        timing.startTiming();
+        timing.stopTiming();
+        assertEquals(1, timing.getCount());
+    }
+
+    @Test
+    public void testMultipleThreads() throws InterruptedException {
+        final LanternTiming timing = this.factory.of(PLUGIN, "threads", null, false);
+        final Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    timing.startTiming();
+                    timing.stopTiming();
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(4000, timing.getCount());
+    }
+
+    @Test
+    public void testOverhead() {
+        final LanternTiming timing = this.factory.of(PLUGIN, "overhead", null, false);
+        // Warm up, so that the measured code is compiled
+        measure(timing);
+        measure(timing);
+        final long enabled = measure(timing);
+        this.factory.setTimingsEnabled(false);
+        final long disabled = measure(timing);
+        System.out.printf("Timing overhead per start/stop pair: enabled %d ns, disabled %d ns%n", enabled, disabled);
+        // Generous bounds to avoid failures on slow machines, a tick is 50 000 000 ns
+        assertTrue("Enabled overhead: " + enabled + " ns", enabled < 1000);
+        assertTrue("Disabled overhead: " + disabled + " ns", disabled < 500);
+    }
+
+    /**
+     * Measures the average nanoseconds of a start/stop pair.
+     *
+     * @param timing The timing
+     * @return The average nanoseconds
+     */
+    private static long measure(LanternTiming timing) {
+        final long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            timing.startTiming();
+            timing.stopTiming();
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.util;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class TickStatisticsTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long TICK = SECOND / 20;
+
+    @Test
+    public void testNominalWithoutData() {
+        final TickStatistics statistics = new TickStatistics(20);
+        assertEquals(20.0, statistics.getTicksPerSecond(5, 0), 0.0);
+        statistics.record(0, TICK);
+        assertEquals(20.0, statistics.getTicksPerSecond(5, SECOND), 0.0);
+    }
+
+    @Test
+    public void testTicksPerSecond() {
+        final TickStatistics statistics = new TickStatistics(20);
+        // 10 seconds at 20 ticks per second, followed by 5 seconds at 10
+        long time = 0;
+        for (int i = 0; i < 200; i++) {
+            statistics.record(time, TICK);
+            time += TICK;
+        }
+        for (int i = 0; i < 50; i++) {
+            statistics.record(time, TICK * 2);
+            time += TICK * 2;
+        }
+        assertEquals(10.0, statistics.getTicksPerSecond(5, time), 0.0);
+        assertEquals(15.0, statistics.getTicksPerSecond(10, time), 0.0);
+        // Only the 14 complete seconds are available
+        assertEquals(250.0 / 14.0 - 20.0 / 14.0, statistics.getTicksPerSecond(60, time), 1e-9);
+    }
+
+    @Test
+    public void testStalledTicks() {
+        final TickStatistics statistics = new TickStatistics(20);
+        long time = 0;
+        for (int i = 0; i < 200; i++) {
+            statistics.record(time, TICK);
+            time += TICK;
+        }
+        // No ticks were recorded for 5 seconds
+        assertEquals(0.0, statistics.getTicksPerSecond(5, time + 5 * SECOND), 0.0);
+    }
+
+    @Test
+    public void testTickTimes() {
+        final TickStatistics statistics = new TickStatistics(20);
+        for (int i = 1; i <= 100; i++) {
+            statistics.record(i * TICK, TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        assertEquals(50.0, statistics.getTickTimePercentile(0.5), 0.0);
+        assertEquals(95.0, statistics.getTickTimePercentile(0.95), 0.0);
+        assertEquals(100.0, statistics.getTickTimePercentile(1.0), 0.0);
+        assertEquals(95.5, statistics.getAverageTickTime(10), 1e-9);
+    }
+}
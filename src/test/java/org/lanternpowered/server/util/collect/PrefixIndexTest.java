@@ -0,0 +1,78 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.util.collect;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+public class PrefixIndexTest {
+
+    private static PrefixIndex createIndex() {
+        final PrefixIndex index = new PrefixIndex();
+        index.addAll(ImmutableList.of("Notch", "notchy", "jeb_", "Dinnerbone", "dinner", "Cybermaxke"));
+        return index;
+    }
+
+    @Test
+    public void testMatches() {
+        final PrefixIndex index = createIndex();
+        assertEquals(ImmutableList.of("Notch", "notchy"), index.getMatches("not"));
+        assertEquals(ImmutableList.of("dinner", "Dinnerbone"), index.getMatches("DINNER"));
+        assertEquals(ImmutableList.of("jeb_"), index.getMatches("jeb_"));
+        assertEquals(ImmutableList.of(), index.getMatches("z"));
+    }
+
+    @Test
+    public void testEmptyPrefix() {
+        assertEquals(6, createIndex().getMatches("").size());
+    }
+
+    @Test
+    public void testRemove() {
+        final PrefixIndex index = createIndex();
+        index.remove("Notch");
+        assertFalse(index.contains("Notch"));
+        assertTrue(index.contains("notchy"));
+        assertEquals(ImmutableList.of("notchy"), index.getMatches("n"));
+        // Values are case sensitive
+        index.remove("NOTCHY");
+        assertTrue(index.contains("notchy"));
+    }
+
+    @Test
+    public void testSameKeyDifferentCase() {
+        final PrefixIndex index = new PrefixIndex();
+        index.add("Steve");
+        index.add("steve");
+        assertEquals(2, index.getMatches("ste").size());
+        index.remove("Steve");
+        assertEquals(ImmutableList.of("steve"), index.getMatches("ste"));
+    }
+}
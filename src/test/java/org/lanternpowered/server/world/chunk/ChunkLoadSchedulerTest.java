@@ -0,0 +1,195 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.world.chunk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.flowpowered.math.vector.Vector2i;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ChunkLoadSchedulerTest {
+
+    private static final Vector2i BLOCKER = new Vector2i(0, 0);
+    private static final Vector2i GENERATION_BLOCKER = new Vector2i(-1, 0);
+
+    private final Map<Vector2i, Long> priorities = new ConcurrentHashMap<>();
+    private final List<Vector2i> loaded = new CopyOnWriteArrayList<>();
+    private final CountDownLatch blockerStarted = new CountDownLatch(1);
+    private final CountDownLatch blockerReleased = new CountDownLatch(1);
+    private final AtomicInteger createdThreads = new AtomicInteger();
+
+    private ChunkLoadScheduler createScheduler(int generationThreads) {
+        return new ChunkLoadScheduler(1, generationThreads, runnable -> {
+            this.createdThreads.incrementAndGet();
+            return new Thread(runnable);
+        }, coords -> this.priorities.getOrDefault(coords, 0L), coords -> coords.getX() < 0, coords -> {
+            if (coords.equals(BLOCKER) || coords.equals(GENERATION_BLOCKER)) {
+                this.blockerStarted.countDown();
+                try {
+                    this.blockerReleased.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            this.loaded.add(coords);
+        });
+    }
+
+    /**
+     * Queues the blocker chunk, which occupies the only load
+     * thread until it's released.
+     */
+    private void block(ChunkLoadScheduler scheduler) throws InterruptedException {
+        block(scheduler, BLOCKER);
+    }
+
+    private void block(ChunkLoadScheduler scheduler, Vector2i blocker) throws InterruptedException {
+        assertTrue(scheduler.queue(blocker));
+        assertTrue(this.blockerStarted.await(5, TimeUnit.SECONDS));
+    }
+
+    private void awaitLoaded(int count) throws InterruptedException {
+        final long end = System.currentTimeMillis() + 5000;
+        while (this.loaded.size() < count && System.currentTimeMillis() < end) {
+            Thread.sleep(1);
+        }
+        assertEquals(count, this.loaded.size());
+    }
+
+    @Test
+    public void testLazyThreads() {
+        final ChunkLoadScheduler scheduler = createScheduler(0);
+        assertEquals(0, this.createdThreads.get());
+        assertTrue(scheduler.queue(new Vector2i(1, 0)));
+        assertEquals(1, this.createdThreads.get());
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void testPriorityOrder() throws InterruptedException {
+        final ChunkLoadScheduler scheduler = createScheduler(0);
+        block(scheduler);
+        this.priorities.put(new Vector2i(1, 0), 3L);
+        this.priorities.put(new Vector2i(2, 0), 1L);
+        this.priorities.put(new Vector2i(3, 0), 2L);
+        scheduler.queue(new Vector2i(1, 0));
+        scheduler.queue(new Vector2i(2, 0));
+        scheduler.queue(new Vector2i(3, 0));
+        // Already queued
+        assertFalse(scheduler.queue(new Vector2i(2, 0)));
+        this.blockerReleased.countDown();
+        awaitLoaded(4);
+        assertEquals(BLOCKER, this.loaded.get(0));
+        assertEquals(new Vector2i(2, 0), this.loaded.get(1));
+        assertEquals(new Vector2i(3, 0), this.loaded.get(2));
+        assertEquals(new Vector2i(1, 0), this.loaded.get(3));
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void testUpdatePriorities() throws InterruptedException {
+        final ChunkLoadScheduler scheduler = createScheduler(0);
+        block(scheduler);
+        this.priorities.put(new Vector2i(1, 0), 1L);
+        this.priorities.put(new Vector2i(2, 0), 2L);
+        scheduler.queue(new Vector2i(1, 0));
+        scheduler.queue(new Vector2i(2, 0));
+        // The player moved towards the second chunk
+        this.priorities.put(new Vector2i(1, 0), 4L);
+        this.priorities.put(new Vector2i(2, 0), 0L);
+        scheduler.updatePriorities();
+        this.blockerReleased.countDown();
+        awaitLoaded(3);
+        assertEquals(new Vector2i(2, 0), this.loaded.get(1));
+        assertEquals(new Vector2i(1, 0), this.loaded.get(2));
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void testCancel() throws InterruptedException {
+        final ChunkLoadScheduler scheduler = createScheduler(0);
+        block(scheduler);
+        scheduler.queue(new Vector2i(1, 0));
+        scheduler.queue(new Vector2i(2, 0));
+        assertTrue(scheduler.cancel(new Vector2i(1, 0)));
+        // Running loads can't be cancelled
+        assertFalse(scheduler.cancel(BLOCKER));
+        // Not queued
+        assertFalse(scheduler.cancel(new Vector2i(3, 0)));
+        this.blockerReleased.countDown();
+        awaitLoaded(2);
+        assertEquals(new Vector2i(2, 0), this.loaded.get(1));
+        // A cancelled chunk can be queued again
+        assertTrue(scheduler.queue(new Vector2i(1, 0)));
+        awaitLoaded(3);
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void testGeneration() throws InterruptedException {
+        final ChunkLoadScheduler scheduler = createScheduler(1);
+        // The chunk is moved to the generation thread
+        block(scheduler, GENERATION_BLOCKER);
+        // Disk loads don't wait for the blocked generation thread
+        scheduler.queue(new Vector2i(1, 0));
+        awaitLoaded(1);
+        assertEquals(new Vector2i(1, 0), this.loaded.get(0));
+        this.blockerReleased.countDown();
+        awaitLoaded(2);
+        assertEquals(GENERATION_BLOCKER, this.loaded.get(1));
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void testShutdownWaitsForRunningLoads() throws InterruptedException {
+        final ChunkLoadScheduler scheduler = createScheduler(0);
+        block(scheduler);
+        scheduler.queue(new Vector2i(1, 0));
+        final Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ignored) {
+            }
+            this.blockerReleased.countDown();
+        });
+        releaser.start();
+        scheduler.shutdown();
+        // The running load finished, the queued load was dropped
+        assertEquals(1, this.loaded.size());
+        assertEquals(BLOCKER, this.loaded.get(0));
+        assertFalse(scheduler.queue(new Vector2i(2, 0)));
+    }
+}